@@ -19,6 +19,7 @@ import tech.pegasys.teku.beacon.sync.events.SyncingStatus;
 import tech.pegasys.teku.beacon.sync.forward.ForwardSyncService;
 import tech.pegasys.teku.beacon.sync.forward.multipeer.batches.BatchFactory;
 import tech.pegasys.teku.beacon.sync.forward.multipeer.batches.PeerScoringConflictResolutionStrategy;
+import tech.pegasys.teku.beacon.sync.forward.multipeer.batches.SyncSourcePerformanceTracker;
 import tech.pegasys.teku.beacon.sync.forward.multipeer.chains.PeerChainTracker;
 import tech.pegasys.teku.beacon.sync.forward.multipeer.chains.SyncSourceFactory;
 import tech.pegasys.teku.beacon.sync.forward.multipeer.chains.TargetChains;
@@ -91,6 +92,8 @@ public class MultipeerSyncService extends Service implements ForwardSyncService
     final TargetChains finalizedTargetChains = new TargetChains(targetChainCountGauge, "finalized");
     final TargetChains nonfinalizedTargetChains =
         new TargetChains(targetChainCountGauge, "nonfinalized");
+    final SyncSourcePerformanceTracker performanceTracker =
+        new SyncSourcePerformanceTracker(timeProvider, batchSize);
     final BatchSync batchSync =
         BatchSync.create(
             eventThread,
@@ -98,7 +101,10 @@ public class MultipeerSyncService extends Service implements ForwardSyncService
             recentChainData,
             new BatchImporter(blockImporter, blockBlobSidecarsTrackersPool, asyncRunner),
             new BatchFactory(
-                eventThread, blobSidecarManager, new PeerScoringConflictResolutionStrategy()),
+                eventThread,
+                blobSidecarManager,
+                new PeerScoringConflictResolutionStrategy(),
+                performanceTracker),
             batchSize,
             maxPendingBatches,
             MultipeerCommonAncestorFinder.create(
@@ -124,7 +130,8 @@ public class MultipeerSyncService extends Service implements ForwardSyncService
             new SyncSourceFactory(
                 asyncRunner, timeProvider, batchSize, maxBlocksPerMinute, maxBlobSidecarsPerMinute),
             finalizedTargetChains,
-            nonfinalizedTargetChains);
+            nonfinalizedTargetChains,
+            performanceTracker);
     peerChainTracker.subscribeToTargetChainUpdates(syncController::onTargetChainsUpdated);
     final SyncStallDetector syncStallDetector =
         new SyncStallDetector(
@@ -23,19 +23,22 @@ public class BatchFactory {
   private final EventThread eventThread;
   private final BlobSidecarManager blobSidecarManager;
   private final ConflictResolutionStrategy conflictResolutionStrategy;
+  private final SyncSourcePerformanceTracker performanceTracker;
 
   public BatchFactory(
       final EventThread eventThread,
       final BlobSidecarManager blobSidecarManager,
-      final ConflictResolutionStrategy conflictResolutionStrategy) {
+      final ConflictResolutionStrategy conflictResolutionStrategy,
+      final SyncSourcePerformanceTracker performanceTracker) {
     this.eventThread = eventThread;
     this.blobSidecarManager = blobSidecarManager;
     this.conflictResolutionStrategy = conflictResolutionStrategy;
+    this.performanceTracker = performanceTracker;
   }
 
   public Batch createBatch(final TargetChain chain, final UInt64 start, final UInt64 count) {
     eventThread.checkOnEventThread();
-    final SyncSourceSelector syncSourceProvider = chain::selectRandomPeer;
+    final SyncSourceSelector syncSourceProvider = performanceTracker.createSelector(chain);
     return new EventThreadOnlyBatch(
         eventThread,
         new SyncSourceBatch(
@@ -30,6 +30,7 @@ import java.util.Set;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.apache.tuweni.bytes.Bytes32;
+import tech.pegasys.teku.beacon.sync.forward.multipeer.batches.SyncSourceSelector.SourceRequest;
 import tech.pegasys.teku.beacon.sync.forward.multipeer.chains.TargetChain;
 import tech.pegasys.teku.infrastructure.async.SafeFuture;
 import tech.pegasys.teku.infrastructure.async.eventthread.EventThread;
@@ -63,6 +64,7 @@ public class SyncSourceBatch implements Batch {
   private boolean firstBlockConfirmed = false;
   private boolean lastBlockConfirmed = false;
   private boolean awaitingBlocks = false;
+  private UInt64 nextSlotToRequest;
 
   private final List<SignedBeaconBlock> blocks = new ArrayList<>();
   private final Map<Bytes32, List<BlobSidecar>> blobSidecarsByBlockRoot = new HashMap<>();
@@ -84,6 +86,7 @@ public class SyncSourceBatch implements Batch {
     this.targetChain = targetChain;
     this.firstSlot = firstSlot;
     this.count = count;
+    this.nextSlotToRequest = firstSlot;
   }
 
   @Override
@@ -209,10 +212,8 @@ public class SyncSourceBatch implements Batch {
     checkState(
         !isComplete() || isContested(), "Attempting to request more blocks from a complete batch");
     final BlockRequestHandler blockRequestHandler = new BlockRequestHandler();
-    final UInt64 startSlot =
-        getLastBlock().map(SignedBeaconBlock::getSlot).map(UInt64::increment).orElse(firstSlot);
+    final UInt64 startSlot = nextSlotToRequest;
     final UInt64 remainingSlots = count.minus(startSlot.minus(firstSlot));
-    final UInt64 endSlot = startSlot.plus(remainingSlots).minus(UInt64.ONE);
 
     checkState(
         remainingSlots.isGreaterThan(UInt64.ZERO),
@@ -226,6 +227,10 @@ public class SyncSourceBatch implements Batch {
     }
     awaitingBlocks = true;
     final SyncSource syncSource = currentSyncSource.orElseThrow();
+    // The source may be asked for only part of the remaining slots, depending on how it performs
+    final SourceRequest sourceRequest = syncSourceProvider.startRequest(syncSource, remainingSlots);
+    final UInt64 requestSlots = sourceRequest.getSlotCount();
+    final UInt64 endSlot = startSlot.plus(requestSlots).minus(UInt64.ONE);
 
     final SafeFuture<Void> blobSidecarsRequest;
     final Optional<BlobSidecarRequestHandler> maybeBlobSidecarRequestHandler;
@@ -233,14 +238,13 @@ public class SyncSourceBatch implements Batch {
     if (blobSidecarManager.isAvailabilityRequiredAtSlot(endSlot)) {
       LOG.debug(
           "Requesting blob sidecars for {} slots starting at {} from peer {}",
-          remainingSlots,
+          requestSlots,
           startSlot,
           syncSource);
       final BlobSidecarRequestHandler blobSidecarRequestHandler = new BlobSidecarRequestHandler();
       maybeBlobSidecarRequestHandler = Optional.of(blobSidecarRequestHandler);
       blobSidecarsRequest =
-          syncSource.requestBlobSidecarsByRange(
-              startSlot, remainingSlots, blobSidecarRequestHandler);
+          syncSource.requestBlobSidecarsByRange(startSlot, requestSlots, blobSidecarRequestHandler);
     } else {
       maybeBlobSidecarRequestHandler = Optional.empty();
       blobSidecarsRequest = SafeFuture.COMPLETE;
@@ -248,21 +252,25 @@ public class SyncSourceBatch implements Batch {
 
     LOG.debug(
         "Requesting blocks for {} slots starting at {} from peer {}",
-        remainingSlots,
+        requestSlots,
         startSlot,
         syncSource);
 
     final SafeFuture<Void> blocksRequest =
-        syncSource.requestBlocksByRange(startSlot, remainingSlots, blockRequestHandler);
+        syncSource.requestBlocksByRange(startSlot, requestSlots, blockRequestHandler);
 
     SafeFuture.allOfFailFast(blocksRequest, blobSidecarsRequest)
         .thenRunAsync(
-            () -> onRequestComplete(blockRequestHandler, maybeBlobSidecarRequestHandler),
+            () ->
+                onRequestComplete(blockRequestHandler, maybeBlobSidecarRequestHandler, endSlot),
             eventThread)
         .handleAsync(
             (__, error) -> {
               if (error != null) {
+                sourceRequest.onFailed();
                 handleRequestErrors(error);
+              } else {
+                sourceRequest.onCompleted();
               }
               // Ensure there is time for other events to be processed before the callback completes
               // Allows external events like peers disconnecting to be processed before retrying
@@ -301,11 +309,13 @@ public class SyncSourceBatch implements Batch {
     lastBlockConfirmed = false;
     blocks.clear();
     blobSidecarsByBlockRoot.clear();
+    nextSlotToRequest = firstSlot;
   }
 
   private void onRequestComplete(
       final BlockRequestHandler blockRequestHandler,
-      final Optional<BlobSidecarRequestHandler> maybeBlobSidecarRequestHandler) {
+      final Optional<BlobSidecarRequestHandler> maybeBlobSidecarRequestHandler,
+      final UInt64 requestEndSlot) {
     eventThread.checkOnEventThread();
     final List<SignedBeaconBlock> newBlocks = blockRequestHandler.complete();
 
@@ -327,7 +337,12 @@ public class SyncSourceBatch implements Batch {
       blobSidecarsByBlockRoot.putAll(newBlobSidecarsByBlockRoot);
     }
 
-    if (newBlocks.isEmpty() || newBlocks.getLast().getSlot().equals(getLastSlot())) {
+    // An empty response means there are no blocks in the requested slots
+    nextSlotToRequest =
+        newBlocks.isEmpty()
+            ? requestEndSlot.increment()
+            : newBlocks.getLast().getSlot().increment();
+    if (nextSlotToRequest.isGreaterThan(getLastSlot())) {
       complete = true;
     }
   }
@@ -0,0 +1,223 @@
+/*
+ * Copyright Consensys Software Inc., 2025
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.beacon.sync.forward.multipeer.batches;
+
+import com.google.common.annotations.VisibleForTesting;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Random;
+import tech.pegasys.teku.beacon.sync.forward.multipeer.chains.TargetChain;
+import tech.pegasys.teku.infrastructure.time.TimeProvider;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+import tech.pegasys.teku.networking.eth2.peers.SyncSource;
+
+/**
+ * Tracks how quickly each {@link SyncSource} responds to requests and uses it to decide which
+ * source to request from next and how much to request.
+ *
+ * <p>The number of slots requested from a source grows while its requests complete within {@link
+ * #TARGET_REQUEST_DURATION} and is halved when they take longer or fail. Sources which keep up
+ * with full size requests may have several requests in flight at once, while slower sources only
+ * get one. Sources are selected randomly, weighted by their measured throughput, so slow sources
+ * are still used but no longer hold up a fixed share of the batches.
+ *
+ * <p>Not thread safe, must only be used from the sync event thread.
+ */
+public class SyncSourcePerformanceTracker {
+  static final Duration TARGET_REQUEST_DURATION = Duration.ofSeconds(5);
+  static final int MAX_PIPELINED_REQUESTS = 3;
+  private static final int MIN_REQUEST_SLOTS = 4;
+  private static final double SMOOTHING_FACTOR = 0.3;
+
+  private final TimeProvider timeProvider;
+  private final Random random;
+  private final int maxRequestSlots;
+  private final int minRequestSlots;
+  private final Map<SyncSource, SourceStats> statsBySource = new HashMap<>();
+
+  public SyncSourcePerformanceTracker(final TimeProvider timeProvider, final int maxRequestSlots) {
+    this(timeProvider, new Random(), maxRequestSlots);
+  }
+
+  @VisibleForTesting
+  SyncSourcePerformanceTracker(
+      final TimeProvider timeProvider, final Random random, final int maxRequestSlots) {
+    this.timeProvider = timeProvider;
+    this.random = random;
+    this.maxRequestSlots = maxRequestSlots;
+    this.minRequestSlots = Math.min(MIN_REQUEST_SLOTS, maxRequestSlots);
+  }
+
+  public SyncSourceSelector createSelector(final TargetChain targetChain) {
+    return new SyncSourceSelector() {
+      @Override
+      public Optional<SyncSource> selectSource() {
+        return SyncSourcePerformanceTracker.this.selectSource(targetChain.getPeers());
+      }
+
+      @Override
+      public SourceRequest startRequest(final SyncSource source, final UInt64 remainingSlots) {
+        return SyncSourcePerformanceTracker.this.startRequest(source, remainingSlots);
+      }
+    };
+  }
+
+  public void onSourceDisconnected(final SyncSource source) {
+    statsBySource.remove(source);
+  }
+
+  @VisibleForTesting
+  Optional<SyncSource> selectSource(final Collection<SyncSource> sources) {
+    final List<SyncSource> candidates =
+        sources.stream()
+            .filter(source -> getStats(source).inFlightRequests < getMaxInFlightRequests(source))
+            .toList();
+    if (candidates.isEmpty()) {
+      // Every source already has as many requests as it can handle, so queue behind the least
+      // loaded one rather than leaving the batch without a source
+      return sources.stream()
+          .min(Comparator.comparingInt(source -> getStats(source).inFlightRequests));
+    }
+
+    // Sources we haven't measured yet are given the best known score so they get a fair trial
+    final double unmeasuredScore =
+        statsBySource.values().stream()
+            .filter(stats -> stats.slotsPerSecond.isPresent())
+            .mapToDouble(stats -> stats.slotsPerSecond.get())
+            .max()
+            .orElse(1);
+    final double[] scores =
+        candidates.stream()
+            .mapToDouble(source -> getStats(source).slotsPerSecond.orElse(unmeasuredScore))
+            .toArray();
+    double remainingScore = random.nextDouble() * sum(scores);
+    for (int i = 0; i < scores.length; i++) {
+      remainingScore -= scores[i];
+      if (remainingScore < 0) {
+        return Optional.of(candidates.get(i));
+      }
+    }
+    return Optional.of(candidates.getLast());
+  }
+
+  @VisibleForTesting
+  SyncSourceSelector.SourceRequest startRequest(
+      final SyncSource source, final UInt64 remainingSlots) {
+    final SourceStats stats = getStats(source);
+    stats.inFlightRequests++;
+    return new TrackedRequest(
+        stats, remainingSlots.min(stats.requestSlots), timeProvider.getTimeInMillis());
+  }
+
+  @VisibleForTesting
+  int getRequestSlots(final SyncSource source) {
+    return getStats(source).requestSlots;
+  }
+
+  @VisibleForTesting
+  int getMaxInFlightRequests(final SyncSource source) {
+    return getStats(source).requestSlots >= maxRequestSlots ? MAX_PIPELINED_REQUESTS : 1;
+  }
+
+  private SourceStats getStats(final SyncSource source) {
+    return statsBySource.computeIfAbsent(source, __ -> new SourceStats(maxRequestSlots));
+  }
+
+  private static double sum(final double[] values) {
+    double total = 0;
+    for (final double value : values) {
+      total += value;
+    }
+    return total;
+  }
+
+  private static class SourceStats {
+    private int requestSlots;
+    private int inFlightRequests = 0;
+    private Optional<Double> slotsPerSecond = Optional.empty();
+
+    private SourceStats(final int requestSlots) {
+      this.requestSlots = requestSlots;
+    }
+
+    private void recordThroughput(final double sample) {
+      slotsPerSecond =
+          Optional.of(
+              slotsPerSecond
+                  .map(current -> current + SMOOTHING_FACTOR * (sample - current))
+                  .orElse(sample));
+    }
+
+    private void recordFailure() {
+      slotsPerSecond = slotsPerSecond.map(current -> current * (1 - SMOOTHING_FACTOR));
+    }
+  }
+
+  private class TrackedRequest implements SyncSourceSelector.SourceRequest {
+    private final SourceStats stats;
+    private final UInt64 slotCount;
+    private final UInt64 startTimeMillis;
+    private boolean done = false;
+
+    private TrackedRequest(
+        final SourceStats stats, final UInt64 slotCount, final UInt64 startTimeMillis) {
+      this.stats = stats;
+      this.slotCount = slotCount;
+      this.startTimeMillis = startTimeMillis;
+    }
+
+    @Override
+    public UInt64 getSlotCount() {
+      return slotCount;
+    }
+
+    @Override
+    public void onCompleted() {
+      if (!markDone()) {
+        return;
+      }
+      final long durationMillis =
+          Math.max(1, timeProvider.getTimeInMillis().minusMinZero(startTimeMillis).longValue());
+      stats.recordThroughput(slotCount.doubleValue() * 1000 / durationMillis);
+      if (durationMillis <= TARGET_REQUEST_DURATION.toMillis()) {
+        stats.requestSlots = Math.min(maxRequestSlots, stats.requestSlots + minRequestSlots);
+      } else {
+        stats.requestSlots = Math.max(minRequestSlots, stats.requestSlots / 2);
+      }
+    }
+
+    @Override
+    public void onFailed() {
+      if (!markDone()) {
+        return;
+      }
+      stats.recordFailure();
+      stats.requestSlots = Math.max(minRequestSlots, stats.requestSlots / 2);
+    }
+
+    private boolean markDone() {
+      if (done) {
+        return false;
+      }
+      done = true;
+      stats.inFlightRequests--;
+      return true;
+    }
+  }
+}
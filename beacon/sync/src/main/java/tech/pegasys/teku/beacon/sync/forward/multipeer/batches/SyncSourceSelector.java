@@ -14,8 +14,46 @@
 package tech.pegasys.teku.beacon.sync.forward.multipeer.batches;
 
 import java.util.Optional;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
 import tech.pegasys.teku.networking.eth2.peers.SyncSource;
 
 public interface SyncSourceSelector {
   Optional<SyncSource> selectSource();
+
+  /**
+   * Called before requesting data from {@code source}. The returned tracker determines how many of
+   * the remaining slots should be requested and must be notified when the request completes.
+   *
+   * @param source the source the request will be sent to
+   * @param remainingSlots the number of slots the batch still needs
+   * @return the tracker for the new request
+   */
+  default SourceRequest startRequest(final SyncSource source, final UInt64 remainingSlots) {
+    return SourceRequest.untracked(remainingSlots);
+  }
+
+  interface SourceRequest {
+
+    /** The number of slots to request, never more than the remaining slots in the batch. */
+    UInt64 getSlotCount();
+
+    void onCompleted();
+
+    void onFailed();
+
+    static SourceRequest untracked(final UInt64 slotCount) {
+      return new SourceRequest() {
+        @Override
+        public UInt64 getSlotCount() {
+          return slotCount;
+        }
+
+        @Override
+        public void onCompleted() {}
+
+        @Override
+        public void onFailed() {}
+      };
+    }
+  }
 }
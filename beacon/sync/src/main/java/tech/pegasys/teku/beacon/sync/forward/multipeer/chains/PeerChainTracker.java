@@ -15,6 +15,7 @@ package tech.pegasys.teku.beacon.sync.forward.multipeer.chains;
 
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import tech.pegasys.teku.beacon.sync.forward.multipeer.batches.SyncSourcePerformanceTracker;
 import tech.pegasys.teku.infrastructure.async.eventthread.EventThread;
 import tech.pegasys.teku.infrastructure.subscribers.Subscribers;
 import tech.pegasys.teku.networking.eth2.peers.Eth2Peer;
@@ -37,6 +38,7 @@ public class PeerChainTracker {
   private final SyncSourceFactory syncSourceFactory;
   private final TargetChains finalizedChains;
   private final TargetChains nonfinalizedChains;
+  private final SyncSourcePerformanceTracker performanceTracker;
   private volatile long connectSubscription;
 
   public PeerChainTracker(
@@ -45,13 +47,15 @@ public class PeerChainTracker {
       final P2PNetwork<Eth2Peer> p2pNetwork,
       final SyncSourceFactory syncSourceFactory,
       final TargetChains finalizedChains,
-      final TargetChains nonfinalizedChains) {
+      final TargetChains nonfinalizedChains,
+      final SyncSourcePerformanceTracker performanceTracker) {
     this.spec = spec;
     this.eventThread = eventThread;
     this.p2pNetwork = p2pNetwork;
     this.syncSourceFactory = syncSourceFactory;
     this.finalizedChains = finalizedChains;
     this.nonfinalizedChains = nonfinalizedChains;
+    this.performanceTracker = performanceTracker;
   }
 
   public void start() {
@@ -79,6 +83,7 @@ public class PeerChainTracker {
     final SyncSource syncSource = syncSourceFactory.getOrCreateSyncSource(peer, spec);
     finalizedChains.onPeerDisconnected(syncSource);
     nonfinalizedChains.onPeerDisconnected(syncSource);
+    performanceTracker.onSourceDisconnected(syncSource);
     syncSourceFactory.onPeerDisconnected(peer);
   }
 
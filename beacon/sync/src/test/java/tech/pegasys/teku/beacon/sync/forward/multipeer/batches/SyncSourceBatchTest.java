@@ -39,6 +39,7 @@ import tech.pegasys.teku.beacon.sync.forward.multipeer.chains.TargetChain;
 import tech.pegasys.teku.infrastructure.async.eventthread.InlineEventThread;
 import tech.pegasys.teku.infrastructure.unsigned.UInt64;
 import tech.pegasys.teku.networking.eth2.peers.StubSyncSource;
+import tech.pegasys.teku.networking.eth2.peers.SyncSource;
 import tech.pegasys.teku.networking.eth2.rpc.beaconchain.methods.BlocksByRangeResponseInvalidResponseException;
 import tech.pegasys.teku.networking.eth2.rpc.beaconchain.methods.BlocksByRangeResponseInvalidResponseException.InvalidResponseType;
 import tech.pegasys.teku.networking.p2p.peer.PeerDisconnectedException;
@@ -342,6 +343,53 @@ public class SyncSourceBatchTest {
     assertThatBatch(batch).isNotAwaitingBlocks();
   }
 
+  @Test
+  void requestMoreBlocks_shouldOnlyRequestSlotsAllowedBySelector() {
+    final StubSyncSource syncSource = new StubSyncSource();
+    final SyncSourceSelector limitingSourceSelector =
+        new SyncSourceSelector() {
+          @Override
+          public Optional<SyncSource> selectSource() {
+            return Optional.of(syncSource);
+          }
+
+          @Override
+          public SourceRequest startRequest(final SyncSource source, final UInt64 remainingSlots) {
+            return SourceRequest.untracked(remainingSlots.min(20));
+          }
+        };
+    final SyncSourceBatch batch =
+        new SyncSourceBatch(
+            eventThread,
+            blobSidecarManager,
+            limitingSourceSelector,
+            conflictResolutionStrategy,
+            targetChain,
+            UInt64.valueOf(70),
+            UInt64.valueOf(50));
+    final Runnable callback = mock(Runnable.class);
+
+    batch.requestMoreBlocks(callback);
+    syncSource.assertRequestedBlocks(70, 20);
+    syncSource.receiveBlocks(dataStructureUtil.randomSignedBeaconBlock(75));
+    assertThatBatch(batch).isNotComplete();
+
+    batch.requestMoreBlocks(callback);
+    syncSource.assertRequestedBlocks(76, 20);
+    // No blocks in the requested slots, so the next request continues after them
+    syncSource.receiveBlocks();
+    assertThatBatch(batch).isNotComplete();
+
+    batch.requestMoreBlocks(callback);
+    syncSource.assertRequestedBlocks(96, 20);
+    syncSource.receiveBlocks();
+
+    batch.requestMoreBlocks(callback);
+    syncSource.assertRequestedBlocks(116, 4);
+    syncSource.receiveBlocks();
+    assertThatBatch(batch).isComplete();
+  }
+
   protected Batch createBatch(final long startSlot, final long count) {
     final List<StubSyncSource> syncSources = new ArrayList<>();
     final SyncSourceSelector syncSourceProvider =
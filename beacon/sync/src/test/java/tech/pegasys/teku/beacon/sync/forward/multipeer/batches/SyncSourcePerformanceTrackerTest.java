@@ -0,0 +1,152 @@
+/*
+ * Copyright Consensys Software Inc., 2025
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.beacon.sync.forward.multipeer.batches;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.Random;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+import tech.pegasys.teku.beacon.sync.forward.multipeer.batches.SyncSourceSelector.SourceRequest;
+import tech.pegasys.teku.infrastructure.time.StubTimeProvider;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+import tech.pegasys.teku.networking.eth2.peers.StubSyncSource;
+import tech.pegasys.teku.networking.eth2.peers.SyncSource;
+
+class SyncSourcePerformanceTrackerTest {
+  private static final int MAX_REQUEST_SLOTS = 25;
+  private static final UInt64 BATCH_SLOTS = UInt64.valueOf(MAX_REQUEST_SLOTS);
+
+  private final StubTimeProvider timeProvider = StubTimeProvider.withTimeInSeconds(1000);
+  private final SyncSourcePerformanceTracker tracker =
+      new SyncSourcePerformanceTracker(timeProvider, new Random(42), MAX_REQUEST_SLOTS);
+
+  private final SyncSource fastSource = new StubSyncSource();
+  private final SyncSource slowSource = new StubSyncSource();
+
+  @Test
+  void shouldRequestAllRemainingSlotsFromNewSources() {
+    assertThat(tracker.startRequest(fastSource, BATCH_SLOTS).getSlotCount())
+        .isEqualTo(BATCH_SLOTS);
+    assertThat(tracker.startRequest(fastSource, UInt64.valueOf(7)).getSlotCount())
+        .isEqualTo(UInt64.valueOf(7));
+  }
+
+  @Test
+  void shouldHalveRequestSizeWhenRequestsAreSlow() {
+    completeRequest(slowSource, 10);
+    assertThat(tracker.getRequestSlots(slowSource)).isEqualTo(12);
+
+    completeRequest(slowSource, 10);
+    assertThat(tracker.getRequestSlots(slowSource)).isEqualTo(6);
+
+    // Never drops below the minimum request size
+    completeRequest(slowSource, 10);
+    completeRequest(slowSource, 10);
+    assertThat(tracker.getRequestSlots(slowSource)).isEqualTo(4);
+    assertThat(tracker.startRequest(slowSource, BATCH_SLOTS).getSlotCount())
+        .isEqualTo(UInt64.valueOf(4));
+  }
+
+  @Test
+  void shouldHalveRequestSizeWhenRequestsFail() {
+    tracker.startRequest(slowSource, BATCH_SLOTS).onFailed();
+
+    assertThat(tracker.getRequestSlots(slowSource)).isEqualTo(12);
+  }
+
+  @Test
+  void shouldGrowRequestSizeAgainWhenRequestsAreFast() {
+    completeRequest(fastSource, 10);
+    assertThat(tracker.getRequestSlots(fastSource)).isEqualTo(12);
+
+    completeRequest(fastSource, 1);
+    assertThat(tracker.getRequestSlots(fastSource)).isEqualTo(16);
+
+    IntStream.range(0, 5).forEach(__ -> completeRequest(fastSource, 1));
+    assertThat(tracker.getRequestSlots(fastSource)).isEqualTo(MAX_REQUEST_SLOTS);
+  }
+
+  @Test
+  void shouldOnlyPipelineRequestsToSourcesAtFullRequestSize() {
+    completeRequest(slowSource, 10);
+    assertThat(tracker.getMaxInFlightRequests(slowSource)).isEqualTo(1);
+    assertThat(tracker.getMaxInFlightRequests(fastSource))
+        .isEqualTo(SyncSourcePerformanceTracker.MAX_PIPELINED_REQUESTS);
+
+    tracker.startRequest(slowSource, BATCH_SLOTS);
+    IntStream.range(0, 20)
+        .forEach(
+            __ ->
+                assertThat(tracker.selectSource(List.of(fastSource, slowSource)))
+                    .contains(fastSource));
+  }
+
+  @Test
+  void shouldSelectLeastLoadedSourceWhenAllSourcesAreBusy() {
+    completeRequest(slowSource, 10);
+    tracker.startRequest(slowSource, BATCH_SLOTS);
+    IntStream.range(0, SyncSourcePerformanceTracker.MAX_PIPELINED_REQUESTS)
+        .forEach(__ -> tracker.startRequest(fastSource, BATCH_SLOTS));
+
+    assertThat(tracker.selectSource(List.of(fastSource, slowSource))).contains(slowSource);
+  }
+
+  @Test
+  void shouldPreferSourcesWithHigherThroughput() {
+    completeRequest(fastSource, 1);
+    completeRequest(slowSource, 10);
+
+    final long fastSelections =
+        IntStream.range(0, 1000)
+            .mapToObj(__ -> tracker.selectSource(List.of(fastSource, slowSource)).orElseThrow())
+            .filter(source -> source == fastSource)
+            .count();
+    // 25 slots/s versus 2.5 slots/s
+    assertThat(fastSelections).isBetween(850L, 950L);
+  }
+
+  @Test
+  void shouldReturnEmptyWhenNoSourcesAvailable() {
+    assertThat(tracker.selectSource(List.of())).isEmpty();
+  }
+
+  @Test
+  void shouldForgetSourceWhenDisconnected() {
+    completeRequest(slowSource, 10);
+    assertThat(tracker.getRequestSlots(slowSource)).isEqualTo(12);
+
+    tracker.onSourceDisconnected(slowSource);
+
+    assertThat(tracker.getRequestSlots(slowSource)).isEqualTo(MAX_REQUEST_SLOTS);
+  }
+
+  @Test
+  void shouldIgnoreRepeatedCompletion() {
+    final SourceRequest request = tracker.startRequest(slowSource, BATCH_SLOTS);
+    timeProvider.advanceTimeBySeconds(10);
+    request.onCompleted();
+    request.onFailed();
+
+    assertThat(tracker.getRequestSlots(slowSource)).isEqualTo(12);
+    assertThat(tracker.selectSource(List.of(slowSource))).contains(slowSource);
+  }
+
+  private void completeRequest(final SyncSource source, final long durationSeconds) {
+    final SourceRequest request = tracker.startRequest(source, BATCH_SLOTS);
+    timeProvider.advanceTimeBySeconds(durationSeconds);
+    request.onCompleted();
+  }
+}
@@ -23,6 +23,7 @@ import java.util.Optional;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
+import tech.pegasys.teku.beacon.sync.forward.multipeer.batches.SyncSourcePerformanceTracker;
 import tech.pegasys.teku.infrastructure.async.eventthread.EventThread;
 import tech.pegasys.teku.infrastructure.async.eventthread.InlineEventThread;
 import tech.pegasys.teku.infrastructure.metrics.SettableLabelledGauge;
@@ -49,6 +50,8 @@ class PeerChainTrackerTest {
   private final Eth2Peer peer = mock(Eth2Peer.class);
   private final SyncSource syncSource = mock(SyncSource.class);
   private final SyncSourceFactory syncSourceFactory = mock(SyncSourceFactory.class);
+  private final SyncSourcePerformanceTracker performanceTracker =
+      mock(SyncSourcePerformanceTracker.class);
 
   private final TargetChains finalizedChains =
       new TargetChains(mock(SettableLabelledGauge.class), "finalized");
@@ -65,7 +68,13 @@ class PeerChainTrackerTest {
 
   private final PeerChainTracker tracker =
       new PeerChainTracker(
-          spec, eventThread, p2pNetwork, syncSourceFactory, finalizedChains, nonfinalizedChains);
+          spec,
+          eventThread,
+          p2pNetwork,
+          syncSourceFactory,
+          finalizedChains,
+          nonfinalizedChains,
+          performanceTracker);
 
   @BeforeEach
   void setUp() {
@@ -103,6 +112,7 @@ class PeerChainTrackerTest {
 
     assertThat(finalizedChains.streamChains()).isEmpty();
     assertThat(nonfinalizedChains.streamChains()).isEmpty();
+    verify(performanceTracker).onSourceDisconnected(syncSource);
   }
 
   @Test
@@ -47,7 +47,7 @@ public class StubBatchFactory extends BatchFactory implements Iterable<Batch> {
       final EventThread eventThread,
       final BlobSidecarManager blobSidecarManager,
       final boolean enforceEventThread) {
-    super(eventThread, blobSidecarManager, null);
+    super(eventThread, blobSidecarManager, null, null);
     this.blobSidecarManager = blobSidecarManager;
     this.eventThread = eventThread;
     this.enforceEventThread = enforceEventThread;
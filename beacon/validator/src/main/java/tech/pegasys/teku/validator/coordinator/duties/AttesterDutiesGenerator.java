@@ -13,7 +13,6 @@
 
 package tech.pegasys.teku.validator.coordinator.duties;
 
-import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
 import it.unimi.dsi.fastutil.ints.IntCollection;
 import java.util.ArrayList;
 import java.util.List;
@@ -24,8 +23,8 @@ import tech.pegasys.teku.ethereum.json.types.validator.AttesterDuty;
 import tech.pegasys.teku.infrastructure.unsigned.UInt64;
 import tech.pegasys.teku.spec.Spec;
 import tech.pegasys.teku.spec.datastructures.state.CommitteeAssignment;
+import tech.pegasys.teku.spec.datastructures.state.EpochCommittees;
 import tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconState;
-import tech.pegasys.teku.spec.logic.common.helpers.BeaconStateAccessors;
 
 public class AttesterDutiesGenerator {
   private final Spec spec;
@@ -50,19 +49,19 @@ public class AttesterDutiesGenerator {
   private List<AttesterDuty> createAttesterDuties(
       final BeaconState state, final UInt64 epoch, final IntCollection validatorIndices) {
     final List<AttesterDuty> attesterDutyList = new ArrayList<>();
-    final BeaconStateAccessors beaconStateAccessors = spec.atEpoch(epoch).beaconStateAccessors();
-    final UInt64 committeeCountPerSlot =
-        beaconStateAccessors.getCommitteeCountPerSlot(state, epoch);
-    final Int2ObjectMap<CommitteeAssignment> validatorIndexToCommitteeAssignmentMap =
-        spec.getValidatorIndexToCommitteeAssignmentMap(state, epoch);
+    final EpochCommittees epochCommittees = spec.getEpochCommittees(state, epoch);
     for (final int validatorIndex : validatorIndices) {
-      final CommitteeAssignment committeeAssignment =
-          validatorIndexToCommitteeAssignmentMap.get(validatorIndex);
-      if (committeeAssignment != null) {
-        attesterDutyFromCommitteeAssignment(
-                committeeAssignment, validatorIndex, committeeCountPerSlot, state)
-            .ifPresent(attesterDutyList::add);
-      }
+      epochCommittees
+          .getCommitteeAssignment(validatorIndex)
+          .flatMap(
+              committeeAssignment ->
+                  attesterDutyFromCommitteeAssignment(
+                      committeeAssignment,
+                      validatorIndex,
+                      epochCommittees.getPositionInCommittee(validatorIndex),
+                      epochCommittees.getCommitteesPerSlot(),
+                      state))
+          .ifPresent(attesterDutyList::add);
     }
     return attesterDutyList;
   }
@@ -70,7 +69,8 @@ public class AttesterDutiesGenerator {
   private Optional<AttesterDuty> attesterDutyFromCommitteeAssignment(
       final CommitteeAssignment committeeAssignment,
       final int validatorIndex,
-      final UInt64 committeeCountPerSlot,
+      final int positionInCommittee,
+      final int committeeCountPerSlot,
       final BeaconState state) {
     return spec.getValidatorPubKey(state, UInt64.valueOf(validatorIndex))
         .map(
@@ -80,8 +80,8 @@ public class AttesterDutiesGenerator {
                     validatorIndex,
                     committeeAssignment.committee().size(),
                     committeeAssignment.committeeIndex().intValue(),
-                    committeeCountPerSlot.intValue(),
-                    committeeAssignment.committee().indexOf(validatorIndex),
+                    committeeCountPerSlot,
+                    positionInCommittee,
                     committeeAssignment.slot()));
   }
 }
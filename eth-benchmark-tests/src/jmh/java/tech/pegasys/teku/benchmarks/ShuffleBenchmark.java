@@ -39,6 +39,9 @@ public class ShuffleBenchmark {
   @Param({"16384", "32768"})
   int indexCount;
 
+  // Shuffling the full list is cheap enough to also be measured at mainnet validator set sizes
+  private static final int LARGE_INDEX_COUNT = 1_048_576;
+
   Bytes32 seed = Bytes32.ZERO;
   private final Spec spec = TestSpecFactory.createMainnetPhase0();
   private final MiscHelpers miscHelpers = spec.atSlot(UInt64.ZERO).miscHelpers();
@@ -62,6 +65,15 @@ public class ShuffleBenchmark {
     bh.consume(indices);
   }
 
+  @Benchmark
+  @Warmup(iterations = 2)
+  @Measurement(iterations = 5)
+  public void shuffledLargeListBench(Blackhole bh) {
+    int[] indices = IntStream.range(0, LARGE_INDEX_COUNT).toArray();
+    miscHelpers.shuffleList(indices, seed);
+    bh.consume(indices);
+  }
+
   public static void main(String[] args) {
     ShuffleBenchmark benchmark = new ShuffleBenchmark();
 
@@ -69,5 +81,6 @@ public class ShuffleBenchmark {
 
     new CustomRunner(2, 2).withBench(benchmark::shuffledIndexBench).run();
     new CustomRunner(2, 2).withBench(benchmark::shuffledListBench).run();
+    new CustomRunner(2, 2).withBench(benchmark::shuffledLargeListBench).run();
   }
 }
@@ -0,0 +1,132 @@
+/*
+ * Copyright Consensys Software Inc., 2025
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.benchmarks;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import org.apache.tuweni.bytes.Bytes32;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import tech.pegasys.teku.bls.BLSPublicKey;
+import tech.pegasys.teku.infrastructure.async.DelayedExecutorAsyncRunner;
+import tech.pegasys.teku.infrastructure.io.SyncDataAccessor;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+import tech.pegasys.teku.spec.TestSpecFactory;
+import tech.pegasys.teku.spec.signatures.JournalingSlashingProtector;
+import tech.pegasys.teku.spec.signatures.LocalSlashingProtector;
+import tech.pegasys.teku.spec.signatures.LocalSlashingProtectorConcurrentAccess;
+import tech.pegasys.teku.spec.signatures.SlashingProtector;
+import tech.pegasys.teku.spec.util.DataStructureUtil;
+
+/**
+ * Measures attestations approved per second by the slashing protector, with each benchmark thread
+ * signing for its own set of validators as the validator client does when many duties fall in the
+ * same slot.
+ */
+@Fork(1)
+@Threads(16)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+public class SlashingProtectionBenchmark {
+  private static final Bytes32 GENESIS_VALIDATORS_ROOT = Bytes32.ZERO;
+  private static final int VALIDATORS_PER_THREAD = 64;
+  private static final int MAX_THREADS = 16;
+
+  @Param({"journal", "yaml", "synchronized"})
+  String protectorType;
+
+  private final AtomicInteger threadCount = new AtomicInteger();
+  private List<BLSPublicKey> validators;
+  private Path baseDir;
+  private SlashingProtector slashingProtector;
+
+  @Setup(Level.Trial)
+  public void setup() throws IOException {
+    final DataStructureUtil dataStructureUtil =
+        new DataStructureUtil(0, TestSpecFactory.createMinimalDeneb());
+    validators =
+        IntStream.range(0, VALIDATORS_PER_THREAD * MAX_THREADS)
+            .mapToObj(__ -> dataStructureUtil.randomPublicKey())
+            .toList();
+    baseDir = Files.createTempDirectory("slashing-protection");
+    final SyncDataAccessor dataAccessor = SyncDataAccessor.create(baseDir);
+    slashingProtector =
+        switch (protectorType) {
+          case "journal" ->
+              JournalingSlashingProtector.create(
+                  dataAccessor, baseDir, DelayedExecutorAsyncRunner.create());
+          case "yaml" -> new LocalSlashingProtectorConcurrentAccess(dataAccessor, baseDir);
+          case "synchronized" -> new LocalSlashingProtector(dataAccessor, baseDir);
+          default -> throw new IllegalArgumentException("Unknown protector " + protectorType);
+        };
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() throws IOException {
+    try (Stream<Path> files = Files.walk(baseDir)) {
+      files.sorted(Comparator.reverseOrder()).map(Path::toFile).forEach(File::delete);
+    }
+  }
+
+  @State(Scope.Thread)
+  public static class ThreadState {
+    private List<BLSPublicKey> validators;
+    private int nextValidator = 0;
+    private UInt64 targetEpoch = UInt64.ONE;
+
+    @Setup(Level.Trial)
+    public void setup(final SlashingProtectionBenchmark benchmark) {
+      final int offset = benchmark.threadCount.getAndIncrement() * VALIDATORS_PER_THREAD;
+      validators = benchmark.validators.subList(offset, offset + VALIDATORS_PER_THREAD);
+    }
+
+    private BLSPublicKey nextValidator() {
+      if (nextValidator == validators.size()) {
+        nextValidator = 0;
+        targetEpoch = targetEpoch.increment();
+      }
+      return validators.get(nextValidator++);
+    }
+  }
+
+  @Benchmark
+  public boolean signAttestation(final ThreadState threadState) {
+    final BLSPublicKey validator = threadState.nextValidator();
+    final UInt64 targetEpoch = threadState.targetEpoch;
+    return slashingProtector
+        .maySignAttestation(
+            validator, GENESIS_VALIDATORS_ROOT, targetEpoch.decrement(), targetEpoch)
+        .join();
+  }
+}
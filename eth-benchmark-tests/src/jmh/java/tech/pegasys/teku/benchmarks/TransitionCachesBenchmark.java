@@ -30,9 +30,9 @@ import org.openjdk.jmh.annotations.State;
 import org.openjdk.jmh.annotations.Warmup;
 import org.openjdk.jmh.infra.Blackhole;
 import tech.pegasys.teku.bls.BLSPublicKey;
-import tech.pegasys.teku.infrastructure.collections.TekuPair;
 import tech.pegasys.teku.infrastructure.collections.cache.Cache;
 import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+import tech.pegasys.teku.spec.datastructures.state.EpochCommittees;
 import tech.pegasys.teku.spec.datastructures.state.beaconstate.common.TransitionCaches;
 
 @Fork(1)
@@ -42,6 +42,8 @@ import tech.pegasys.teku.spec.datastructures.state.beaconstate.common.Transition
 public class TransitionCachesBenchmark {
 
   private static final IntList SOME_INT_LIST = IntList.of(1, 2, 3, 43, 4, 5);
+  private static final EpochCommittees SOME_EPOCH_COMMITTEES =
+      new EpochCommittees(UInt64.ZERO, 2, 1, SOME_INT_LIST);
 
   @Param({"1048576"})
   int validatorsCount;
@@ -53,13 +55,10 @@ public class TransitionCachesBenchmark {
   @Setup(Level.Trial)
   public void init() {
 
-    for (int slot = 10000; slot < 10064; slot++) {
-      for (int committeeIndex = 0; committeeIndex < 64; committeeIndex++) {
-        fullCache
-            .getBeaconCommittee()
-            .invalidateWithNewValue(
-                TekuPair.of(UInt64.valueOf(slot), UInt64.valueOf(committeeIndex)), SOME_INT_LIST);
-      }
+    for (int epoch = 10000; epoch < 10003; epoch++) {
+      fullCache
+          .getEpochCommittees()
+          .invalidateWithNewValue(UInt64.valueOf(epoch), SOME_EPOCH_COMMITTEES);
     }
 
     for (int slot = 0; slot < 4096; slot++) {
@@ -81,7 +80,7 @@ public class TransitionCachesBenchmark {
       fullCache.getValidatorIndexCache().invalidateWithNewValue(publicKey, validatorIdx);
     }
 
-    fullCache.getBeaconProposerIndex().invalidateWithNewValue(UInt64.ONE, 0x777);
+    fullCache.getBeaconProposerIndices().invalidateWithNewValue(UInt64.ONE, SOME_INT_LIST);
     fullCache.getTotalActiveBalance().invalidateWithNewValue(UInt64.ZERO, UInt64.ZERO);
     fullCache.getTotalActiveBalance().invalidateWithNewValue(UInt64.ONE, UInt64.ZERO);
     fullCache.getCommitteeShuffle().invalidateWithNewValue(Bytes32.random(), SOME_INT_LIST);
@@ -92,30 +91,34 @@ public class TransitionCachesBenchmark {
   @Benchmark
   public void getCommitteeHitBench(Blackhole bh) {
     counter++;
-    if (counter >= 10064) {
+    if (counter >= 10003) {
       counter = 10000;
     }
-    Cache<TekuPair<UInt64, UInt64>, IntList> cache = fullCache.getBeaconCommittee();
+    Cache<UInt64, EpochCommittees> cache = fullCache.getEpochCommittees();
     List<Integer> res =
-        cache.get(TekuPair.of(UInt64.valueOf(counter), UInt64.ZERO), __ -> SOME_INT_LIST);
+        cache
+            .get(UInt64.valueOf(counter), __ -> SOME_EPOCH_COMMITTEES)
+            .getCommittee(UInt64.ONE, UInt64.ZERO);
     bh.consume(res);
   }
 
   @Benchmark
   public void getCommitteeMissBench(Blackhole bh) {
-    if (counter < 10064) {
-      counter = 10064;
+    if (counter < 10003) {
+      counter = 10003;
     }
     counter++;
-    Cache<TekuPair<UInt64, UInt64>, IntList> cache = fullCache.getBeaconCommittee();
+    Cache<UInt64, EpochCommittees> cache = fullCache.getEpochCommittees();
     List<Integer> res =
-        cache.get(TekuPair.of(UInt64.valueOf(counter), UInt64.ZERO), __ -> SOME_INT_LIST);
+        cache
+            .get(UInt64.valueOf(counter), __ -> SOME_EPOCH_COMMITTEES)
+            .getCommittee(UInt64.ONE, UInt64.ZERO);
     bh.consume(res);
   }
 
   @Benchmark
-  public void copyBeaconCommitteeCacheBench(Blackhole bh) {
-    bh.consume(fullCache.getBeaconCommittee().copy());
+  public void copyEpochCommitteesCacheBench(Blackhole bh) {
+    bh.consume(fullCache.getEpochCommittees().copy());
   }
 
   @Benchmark
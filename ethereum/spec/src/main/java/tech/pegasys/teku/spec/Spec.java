@@ -21,7 +21,6 @@ import static tech.pegasys.teku.spec.SpecMilestone.DENEB;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.google.common.base.Preconditions;
 import it.unimi.dsi.fastutil.ints.Int2IntMap;
-import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
 import it.unimi.dsi.fastutil.ints.IntList;
 import java.io.File;
 import java.io.IOException;
@@ -82,6 +81,7 @@ import tech.pegasys.teku.spec.datastructures.operations.ProposerSlashing;
 import tech.pegasys.teku.spec.datastructures.operations.SignedBlsToExecutionChange;
 import tech.pegasys.teku.spec.datastructures.operations.SignedVoluntaryExit;
 import tech.pegasys.teku.spec.datastructures.state.CommitteeAssignment;
+import tech.pegasys.teku.spec.datastructures.state.EpochCommittees;
 import tech.pegasys.teku.spec.datastructures.state.Fork;
 import tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconState;
 import tech.pegasys.teku.spec.datastructures.state.beaconstate.common.BeaconStateInvariants;
@@ -332,6 +332,18 @@ public class Spec {
         .sszDeserialize(serializedState);
   }
 
+  /**
+   * Deserializes a state read back from local storage. Large fields are only deserialized when
+   * first accessed so this must not be used for states received from other nodes.
+   */
+  public BeaconState deserializeTrustedBeaconState(final Bytes serializedState) {
+    final UInt64 slot = BeaconStateInvariants.extractSlot(serializedState);
+    return atSlot(slot)
+        .getSchemaDefinitions()
+        .getBeaconStateSchema()
+        .sszDeserializeLazily(serializedState);
+  }
+
   public SignedBeaconBlock deserializeSignedBeaconBlock(final Bytes serializedSignedBlock) {
     final UInt64 slot =
         BeaconBlockInvariants.extractSignedBlockContainerSlot(serializedSignedBlock);
@@ -891,11 +903,8 @@ public class Spec {
     return atEpoch(epoch).getValidatorsUtil().getCommitteeAssignment(state, epoch, validatorIndex);
   }
 
-  public Int2ObjectMap<CommitteeAssignment> getValidatorIndexToCommitteeAssignmentMap(
-      final BeaconState state, final UInt64 epoch) {
-    return atEpoch(epoch)
-        .getValidatorsUtil()
-        .getValidatorIndexToCommitteeAssignmentMap(state, epoch);
+  public EpochCommittees getEpochCommittees(final BeaconState state, final UInt64 epoch) {
+    return atEpoch(epoch).beaconStateAccessors().getEpochCommittees(state, epoch);
   }
 
   // Attestation helpers
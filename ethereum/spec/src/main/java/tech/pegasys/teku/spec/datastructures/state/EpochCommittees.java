@@ -0,0 +1,156 @@
+/*
+ * Copyright Consensys Software Inc., 2025
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.spec.datastructures.state;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+import com.google.common.base.Suppliers;
+import it.unimi.dsi.fastutil.ints.IntList;
+import java.util.Arrays;
+import java.util.Optional;
+import java.util.function.Supplier;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+
+/**
+ * The beacon committees for every slot of an epoch, sliced from a single shuffle of the active
+ * validator indices. Committees are immutable views over the shuffled indices so looking one up
+ * doesn't allocate. The reverse index from validator to committee is only built the first time a
+ * committee assignment is requested.
+ */
+public class EpochCommittees {
+  private static final int NOT_ASSIGNED = -1;
+
+  private final UInt64 epochStartSlot;
+  private final int slotsPerEpoch;
+  private final int committeesPerSlot;
+  private final IntList shuffledIndices;
+  private final int[] committeeOffsets;
+  private final IntList[] committees;
+  private final Supplier<int[]> shufflePositions =
+      Suppliers.memoize(this::computeShufflePositions);
+
+  /**
+   * @param epochStartSlot the first slot of the epoch
+   * @param slotsPerEpoch the number of slots in the epoch
+   * @param committeesPerSlot the number of committees in each slot
+   * @param shuffledIndices the shuffled active validator indices, which must not be modified
+   */
+  public EpochCommittees(
+      final UInt64 epochStartSlot,
+      final int slotsPerEpoch,
+      final int committeesPerSlot,
+      final IntList shuffledIndices) {
+    this.epochStartSlot = epochStartSlot;
+    this.slotsPerEpoch = slotsPerEpoch;
+    this.committeesPerSlot = committeesPerSlot;
+    this.shuffledIndices = shuffledIndices;
+
+    final int committeeCount = slotsPerEpoch * committeesPerSlot;
+    final long validatorCount = shuffledIndices.size();
+    this.committeeOffsets = new int[committeeCount + 1];
+    this.committees = new IntList[committeeCount];
+    // Same committee boundaries as compute_committee
+    for (int i = 0; i <= committeeCount; i++) {
+      committeeOffsets[i] = (int) (validatorCount * i / committeeCount);
+    }
+    for (int i = 0; i < committeeCount; i++) {
+      committees[i] = shuffledIndices.subList(committeeOffsets[i], committeeOffsets[i + 1]);
+    }
+  }
+
+  public int getCommitteesPerSlot() {
+    return committeesPerSlot;
+  }
+
+  public IntList getCommittee(final UInt64 slot, final UInt64 committeeIndex) {
+    checkArgument(
+        slot.isGreaterThanOrEqualTo(epochStartSlot)
+            && slot.isLessThan(epochStartSlot.plus(slotsPerEpoch)),
+        "Slot %s is not in the epoch starting at slot %s",
+        slot,
+        epochStartSlot);
+    if (shuffledIndices.isEmpty()) {
+      // Without any active validators every committee is empty
+      return IntList.of();
+    }
+    checkArgument(
+        committeeIndex.isLessThan(committeesPerSlot),
+        "Committee index %s is out of range, there are %s committees per slot",
+        committeeIndex,
+        committeesPerSlot);
+    final int slotOffset = slot.minus(epochStartSlot).intValue();
+    return committees[slotOffset * committeesPerSlot + committeeIndex.intValue()];
+  }
+
+  public Optional<CommitteeAssignment> getCommitteeAssignment(final int validatorIndex) {
+    final int committeeNumber = getCommitteeNumber(validatorIndex);
+    if (committeeNumber == NOT_ASSIGNED) {
+      return Optional.empty();
+    }
+    return Optional.of(
+        new CommitteeAssignment(
+            committees[committeeNumber],
+            UInt64.valueOf(committeeNumber % committeesPerSlot),
+            epochStartSlot.plus(committeeNumber / committeesPerSlot)));
+  }
+
+  /**
+   * Returns the position of the validator within its committee, or -1 if the validator is not in a
+   * committee in this epoch.
+   */
+  public int getPositionInCommittee(final int validatorIndex) {
+    final int committeeNumber = getCommitteeNumber(validatorIndex);
+    if (committeeNumber == NOT_ASSIGNED) {
+      return NOT_ASSIGNED;
+    }
+    return shufflePositions.get()[validatorIndex] - committeeOffsets[committeeNumber];
+  }
+
+  private int getCommitteeNumber(final int validatorIndex) {
+    final int[] positions = shufflePositions.get();
+    if (validatorIndex < 0 || validatorIndex >= positions.length) {
+      return NOT_ASSIGNED;
+    }
+    final int position = positions[validatorIndex];
+    if (position == NOT_ASSIGNED) {
+      return NOT_ASSIGNED;
+    }
+    // Find the last committee starting at or before the position. Empty committees share their
+    // offset with the next committee so the first match isn't necessarily the right one.
+    int low = 0;
+    int high = committees.length - 1;
+    while (low < high) {
+      final int mid = (low + high + 1) >>> 1;
+      if (committeeOffsets[mid] <= position) {
+        low = mid;
+      } else {
+        high = mid - 1;
+      }
+    }
+    return low;
+  }
+
+  private int[] computeShufflePositions() {
+    int maxValidatorIndex = NOT_ASSIGNED;
+    for (int i = 0; i < shuffledIndices.size(); i++) {
+      maxValidatorIndex = Math.max(maxValidatorIndex, shuffledIndices.getInt(i));
+    }
+    final int[] positions = new int[maxValidatorIndex + 1];
+    Arrays.fill(positions, NOT_ASSIGNED);
+    for (int i = 0; i < shuffledIndices.size(); i++) {
+      positions[shuffledIndices.getInt(i)] = i;
+    }
+    return positions;
+  }
+}
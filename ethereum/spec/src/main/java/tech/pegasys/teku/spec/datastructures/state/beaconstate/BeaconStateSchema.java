@@ -15,6 +15,7 @@ package tech.pegasys.teku.spec.datastructures.state.beaconstate;
 
 import static com.google.common.base.Preconditions.checkArgument;
 
+import org.apache.tuweni.bytes.Bytes;
 import org.apache.tuweni.bytes.Bytes32;
 import tech.pegasys.teku.infrastructure.ssz.primitive.SszBytes32;
 import tech.pegasys.teku.infrastructure.ssz.primitive.SszUInt64;
@@ -39,6 +40,12 @@ public interface BeaconStateSchema<T extends BeaconState, TMutable extends Mutab
 
   T createEmpty();
 
+  /**
+   * Deserializes a state from trusted SSZ, leaving large fields like the validator registry
+   * serialized until they are first accessed.
+   */
+  T sszDeserializeLazily(Bytes ssz);
+
   default SszBytes32VectorSchema<?> getBlockRootsSchema() {
     return (SszBytes32VectorSchema<?>) getChildSchema(getFieldIndex(BeaconStateFields.BLOCK_ROOTS));
   }
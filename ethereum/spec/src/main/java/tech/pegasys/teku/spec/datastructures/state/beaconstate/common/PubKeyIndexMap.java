@@ -0,0 +1,156 @@
+/*
+ * Copyright Consensys Software Inc., 2025
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.spec.datastructures.state.beaconstate.common;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import org.apache.tuweni.bytes.Bytes48;
+import tech.pegasys.teku.bls.BLSPublicKey;
+
+/**
+ * Append only map from compressed public key to validator index.
+ *
+ * <p>Each distinct key is appended to fixed size segments of key bytes and is never overwritten, so
+ * a key seen on one fork is still found after another fork assigns its validator index to a
+ * different key. An open addressing table holds the position of each key in the segments next to
+ * its validator index, so nothing is allocated per validator. Reads are lock free. Writes are
+ * serialised and publish the key bytes and validator index before the table entry which refers to
+ * them, and a resize publishes a new table once it is fully populated.
+ */
+class PubKeyIndexMap {
+  static final int NOT_FOUND = -1;
+
+  static final PubKeyIndexMap NO_OP_INSTANCE =
+      new PubKeyIndexMap() {
+        @Override
+        int get(final Bytes48 publicKey) {
+          return NOT_FOUND;
+        }
+
+        @Override
+        synchronized void put(final Bytes48 publicKey, final int validatorIndex) {}
+      };
+
+  private static final int KEY_SIZE = BLSPublicKey.SSZ_BLS_PUBKEY_SIZE;
+  private static final int SEGMENT_BITS = 14;
+  private static final int SEGMENT_MASK = (1 << SEGMENT_BITS) - 1;
+  private static final int SEGMENT_BYTES = KEY_SIZE << SEGMENT_BITS;
+  private static final int INITIAL_CAPACITY = 1 << 10;
+  // Each table slot is a pair of key position + 1, so that zero marks an empty slot, and the
+  // validator index for that key
+  private static final int EMPTY = 0;
+
+  private volatile byte[][] segments = new byte[0][];
+  private volatile AtomicIntegerArray table = new AtomicIntegerArray(INITIAL_CAPACITY * 2);
+  // Only updated while holding the lock
+  private volatile int size = 0;
+
+  int get(final Bytes48 publicKey) {
+    final byte[] key = publicKey.toArrayUnsafe();
+    final AtomicIntegerArray table = this.table;
+    final int mask = capacity(table) - 1;
+    for (int slot = hash(key) & mask; ; slot = (slot + 1) & mask) {
+      final int entry = table.get(slot * 2);
+      if (entry == EMPTY) {
+        return NOT_FOUND;
+      }
+      if (keyMatches(entry - 1, key)) {
+        return table.get(slot * 2 + 1);
+      }
+    }
+  }
+
+  synchronized void put(final Bytes48 publicKey, final int validatorIndex) {
+    final byte[] key = publicKey.toArrayUnsafe();
+    final AtomicIntegerArray table = this.table;
+    final int mask = capacity(table) - 1;
+    for (int slot = hash(key) & mask; ; slot = (slot + 1) & mask) {
+      final int entry = table.get(slot * 2);
+      if (entry == EMPTY) {
+        writeKey(size, key);
+        table.set(slot * 2 + 1, validatorIndex);
+        table.set(slot * 2, size + 1);
+        size++;
+        if (size * 4L >= capacity(table) * 3L) {
+          resize();
+        }
+        return;
+      }
+      if (keyMatches(entry - 1, key)) {
+        table.set(slot * 2 + 1, validatorIndex);
+        return;
+      }
+    }
+  }
+
+  int size() {
+    return size;
+  }
+
+  private void resize() {
+    final AtomicIntegerArray oldTable = table;
+    final AtomicIntegerArray newTable = new AtomicIntegerArray(oldTable.length() * 2);
+    final int mask = capacity(newTable) - 1;
+    for (int oldSlot = 0; oldSlot < capacity(oldTable); oldSlot++) {
+      final int entry = oldTable.get(oldSlot * 2);
+      if (entry == EMPTY) {
+        continue;
+      }
+      int slot = hash(copyKey(entry - 1)) & mask;
+      while (newTable.get(slot * 2) != EMPTY) {
+        slot = (slot + 1) & mask;
+      }
+      newTable.set(slot * 2 + 1, oldTable.get(oldSlot * 2 + 1));
+      newTable.set(slot * 2, entry);
+    }
+    table = newTable;
+  }
+
+  private void writeKey(final int position, final byte[] key) {
+    final int segmentIndex = position >>> SEGMENT_BITS;
+    byte[][] segments = this.segments;
+    if (segmentIndex >= segments.length) {
+      segments = Arrays.copyOf(segments, segmentIndex + 1);
+      segments[segmentIndex] = new byte[SEGMENT_BYTES];
+    }
+    System.arraycopy(
+        key, 0, segments[segmentIndex], (position & SEGMENT_MASK) * KEY_SIZE, KEY_SIZE);
+    // Always republish so readers which see the new table entry also see the key bytes
+    this.segments = segments;
+  }
+
+  private byte[] copyKey(final int position) {
+    final int offset = (position & SEGMENT_MASK) * KEY_SIZE;
+    return Arrays.copyOfRange(segments[position >>> SEGMENT_BITS], offset, offset + KEY_SIZE);
+  }
+
+  private boolean keyMatches(final int position, final byte[] key) {
+    final byte[] segment = segments[position >>> SEGMENT_BITS];
+    final int offset = (position & SEGMENT_MASK) * KEY_SIZE;
+    return Arrays.equals(segment, offset, offset + KEY_SIZE, key, 0, KEY_SIZE);
+  }
+
+  private static int capacity(final AtomicIntegerArray table) {
+    return table.length() / 2;
+  }
+
+  private static int hash(final byte[] key) {
+    // Public keys can be chosen by depositors, so mix every byte rather than trusting a prefix
+    int hash = 1;
+    for (int i = 0; i < KEY_SIZE; i++) {
+      hash = 31 * hash + key[i];
+    }
+    return hash ^ (hash >>> 16);
+  }
+}
@@ -20,11 +20,11 @@ import java.util.Map;
 import java.util.Optional;
 import org.apache.tuweni.bytes.Bytes32;
 import tech.pegasys.teku.bls.BLSPublicKey;
-import tech.pegasys.teku.infrastructure.collections.TekuPair;
 import tech.pegasys.teku.infrastructure.collections.cache.Cache;
 import tech.pegasys.teku.infrastructure.collections.cache.LRUCache;
 import tech.pegasys.teku.infrastructure.collections.cache.NoOpCache;
 import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+import tech.pegasys.teku.spec.datastructures.state.EpochCommittees;
 import tech.pegasys.teku.spec.datastructures.util.SyncSubcommitteeAssignments;
 import tech.pegasys.teku.spec.logic.common.statetransition.epoch.status.ProgressiveTotalBalancesUpdates;
 import tech.pegasys.teku.spec.logic.common.statetransition.epoch.status.TotalBalances;
@@ -33,8 +33,9 @@ import tech.pegasys.teku.spec.logic.common.statetransition.epoch.status.TotalBal
 public class TransitionCaches {
 
   private static final int MAX_ACTIVE_VALIDATORS_CACHE = 8;
-  private static final int MAX_BEACON_PROPOSER_INDEX_CACHE = 1;
-  private static final int MAX_BEACON_COMMITTEE_CACHE = 64 * 64;
+  private static final int MAX_BEACON_PROPOSER_INDICES_CACHE = 1;
+  private static final int MAX_EPOCH_COMMITTEES_CACHE = 3;
+  private static final int MAX_ATTESTERS_TOTAL_BALANCE_CACHE = 64 * 64;
   private static final int MAX_BEACON_COMMITTEES_SIZE_CACHE = 64;
   private static final int MAX_TOTAL_ACTIVE_BALANCE_CACHE = 2;
   private static final int MAX_COMMITTEE_SHUFFLE_CACHE = 3;
@@ -75,8 +76,8 @@ public class TransitionCaches {
   }
 
   private final Cache<UInt64, IntList> activeValidators;
-  private final Cache<UInt64, Integer> beaconProposerIndex;
-  private final Cache<TekuPair<UInt64, UInt64>, IntList> beaconCommittee;
+  private final Cache<UInt64, IntList> beaconProposerIndices;
+  private final Cache<UInt64, EpochCommittees> epochCommittees;
   private final Cache<UInt64, Int2IntMap> beaconCommitteesSize;
   private final Cache<UInt64, UInt64> attestersTotalBalance;
   private final Cache<UInt64, UInt64> totalActiveBalance;
@@ -93,10 +94,10 @@ public class TransitionCaches {
 
   private TransitionCaches() {
     activeValidators = LRUCache.create(MAX_ACTIVE_VALIDATORS_CACHE);
-    beaconProposerIndex = LRUCache.create(MAX_BEACON_PROPOSER_INDEX_CACHE);
-    beaconCommittee = LRUCache.create(MAX_BEACON_COMMITTEE_CACHE);
+    beaconProposerIndices = LRUCache.create(MAX_BEACON_PROPOSER_INDICES_CACHE);
+    epochCommittees = LRUCache.create(MAX_EPOCH_COMMITTEES_CACHE);
     beaconCommitteesSize = LRUCache.create(MAX_BEACON_COMMITTEES_SIZE_CACHE);
-    attestersTotalBalance = LRUCache.create(MAX_BEACON_COMMITTEE_CACHE);
+    attestersTotalBalance = LRUCache.create(MAX_ATTESTERS_TOTAL_BALANCE_CACHE);
     totalActiveBalance = LRUCache.create(MAX_TOTAL_ACTIVE_BALANCE_CACHE);
     validatorsPubKeys = LRUCache.create(Integer.MAX_VALUE - 1);
     validatorIndexCache = new ValidatorIndexCache();
@@ -109,8 +110,8 @@ public class TransitionCaches {
 
   private TransitionCaches(
       final Cache<UInt64, IntList> activeValidators,
-      final Cache<UInt64, Integer> beaconProposerIndex,
-      final Cache<TekuPair<UInt64, UInt64>, IntList> beaconCommittee,
+      final Cache<UInt64, IntList> beaconProposerIndices,
+      final Cache<UInt64, EpochCommittees> epochCommittees,
       final Cache<UInt64, Int2IntMap> beaconCommitteesSize,
       final Cache<UInt64, UInt64> attestersTotalBalance,
       final Cache<UInt64, UInt64> totalActiveBalance,
@@ -122,8 +123,8 @@ public class TransitionCaches {
       final Cache<UInt64, UInt64> baseRewardPerIncrement,
       final ProgressiveTotalBalancesUpdates progressiveTotalBalances) {
     this.activeValidators = activeValidators;
-    this.beaconProposerIndex = beaconProposerIndex;
-    this.beaconCommittee = beaconCommittee;
+    this.beaconProposerIndices = beaconProposerIndices;
+    this.epochCommittees = epochCommittees;
     this.beaconCommitteesSize = beaconCommitteesSize;
     this.attestersTotalBalance = attestersTotalBalance;
     this.totalActiveBalance = totalActiveBalance;
@@ -158,14 +159,14 @@ public class TransitionCaches {
     return activeValidators;
   }
 
-  /** (slot) -> (beacon proposer index) cache */
-  public Cache<UInt64, Integer> getBeaconProposerIndex() {
-    return beaconProposerIndex;
+  /** (epoch) -> (beacon proposer index for each slot of the epoch) cache */
+  public Cache<UInt64, IntList> getBeaconProposerIndices() {
+    return beaconProposerIndices;
   }
 
-  /** (slot, committeeIndex) -> (committee) cache */
-  public Cache<TekuPair<UInt64, UInt64>, IntList> getBeaconCommittee() {
-    return beaconCommittee;
+  /** (epoch) -> (committees for each slot of the epoch) cache */
+  public Cache<UInt64, EpochCommittees> getEpochCommittees() {
+    return epochCommittees;
   }
 
   /** (slot) -> Map(committeeIndex, size of a committee) */
@@ -231,8 +232,8 @@ public class TransitionCaches {
   public TransitionCaches copy() {
     return new TransitionCaches(
         activeValidators.copy(),
-        beaconProposerIndex.copy(),
-        beaconCommittee.copy(),
+        beaconProposerIndices.copy(),
+        epochCommittees.copy(),
         beaconCommitteesSize.copy(),
         attestersTotalBalance.copy(),
         totalActiveBalance.copy(),
@@ -16,26 +16,24 @@ package tech.pegasys.teku.spec.datastructures.state.beaconstate.common;
 import com.google.common.annotations.VisibleForTesting;
 import java.util.Optional;
 import java.util.concurrent.atomic.AtomicInteger;
+import org.apache.tuweni.bytes.Bytes48;
 import tech.pegasys.teku.bls.BLSPublicKey;
-import tech.pegasys.teku.infrastructure.collections.cache.Cache;
-import tech.pegasys.teku.infrastructure.collections.cache.LRUCache;
-import tech.pegasys.teku.infrastructure.collections.cache.NoOpCache;
 import tech.pegasys.teku.infrastructure.ssz.SszList;
 import tech.pegasys.teku.spec.datastructures.state.Validator;
 import tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconState;
 
 public class ValidatorIndexCache {
-  private final Cache<BLSPublicKey, Integer> validatorIndices;
+  private final PubKeyIndexMap validatorIndices;
   private final AtomicInteger lastCachedIndex;
 
   private static final int INDEX_NONE = -1;
   private final AtomicInteger latestFinalizedIndex;
   public static final ValidatorIndexCache NO_OP_INSTANCE =
-      new ValidatorIndexCache(NoOpCache.getNoOpCache(), INDEX_NONE, INDEX_NONE);
+      new ValidatorIndexCache(PubKeyIndexMap.NO_OP_INSTANCE, INDEX_NONE, INDEX_NONE);
 
   @VisibleForTesting
   ValidatorIndexCache(
-      final Cache<BLSPublicKey, Integer> validatorIndices,
+      final PubKeyIndexMap validatorIndices,
       final int latestFinalizedIndex,
       final int lastCachedIndex) {
     this.validatorIndices = validatorIndices;
@@ -44,23 +42,23 @@ public class ValidatorIndexCache {
   }
 
   public ValidatorIndexCache() {
-    this.validatorIndices = LRUCache.create(Integer.MAX_VALUE - 1);
-    this.lastCachedIndex = new AtomicInteger(INDEX_NONE);
-    latestFinalizedIndex = new AtomicInteger(INDEX_NONE);
+    this(new PubKeyIndexMap(), INDEX_NONE, INDEX_NONE);
   }
 
   public Optional<Integer> getValidatorIndex(
       final BeaconState state, final BLSPublicKey publicKey) {
-    final Optional<Integer> validatorIndex = validatorIndices.getCached(publicKey);
-    if (validatorIndex.isPresent()) {
-      return validatorIndex.filter(index -> index < state.getValidators().size());
+    final int validatorIndex = validatorIndices.get(publicKey.toBytesCompressed());
+    if (validatorIndex != PubKeyIndexMap.NOT_FOUND) {
+      return validatorIndex < state.getValidators().size()
+          ? Optional.of(validatorIndex)
+          : Optional.empty();
     }
 
-    return findIndexFromState(state.getValidators(), publicKey);
+    return findIndexFromState(state.getValidators(), publicKey.toBytesCompressed());
   }
 
   public void invalidateWithNewValue(final BLSPublicKey pubKey, final int updatedIndex) {
-    validatorIndices.invalidateWithNewValue(pubKey, updatedIndex);
+    validatorIndices.put(pubKey.toBytesCompressed(), updatedIndex);
   }
 
   public void updateLatestFinalizedIndex(final BeaconState finalizedState) {
@@ -88,21 +86,23 @@ public class ValidatorIndexCache {
   }
 
   private Optional<Integer> findIndexFromState(
-      final SszList<Validator> validatorList, final BLSPublicKey publicKey) {
+      final SszList<Validator> validatorList, final Bytes48 publicKey) {
     final int initialCacheSize = getCacheSize();
+    int lastScannedIndex = INDEX_NONE;
+    Optional<Integer> result = Optional.empty();
     for (int i = Math.max(lastCachedIndex.get() + 1, 0); i < validatorList.size(); i++) {
-      final BLSPublicKey pubKey = validatorList.get(i).getPublicKey();
-      validatorIndices.invalidateWithNewValue(pubKey, i);
+      // Compare the raw bytes so no BLSPublicKey is created for every validator scanned
+      final Bytes48 pubKey = validatorList.get(i).getPubkeyBytes();
+      validatorIndices.put(pubKey, i);
+      lastScannedIndex = i;
       if (pubKey.equals(publicKey)) {
-        if (initialCacheSize < getCacheSize()) {
-          updateLastIndex(i);
-        }
-        return Optional.of(i);
+        result = Optional.of(i);
+        break;
       }
     }
     if (initialCacheSize < getCacheSize()) {
-      updateLastIndex(getCacheSize() - 1);
+      updateLastIndex(lastScannedIndex);
     }
-    return Optional.empty();
+    return result;
   }
 }
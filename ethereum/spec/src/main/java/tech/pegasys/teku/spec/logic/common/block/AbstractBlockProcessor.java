@@ -19,7 +19,9 @@ import com.google.common.annotations.VisibleForTesting;
 import it.unimi.dsi.fastutil.ints.IntList;
 import it.unimi.dsi.fastutil.objects.Object2IntMap;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.function.Supplier;
 import javax.annotation.CheckReturnValue;
@@ -31,6 +33,7 @@ import tech.pegasys.teku.bls.BLSPublicKey;
 import tech.pegasys.teku.bls.BLSSignature;
 import tech.pegasys.teku.bls.BLSSignatureVerifier;
 import tech.pegasys.teku.bls.impl.BlsException;
+import tech.pegasys.teku.infrastructure.async.AsyncRunner;
 import tech.pegasys.teku.infrastructure.bytes.Bytes4;
 import tech.pegasys.teku.infrastructure.crypto.Hash;
 import tech.pegasys.teku.infrastructure.ssz.SszList;
@@ -71,6 +74,7 @@ import tech.pegasys.teku.spec.logic.common.operations.validation.OperationInvali
 import tech.pegasys.teku.spec.logic.common.operations.validation.OperationValidator;
 import tech.pegasys.teku.spec.logic.common.statetransition.blockvalidator.BatchSignatureVerifier;
 import tech.pegasys.teku.spec.logic.common.statetransition.blockvalidator.BlockValidationResult;
+import tech.pegasys.teku.spec.logic.common.statetransition.blockvalidator.ConcurrentBatchSignatureVerification;
 import tech.pegasys.teku.spec.logic.common.statetransition.exceptions.BlockProcessingException;
 import tech.pegasys.teku.spec.logic.common.statetransition.exceptions.StateTransitionException;
 import tech.pegasys.teku.spec.logic.common.util.AttestationUtil;
@@ -136,15 +140,99 @@ public abstract class AbstractBlockProcessor implements BlockProcessor {
       final IndexedAttestationCache indexedAttestationCache,
       final Optional<? extends OptimisticExecutionPayloadExecutor> payloadExecutor)
       throws StateTransitionException {
-    final BatchSignatureVerifier signatureVerifier = new BatchSignatureVerifier();
-    final BeaconState result =
-        processAndValidateBlock(
-            signedBlock,
+    return processAndValidateBlock(
+        signedBlock,
+        blockSlotState,
+        indexedAttestationCache,
+        payloadExecutor,
+        Optional.empty());
+  }
+
+  /**
+   * Fast path used when signatures are batch verified. The indexed attestations are calculated up
+   * front and the signatures which only depend on the pre-state are verified with {@code
+   * signatureVerificationAsyncRunner} while the block is applied. Signatures collected while
+   * applying the block, like the sync aggregate, are verified in a second batch afterwards.
+   */
+  @Override
+  public BeaconState processAndValidateBlock(
+      final SignedBeaconBlock signedBlock,
+      final BeaconState blockSlotState,
+      final IndexedAttestationCache indexedAttestationCache,
+      final Optional<? extends OptimisticExecutionPayloadExecutor> payloadExecutor,
+      final AsyncRunner signatureVerificationAsyncRunner)
+      throws StateTransitionException {
+    return processAndValidateBlock(
+        signedBlock,
+        blockSlotState,
+        indexedAttestationCache,
+        payloadExecutor,
+        Optional.of(signatureVerificationAsyncRunner));
+  }
+
+  private BeaconState processAndValidateBlock(
+      final SignedBeaconBlock signedBlock,
+      final BeaconState blockSlotState,
+      final IndexedAttestationCache indexedAttestationCache,
+      final Optional<? extends OptimisticExecutionPayloadExecutor> payloadExecutor,
+      final Optional<AsyncRunner> signatureVerificationAsyncRunner)
+      throws StateTransitionException {
+    final IndexedAttestationCache precomputedIndexedAttestationCache =
+        precomputeIndexedAttestations(
             blockSlotState,
-            indexedAttestationCache,
-            signatureVerifier,
-            payloadExecutor);
-    if (!signatureVerifier.batchVerify()) {
+            signedBlock.getMessage().getBody().getAttestations(),
+            indexedAttestationCache);
+
+    final BatchSignatureVerifier preStateSignatureVerifier = new BatchSignatureVerifier();
+    try {
+      final BlockValidationResult preValidationResult =
+          validateBlockPreProcessing(blockSlotState, signedBlock, preStateSignatureVerifier);
+      if (!preValidationResult.isValid()) {
+        throw new BlockProcessingException(preValidationResult.getFailureReason());
+      }
+      final BlockValidationResult signaturesResult =
+          verifyBlockSignatures(
+              blockSlotState,
+              signedBlock,
+              precomputedIndexedAttestationCache,
+              preStateSignatureVerifier);
+      if (!signaturesResult.isValid()) {
+        throw new BlockProcessingException(signaturesResult.getFailureReason());
+      }
+    } catch (final IllegalArgumentException | BlockProcessingException e) {
+      LOG.warn(
+          String.format(
+              "State transition error while importing block %s (%s)",
+              signedBlock.getSlot(), signedBlock.getRoot()),
+          e);
+      throw new StateTransitionException(e);
+    }
+    final Optional<ConcurrentBatchSignatureVerification> preStateSignatureVerification =
+        signatureVerificationAsyncRunner.map(
+            asyncRunner ->
+                ConcurrentBatchSignatureVerification.start(preStateSignatureVerifier, asyncRunner));
+
+    final BatchSignatureVerifier signatureVerifier = new BatchSignatureVerifier();
+    final BeaconState result;
+    try {
+      result =
+          processAndValidateBlock(
+              signedBlock,
+              blockSlotState,
+              precomputedIndexedAttestationCache,
+              signatureVerifier,
+              payloadExecutor,
+              false);
+    } catch (final StateTransitionException | RuntimeException e) {
+      // the block is rejected anyway so don't spend time verifying its signatures
+      preStateSignatureVerification.ifPresent(ConcurrentBatchSignatureVerification::cancel);
+      throw e;
+    }
+    final boolean preStateSignaturesValid =
+        preStateSignatureVerification
+            .map(ConcurrentBatchSignatureVerification::isValid)
+            .orElseGet(preStateSignatureVerifier::batchVerify);
+    if (!preStateSignaturesValid || !signatureVerifier.batchVerify()) {
       throw new StateTransitionException(
           "Batch signature verification failed for block " + signedBlock.toLogString());
     }
@@ -159,11 +247,30 @@ public abstract class AbstractBlockProcessor implements BlockProcessor {
       final BLSSignatureVerifier signatureVerifier,
       final Optional<? extends OptimisticExecutionPayloadExecutor> payloadExecutor)
       throws StateTransitionException {
+    return processAndValidateBlock(
+        signedBlock,
+        blockSlotState,
+        indexedAttestationCache,
+        signatureVerifier,
+        payloadExecutor,
+        true);
+  }
+
+  private BeaconState processAndValidateBlock(
+      final SignedBeaconBlock signedBlock,
+      final BeaconState blockSlotState,
+      final IndexedAttestationCache indexedAttestationCache,
+      final BLSSignatureVerifier signatureVerifier,
+      final Optional<? extends OptimisticExecutionPayloadExecutor> payloadExecutor,
+      final boolean preValidated)
+      throws StateTransitionException {
     try {
-      final BlockValidationResult preValidationResult =
-          validateBlockPreProcessing(blockSlotState, signedBlock, signatureVerifier);
-      if (!preValidationResult.isValid()) {
-        throw new BlockProcessingException(preValidationResult.getFailureReason());
+      if (!preValidated) {
+        final BlockValidationResult preValidationResult =
+            validateBlockPreProcessing(blockSlotState, signedBlock, signatureVerifier);
+        if (!preValidationResult.isValid()) {
+          throw new BlockProcessingException(preValidationResult.getFailureReason());
+        }
       }
 
       // Process_block
@@ -176,8 +283,14 @@ public abstract class AbstractBlockProcessor implements BlockProcessor {
               payloadExecutor);
 
       BlockValidationResult blockValidationResult =
-          validateBlockPostProcessing(
-              blockSlotState, signedBlock, postState, indexedAttestationCache, signatureVerifier);
+          preValidated
+              ? validatePostState(postState, signedBlock)
+              : validateBlockPostProcessing(
+                  blockSlotState,
+                  signedBlock,
+                  postState,
+                  indexedAttestationCache,
+                  signatureVerifier);
 
       if (!blockValidationResult.isValid()) {
         throw new BlockProcessingException(blockValidationResult.getFailureReason());
@@ -194,6 +307,35 @@ public abstract class AbstractBlockProcessor implements BlockProcessor {
     }
   }
 
+  /**
+   * Calculates the indexed form of all attestations before the block is applied, so their
+   * signatures can join the pre-state batch. Committees only depend on the pre-state so the
+   * results can be reused while the block is applied. Attestations which can't be converted are
+   * left to fail during normal processing. This runs on the calling thread as state views must not
+   * be read from several threads at once.
+   */
+  private IndexedAttestationCache precomputeIndexedAttestations(
+      final BeaconState state,
+      final SszList<Attestation> attestations,
+      final IndexedAttestationCache indexedAttestationCache) {
+    final Map<Attestation, IndexedAttestation> indexedAttestations = new HashMap<>();
+    for (final Attestation attestation : attestations) {
+      try {
+        indexedAttestations.put(
+            attestation, attestationUtil.getIndexedAttestation(state, attestation));
+      } catch (final RuntimeException e) {
+        LOG.trace("Unable to precompute indexed attestation", e);
+      }
+    }
+    return (attestation, attestationProvider) ->
+        indexedAttestationCache.computeIfAbsent(
+            attestation,
+            () -> {
+              final IndexedAttestation indexedAttestation = indexedAttestations.get(attestation);
+              return indexedAttestation != null ? indexedAttestation : attestationProvider.get();
+            });
+  }
+
   @CheckReturnValue
   protected BlockValidationResult validateBlockPreProcessing(
       final BeaconState preState,
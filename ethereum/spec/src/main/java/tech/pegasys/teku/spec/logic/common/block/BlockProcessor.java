@@ -19,6 +19,7 @@ import java.util.Optional;
 import java.util.function.Supplier;
 import tech.pegasys.teku.bls.BLSPublicKey;
 import tech.pegasys.teku.bls.BLSSignatureVerifier;
+import tech.pegasys.teku.infrastructure.async.AsyncRunner;
 import tech.pegasys.teku.infrastructure.ssz.SszList;
 import tech.pegasys.teku.infrastructure.unsigned.UInt64;
 import tech.pegasys.teku.spec.cache.IndexedAttestationCache;
@@ -63,6 +64,18 @@ public interface BlockProcessor {
       Optional<? extends OptimisticExecutionPayloadExecutor> payloadExecutor)
       throws StateTransitionException;
 
+  /**
+   * Processes and validates the block, batch verifying the signatures which only depend on the
+   * pre-state with {@code signatureVerificationAsyncRunner} while the block is applied.
+   */
+  BeaconState processAndValidateBlock(
+      SignedBeaconBlock signedBlock,
+      BeaconState blockSlotState,
+      IndexedAttestationCache indexedAttestationCache,
+      Optional<? extends OptimisticExecutionPayloadExecutor> payloadExecutor,
+      AsyncRunner signatureVerificationAsyncRunner)
+      throws StateTransitionException;
+
   /**
    * Processes the given block on top of {@code blockSlotState} and optionally validates the block
    *
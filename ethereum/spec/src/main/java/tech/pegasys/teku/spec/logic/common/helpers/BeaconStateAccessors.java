@@ -21,18 +21,22 @@ import it.unimi.dsi.fastutil.ints.Int2IntMap;
 import it.unimi.dsi.fastutil.ints.Int2IntOpenHashMap;
 import it.unimi.dsi.fastutil.ints.IntList;
 import java.util.Collection;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Supplier;
 import java.util.stream.IntStream;
 import org.apache.tuweni.bytes.Bytes;
 import org.apache.tuweni.bytes.Bytes32;
 import tech.pegasys.teku.bls.BLSPublicKey;
 import tech.pegasys.teku.infrastructure.bytes.Bytes4;
+import tech.pegasys.teku.infrastructure.collections.LimitedMap;
 import tech.pegasys.teku.infrastructure.collections.TekuPair;
 import tech.pegasys.teku.infrastructure.crypto.Hash;
 import tech.pegasys.teku.infrastructure.ssz.SszList;
 import tech.pegasys.teku.infrastructure.unsigned.UInt64;
 import tech.pegasys.teku.spec.config.SpecConfig;
 import tech.pegasys.teku.spec.constants.Domain;
+import tech.pegasys.teku.spec.datastructures.state.EpochCommittees;
 import tech.pegasys.teku.spec.datastructures.state.Fork;
 import tech.pegasys.teku.spec.datastructures.state.ForkInfo;
 import tech.pegasys.teku.spec.datastructures.state.Validator;
@@ -40,10 +44,20 @@ import tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconState;
 import tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconStateCache;
 
 public abstract class BeaconStateAccessors {
+  private static final int MAX_SHARED_EPOCH_CACHE = 8;
+
   protected final SpecConfig config;
   protected final Predicates predicates;
   protected final MiscHelpers miscHelpers;
 
+  // Shared by all states and keyed by (epoch, attester shuffling dependent root) which fully
+  // determines both values, so sibling states and freshly loaded states don't recalculate them.
+  // Values are soft referenced so the GC can reclaim them under memory pressure.
+  private final Map<TekuPair<UInt64, Bytes32>, IntList> sharedActiveValidators =
+      LimitedMap.createSoft(MAX_SHARED_EPOCH_CACHE);
+  private final Map<TekuPair<UInt64, Bytes32>, EpochCommittees> sharedEpochCommittees =
+      LimitedMap.createSoft(MAX_SHARED_EPOCH_CACHE);
+
   protected BeaconStateAccessors(
       final SpecConfig config, final Predicates predicates, final MiscHelpers miscHelpers) {
     this.config = config;
@@ -116,13 +130,19 @@ public abstract class BeaconStateAccessors {
         .getActiveValidators()
         .get(
             epoch,
-            e -> {
-              SszList<Validator> validators = state.getValidators();
-              return IntList.of(
-                  IntStream.range(0, validators.size())
-                      .filter(index -> predicates.isActiveValidator(validators.get(index), epoch))
-                      .toArray());
-            });
+            e ->
+                getFromSharedEpochCache(
+                    sharedActiveValidators,
+                    state,
+                    e,
+                    () -> {
+                      SszList<Validator> validators = state.getValidators();
+                      return IntList.of(
+                          IntStream.range(0, validators.size())
+                              .filter(
+                                  index -> predicates.isActiveValidator(validators.get(index), e))
+                              .toArray());
+                    }));
   }
 
   public UInt64 getMaxLookaheadEpoch(final BeaconState state) {
@@ -213,17 +233,29 @@ public abstract class BeaconStateAccessors {
 
   public int getBeaconProposerIndex(final BeaconState state, final UInt64 requestedSlot) {
     validateStateCanCalculateProposerIndexAtSlot(state, requestedSlot);
-    return BeaconStateCache.getTransitionCaches(state)
-        .getBeaconProposerIndex()
-        .get(
-            requestedSlot,
-            slot -> {
-              UInt64 epoch = miscHelpers.computeEpochAtSlot(slot);
-              Bytes32 seed =
-                  Hash.sha256(getSeed(state, epoch, Domain.BEACON_PROPOSER), uint64ToBytes(slot));
-              IntList indices = getActiveValidatorIndices(state, epoch);
-              return miscHelpers.computeProposerIndex(state, indices, seed);
-            });
+    final UInt64 epoch = miscHelpers.computeEpochAtSlot(requestedSlot);
+    final IntList proposerIndices =
+        BeaconStateCache.getTransitionCaches(state)
+            .getBeaconProposerIndices()
+            .get(epoch, __ -> computeBeaconProposerIndices(state, epoch));
+    return proposerIndices.getInt(
+        requestedSlot.minus(miscHelpers.computeStartSlotAtEpoch(epoch)).intValue());
+  }
+
+  /**
+   * Proposers for all slots of the epoch are calculated together as they share the epoch seed and
+   * active validator indices.
+   */
+  private IntList computeBeaconProposerIndices(final BeaconState state, final UInt64 epoch) {
+    final Bytes32 epochSeed = getSeed(state, epoch, Domain.BEACON_PROPOSER);
+    final IntList indices = getActiveValidatorIndices(state, epoch);
+    final UInt64 startSlot = miscHelpers.computeStartSlotAtEpoch(epoch);
+    final int[] proposerIndices = new int[config.getSlotsPerEpoch()];
+    for (int i = 0; i < proposerIndices.length; i++) {
+      final Bytes32 seed = Hash.sha256(epochSeed, uint64ToBytes(startSlot.plus(i)));
+      proposerIndices[i] = miscHelpers.computeProposerIndex(state, indices, seed);
+    }
+    return IntList.of(proposerIndices);
   }
 
   public UInt64 getFinalityDelay(final BeaconState state) {
@@ -293,26 +325,59 @@ public abstract class BeaconStateAccessors {
     // Make sure state is within range of the slot being queried
     validateStateForCommitteeQuery(state, slot);
 
+    return getEpochCommittees(state, miscHelpers.computeEpochAtSlot(slot))
+        .getCommittee(slot, index);
+  }
+
+  /**
+   * Returns the committees for every slot of the epoch. The active validators are shuffled once per
+   * epoch and all committees, as well as the committee assignment of each validator, are looked up
+   * from the cached result.
+   */
+  public EpochCommittees getEpochCommittees(final BeaconState state, final UInt64 epoch) {
     return BeaconStateCache.getTransitionCaches(state)
-        .getBeaconCommittee()
+        .getEpochCommittees()
         .get(
-            TekuPair.of(slot, index),
-            __ -> {
-              UInt64 epoch = miscHelpers.computeEpochAtSlot(slot);
-              UInt64 committeesPerSlot = getCommitteeCountPerSlot(state, epoch);
-              int committeeIndex =
-                  slot.mod(config.getSlotsPerEpoch())
-                      .times(committeesPerSlot)
-                      .plus(index)
-                      .intValue();
-              int count = committeesPerSlot.times(config.getSlotsPerEpoch()).intValue();
-              return miscHelpers.computeCommittee(
-                  state,
-                  getActiveValidatorIndices(state, epoch),
-                  getSeed(state, epoch, Domain.BEACON_ATTESTER),
-                  committeeIndex,
-                  count);
-            });
+            epoch,
+            __ ->
+                getFromSharedEpochCache(
+                    sharedEpochCommittees,
+                    state,
+                    epoch,
+                    () ->
+                        new EpochCommittees(
+                            miscHelpers.computeStartSlotAtEpoch(epoch),
+                            config.getSlotsPerEpoch(),
+                            getCommitteeCountPerSlot(state, epoch).intValue(),
+                            miscHelpers.computeCommitteeShuffle(
+                                state,
+                                getActiveValidatorIndices(state, epoch),
+                                getSeed(state, epoch, Domain.BEACON_ATTESTER)))));
+  }
+
+  private <T> T getFromSharedEpochCache(
+      final Map<TekuPair<UInt64, Bytes32>, T> cache,
+      final BeaconState state,
+      final UInt64 epoch,
+      final Supplier<T> calculator) {
+    return getAttesterShufflingDependentRoot(state, epoch)
+        .map(root -> cache.computeIfAbsent(TekuPair.of(epoch, root), __ -> calculator.get()))
+        .orElseGet(calculator);
+  }
+
+  /**
+   * The root of the last block before the epoch preceding {@code epoch}. The active validators,
+   * seed and therefore committees for {@code epoch} are fixed once this block is known.
+   */
+  private Optional<Bytes32> getAttesterShufflingDependentRoot(
+      final BeaconState state, final UInt64 epoch) {
+    final UInt64 dependentSlot =
+        miscHelpers.computeStartSlotAtEpoch(epoch.minusMinZero(1)).minusMinZero(1);
+    if (!isBlockRootAvailableFromState(state, dependentSlot)) {
+      return Optional.empty();
+    }
+    // States without any block history can't be told apart by their block roots
+    return Optional.of(getBlockRootAtSlot(state, dependentSlot)).filter(root -> !root.isZero());
   }
 
   public Int2IntMap getBeaconCommitteesSize(final BeaconState state, final UInt64 slot) {
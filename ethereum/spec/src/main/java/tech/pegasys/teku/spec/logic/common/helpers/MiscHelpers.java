@@ -64,7 +64,8 @@ public class MiscHelpers {
 
   protected final SpecConfig specConfig;
 
-  private static final byte[] EMPTY_HASH = Bytes.EMPTY.toArrayUnsafe();
+  // Below this size the rounds are hashed on the calling thread
+  static final int PARALLEL_SHUFFLE_THRESHOLD = 4096;
 
   public MiscHelpers(final SpecConfig specConfig) {
     this.specConfig = specConfig;
@@ -204,10 +205,15 @@ public class MiscHelpers {
       checkArgument(fromIndex < indexCount, "CommitteeUtil.getShuffledIndex1");
       checkArgument(toIndex <= indexCount, "CommitteeUtil.getShuffledIndex1");
     }
+    return computeCommitteeShuffle(state, indices, seed).subList(fromIndex, toIndex);
+  }
+
+  /** Returns the shuffled indices which all committees for the given seed are sliced from. */
+  public IntList computeCommitteeShuffle(
+      final BeaconState state, final IntList indices, final Bytes32 seed) {
     return BeaconStateCache.getTransitionCaches(state)
         .getCommitteeShuffle()
-        .get(seed, s -> shuffleList(indices, s))
-        .subList(fromIndex, toIndex);
+        .get(seed, s -> shuffleList(indices, s));
   }
 
   public List<UInt64> computeSubscribedSubnets(final UInt256 nodeId, final UInt64 epoch) {
@@ -271,50 +277,67 @@ public class MiscHelpers {
     return IntList.of(indices);
   }
 
+  /**
+   * Shuffles the whole list in place. The hashes for every round only depend on the seed and the
+   * list size, so they are all computed up front (in parallel for large lists) into one bit per
+   * position per round. The rounds are then applied in order with a tight loop over the bits.
+   */
   public void shuffleList(final int[] input, final Bytes32 seed) {
-
-    int listSize = input.length;
+    final int listSize = input.length;
     if (listSize == 0) {
       return;
     }
 
-    final Sha256 sha256 = getSha256Instance();
+    final int roundCount = specConfig.getShuffleRoundCount();
+    final int[] pivots = new int[roundCount];
+    final byte[][] roundBits = new byte[roundCount][];
+    final IntStream rounds = IntStream.range(0, roundCount);
+    (listSize >= PARALLEL_SHUFFLE_THRESHOLD ? rounds.parallel() : rounds)
+        .forEach(
+            round -> {
+              final Sha256 sha256 = getSha256Instance();
+              final Bytes roundAsByte = Bytes.of((byte) round);
+              // This needs to be unsigned modulo.
+              final Bytes hash = sha256.wrappedDigest(seed, roundAsByte);
+              pivots[round] = bytesToUInt64(hash.slice(0, 8)).mod(listSize).intValue();
+              roundBits[round] = computeShuffleRoundBits(sha256, seed, roundAsByte, listSize);
+            });
+
+    for (int round = roundCount - 1; round >= 0; round--) {
+      applyShuffleRound(input, pivots[round], roundBits[round]);
+    }
+  }
 
-    for (int round = specConfig.getShuffleRoundCount() - 1; round >= 0; round--) {
+  private static byte[] computeShuffleRoundBits(
+      final Sha256 sha256, final Bytes32 seed, final Bytes roundAsByte, final int listSize) {
+    final int chunkCount = (listSize + 255) / 256;
+    final byte[] bits = new byte[chunkCount * 32];
+    for (int chunk = 0; chunk < chunkCount; chunk++) {
+      final byte[] source = sha256.digest(seed, roundAsByte, uintTo4Bytes(chunk));
+      System.arraycopy(source, 0, bits, chunk * 32, 32);
+    }
+    return bits;
+  }
 
-      final Bytes roundAsByte = Bytes.of((byte) round);
+  private static void applyShuffleRound(final int[] input, final int pivot, final byte[] bits) {
+    final int listSize = input.length;
+    // Each pair is swapped or not based on the bit for the higher of its two positions
+    for (int i = (pivot + 2) / 2; i <= pivot; i++) {
+      swapIfBitSet(input, i, pivot - i, bits, i);
+    }
+    final int mirror2 = (pivot + listSize) / 2;
+    for (int i = pivot + 1; i <= mirror2; i++) {
+      final int flip = pivot + listSize - i;
+      swapIfBitSet(input, i, flip, bits, flip);
+    }
+  }
 
-      // This needs to be unsigned modulo.
-      final Bytes hash = sha256.wrappedDigest(seed, roundAsByte);
-      int pivot = bytesToUInt64(hash.slice(0, 8)).mod(listSize).intValue();
-
-      byte[] hashBytes = EMPTY_HASH;
-      int mirror1 = (pivot + 2) / 2;
-      int mirror2 = (pivot + listSize) / 2;
-      for (int i = mirror1; i <= mirror2; i++) {
-        int flip, bitIndex;
-        if (i <= pivot) {
-          flip = pivot - i;
-          bitIndex = i & 0xff;
-          if (bitIndex == 0 || i == mirror1) {
-            hashBytes = sha256.digest(seed, roundAsByte, uintTo4Bytes(i / 256));
-          }
-        } else {
-          flip = pivot + listSize - i;
-          bitIndex = flip & 0xff;
-          if (bitIndex == 0xff || i == pivot + 1) {
-            hashBytes = sha256.digest(seed, roundAsByte, uintTo4Bytes(flip / 256));
-          }
-        }
-
-        int theByte = hashBytes[bitIndex / 8];
-        int theBit = (theByte >> (bitIndex & 0x07)) & 1;
-        if (theBit != 0) {
-          int tmp = input[i];
-          input[i] = input[flip];
-          input[flip] = tmp;
-        }
-      }
+  private static void swapIfBitSet(
+      final int[] input, final int i, final int flip, final byte[] bits, final int position) {
+    if (((bits[position >> 3] >> (position & 0x07)) & 1) != 0) {
+      final int tmp = input[i];
+      input[i] = input[flip];
+      input[flip] = tmp;
     }
   }
 
@@ -0,0 +1,65 @@
+/*
+ * Copyright Consensys Software Inc., 2025
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+
+package tech.pegasys.teku.spec.logic.common.statetransition.blockvalidator;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import tech.pegasys.teku.infrastructure.async.AsyncRunner;
+import tech.pegasys.teku.infrastructure.async.SafeFuture;
+
+/**
+ * Verifies a {@link BatchSignatureVerifier} batch with an {@link AsyncRunner} while the caller
+ * carries on with other work.
+ *
+ * <p>The batch is verified by whichever of the runner and {@link #isValid()} gets to it first. If
+ * the runner hasn't started by the time the result is needed the caller verifies the batch itself,
+ * so it never waits on a busy or shut down runner.
+ */
+public class ConcurrentBatchSignatureVerification {
+  private final BatchSignatureVerifier verifier;
+  private final AtomicBoolean started = new AtomicBoolean();
+  private SafeFuture<Boolean> asyncResult;
+
+  private ConcurrentBatchSignatureVerification(final BatchSignatureVerifier verifier) {
+    this.verifier = verifier;
+  }
+
+  public static ConcurrentBatchSignatureVerification start(
+      final BatchSignatureVerifier verifier, final AsyncRunner asyncRunner) {
+    final ConcurrentBatchSignatureVerification verification =
+        new ConcurrentBatchSignatureVerification(verifier);
+    verification.asyncResult = asyncRunner.runAsync(verification::verifyIfNotStarted);
+    return verification;
+  }
+
+  private boolean verifyIfNotStarted() {
+    // the caller may already have verified the batch itself or cancelled the verification
+    return started.compareAndSet(false, true) && verifier.batchVerify();
+  }
+
+  /** Returns whether all signatures in the batch are valid, waiting for the runner if required. */
+  public boolean isValid() {
+    if (started.compareAndSet(false, true)) {
+      asyncResult.cancel(false);
+      return verifier.batchVerify();
+    }
+    return asyncResult.join();
+  }
+
+  /** Skips the verification if the runner hasn't started it yet. */
+  public void cancel() {
+    started.set(true);
+    asyncResult.cancel(false);
+  }
+}
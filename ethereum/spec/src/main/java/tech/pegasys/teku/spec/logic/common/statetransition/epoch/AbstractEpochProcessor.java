@@ -18,7 +18,10 @@ import static tech.pegasys.teku.infrastructure.unsigned.UInt64.ZERO;
 import com.google.common.annotations.VisibleForTesting;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
+import java.util.function.BiConsumer;
 import java.util.function.Consumer;
+import java.util.function.IntFunction;
 import java.util.function.Supplier;
 import java.util.stream.IntStream;
 import org.apache.logging.log4j.LogManager;
@@ -122,19 +125,47 @@ public abstract class AbstractEpochProcessor implements EpochProcessor {
     progressiveTotalBalances.onEpochTransition(validatorStatuses.getStatuses());
     processJustificationAndFinalization(state, totalBalances);
     processInactivityUpdates(state, validatorStatuses);
-    processRewardsAndPenalties(state, validatorStatuses);
-    processRegistryUpdates(state, validatorStatuses.getStatuses());
-    processSlashings(state, validatorStatuses);
-    processEth1DataReset(state);
-    processPendingDeposits(state);
 
-    if (shouldCheckNewValidatorsDuringEpochProcessing()) {
-      validatorStatuses =
-          recreateValidatorStatusIfNewValidatorsAreFound(state, validatorStatuses, currentEpoch);
+    // Rewards, penalties and slashings are applied to a primitive copy of the balances which is
+    // written back once, rather than reading and writing the state balances in each step
+    final Optional<EpochBalances> maybeEpochBalances = EpochBalances.create(state.getBalances());
+    if (maybeEpochBalances.isPresent() && !hasPendingBalanceChanges()) {
+      final EpochBalances epochBalances = maybeEpochBalances.get();
+      // Registry updates don't read balances, so the balance changes can be deferred until after
+      // them and applied together with the effective balance updates in a single pass
+      final Optional<RewardAndPenaltyDeltas> attestationDeltas =
+          calculateRewardAndPenaltyDeltas(state, validatorStatuses);
+      processRegistryUpdates(state, validatorStatuses.getStatuses());
+      final long[] slashingPenalties = new long[epochBalances.size()];
+      processSlashings(
+          state,
+          validatorStatuses,
+          (index, penalty) -> slashingPenalties[index] = penalty.longValue());
+      processEth1DataReset(state);
+      processBalanceUpdates(
+          state,
+          validatorStatuses.getStatuses(),
+          attestationDeltas,
+          slashingPenalties,
+          epochBalances);
+      epochBalances.writeTo(state.getBalances());
+    } else if (maybeEpochBalances.isPresent()) {
+      final EpochBalances epochBalances = maybeEpochBalances.get();
+      processRewardsAndPenalties(state, validatorStatuses, epochBalances);
+      processRegistryUpdates(state, validatorStatuses.getStatuses());
+      processSlashings(state, validatorStatuses, epochBalances::decreaseBalance);
+      processEth1DataReset(state);
+      epochBalances.writeTo(state.getBalances());
+      validatorStatuses = processPendingBalanceChanges(state, validatorStatuses, currentEpoch);
+      processEffectiveBalanceUpdates(state, validatorStatuses.getStatuses());
+    } else {
+      processRewardsAndPenalties(state, validatorStatuses);
+      processRegistryUpdates(state, validatorStatuses.getStatuses());
+      processSlashings(state, validatorStatuses);
+      processEth1DataReset(state);
+      validatorStatuses = processPendingBalanceChanges(state, validatorStatuses, currentEpoch);
+      processEffectiveBalanceUpdates(state, validatorStatuses.getStatuses());
     }
-
-    processPendingConsolidations(state);
-    processEffectiveBalanceUpdates(state, validatorStatuses.getStatuses());
     processSlashingsReset(state);
     processRandaoMixesReset(state);
     processHistoricalRootsUpdate(state);
@@ -148,6 +179,19 @@ public abstract class AbstractEpochProcessor implements EpochProcessor {
     }
   }
 
+  private ValidatorStatuses processPendingBalanceChanges(
+      final MutableBeaconState state,
+      final ValidatorStatuses validatorStatuses,
+      final UInt64 currentEpoch) {
+    processPendingDeposits(state);
+    final ValidatorStatuses updatedValidatorStatuses =
+        shouldCheckNewValidatorsDuringEpochProcessing()
+            ? recreateValidatorStatusIfNewValidatorsAreFound(state, validatorStatuses, currentEpoch)
+            : validatorStatuses;
+    processPendingConsolidations(state);
+    return updatedValidatorStatuses;
+  }
+
   @VisibleForTesting
   public ValidatorStatuses recreateValidatorStatusIfNewValidatorsAreFound(
       final BeaconState state,
@@ -182,6 +226,16 @@ public abstract class AbstractEpochProcessor implements EpochProcessor {
     return false;
   }
 
+  /**
+   * Whether pending deposits and consolidations may change balances between slashings and the
+   * effective balance updates. This is only the case post-Electra.
+   *
+   * @return false by default, true post-Electra (EpochProcessorElectra overrides this method)
+   */
+  protected boolean hasPendingBalanceChanges() {
+    return false;
+  }
+
   private void updateTransitionCaches(
       final MutableBeaconState state,
       final UInt64 currentEpoch,
@@ -337,6 +391,112 @@ public abstract class AbstractEpochProcessor implements EpochProcessor {
     }
   }
 
+  protected void processRewardsAndPenalties(
+      final MutableBeaconState state,
+      final ValidatorStatuses validatorStatuses,
+      final EpochBalances balances)
+      throws EpochProcessingException {
+    final Optional<RewardAndPenaltyDeltas> attestationDeltas =
+        calculateRewardAndPenaltyDeltas(state, validatorStatuses);
+    if (attestationDeltas.isEmpty()) {
+      return;
+    }
+    try {
+      final int validatorsCount = balances.size();
+      for (int i = 0; i < validatorsCount; i++) {
+        applyDelta(balances, i, attestationDeltas.get().getDelta(i));
+      }
+    } catch (ArithmeticException e) {
+      throw new EpochProcessingException(e);
+    }
+  }
+
+  /**
+   * Calculates the attestation rewards and penalties.
+   *
+   * @return the deltas, or empty in the genesis epoch when there are none
+   */
+  private Optional<RewardAndPenaltyDeltas> calculateRewardAndPenaltyDeltas(
+      final BeaconState state, final ValidatorStatuses validatorStatuses)
+      throws EpochProcessingException {
+    try {
+      if (beaconStateAccessors.getCurrentEpoch(state).equals(SpecConfig.GENESIS_EPOCH)) {
+        return Optional.empty();
+      }
+      return Optional.of(getRewardAndPenaltyDeltas(state, validatorStatuses));
+    } catch (IllegalArgumentException e) {
+      throw new EpochProcessingException(e);
+    }
+  }
+
+  private static void applyDelta(
+      final EpochBalances balances, final int index, final RewardAndPenalty delta) {
+    if (!delta.isZero()) {
+      balances.applyDelta(index, delta.getReward(), delta.getPenalty());
+    }
+  }
+
+  /**
+   * Applies rewards and penalties, slashing penalties and effective balance updates to each
+   * validator in turn, reading the balances and effective balances from primitive columns. Only
+   * used when nothing changes the balances between these steps, which is the case before Electra,
+   * so the effective balance updates follow the pre-Electra rules in this class.
+   */
+  private void processBalanceUpdates(
+      final MutableBeaconState state,
+      final List<ValidatorStatus> statuses,
+      final Optional<RewardAndPenaltyDeltas> attestationDeltas,
+      final long[] slashingPenalties,
+      final EpochBalances balances)
+      throws EpochProcessingException {
+    final int validatorsCount = balances.size();
+    final long[] effectiveBalances = new long[validatorsCount];
+    for (int index = 0; index < validatorsCount; index++) {
+      effectiveBalances[index] = statuses.get(index).getCurrentEpochEffectiveBalance().longValue();
+    }
+
+    final long effectiveBalanceIncrement = specConfig.getEffectiveBalanceIncrement().longValue();
+    final long hysteresisIncrement =
+        effectiveBalanceIncrement / specConfig.getHysteresisQuotient().longValue();
+    final long downwardThreshold =
+        hysteresisIncrement * specConfig.getHysteresisDownwardMultiplier().longValue();
+    final long upwardThreshold =
+        hysteresisIncrement * specConfig.getHysteresisUpwardMultiplier().longValue();
+    final long maxEffectiveBalance = specConfig.getMaxEffectiveBalance().longValue();
+    final SszMutableList<Validator> validators = state.getValidators();
+    final ProgressiveTotalBalancesUpdates progressiveTotalBalances =
+        BeaconStateCache.getTransitionCaches(state).getProgressiveTotalBalances();
+    try {
+      for (int index = 0; index < validatorsCount; index++) {
+        if (attestationDeltas.isPresent()) {
+          applyDelta(balances, index, attestationDeltas.get().getDelta(index));
+        }
+        if (slashingPenalties[index] != 0) {
+          balances.decreaseBalance(index, slashingPenalties[index]);
+        }
+
+        // Update effective balances with hysteresis
+        final long balance = balances.get(index);
+        final long effectiveBalance = effectiveBalances[index];
+        final boolean shouldDecrease =
+            effectiveBalance > downwardThreshold && balance < effectiveBalance - downwardThreshold;
+        // As in shouldIncreaseEffectiveBalance, skip validators already at the maximum
+        final boolean shouldIncrease =
+            effectiveBalance != maxEffectiveBalance && effectiveBalance + upwardThreshold < balance;
+        if (shouldDecrease || shouldIncrease) {
+          final UInt64 newEffectiveBalance =
+              UInt64.valueOf(
+                  Math.min(balance - balance % effectiveBalanceIncrement, maxEffectiveBalance));
+          progressiveTotalBalances.onEffectiveBalanceChange(
+              statuses.get(index), newEffectiveBalance);
+          validators.set(index, validators.get(index).withEffectiveBalance(newEffectiveBalance));
+        }
+      }
+    } catch (ArithmeticException e) {
+      throw new EpochProcessingException(e);
+    }
+  }
+
   protected void applyDeltas(
       final MutableBeaconState state, final RewardAndPenaltyDeltas attestationDeltas) {
     final SszMutableUInt64List balances = state.getBalances();
@@ -442,6 +602,20 @@ public abstract class AbstractEpochProcessor implements EpochProcessor {
   @Override
   public void processSlashings(
       final MutableBeaconState state, final ValidatorStatuses validatorStatuses) {
+    processSlashings(
+        state,
+        validatorStatuses,
+        (index, penalty) -> beaconStateMutators.decreaseBalance(state, index, penalty));
+  }
+
+  /**
+   * Calculates slashing penalties, passing each one to {@code decreaseBalance} rather than applying
+   * it to the state.
+   */
+  protected void processSlashings(
+      final BeaconState state,
+      final ValidatorStatuses validatorStatuses,
+      final BiConsumer<Integer, UInt64> decreaseBalance) {
     final UInt64 totalBalance =
         validatorStatuses.getTotalBalances().getCurrentEpochActiveValidators();
     final UInt64 epoch = beaconStateAccessors.getCurrentEpoch(state);
@@ -466,7 +640,7 @@ public abstract class AbstractEpochProcessor implements EpochProcessor {
                 .dividedBy(increment)
                 .times(adjustedTotalSlashingBalance);
         final UInt64 penalty = penaltyNumerator.dividedBy(totalBalance).times(increment);
-        beaconStateMutators.decreaseBalance(state, index, penalty);
+        decreaseBalance.accept(index, penalty);
       }
     }
   }
@@ -487,9 +661,16 @@ public abstract class AbstractEpochProcessor implements EpochProcessor {
   @Override
   public void processEffectiveBalanceUpdates(
       final MutableBeaconState state, final List<ValidatorStatus> statuses) {
+    final SszUInt64List balances = state.getBalances();
+    processEffectiveBalanceUpdates(state, statuses, balances::getElement);
+  }
+
+  protected void processEffectiveBalanceUpdates(
+      final MutableBeaconState state,
+      final List<ValidatorStatus> statuses,
+      final IntFunction<UInt64> balances) {
     // Update effective balances with hysteresis
     final SszMutableList<Validator> validators = state.getValidators();
-    final SszUInt64List balances = state.getBalances();
     final UInt64 hysteresisUpwardMultiplier = specConfig.getHysteresisUpwardMultiplier();
     final UInt64 hysteresisDownwardMultiplier = specConfig.getHysteresisDownwardMultiplier();
     final UInt64 maxEffectiveBalance = specConfig.getMaxEffectiveBalance();
@@ -497,7 +678,7 @@ public abstract class AbstractEpochProcessor implements EpochProcessor {
     final UInt64 effectiveBalanceIncrement = specConfig.getEffectiveBalanceIncrement();
     for (int index = 0; index < statuses.size(); index++) {
       final ValidatorStatus status = statuses.get(index);
-      final UInt64 balance = balances.getElement(index);
+      final UInt64 balance = balances.apply(index);
 
       final UInt64 hysteresisIncrement = effectiveBalanceIncrement.dividedBy(hysteresisQuotient);
       final UInt64 currentEffectiveBalance = status.getCurrentEpochEffectiveBalance();
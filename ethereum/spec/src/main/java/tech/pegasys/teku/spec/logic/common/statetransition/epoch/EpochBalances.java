@@ -0,0 +1,111 @@
+/*
+ * Copyright Consensys Software Inc., 2025
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.spec.logic.common.statetransition.epoch;
+
+import java.util.BitSet;
+import java.util.Optional;
+import tech.pegasys.teku.infrastructure.ssz.collections.SszMutableUInt64List;
+import tech.pegasys.teku.infrastructure.ssz.collections.SszUInt64List;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+
+/**
+ * Primitive copy of the validator balances used during epoch processing. Rewards, penalties and
+ * slashings are applied to the copy, which is then read by the effective balance updates and
+ * written back to the state in a single pass, so each balance is only read from and written to the
+ * state tree once per epoch.
+ */
+public class EpochBalances {
+  private final long[] balances;
+  private final BitSet changed;
+
+  private EpochBalances(final long[] balances) {
+    this.balances = balances;
+    this.changed = new BitSet(balances.length);
+  }
+
+  /**
+   * Copies the balances from the state.
+   *
+   * @return the copied balances, or empty if any balance doesn't fit in a signed long, in which
+   *     case the balances must be updated in the state directly
+   */
+  public static Optional<EpochBalances> create(final SszUInt64List stateBalances) {
+    final int size = stateBalances.size();
+    final long[] balances = new long[size];
+    for (int i = 0; i < size; i++) {
+      final long balance = stateBalances.getElement(i).longValue();
+      if (balance < 0) {
+        return Optional.empty();
+      }
+      balances[i] = balance;
+    }
+    return Optional.of(new EpochBalances(balances));
+  }
+
+  public int size() {
+    return balances.length;
+  }
+
+  public UInt64 getBalance(final int index) {
+    return UInt64.fromLongBits(balances[index]);
+  }
+
+  /** Returns the balance, which is never negative as larger balances aren't copied. */
+  public long get(final int index) {
+    return balances[index];
+  }
+
+  /** Equivalent to {@code balance.plus(reward).minusMinZero(penalty)}. */
+  public void applyDelta(final int index, final UInt64 reward, final UInt64 penalty) {
+    final long rewardValue = reward.longValue();
+    if (rewardValue < 0) {
+      throw new ArithmeticException("Balance overflow applying reward to validator " + index);
+    }
+    setBalance(
+        index, subtractMinZero(Math.addExact(balances[index], rewardValue), penalty.longValue()));
+  }
+
+  /** Equivalent to {@code balance.minusMinZero(amount)}. */
+  public void decreaseBalance(final int index, final UInt64 amount) {
+    decreaseBalance(index, amount.longValue());
+  }
+
+  /**
+   * Decreases the balance by an amount given as the bits of a UInt64, so negative values are
+   * amounts larger than any balance.
+   */
+  public void decreaseBalance(final int index, final long amount) {
+    setBalance(index, subtractMinZero(balances[index], amount));
+  }
+
+  /** Writes the balances which have changed back to the state. */
+  public void writeTo(final SszMutableUInt64List stateBalances) {
+    for (int i = changed.nextSetBit(0); i >= 0; i = changed.nextSetBit(i + 1)) {
+      stateBalances.setElement(i, UInt64.fromLongBits(balances[i]));
+    }
+    changed.clear();
+  }
+
+  private static long subtractMinZero(final long balance, final long amount) {
+    // amounts which don't fit in a signed long are larger than any balance
+    return amount < 0 || amount >= balance ? 0 : balance - amount;
+  }
+
+  private void setBalance(final int index, final long balance) {
+    if (balances[index] != balance) {
+      balances[index] = balance;
+      changed.set(index);
+    }
+  }
+}
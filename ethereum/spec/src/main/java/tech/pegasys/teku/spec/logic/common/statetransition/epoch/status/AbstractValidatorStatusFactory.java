@@ -16,6 +16,7 @@ package tech.pegasys.teku.spec.logic.common.statetransition.epoch.status;
 import static tech.pegasys.teku.infrastructure.unsigned.UInt64.MAX_VALUE;
 
 import java.util.List;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 import org.apache.tuweni.bytes.Bytes32;
 import tech.pegasys.teku.infrastructure.ssz.SszList;
@@ -31,6 +32,8 @@ import tech.pegasys.teku.spec.logic.common.util.AttestationUtil;
 import tech.pegasys.teku.spec.logic.common.util.BeaconStateUtil;
 
 public abstract class AbstractValidatorStatusFactory implements ValidatorStatusFactory {
+  static final int PARALLEL_CHUNK_SIZE = 8192;
+
   protected final SpecConfig specConfig;
   protected final BeaconStateUtil beaconStateUtil;
   protected final AttestationUtil attestationUtil;
@@ -121,82 +124,133 @@ public abstract class AbstractValidatorStatusFactory implements ValidatorStatusF
   }
 
   protected TotalBalances createTotalBalances(final List<ValidatorStatus> statuses) {
-    final BalanceAccumulator currentEpochActiveValidators = new BalanceAccumulator();
-    final BalanceAccumulator previousEpochActiveValidators = new BalanceAccumulator();
-    final BalanceAccumulator currentEpochSourceAttesters = new BalanceAccumulator();
-    final BalanceAccumulator currentEpochTargetAttesters = new BalanceAccumulator();
-    final BalanceAccumulator currentEpochHeadAttesters = new BalanceAccumulator();
-    final BalanceAccumulator previousEpochSourceAttesters = new BalanceAccumulator();
-    final BalanceAccumulator previousEpochTargetAttesters = new BalanceAccumulator();
-    final BalanceAccumulator previousEpochHeadAttesters = new BalanceAccumulator();
-
-    for (ValidatorStatus status : statuses) {
-      final UInt64 balance = status.getCurrentEpochEffectiveBalance();
+    final int chunkCount = getChunkCount(statuses.size());
+    final IntStream chunks = IntStream.range(0, chunkCount);
+    // Each chunk sums its own index range and the partial sums are then combined. The statuses
+    // are only read here so it's safe to share them between threads.
+    final BalanceAccumulator totals =
+        (chunkCount > 1 ? chunks.parallel() : chunks)
+            .mapToObj(
+                chunk -> {
+                  final BalanceAccumulator accumulator = new BalanceAccumulator();
+                  final int toIndex = getChunkEnd(chunk, statuses.size());
+                  for (int i = chunk * PARALLEL_CHUNK_SIZE; i < toIndex; i++) {
+                    accumulator.add(statuses.get(i));
+                  }
+                  return accumulator;
+                })
+            .reduce(BalanceAccumulator::combine)
+            .orElseGet(BalanceAccumulator::new);
+    return new TotalBalances(
+        specConfig,
+        UInt64.fromLongBits(totals.currentEpochActiveValidators),
+        UInt64.fromLongBits(totals.previousEpochActiveValidators),
+        UInt64.fromLongBits(totals.currentEpochSourceAttesters),
+        UInt64.fromLongBits(totals.currentEpochTargetAttesters),
+        UInt64.fromLongBits(totals.currentEpochHeadAttesters),
+        UInt64.fromLongBits(totals.previousEpochSourceAttesters),
+        UInt64.fromLongBits(totals.previousEpochTargetAttesters),
+        UInt64.fromLongBits(totals.previousEpochHeadAttesters));
+  }
+
+  /**
+   * Calls {@code action} for consecutive index ranges covering {@code [0, size)}. Ranges are
+   * processed in parallel when there is more than one, so {@code action} must only modify data for
+   * its own range.
+   */
+  protected static void forEachIndexRange(final int size, final IndexRangeAction action) {
+    final int chunkCount = getChunkCount(size);
+    final IntStream chunks = IntStream.range(0, chunkCount);
+    (chunkCount > 1 ? chunks.parallel() : chunks)
+        .forEach(chunk -> action.apply(chunk * PARALLEL_CHUNK_SIZE, getChunkEnd(chunk, size)));
+  }
+
+  private static int getChunkCount(final int size) {
+    return (size + PARALLEL_CHUNK_SIZE - 1) / PARALLEL_CHUNK_SIZE;
+  }
+
+  private static int getChunkEnd(final int chunk, final int size) {
+    return Math.min(size, (chunk + 1) * PARALLEL_CHUNK_SIZE);
+  }
+
+  protected boolean matchesEpochStartBlock(
+      final BeaconState state, final UInt64 currentEpoch, final Bytes32 root) {
+    return beaconStateAccessors.getBlockRoot(state, currentEpoch).equals(root);
+  }
+
+  @FunctionalInterface
+  protected interface IndexRangeAction {
+    void apply(int fromIndex, int toIndex);
+  }
+
+  private static class BalanceAccumulator {
+    private long currentEpochActiveValidators;
+    private long previousEpochActiveValidators;
+    private long currentEpochSourceAttesters;
+    private long currentEpochTargetAttesters;
+    private long currentEpochHeadAttesters;
+    private long previousEpochSourceAttesters;
+    private long previousEpochTargetAttesters;
+    private long previousEpochHeadAttesters;
+
+    public void add(final ValidatorStatus status) {
+      final long balance = status.getCurrentEpochEffectiveBalance().longValue();
       if (status.isActiveInCurrentEpoch()) {
-        currentEpochActiveValidators.add(balance);
+        currentEpochActiveValidators = addExact(currentEpochActiveValidators, balance);
       }
       if (status.isActiveInPreviousEpoch()) {
-        previousEpochActiveValidators.add(balance);
+        previousEpochActiveValidators = addExact(previousEpochActiveValidators, balance);
       }
 
       if (status.isSlashed()) {
-        continue;
+        return;
       }
       if (status.isCurrentEpochSourceAttester()) {
-        currentEpochSourceAttesters.add(balance);
+        currentEpochSourceAttesters = addExact(currentEpochSourceAttesters, balance);
       }
       if (status.isCurrentEpochTargetAttester()) {
-        currentEpochTargetAttesters.add(balance);
+        currentEpochTargetAttesters = addExact(currentEpochTargetAttesters, balance);
       }
       if (status.isCurrentEpochHeadAttester()) {
-        currentEpochHeadAttesters.add(balance);
+        currentEpochHeadAttesters = addExact(currentEpochHeadAttesters, balance);
       }
 
       if (status.isPreviousEpochSourceAttester()) {
-        previousEpochSourceAttesters.add(balance);
+        previousEpochSourceAttesters = addExact(previousEpochSourceAttesters, balance);
       }
       if (status.isPreviousEpochTargetAttester()) {
-        previousEpochTargetAttesters.add(balance);
+        previousEpochTargetAttesters = addExact(previousEpochTargetAttesters, balance);
       }
       if (status.isPreviousEpochHeadAttester()) {
-        previousEpochHeadAttesters.add(balance);
+        previousEpochHeadAttesters = addExact(previousEpochHeadAttesters, balance);
       }
     }
-    return new TotalBalances(
-        specConfig,
-        currentEpochActiveValidators.getValue(),
-        previousEpochActiveValidators.getValue(),
-        currentEpochSourceAttesters.getValue(),
-        currentEpochTargetAttesters.getValue(),
-        currentEpochHeadAttesters.getValue(),
-        previousEpochSourceAttesters.getValue(),
-        previousEpochTargetAttesters.getValue(),
-        previousEpochHeadAttesters.getValue());
-  }
-
-  protected boolean matchesEpochStartBlock(
-      final BeaconState state, final UInt64 currentEpoch, final Bytes32 root) {
-    return beaconStateAccessors.getBlockRoot(state, currentEpoch).equals(root);
-  }
 
-  private static class BalanceAccumulator {
-    private long value;
-
-    public BalanceAccumulator() {
-      this.value = 0;
+    public BalanceAccumulator combine(final BalanceAccumulator other) {
+      currentEpochActiveValidators =
+          addExact(currentEpochActiveValidators, other.currentEpochActiveValidators);
+      previousEpochActiveValidators =
+          addExact(previousEpochActiveValidators, other.previousEpochActiveValidators);
+      currentEpochSourceAttesters =
+          addExact(currentEpochSourceAttesters, other.currentEpochSourceAttesters);
+      currentEpochTargetAttesters =
+          addExact(currentEpochTargetAttesters, other.currentEpochTargetAttesters);
+      currentEpochHeadAttesters =
+          addExact(currentEpochHeadAttesters, other.currentEpochHeadAttesters);
+      previousEpochSourceAttesters =
+          addExact(previousEpochSourceAttesters, other.previousEpochSourceAttesters);
+      previousEpochTargetAttesters =
+          addExact(previousEpochTargetAttesters, other.previousEpochTargetAttesters);
+      previousEpochHeadAttesters =
+          addExact(previousEpochHeadAttesters, other.previousEpochHeadAttesters);
+      return this;
     }
 
-    public void add(final UInt64 valueToAdd) {
-      final long longValueToAdd = valueToAdd.longValue();
-      if (longValueToAdd != 0
-          && Long.compareUnsigned(value, MAX_VALUE.longValue() - longValueToAdd) > 0) {
+    private static long addExact(final long value, final long valueToAdd) {
+      if (valueToAdd != 0 && Long.compareUnsigned(value, MAX_VALUE.longValue() - valueToAdd) > 0) {
         throw new ArithmeticException("uint64 overflow");
       }
-      value += longValueToAdd;
-    }
-
-    public UInt64 getValue() {
-      return UInt64.fromLongBits(value);
+      return value + valueToAdd;
     }
   }
 }
@@ -16,9 +16,6 @@ package tech.pegasys.teku.spec.logic.common.util;
 import static com.google.common.base.Preconditions.checkArgument;
 import static tech.pegasys.teku.spec.logic.common.helpers.MathHelpers.bytesToUInt64;
 
-import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
-import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
-import it.unimi.dsi.fastutil.ints.IntList;
 import java.util.Optional;
 import tech.pegasys.teku.bls.BLSPublicKey;
 import tech.pegasys.teku.bls.BLSSignature;
@@ -73,67 +70,14 @@ public class ValidatorsUtil {
    */
   public Optional<CommitteeAssignment> getCommitteeAssignment(
       final BeaconState state, final UInt64 epoch, final int validatorIndex) {
-    return getCommitteeAssignment(
-        state, epoch, validatorIndex, beaconStateAccessors.getCommitteeCountPerSlot(state, epoch));
-  }
-
-  public Int2ObjectMap<CommitteeAssignment> getValidatorIndexToCommitteeAssignmentMap(
-      final BeaconState state, final UInt64 epoch) {
-    final Int2ObjectMap<CommitteeAssignment> assignmentMap = new Int2ObjectOpenHashMap<>();
-
-    final int slotsPerEpoch = specConfig.getSlotsPerEpoch();
-    final int committeeCountPerSlot =
-        beaconStateAccessors.getCommitteeCountPerSlot(state, epoch).intValue();
-    final UInt64 startSlot = miscHelpers.computeStartSlotAtEpoch(epoch);
-    for (int slotOffset = 0; slotOffset < slotsPerEpoch; slotOffset++) {
-      final UInt64 slot = startSlot.plus(slotOffset);
-      for (int i = 0; i < committeeCountPerSlot; i++) {
-        final UInt64 committeeIndex = UInt64.valueOf(i);
-        final IntList committee =
-            beaconStateAccessors.getBeaconCommittee(state, slot, committeeIndex);
-        committee.forEach(
-            j -> assignmentMap.put(j, new CommitteeAssignment(committee, committeeIndex, slot)));
-      }
-    }
-    return assignmentMap;
-  }
-
-  /**
-   * Return the committee assignment in the ``epoch`` for ``validator_index``. ``assignment``
-   * returned is a tuple of the following form: ``assignment[0]`` is the list of validators in the
-   * committee ``assignment[1]`` is the index to which the committee is assigned ``assignment[2]``
-   * is the slot at which the committee is assigned Return None if no assignment.
-   *
-   * @param state the BeaconState.
-   * @param epoch either on or between previous or current epoch.
-   * @param validatorIndex the validator that is calling this function.
-   * @param committeeCountPerSlot the number of committees for the target epoch
-   * @return Optional.of(CommitteeAssignment).
-   */
-  private Optional<CommitteeAssignment> getCommitteeAssignment(
-      final BeaconState state,
-      final UInt64 epoch,
-      final int validatorIndex,
-      final UInt64 committeeCountPerSlot) {
     final UInt64 nextEpoch = beaconStateAccessors.getCurrentEpoch(state).plus(UInt64.ONE);
     checkArgument(
         epoch.compareTo(nextEpoch) <= 0, "get_committee_assignment: Epoch number too high");
-
-    final UInt64 startSlot = miscHelpers.computeStartSlotAtEpoch(epoch);
-    for (UInt64 slot = startSlot;
-        slot.isLessThan(startSlot.plus(specConfig.getSlotsPerEpoch()));
-        slot = slot.plus(UInt64.ONE)) {
-
-      for (UInt64 index = UInt64.ZERO;
-          index.compareTo(committeeCountPerSlot) < 0;
-          index = index.plus(UInt64.ONE)) {
-        final IntList committee = beaconStateAccessors.getBeaconCommittee(state, slot, index);
-        if (committee.contains(validatorIndex)) {
-          return Optional.of(new CommitteeAssignment(committee, index, slot));
-        }
-      }
-    }
-    return Optional.empty();
+    beaconStateAccessors.validateStateForCommitteeQuery(
+        state, miscHelpers.computeStartSlotAtEpoch(epoch));
+    return beaconStateAccessors
+        .getEpochCommittees(state, epoch)
+        .getCommitteeAssignment(validatorIndex);
   }
 
   public EpochAttestationSchedule getAttestationCommitteesAtEpoch(
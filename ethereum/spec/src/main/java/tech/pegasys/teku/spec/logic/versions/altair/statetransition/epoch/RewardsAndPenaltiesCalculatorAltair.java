@@ -18,6 +18,7 @@ import static tech.pegasys.teku.spec.constants.ParticipationFlags.TIMELY_HEAD_FL
 import static tech.pegasys.teku.spec.logic.versions.altair.helpers.MiscHelpersAltair.PARTICIPATION_FLAG_WEIGHTS;
 
 import java.util.List;
+import java.util.stream.IntStream;
 import tech.pegasys.teku.infrastructure.ssz.collections.SszUInt64List;
 import tech.pegasys.teku.infrastructure.unsigned.UInt64;
 import tech.pegasys.teku.spec.config.SpecConfigAltair;
@@ -53,28 +54,49 @@ public class RewardsAndPenaltiesCalculatorAltair extends RewardsAndPenaltiesCalc
     this.beaconStateAccessorsAltair = beaconStateAccessors;
   }
 
+  /**
+   * Validators are split into chunks of this size when calculating flag index deltas. States with
+   * no more than one chunk of validators are processed on the calling thread.
+   */
+  static final int PARALLEL_CHUNK_SIZE = 8192;
+
   /** Return attestation reward/penalty deltas for each validator */
   @Override
   public RewardAndPenaltyDeltas getDeltas() throws IllegalArgumentException {
-    final RewardAndPenaltyDeltas deltas =
-        RewardAndPenaltyDeltas.aggregated(validatorStatuses.getValidatorCount());
-
-    for (int flagIndex = 0; flagIndex < PARTICIPATION_FLAG_WEIGHTS.size(); flagIndex++) {
-      processFlagIndexDeltas(deltas, flagIndex);
-    }
-    processInactivityPenaltyDeltas(deltas);
-
-    return deltas;
+    return calculateDeltas(
+        RewardAndPenaltyDeltas.aggregated(validatorStatuses.getValidatorCount()));
   }
 
   @Override
   public RewardAndPenaltyDeltas getDetailedDeltas() throws IllegalArgumentException {
-    final RewardAndPenaltyDeltas deltas =
-        RewardAndPenaltyDeltas.detailed(validatorStatuses.getValidatorCount());
+    return calculateDeltas(RewardAndPenaltyDeltas.detailed(validatorStatuses.getValidatorCount()));
+  }
 
-    for (int flagIndex = 0; flagIndex < PARTICIPATION_FLAG_WEIGHTS.size(); flagIndex++) {
-      processFlagIndexDeltas(deltas, flagIndex);
-    }
+  private RewardAndPenaltyDeltas calculateDeltas(final RewardAndPenaltyDeltas deltas) {
+    final List<FlagIndexWeights> flagIndexWeights =
+        IntStream.range(0, PARTICIPATION_FLAG_WEIGHTS.size())
+            .mapToObj(this::getFlagIndexWeights)
+            .toList();
+    final UInt64 baseRewardPerIncrement =
+        beaconStateAccessorsAltair.getBaseRewardPerIncrement(stateAltair);
+    final int validatorCount = validatorStatuses.getValidatorCount();
+    final int chunkCount = (validatorCount + PARALLEL_CHUNK_SIZE - 1) / PARALLEL_CHUNK_SIZE;
+
+    // Deltas for each validator only depend on its own ValidatorStatus and the values calculated
+    // above, so chunks can be processed in parallel. Each chunk only updates the RewardAndPenalty
+    // instances for its own index range which are all created up front by RewardAndPenaltyDeltas.
+    // The state itself is not accessed from the worker threads as it may be mutable.
+    final IntStream chunks = IntStream.range(0, chunkCount);
+    (chunkCount > 1 ? chunks.parallel() : chunks)
+        .forEach(
+            chunk -> {
+              final int fromIndex = chunk * PARALLEL_CHUNK_SIZE;
+              final int toIndex = Math.min(validatorCount, fromIndex + PARALLEL_CHUNK_SIZE);
+              processFlagIndexDeltas(
+                  deltas, flagIndexWeights, baseRewardPerIncrement, fromIndex, toIndex);
+            });
+
+    // Inactivity scores have to be read from the state so are processed on the calling thread
     processInactivityPenaltyDeltas(deltas);
 
     return deltas;
@@ -90,21 +112,30 @@ public class RewardsAndPenaltiesCalculatorAltair extends RewardsAndPenaltiesCalc
    * @param flagIndex The flag index to process
    */
   public void processFlagIndexDeltas(final RewardAndPenaltyDeltas deltas, final int flagIndex) {
-    final List<ValidatorStatus> statusList = validatorStatuses.getStatuses();
-    final TotalBalances totalBalances = validatorStatuses.getTotalBalances();
+    processFlagIndexDeltas(
+        deltas,
+        List.of(getFlagIndexWeights(flagIndex)),
+        beaconStateAccessorsAltair.getBaseRewardPerIncrement(stateAltair),
+        0,
+        validatorStatuses.getValidatorCount());
+  }
 
+  private void processFlagIndexDeltas(
+      final RewardAndPenaltyDeltas deltas,
+      final List<FlagIndexWeights> flagIndexWeights,
+      final UInt64 baseRewardPerIncrement,
+      final int fromIndex,
+      final int toIndex) {
+    final List<ValidatorStatus> statusList = validatorStatuses.getStatuses();
     final UInt64 effectiveBalanceIncrement = specConfigAltair.getEffectiveBalanceIncrement();
-    final UInt64 unslashedParticipatingIncrements =
-        getPrevEpochTotalParticipatingBalance(flagIndex).dividedBy(effectiveBalanceIncrement);
-    final UInt64 weight = PARTICIPATION_FLAG_WEIGHTS.get(flagIndex);
     final UInt64 activeIncrements =
-        totalBalances.getCurrentEpochActiveValidators().dividedBy(effectiveBalanceIncrement);
+        validatorStatuses
+            .getTotalBalances()
+            .getCurrentEpochActiveValidators()
+            .dividedBy(effectiveBalanceIncrement);
+    final UInt64 rewardDenominator = activeIncrements.times(WEIGHT_DENOMINATOR);
 
-    // Cache baseRewardPerIncrement - while it is also cached in transition caches,
-    // looking it up from there for every single validator is quite expensive.
-    final UInt64 baseRewardPerIncrement =
-        beaconStateAccessorsAltair.getBaseRewardPerIncrement(stateAltair);
-    for (int i = 0; i < statusList.size(); i++) {
+    for (int i = fromIndex; i < toIndex; i++) {
       final ValidatorStatus validator = statusList.get(i);
       if (!validator.isEligibleValidator()) {
         continue;
@@ -113,22 +144,30 @@ public class RewardsAndPenaltiesCalculatorAltair extends RewardsAndPenaltiesCalc
 
       final UInt64 baseReward =
           getBaseReward(effectiveBalanceIncrement, baseRewardPerIncrement, validator);
-      if (isUnslashedPrevEpochParticipatingIndex(validator, flagIndex)) {
-        if (!isInactivityLeak()) {
-          final UInt64 rewardNumerator =
-              baseReward.times(weight).times(unslashedParticipatingIncrements);
-          validatorDeltas.reward(
-              getComponentForParticipationFlagIndex(flagIndex),
-              rewardNumerator.dividedBy(activeIncrements.times(WEIGHT_DENOMINATOR)));
+      for (final FlagIndexWeights flag : flagIndexWeights) {
+        if (isUnslashedPrevEpochParticipatingIndex(validator, flag.flagIndex())) {
+          if (!isInactivityLeak()) {
+            final UInt64 rewardNumerator =
+                baseReward.times(flag.weight()).times(flag.unslashedParticipatingIncrements());
+            validatorDeltas.reward(flag.component(), rewardNumerator.dividedBy(rewardDenominator));
+          }
+        } else if (flag.flagIndex() != TIMELY_HEAD_FLAG_INDEX) {
+          validatorDeltas.penalize(
+              flag.component(), baseReward.times(flag.weight()).dividedBy(WEIGHT_DENOMINATOR));
         }
-      } else if (flagIndex != TIMELY_HEAD_FLAG_INDEX) {
-        validatorDeltas.penalize(
-            getComponentForParticipationFlagIndex(flagIndex),
-            baseReward.times(weight).dividedBy(WEIGHT_DENOMINATOR));
       }
     }
   }
 
+  private FlagIndexWeights getFlagIndexWeights(final int flagIndex) {
+    return new FlagIndexWeights(
+        flagIndex,
+        getComponentForParticipationFlagIndex(flagIndex),
+        PARTICIPATION_FLAG_WEIGHTS.get(flagIndex),
+        getPrevEpochTotalParticipatingBalance(flagIndex)
+            .dividedBy(specConfigAltair.getEffectiveBalanceIncrement()));
+  }
+
   private RewardComponent getComponentForParticipationFlagIndex(final int index) {
     return switch (index) {
       case 0 -> RewardComponent.SOURCE;
@@ -223,4 +262,10 @@ public class RewardsAndPenaltiesCalculatorAltair extends RewardsAndPenaltiesCalc
     return validatorStatus.isNotSlashed()
         && validatorHasPrevEpochParticipationFlag(validatorStatus, flagIndex);
   }
+
+  private record FlagIndexWeights(
+      int flagIndex,
+      RewardComponent component,
+      UInt64 weight,
+      UInt64 unslashedParticipatingIncrements) {}
 }
@@ -51,41 +51,61 @@ public class ValidatorStatusFactoryAltair extends AbstractValidatorStatusFactory
       final UInt64 currentEpoch) {
     final BeaconStateAltair state = BeaconStateAltair.required(genericState);
 
-    final SszList<SszByte> previousParticipation = state.getPreviousEpochParticipation();
-    final SszList<SszByte> currentParticipation = state.getCurrentEpochParticipation();
+    // The participation lists are read on this thread as the state may be mutable, then the
+    // statuses for each index range are updated in parallel
+    final SszList<SszByte> previousParticipationList = state.getPreviousEpochParticipation();
+    final SszList<SszByte> currentParticipationList = state.getCurrentEpochParticipation();
+    final byte[] previousParticipation = new byte[statuses.size()];
+    final byte[] currentParticipation = new byte[statuses.size()];
     for (int i = 0; i < statuses.size(); i++) {
       final ValidatorStatus status = statuses.get(i);
-
       if (status.isActiveInPreviousEpoch()) {
-        final byte previousParticipationFlags = previousParticipation.get(i).get();
-        if (miscHelpersAltair.hasFlag(
-            previousParticipationFlags, ParticipationFlags.TIMELY_SOURCE_FLAG_INDEX)) {
-          status.updatePreviousEpochSourceAttester(true);
-        }
-        if (miscHelpersAltair.hasFlag(
-            previousParticipationFlags, ParticipationFlags.TIMELY_TARGET_FLAG_INDEX)) {
-          status.updatePreviousEpochTargetAttester(true);
-        }
-        if (miscHelpersAltair.hasFlag(
-            previousParticipationFlags, ParticipationFlags.TIMELY_HEAD_FLAG_INDEX)) {
-          status.updatePreviousEpochHeadAttester(true);
-        }
+        previousParticipation[i] = previousParticipationList.get(i).get();
       }
-
       if (status.isActiveInCurrentEpoch()) {
-        final byte currentParticipationFlags = currentParticipation.get(i).get();
-        if (miscHelpersAltair.hasFlag(
-            currentParticipationFlags, ParticipationFlags.TIMELY_SOURCE_FLAG_INDEX)) {
-          status.updateCurrentEpochSourceAttester(true);
-        }
-        if (miscHelpersAltair.hasFlag(
-            currentParticipationFlags, ParticipationFlags.TIMELY_TARGET_FLAG_INDEX)) {
-          status.updateCurrentEpochTargetAttester(true);
-        }
-        if (miscHelpersAltair.hasFlag(
-            currentParticipationFlags, ParticipationFlags.TIMELY_HEAD_FLAG_INDEX)) {
-          status.updateCurrentEpochHeadAttester(true);
-        }
+        currentParticipation[i] = currentParticipationList.get(i).get();
+      }
+    }
+    forEachIndexRange(
+        statuses.size(),
+        (fromIndex, toIndex) -> {
+          for (int i = fromIndex; i < toIndex; i++) {
+            updateParticipation(statuses.get(i), previousParticipation[i], currentParticipation[i]);
+          }
+        });
+  }
+
+  private void updateParticipation(
+      final ValidatorStatus status,
+      final byte previousParticipationFlags,
+      final byte currentParticipationFlags) {
+    if (status.isActiveInPreviousEpoch()) {
+      if (miscHelpersAltair.hasFlag(
+          previousParticipationFlags, ParticipationFlags.TIMELY_SOURCE_FLAG_INDEX)) {
+        status.updatePreviousEpochSourceAttester(true);
+      }
+      if (miscHelpersAltair.hasFlag(
+          previousParticipationFlags, ParticipationFlags.TIMELY_TARGET_FLAG_INDEX)) {
+        status.updatePreviousEpochTargetAttester(true);
+      }
+      if (miscHelpersAltair.hasFlag(
+          previousParticipationFlags, ParticipationFlags.TIMELY_HEAD_FLAG_INDEX)) {
+        status.updatePreviousEpochHeadAttester(true);
+      }
+    }
+
+    if (status.isActiveInCurrentEpoch()) {
+      if (miscHelpersAltair.hasFlag(
+          currentParticipationFlags, ParticipationFlags.TIMELY_SOURCE_FLAG_INDEX)) {
+        status.updateCurrentEpochSourceAttester(true);
+      }
+      if (miscHelpersAltair.hasFlag(
+          currentParticipationFlags, ParticipationFlags.TIMELY_TARGET_FLAG_INDEX)) {
+        status.updateCurrentEpochTargetAttester(true);
+      }
+      if (miscHelpersAltair.hasFlag(
+          currentParticipationFlags, ParticipationFlags.TIMELY_HEAD_FLAG_INDEX)) {
+        status.updateCurrentEpochHeadAttester(true);
       }
     }
   }
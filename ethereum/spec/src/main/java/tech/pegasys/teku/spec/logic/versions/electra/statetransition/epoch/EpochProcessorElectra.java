@@ -20,16 +20,18 @@ import static tech.pegasys.teku.spec.config.SpecConfig.GENESIS_SLOT;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.BiConsumer;
+import java.util.function.IntFunction;
 import java.util.function.Supplier;
 import java.util.stream.IntStream;
 import tech.pegasys.teku.infrastructure.ssz.SszList;
 import tech.pegasys.teku.infrastructure.ssz.SszMutableList;
-import tech.pegasys.teku.infrastructure.ssz.collections.SszUInt64List;
 import tech.pegasys.teku.infrastructure.time.TimeProvider;
 import tech.pegasys.teku.infrastructure.unsigned.UInt64;
 import tech.pegasys.teku.spec.config.SpecConfig;
 import tech.pegasys.teku.spec.config.SpecConfigElectra;
 import tech.pegasys.teku.spec.datastructures.state.Validator;
+import tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconState;
 import tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconStateCache;
 import tech.pegasys.teku.spec.datastructures.state.beaconstate.MutableBeaconState;
 import tech.pegasys.teku.spec.datastructures.state.beaconstate.versions.electra.MutableBeaconStateElectra;
@@ -145,18 +147,19 @@ public class EpochProcessorElectra extends EpochProcessorCapella {
 
   // process_effective_balance_updates
   @Override
-  public void processEffectiveBalanceUpdates(
-      final MutableBeaconState state, final List<ValidatorStatus> statuses) {
+  protected void processEffectiveBalanceUpdates(
+      final MutableBeaconState state,
+      final List<ValidatorStatus> statuses,
+      final IntFunction<UInt64> balances) {
     // Update effective balances with hysteresis
     final SszMutableList<Validator> validators = state.getValidators();
-    final SszUInt64List balances = state.getBalances();
     final UInt64 hysteresisUpwardMultiplier = specConfig.getHysteresisUpwardMultiplier();
     final UInt64 hysteresisDownwardMultiplier = specConfig.getHysteresisDownwardMultiplier();
     final UInt64 hysteresisQuotient = specConfig.getHysteresisQuotient();
     final UInt64 effectiveBalanceIncrement = specConfig.getEffectiveBalanceIncrement();
     for (int index = 0; index < statuses.size(); index++) {
       final ValidatorStatus status = statuses.get(index);
-      final UInt64 balance = balances.getElement(index);
+      final UInt64 balance = balances.apply(index);
 
       final UInt64 hysteresisIncrement = effectiveBalanceIncrement.dividedBy(hysteresisQuotient);
       final UInt64 currentEffectiveBalance = status.getCurrentEpochEffectiveBalance();
@@ -348,8 +351,10 @@ public class EpochProcessorElectra extends EpochProcessorCapella {
 
   /** Processes slashings */
   @Override
-  public void processSlashings(
-      final MutableBeaconState state, final ValidatorStatuses validatorStatuses) {
+  protected void processSlashings(
+      final BeaconState state,
+      final ValidatorStatuses validatorStatuses,
+      final BiConsumer<Integer, UInt64> decreaseBalance) {
     final UInt64 totalBalance =
         validatorStatuses.getTotalBalances().getCurrentEpochActiveValidators();
     final UInt64 epoch = beaconStateAccessors.getCurrentEpoch(state);
@@ -377,7 +382,7 @@ public class EpochProcessorElectra extends EpochProcessorCapella {
             status.getCurrentEpochEffectiveBalance().dividedBy(increment);
         final UInt64 penalty =
             penaltyPerEffectiveBalanceIncrement.times(effectiveBalanceIncrements);
-        beaconStateMutators.decreaseBalance(state, index, penalty);
+        decreaseBalance.accept(index, penalty);
       }
     }
   }
@@ -386,4 +391,9 @@ public class EpochProcessorElectra extends EpochProcessorCapella {
   protected boolean shouldCheckNewValidatorsDuringEpochProcessing() {
     return true;
   }
+
+  @Override
+  protected boolean hasPendingBalanceChanges() {
+    return true;
+  }
 }
@@ -0,0 +1,223 @@
+/*
+ * Copyright Consensys Software Inc., 2025
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.spec.signatures;
+
+import com.google.common.annotations.VisibleForTesting;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.apache.tuweni.bytes.Bytes32;
+import tech.pegasys.teku.bls.BLSPublicKey;
+import tech.pegasys.teku.ethereum.signingrecord.ValidatorSigningRecord;
+import tech.pegasys.teku.infrastructure.async.AsyncRunner;
+import tech.pegasys.teku.infrastructure.async.SafeFuture;
+import tech.pegasys.teku.infrastructure.io.SyncDataAccessor;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+
+/**
+ * Slashing protector which makes approved signing records durable through a shared {@link
+ * SlashingProtectionJournal} instead of an fsync of each validator's record file.
+ *
+ * <p>The journal is the durable store while the validator client runs. The per-validator YAML files
+ * stay the format used for import, export and repair, but are only written when the journal grows
+ * past {@link #MAX_JOURNAL_SIZE}, at which point it is rotated and the records it covers are
+ * written to their files in the background before the rotated journal is deleted. A validator's
+ * file is also written when its key is deleted, so the slashing protection data exported for it is
+ * current. Records left in a journal after a crash or restart are applied to the record files on
+ * the next start.
+ */
+public class JournalingSlashingProtector implements SlashingProtector {
+  private static final Logger LOG = LogManager.getLogger();
+
+  static final long MAX_JOURNAL_SIZE = 16 * 1024 * 1024;
+
+  private final Map<BLSPublicKey, SigningRecordHolder> records = new ConcurrentHashMap<>();
+  private final AtomicBoolean compacting = new AtomicBoolean(false);
+  private final SyncDataAccessor dataAccessor;
+  private final Path slashingProtectionBaseDir;
+  private final SlashingProtectionJournal journal;
+  private final AsyncRunner asyncRunner;
+
+  @VisibleForTesting
+  JournalingSlashingProtector(
+      final SyncDataAccessor dataAccessor,
+      final Path slashingProtectionBaseDir,
+      final SlashingProtectionJournal journal,
+      final AsyncRunner asyncRunner) {
+    this.dataAccessor = dataAccessor;
+    this.slashingProtectionBaseDir = slashingProtectionBaseDir;
+    this.journal = journal;
+    this.asyncRunner = asyncRunner;
+  }
+
+  /**
+   * Opens the journal in the slashing protection directory. {@link
+   * SlashingProtectionJournal#recover} must have been run first so records left in a previous
+   * journal are not overwritten.
+   */
+  public static JournalingSlashingProtector create(
+      final SyncDataAccessor dataAccessor,
+      final Path slashingProtectionBaseDir,
+      final AsyncRunner asyncRunner) {
+    try {
+      return new JournalingSlashingProtector(
+          dataAccessor,
+          slashingProtectionBaseDir,
+          SlashingProtectionJournal.open(slashingProtectionBaseDir),
+          asyncRunner);
+    } catch (final IOException e) {
+      throw new IllegalStateException(
+          "Failed to open slashing protection journal in " + slashingProtectionBaseDir, e);
+    }
+  }
+
+  @Override
+  public SafeFuture<Boolean> maySignBlock(
+      final BLSPublicKey validator, final Bytes32 genesisValidatorsRoot, final UInt64 slot) {
+    return SafeFuture.of(
+        () ->
+            updateSigningRecord(
+                validator,
+                genesisValidatorsRoot,
+                record -> record.maySignBlock(genesisValidatorsRoot, slot)));
+  }
+
+  @Override
+  public SafeFuture<Boolean> maySignAttestation(
+      final BLSPublicKey validator,
+      final Bytes32 genesisValidatorsRoot,
+      final UInt64 sourceEpoch,
+      final UInt64 targetEpoch) {
+    return SafeFuture.of(
+        () ->
+            updateSigningRecord(
+                validator,
+                genesisValidatorsRoot,
+                record ->
+                    record.maySignAttestation(genesisValidatorsRoot, sourceEpoch, targetEpoch)));
+  }
+
+  @Override
+  public Optional<ValidatorSigningRecord> getSigningRecord(final BLSPublicKey validator)
+      throws IOException {
+    final SigningRecordHolder holder = records.get(validator);
+    if (holder == null) {
+      return readSigningRecord(validator);
+    }
+    synchronized (holder) {
+      return Optional.of(holder.record);
+    }
+  }
+
+  private boolean updateSigningRecord(
+      final BLSPublicKey validator,
+      final Bytes32 genesisValidatorsRoot,
+      final Function<ValidatorSigningRecord, Optional<ValidatorSigningRecord>> check)
+      throws IOException {
+    final SigningRecordHolder holder = getOrLoadSigningRecord(validator, genesisValidatorsRoot);
+    synchronized (holder) {
+      final Optional<ValidatorSigningRecord> newRecord = check.apply(holder.record);
+      if (newRecord.isEmpty()) {
+        return false;
+      }
+      journal.append(validator, newRecord.get());
+      holder.record = newRecord.get();
+      holder.synced = false;
+    }
+    if (journal.size() > MAX_JOURNAL_SIZE && compacting.compareAndSet(false, true)) {
+      asyncRunner
+          .runAsync(this::compact)
+          .alwaysRun(() -> compacting.set(false))
+          .finish(error -> LOG.error("Failed to compact slashing protection journal", error));
+    }
+    return true;
+  }
+
+  @Override
+  public void writeSigningRecordFile(final BLSPublicKey validator) throws IOException {
+    final SigningRecordHolder holder = records.get(validator);
+    if (holder != null) {
+      syncRecordFile(validator, holder);
+    }
+  }
+
+  /**
+   * Rotates the journal and writes every record changed since it was last synced to its file.
+   * Records in the rotated journal were all applied to their holder before the rotation, so once
+   * each holder is synced the rotated journal is no longer needed.
+   */
+  @VisibleForTesting
+  void compact() throws IOException {
+    final Path rotatedJournalFile =
+        slashingProtectionBaseDir.resolve(SlashingProtectionJournal.ROTATED_JOURNAL_FILE_NAME);
+    journal.rotate(rotatedJournalFile);
+    for (Map.Entry<BLSPublicKey, SigningRecordHolder> entry : records.entrySet()) {
+      syncRecordFile(entry.getKey(), entry.getValue());
+    }
+    Files.deleteIfExists(rotatedJournalFile);
+  }
+
+  private void syncRecordFile(final BLSPublicKey validator, final SigningRecordHolder holder)
+      throws IOException {
+    synchronized (holder) {
+      if (!holder.synced) {
+        dataAccessor.syncedWrite(recordPath(validator), holder.record.toBytes());
+        holder.synced = true;
+      }
+    }
+  }
+
+  private SigningRecordHolder getOrLoadSigningRecord(
+      final BLSPublicKey validator, final Bytes32 genesisValidatorsRoot) {
+    return records.computeIfAbsent(
+        validator,
+        __ -> {
+          try {
+            return new SigningRecordHolder(
+                readSigningRecord(validator)
+                    .orElseGet(
+                        () -> ValidatorSigningRecord.emptySigningRecord(genesisValidatorsRoot)));
+          } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+          }
+        });
+  }
+
+  private Optional<ValidatorSigningRecord> readSigningRecord(final BLSPublicKey validator)
+      throws IOException {
+    return dataAccessor.read(recordPath(validator)).map(ValidatorSigningRecord::fromBytes);
+  }
+
+  private Path recordPath(final BLSPublicKey validator) {
+    return SlashingProtectionJournal.recordPath(slashingProtectionBaseDir, validator);
+  }
+
+  private static class SigningRecordHolder {
+    private ValidatorSigningRecord record;
+    // whether the record file is known to be on disk, rather than only covered by the journal
+    private boolean synced = true;
+
+    private SigningRecordHolder(final ValidatorSigningRecord record) {
+      this.record = record;
+    }
+  }
+}
@@ -13,11 +13,15 @@
 
 package tech.pegasys.teku.spec.signatures;
 
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.util.concurrent.Striped;
 import java.io.IOException;
 import java.nio.file.Path;
-import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.Lock;
 import org.apache.tuweni.bytes.Bytes32;
 import tech.pegasys.teku.bls.BLSPublicKey;
 import tech.pegasys.teku.ethereum.signingrecord.ValidatorSigningRecord;
@@ -25,44 +29,80 @@ import tech.pegasys.teku.infrastructure.async.SafeFuture;
 import tech.pegasys.teku.infrastructure.io.SyncDataAccessor;
 import tech.pegasys.teku.infrastructure.unsigned.UInt64;
 
+/**
+ * Slashing protector which writes each approved signing record to disk before signing proceeds.
+ * Checks for the same validator are serialized by a lock striped on the validator's public key, so
+ * different validators can be checked and persisted in parallel.
+ */
 public class LocalSlashingProtector implements SlashingProtector {
+  private static final int LOCK_STRIPES = 1024;
 
-  private final Map<BLSPublicKey, ValidatorSigningRecord> signingRecords = new HashMap<>();
-  private final Map<BLSPublicKey, Path> slashingProtectionPath = new HashMap<>();
+  private final Map<BLSPublicKey, ValidatorSigningRecord> signingRecords =
+      new ConcurrentHashMap<>();
+  private final Map<BLSPublicKey, Path> slashingProtectionPath = new ConcurrentHashMap<>();
+  private final Striped<Lock> validatorLocks;
   private final SyncDataAccessor dataAccessor;
   private final Path slashingProtectionBaseDir;
 
   public LocalSlashingProtector(
       final SyncDataAccessor dataAccessor, final Path slashingProtectionBaseDir) {
+    this(dataAccessor, slashingProtectionBaseDir, Striped.lock(LOCK_STRIPES));
+  }
+
+  @VisibleForTesting
+  LocalSlashingProtector(
+      final SyncDataAccessor dataAccessor,
+      final Path slashingProtectionBaseDir,
+      final Striped<Lock> validatorLocks) {
     this.dataAccessor = dataAccessor;
     this.slashingProtectionBaseDir = slashingProtectionBaseDir;
+    this.validatorLocks = validatorLocks;
   }
 
   @Override
-  public synchronized SafeFuture<Boolean> maySignBlock(
+  public SafeFuture<Boolean> maySignBlock(
       final BLSPublicKey validator, final Bytes32 genesisValidatorsRoot, final UInt64 slot) {
     return SafeFuture.of(
-        () -> {
-          final ValidatorSigningRecord signingRecord =
-              loadOrCreateSigningRecord(validator, genesisValidatorsRoot);
-          return handleResult(validator, signingRecord.maySignBlock(genesisValidatorsRoot, slot));
-        });
+        () ->
+            withValidatorLock(
+                validator,
+                () -> {
+                  final ValidatorSigningRecord signingRecord =
+                      loadOrCreateSigningRecord(validator, genesisValidatorsRoot);
+                  return handleResult(
+                      validator, signingRecord.maySignBlock(genesisValidatorsRoot, slot));
+                }));
   }
 
   @Override
-  public synchronized SafeFuture<Boolean> maySignAttestation(
+  public SafeFuture<Boolean> maySignAttestation(
       final BLSPublicKey validator,
       final Bytes32 genesisValidatorsRoot,
       final UInt64 sourceEpoch,
       final UInt64 targetEpoch) {
     return SafeFuture.of(
-        () -> {
-          final ValidatorSigningRecord signingRecord =
-              loadOrCreateSigningRecord(validator, genesisValidatorsRoot);
-          return handleResult(
-              validator,
-              signingRecord.maySignAttestation(genesisValidatorsRoot, sourceEpoch, targetEpoch));
-        });
+        () ->
+            withValidatorLock(
+                validator,
+                () -> {
+                  final ValidatorSigningRecord signingRecord =
+                      loadOrCreateSigningRecord(validator, genesisValidatorsRoot);
+                  return handleResult(
+                      validator,
+                      signingRecord.maySignAttestation(
+                          genesisValidatorsRoot, sourceEpoch, targetEpoch));
+                }));
+  }
+
+  private <T> T withValidatorLock(final BLSPublicKey validator, final Callable<T> action)
+      throws Exception {
+    final Lock lock = validatorLocks.get(validator);
+    lock.lock();
+    try {
+      return action.call();
+    } finally {
+      lock.unlock();
+    }
   }
 
   private Boolean handleResult(
@@ -78,6 +118,18 @@ public class LocalSlashingProtector implements SlashingProtector {
   @Override
   public Optional<ValidatorSigningRecord> getSigningRecord(final BLSPublicKey validator)
       throws IOException {
+    // the lock stops a record read from disk replacing a newer one written by a concurrent signer
+    final Lock lock = validatorLocks.get(validator);
+    lock.lock();
+    try {
+      return getOrLoadSigningRecord(validator);
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  private Optional<ValidatorSigningRecord> getOrLoadSigningRecord(final BLSPublicKey validator)
+      throws IOException {
     final ValidatorSigningRecord record = signingRecords.get(validator);
     if (record != null) {
       return Optional.of(record);
@@ -90,7 +142,7 @@ public class LocalSlashingProtector implements SlashingProtector {
 
   private ValidatorSigningRecord loadOrCreateSigningRecord(
       final BLSPublicKey validator, final Bytes32 genesisValidatorsRoot) throws IOException {
-    final Optional<ValidatorSigningRecord> record = getSigningRecord(validator);
+    final Optional<ValidatorSigningRecord> record = getOrLoadSigningRecord(validator);
     return record.orElseGet(
         () -> {
           final ValidatorSigningRecord newRecord =
@@ -13,6 +13,8 @@
 
 package tech.pegasys.teku.spec.signatures;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.net.URL;
 import java.util.Optional;
 import java.util.function.Consumer;
@@ -156,5 +158,11 @@ public class SlashingProtectedSigner implements Signer {
   @Override
   public void delete() {
     delegate.delete();
+    // slashing protection data for deleted keys is exported from the record file
+    try {
+      slashingProtector.writeSigningRecordFile(validatorPublicKey);
+    } catch (final IOException e) {
+      throw new UncheckedIOException(e);
+    }
   }
 }
@@ -0,0 +1,252 @@
+/*
+ * Copyright Consensys Software Inc., 2025
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.spec.signatures;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiConsumer;
+import java.util.zip.CRC32;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.apache.tuweni.bytes.Bytes;
+import org.apache.tuweni.bytes.Bytes48;
+import tech.pegasys.teku.bls.BLSPublicKey;
+import tech.pegasys.teku.ethereum.signingrecord.ValidatorSigningRecord;
+import tech.pegasys.teku.infrastructure.io.SyncDataAccessor;
+
+/**
+ * Append-only log of slashing protection records with group commit. Appends which arrive while a
+ * write is in progress are written and forced to disk together in the next write, so signing for
+ * many validators at once costs one fsync per batch rather than one per validator.
+ *
+ * <p>Entries are length prefixed and checksummed. A torn entry at the end of the file, left by a
+ * crash part way through a write, is ignored when the journal is read back.
+ */
+public class SlashingProtectionJournal {
+  private static final Logger LOG = LogManager.getLogger();
+
+  static final String JOURNAL_FILE_NAME = "signing-records.journal";
+  static final String ROTATED_JOURNAL_FILE_NAME = "signing-records.journal.old";
+
+  private static final int LENGTH_SIZE = Integer.BYTES;
+  private static final int PUBKEY_SIZE = BLSPublicKey.SSZ_BLS_PUBKEY_SIZE;
+  private static final int CHECKSUM_SIZE = Integer.BYTES;
+
+  private final Path journalFile;
+  private final List<ByteBuffer> pendingEntries = new ArrayList<>();
+  private FileChannel channel;
+  private long size;
+  private long lastQueuedEntry;
+  private long lastDurableEntry;
+  private boolean committing;
+  private IOException failure;
+
+  private SlashingProtectionJournal(final Path journalFile, final FileChannel channel)
+      throws IOException {
+    this.journalFile = journalFile;
+    this.channel = channel;
+    this.size = channel.size();
+  }
+
+  static SlashingProtectionJournal open(final Path baseDir) throws IOException {
+    final Path journalFile = baseDir.resolve(JOURNAL_FILE_NAME);
+    return new SlashingProtectionJournal(journalFile, openChannel(journalFile));
+  }
+
+  /**
+   * Applies any records left in journal files by a validator client which didn't shut down
+   * cleanly to the per-validator record files, then removes the journal files. Must not be called
+   * while a validator client is using the slashing protection directory.
+   */
+  public static void recover(final SyncDataAccessor dataAccessor, final Path baseDir)
+      throws IOException {
+    final Path rotatedJournalFile = baseDir.resolve(ROTATED_JOURNAL_FILE_NAME);
+    final Path journalFile = baseDir.resolve(JOURNAL_FILE_NAME);
+    final Map<BLSPublicKey, ValidatorSigningRecord> records = new LinkedHashMap<>();
+    // the rotated journal holds older entries than the current one
+    readEntries(rotatedJournalFile, records::put);
+    readEntries(journalFile, records::put);
+    for (Map.Entry<BLSPublicKey, ValidatorSigningRecord> entry : records.entrySet()) {
+      dataAccessor.syncedWrite(recordPath(baseDir, entry.getKey()), entry.getValue().toBytes());
+    }
+    if (!records.isEmpty()) {
+      LOG.info("Recovered {} slashing protection records from journal", records.size());
+    }
+    Files.deleteIfExists(rotatedJournalFile);
+    Files.deleteIfExists(journalFile);
+  }
+
+  static Path recordPath(final Path baseDir, final BLSPublicKey validator) {
+    return baseDir.resolve(validator.toBytesCompressed().toUnprefixedHexString() + ".yml");
+  }
+
+  static void readEntries(
+      final Path journalFile, final BiConsumer<BLSPublicKey, ValidatorSigningRecord> consumer)
+      throws IOException {
+    if (!Files.exists(journalFile)) {
+      return;
+    }
+    final ByteBuffer buffer = ByteBuffer.wrap(Files.readAllBytes(journalFile));
+    while (buffer.remaining() >= LENGTH_SIZE) {
+      final int length = buffer.getInt();
+      if (length <= PUBKEY_SIZE || buffer.remaining() < length + CHECKSUM_SIZE) {
+        LOG.warn("Ignoring incomplete entry at the end of {}", journalFile);
+        return;
+      }
+      final byte[] payload = new byte[length];
+      buffer.get(payload);
+      if (buffer.getInt() != checksum(payload)) {
+        LOG.warn("Ignoring corrupt entry at the end of {}", journalFile);
+        return;
+      }
+      final Bytes payloadBytes = Bytes.wrap(payload);
+      consumer.accept(
+          BLSPublicKey.fromBytesCompressed(Bytes48.wrap(payloadBytes.slice(0, PUBKEY_SIZE))),
+          ValidatorSigningRecord.fromBytes(payloadBytes.slice(PUBKEY_SIZE)));
+    }
+  }
+
+  /**
+   * Appends a record and returns once it, and any other records queued at the same time, have
+   * been forced to disk. Once a write has failed every later append fails as well, because it is
+   * no longer known which records reached the disk.
+   */
+  void append(final BLSPublicKey validator, final ValidatorSigningRecord record)
+      throws IOException {
+    final ByteBuffer entry = encode(validator, record);
+    final long entryNumber;
+    synchronized (this) {
+      checkNotFailed();
+      pendingEntries.add(entry);
+      entryNumber = ++lastQueuedEntry;
+    }
+    while (true) {
+      final List<ByteBuffer> batch;
+      final long batchEnd;
+      synchronized (this) {
+        while (committing && lastDurableEntry < entryNumber) {
+          waitForCommit();
+        }
+        checkNotFailed();
+        if (lastDurableEntry >= entryNumber) {
+          return;
+        }
+        committing = true;
+        batch = new ArrayList<>(pendingEntries);
+        pendingEntries.clear();
+        batchEnd = lastQueuedEntry;
+      }
+      writeBatch(batch, batchEnd);
+    }
+  }
+
+  private void writeBatch(final List<ByteBuffer> batch, final long batchEnd) throws IOException {
+    long written = 0;
+    try {
+      final ByteBuffer[] buffers = batch.toArray(ByteBuffer[]::new);
+      while (buffers[buffers.length - 1].hasRemaining()) {
+        written += channel.write(buffers);
+      }
+      channel.force(false);
+    } catch (final IOException e) {
+      synchronized (this) {
+        failure = e;
+        committing = false;
+        notifyAll();
+      }
+      throw e;
+    }
+    synchronized (this) {
+      size += written;
+      lastDurableEntry = batchEnd;
+      committing = false;
+      notifyAll();
+    }
+  }
+
+  synchronized long size() {
+    return size;
+  }
+
+  /**
+   * Moves the current journal to {@code rotatedFile} and starts a new, empty journal. Entries in
+   * the rotated journal can be discarded once the records they cover are written elsewhere.
+   */
+  synchronized void rotate(final Path rotatedFile) throws IOException {
+    while (committing) {
+      waitForCommit();
+    }
+    checkNotFailed();
+    channel.close();
+    Files.move(journalFile, rotatedFile, StandardCopyOption.REPLACE_EXISTING);
+    channel = openChannel(journalFile);
+    size = 0;
+  }
+
+  synchronized void close() throws IOException {
+    while (committing) {
+      waitForCommit();
+    }
+    channel.close();
+  }
+
+  private void checkNotFailed() throws IOException {
+    if (failure != null) {
+      throw new IOException(
+          "Slashing protection journal is unavailable after a failed write", failure);
+    }
+  }
+
+  private void waitForCommit() throws InterruptedIOException {
+    try {
+      wait();
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new InterruptedIOException("Interrupted waiting for slashing protection journal");
+    }
+  }
+
+  private static FileChannel openChannel(final Path journalFile) throws IOException {
+    return FileChannel.open(
+        journalFile,
+        StandardOpenOption.CREATE,
+        StandardOpenOption.WRITE,
+        StandardOpenOption.APPEND);
+  }
+
+  private static ByteBuffer encode(
+      final BLSPublicKey validator, final ValidatorSigningRecord record) {
+    final byte[] payload =
+        Bytes.concatenate(validator.toBytesCompressed(), record.toBytes()).toArrayUnsafe();
+    final ByteBuffer entry = ByteBuffer.allocate(LENGTH_SIZE + payload.length + CHECKSUM_SIZE);
+    entry.putInt(payload.length).put(payload).putInt(checksum(payload)).flip();
+    return entry;
+  }
+
+  private static int checksum(final byte[] payload) {
+    final CRC32 crc = new CRC32();
+    crc.update(payload);
+    return (int) crc.getValue();
+  }
+}
@@ -33,4 +33,10 @@ public interface SlashingProtector {
 
   Optional<ValidatorSigningRecord> getSigningRecord(final BLSPublicKey validator)
       throws IOException;
+
+  /**
+   * Ensures the validator's record file holds its latest signing record, for protectors which don't
+   * write the file on every approved signature.
+   */
+  default void writeSigningRecordFile(final BLSPublicKey validator) throws IOException {}
 }
@@ -0,0 +1,117 @@
+/*
+ * Copyright Consensys Software Inc., 2025
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.spec.datastructures.state;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import it.unimi.dsi.fastutil.ints.IntList;
+import java.util.Optional;
+import org.junit.jupiter.api.Test;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+
+class EpochCommitteesTest {
+  private static final UInt64 EPOCH_START_SLOT = UInt64.valueOf(16);
+  private static final IntList SHUFFLE = IntList.of(7, 3, 9, 0, 5, 1, 8, 2, 6, 4);
+
+  // 4 slots with 2 committees each
+  private final EpochCommittees epochCommittees =
+      new EpochCommittees(EPOCH_START_SLOT, 4, 2, SHUFFLE);
+
+  @Test
+  void getCommittee_shouldSliceShuffleInOrder() {
+    assertThat(epochCommittees.getCommittee(slot(0), UInt64.ZERO)).containsExactly(7);
+    assertThat(epochCommittees.getCommittee(slot(0), UInt64.ONE)).containsExactly(3);
+    assertThat(epochCommittees.getCommittee(slot(1), UInt64.ZERO)).containsExactly(9);
+    assertThat(epochCommittees.getCommittee(slot(1), UInt64.ONE)).containsExactly(0, 5);
+    assertThat(epochCommittees.getCommittee(slot(2), UInt64.ZERO)).containsExactly(1);
+    assertThat(epochCommittees.getCommittee(slot(2), UInt64.ONE)).containsExactly(8);
+    assertThat(epochCommittees.getCommittee(slot(3), UInt64.ZERO)).containsExactly(2);
+    assertThat(epochCommittees.getCommittee(slot(3), UInt64.ONE)).containsExactly(6, 4);
+  }
+
+  @Test
+  void getCommitteeAssignment_shouldBeConsistentWithCommittees() {
+    for (int slotOffset = 0; slotOffset < 4; slotOffset++) {
+      for (int committeeIndex = 0; committeeIndex < 2; committeeIndex++) {
+        final IntList committee =
+            epochCommittees.getCommittee(slot(slotOffset), UInt64.valueOf(committeeIndex));
+        for (int position = 0; position < committee.size(); position++) {
+          final int validatorIndex = committee.getInt(position);
+          assertThat(epochCommittees.getCommitteeAssignment(validatorIndex))
+              .contains(
+                  new CommitteeAssignment(
+                      committee, UInt64.valueOf(committeeIndex), slot(slotOffset)));
+          assertThat(epochCommittees.getPositionInCommittee(validatorIndex)).isEqualTo(position);
+        }
+      }
+    }
+  }
+
+  @Test
+  void getCommitteeAssignment_shouldHandleMoreCommitteesThanValidators() {
+    final EpochCommittees sparseCommittees =
+        new EpochCommittees(EPOCH_START_SLOT, 4, 2, IntList.of(5, 2, 11));
+
+    assertThat(sparseCommittees.getCommittee(slot(0), UInt64.ZERO)).isEmpty();
+    assertThat(sparseCommittees.getCommittee(slot(0), UInt64.ONE)).isEmpty();
+
+    assertThat(sparseCommittees.getCommitteeAssignment(5))
+        .contains(new CommitteeAssignment(IntList.of(5), UInt64.ZERO, slot(1)));
+    assertThat(sparseCommittees.getCommitteeAssignment(2))
+        .contains(new CommitteeAssignment(IntList.of(2), UInt64.ONE, slot(2)));
+    assertThat(sparseCommittees.getCommitteeAssignment(11))
+        .contains(new CommitteeAssignment(IntList.of(11), UInt64.ONE, slot(3)));
+    assertThat(sparseCommittees.getPositionInCommittee(11)).isZero();
+  }
+
+  @Test
+  void getCommitteeAssignment_shouldReturnEmptyForUnassignedValidators() {
+    final EpochCommittees committees =
+        new EpochCommittees(EPOCH_START_SLOT, 4, 2, IntList.of(0, 4, 2));
+
+    assertThat(committees.getCommitteeAssignment(3)).isEmpty();
+    assertThat(committees.getCommitteeAssignment(100)).isEmpty();
+    assertThat(committees.getCommitteeAssignment(-1)).isEmpty();
+    assertThat(committees.getPositionInCommittee(3)).isEqualTo(-1);
+    assertThat(committees.getPositionInCommittee(100)).isEqualTo(-1);
+  }
+
+  @Test
+  void getCommittee_shouldRejectSlotOutsideEpoch() {
+    assertThatThrownBy(() -> epochCommittees.getCommittee(EPOCH_START_SLOT.minus(1), UInt64.ZERO))
+        .isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(() -> epochCommittees.getCommittee(slot(4), UInt64.ZERO))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  @Test
+  void getCommittee_shouldRejectCommitteeIndexOutOfRange() {
+    assertThatThrownBy(() -> epochCommittees.getCommittee(slot(0), UInt64.valueOf(2)))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  @Test
+  void getCommittee_shouldReturnEmptyCommitteeWhenNoValidatorsAreActive() {
+    final EpochCommittees emptyCommittees =
+        new EpochCommittees(EPOCH_START_SLOT, 4, 1, IntList.of());
+
+    assertThat(emptyCommittees.getCommittee(slot(0), UInt64.ONE)).isEmpty();
+    assertThat(emptyCommittees.getCommitteeAssignment(0)).isEqualTo(Optional.empty());
+  }
+
+  private static UInt64 slot(final int slotOffset) {
+    return EPOCH_START_SLOT.plus(slotOffset);
+  }
+}
@@ -103,6 +103,17 @@ public abstract class AbstractBeaconStateSchemaTest<
     assertEquals(beaconState, state);
   }
 
+  @Test
+  void roundTripViaSszLazily() {
+    final BeaconState beaconState = randomState();
+    final Bytes bytes = beaconState.sszSerialize();
+    final BeaconState state = schema.sszDeserializeLazily(bytes);
+    assertThat(state.getFinalizedCheckpoint()).isEqualTo(beaconState.getFinalizedCheckpoint());
+    assertThat(state.getValidators().get(0)).isEqualTo(beaconState.getValidators().get(0));
+    assertThat(state.sszSerialize()).isEqualTo(bytes);
+    assertEquals(beaconState, state);
+  }
+
   @Test
   public void create_compareDifferentSpecs() {
     final BeaconStateSchema<T, TMutable> minimalState =
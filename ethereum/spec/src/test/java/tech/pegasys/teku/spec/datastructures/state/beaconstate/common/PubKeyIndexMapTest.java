@@ -0,0 +1,108 @@
+/*
+ * Copyright Consensys Software Inc., 2025
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.spec.datastructures.state.beaconstate.common;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.Random;
+import java.util.stream.IntStream;
+import org.apache.tuweni.bytes.Bytes48;
+import org.junit.jupiter.api.Test;
+
+class PubKeyIndexMapTest {
+  private final Random random = new Random(42);
+  private final PubKeyIndexMap map = new PubKeyIndexMap();
+
+  @Test
+  void shouldReturnNotFoundForUnknownKey() {
+    map.put(randomKey(), 0);
+
+    assertThat(map.get(randomKey())).isEqualTo(PubKeyIndexMap.NOT_FOUND);
+  }
+
+  @Test
+  void shouldFindAllKeysAfterResizing() {
+    final List<Bytes48> keys = IntStream.range(0, 50_000).mapToObj(__ -> randomKey()).toList();
+    for (int i = 0; i < keys.size(); i++) {
+      map.put(keys.get(i), i);
+    }
+
+    assertThat(map.size()).isEqualTo(keys.size());
+    for (int i = 0; i < keys.size(); i++) {
+      assertThat(map.get(keys.get(i))).isEqualTo(i);
+    }
+    assertThat(map.get(randomKey())).isEqualTo(PubKeyIndexMap.NOT_FOUND);
+  }
+
+  @Test
+  void shouldFindKeysAddedOutOfOrder() {
+    final Bytes48 key1 = randomKey();
+    final Bytes48 key2 = randomKey();
+    map.put(key1, 100_000);
+    map.put(key2, 3);
+
+    assertThat(map.get(key1)).isEqualTo(100_000);
+    assertThat(map.get(key2)).isEqualTo(3);
+  }
+
+  @Test
+  void shouldUpdateIndexOfExistingKey() {
+    final Bytes48 key = randomKey();
+    map.put(key, 5);
+    map.put(key, 7);
+
+    assertThat(map.get(key)).isEqualTo(7);
+    assertThat(map.size()).isOne();
+  }
+
+  @Test
+  void shouldKeepKeyWhenItsIndexIsReusedByAnotherKey() {
+    final Bytes48 key1 = randomKey();
+    final Bytes48 key2 = randomKey();
+    map.put(key1, 5);
+    map.put(key2, 5);
+
+    assertThat(map.get(key1)).isEqualTo(5);
+    assertThat(map.get(key2)).isEqualTo(5);
+    assertThat(map.size()).isEqualTo(2);
+  }
+
+  @Test
+  void shouldKeepAllKeysSharingIndicesAfterResizing() {
+    final List<Bytes48> keys = IntStream.range(0, 10_000).mapToObj(__ -> randomKey()).toList();
+    for (int i = 0; i < keys.size(); i++) {
+      // every index is written by two keys, as happens when two forks process different deposits
+      map.put(keys.get(i), i / 2);
+    }
+
+    assertThat(map.size()).isEqualTo(keys.size());
+    for (int i = 0; i < keys.size(); i++) {
+      assertThat(map.get(keys.get(i))).isEqualTo(i / 2);
+    }
+  }
+
+  @Test
+  void noOpInstanceShouldNotStoreKeys() {
+    final Bytes48 key = randomKey();
+    PubKeyIndexMap.NO_OP_INSTANCE.put(key, 1);
+
+    assertThat(PubKeyIndexMap.NO_OP_INSTANCE.get(key)).isEqualTo(PubKeyIndexMap.NOT_FOUND);
+    assertThat(PubKeyIndexMap.NO_OP_INSTANCE.size()).isZero();
+  }
+
+  private Bytes48 randomKey() {
+    return Bytes48.random(random);
+  }
+}
@@ -14,17 +14,11 @@
 package tech.pegasys.teku.spec.datastructures.state.beaconstate.common;
 
 import static org.assertj.core.api.Assertions.assertThat;
-import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.Mockito.mock;
-import static org.mockito.Mockito.times;
-import static org.mockito.Mockito.verify;
-import static org.mockito.Mockito.when;
 
 import java.util.Optional;
 import org.junit.jupiter.api.Disabled;
 import org.junit.jupiter.api.Test;
 import tech.pegasys.teku.bls.BLSPublicKey;
-import tech.pegasys.teku.infrastructure.collections.cache.Cache;
 import tech.pegasys.teku.infrastructure.ssz.SszList;
 import tech.pegasys.teku.spec.Spec;
 import tech.pegasys.teku.spec.TestSpecFactory;
@@ -40,9 +34,6 @@ public class ValidatorIndexCacheTest {
   private final DataStructureUtil dataStructureUtil = new DataStructureUtil(spec);
   private final BeaconState state = dataStructureUtil.randomBeaconState(NUMBER_OF_VALIDATORS);
 
-  @SuppressWarnings("unchecked")
-  final Cache<BLSPublicKey, Integer> cache = mock(Cache.class);
-
   @Test
   public void shouldReturnEmptyIfValidatorIndexIsNotConsistentWithNumberOfValidatorsInState() {
     final SszList<Validator> validators = state.getValidators();
@@ -83,18 +74,14 @@ public class ValidatorIndexCacheTest {
     final int latestFinalizedIndex = NUMBER_OF_VALIDATORS - 1;
     final int lastCachedIndex = 31;
     final ValidatorIndexCache validatorIndexCache =
-        new ValidatorIndexCache(cache, latestFinalizedIndex, lastCachedIndex);
-
-    when(cache.getCached(any())).thenReturn(Optional.empty());
-    // mock cache needs to report the size changed
-    when(cache.size()).thenReturn(31).thenReturn(32);
+        new ValidatorIndexCache(new PubKeyIndexMap(), latestFinalizedIndex, lastCachedIndex);
 
     final Optional<Integer> index =
         validatorIndexCache.getValidatorIndex(
             state, validators.get(latestFinalizedIndex).getPublicKey());
 
     // last cached index is 31, so need to cache 32 more validators (final index - 63)
-    verify(cache, times(32)).invalidateWithNewValue(any(), any());
+    assertThat(validatorIndexCache.getCacheSize()).isEqualTo(32);
     assertThat(index).hasValue(latestFinalizedIndex);
 
     assertThat(validatorIndexCache.getLastCachedIndex()).isEqualTo(latestFinalizedIndex);
@@ -150,6 +137,27 @@ public class ValidatorIndexCacheTest {
     assertThat(validatorIndexCache.getValidatorIndex(state, updatedPublicKey)).isEmpty();
   }
 
+  @Test
+  public void shouldFindValidatorsFromDifferentForksAddedAtTheSameIndex() {
+    final ValidatorIndexCache validatorIndexCache = new ValidatorIndexCache();
+    validatorIndexCache.updateLatestFinalizedIndex(state);
+
+    final Validator validator1 = dataStructureUtil.randomValidator();
+    final Validator validator2 = dataStructureUtil.randomValidator();
+    final BeaconState fork1 = state.updated(s -> s.getValidators().append(validator1));
+    final BeaconState fork2 = state.updated(s -> s.getValidators().append(validator2));
+
+    assertThat(validatorIndexCache.getValidatorIndex(fork1, validator1.getPublicKey()))
+        .contains(NUMBER_OF_VALIDATORS);
+    // the deposit of validator2 on the other fork reuses the same index
+    validatorIndexCache.invalidateWithNewValue(validator2.getPublicKey(), NUMBER_OF_VALIDATORS);
+
+    assertThat(validatorIndexCache.getValidatorIndex(fork2, validator2.getPublicKey()))
+        .contains(NUMBER_OF_VALIDATORS);
+    assertThat(validatorIndexCache.getValidatorIndex(fork1, validator1.getPublicKey()))
+        .contains(NUMBER_OF_VALIDATORS);
+  }
+
   @Test
   public void noopCacheShouldFindTheSameIndexMoreThanOnce() {
     final int validatorIndex = 2;
@@ -0,0 +1,100 @@
+/*
+ * Copyright Consensys Software Inc., 2025
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.spec.logic.common.block;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+import tech.pegasys.teku.spec.Spec;
+import tech.pegasys.teku.spec.TestSpecFactory;
+import tech.pegasys.teku.spec.cache.CapturingIndexedAttestationCache;
+import tech.pegasys.teku.spec.cache.IndexedAttestationCache;
+import tech.pegasys.teku.spec.datastructures.blocks.SignedBeaconBlock;
+import tech.pegasys.teku.spec.datastructures.operations.Attestation;
+import tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconState;
+import tech.pegasys.teku.spec.generator.ChainBuilder;
+import tech.pegasys.teku.spec.logic.common.statetransition.exceptions.StateTransitionException;
+import tech.pegasys.teku.spec.util.DataStructureUtil;
+import tech.pegasys.teku.storage.client.ChainUpdater;
+import tech.pegasys.teku.storage.storageSystem.InMemoryStorageSystemBuilder;
+import tech.pegasys.teku.storage.storageSystem.StorageSystem;
+
+public class BlockProcessorBatchValidationTest {
+  private final Spec spec = TestSpecFactory.createMinimalDeneb();
+  private final DataStructureUtil dataStructureUtil = new DataStructureUtil(spec);
+  private final StorageSystem storageSystem = InMemoryStorageSystemBuilder.buildDefault(spec);
+  private final ChainBuilder chainBuilder = storageSystem.chainBuilder();
+  private final ChainUpdater chainUpdater = storageSystem.chainUpdater();
+
+  private BeaconState blockSlotState;
+
+  @BeforeEach
+  void setUp() throws Exception {
+    chainUpdater.initializeGenesis();
+    final BeaconState preState = chainUpdater.advanceChainUntil(2).getState();
+    blockSlotState = spec.processSlots(preState, UInt64.valueOf(3));
+  }
+
+  @Test
+  void shouldProcessBlockWithAttestationsUsingPrecomputedIndexedAttestations() throws Exception {
+    final List<Attestation> attestations =
+        chainBuilder.streamValidAttestationsForBlockAtSlot(3).toList();
+    assertThat(attestations).isNotEmpty();
+    final ChainBuilder.BlockOptions blockOptions = ChainBuilder.BlockOptions.create();
+    attestations.forEach(blockOptions::addAttestation);
+    final SignedBeaconBlock block = chainBuilder.generateBlockAtSlot(3, blockOptions).getBlock();
+
+    final CapturingIndexedAttestationCache indexedAttestationCache =
+        IndexedAttestationCache.capturing();
+    final BeaconState postState =
+        spec.getBlockProcessor(block.getSlot())
+            .processAndValidateBlock(
+                block, blockSlotState, indexedAttestationCache, Optional.empty());
+
+    assertThat(postState.hashTreeRoot()).isEqualTo(block.getMessage().getStateRoot());
+    assertThat(indexedAttestationCache.getIndexedAttestations())
+        .hasSize(block.getMessage().getBody().getAttestations().size());
+  }
+
+  @Test
+  void shouldRejectBlockWhenAttestationSignatureIsInvalid() {
+    final Attestation validAttestation =
+        chainBuilder.streamValidAttestationsForBlockAtSlot(3).findFirst().orElseThrow();
+    final Attestation invalidAttestation =
+        spec.getGenesisSchemaDefinitions()
+            .getAttestationSchema()
+            .create(
+                validAttestation.getAggregationBits(),
+                validAttestation.getData(),
+                dataStructureUtil.randomSignature());
+    final SignedBeaconBlock block =
+        chainBuilder
+            .generateBlockAtSlot(
+                3, ChainBuilder.BlockOptions.create().addAttestation(invalidAttestation))
+            .getBlock();
+
+    assertThatThrownBy(
+            () ->
+                spec.getBlockProcessor(block.getSlot())
+                    .processAndValidateBlock(
+                        block, blockSlotState, IndexedAttestationCache.NOOP, Optional.empty()))
+        .isInstanceOf(StateTransitionException.class)
+        .hasMessageContaining("Batch signature verification failed");
+  }
+}
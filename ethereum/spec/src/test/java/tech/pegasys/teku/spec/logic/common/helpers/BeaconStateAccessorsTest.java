@@ -20,19 +20,23 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static tech.pegasys.teku.infrastructure.unsigned.UInt64.ONE;
 import static tech.pegasys.teku.spec.config.SpecConfig.GENESIS_EPOCH;
 import static tech.pegasys.teku.spec.config.SpecConfig.GENESIS_SLOT;
+import static tech.pegasys.teku.spec.logic.common.helpers.MathHelpers.uint64ToBytes;
 
 import it.unimi.dsi.fastutil.ints.Int2IntMap;
 import it.unimi.dsi.fastutil.ints.IntList;
 import java.util.stream.Stream;
+import org.apache.tuweni.bytes.Bytes32;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
+import tech.pegasys.teku.infrastructure.crypto.Hash;
 import tech.pegasys.teku.infrastructure.unsigned.UInt64;
 import tech.pegasys.teku.spec.Spec;
 import tech.pegasys.teku.spec.SpecVersion;
 import tech.pegasys.teku.spec.TestSpecFactory;
 import tech.pegasys.teku.spec.config.SpecConfig;
+import tech.pegasys.teku.spec.constants.Domain;
 import tech.pegasys.teku.spec.datastructures.state.BeaconStateTestBuilder;
 import tech.pegasys.teku.spec.datastructures.state.Committee;
 import tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconState;
@@ -186,6 +190,71 @@ public class BeaconStateAccessorsTest {
     assertThat(committeesSize).hasSize(committeeCount.intValue());
   }
 
+  @Test
+  public void getBeaconCommittee_shouldMatchComputeCommittee() {
+    final BeaconState state = createStateWithActiveValidators(100);
+    final UInt64 epoch = spec.computeEpochAtSlot(state.getSlot());
+    final MiscHelpers miscHelpers = genesisSpec.miscHelpers();
+    final IntList activeValidators = beaconStateAccessors.getActiveValidatorIndices(state, epoch);
+    final Bytes32 seed = beaconStateAccessors.getSeed(state, epoch, Domain.BEACON_ATTESTER);
+    final int committeesPerSlot =
+        beaconStateAccessors.getCommitteeCountPerSlot(state, epoch).intValue();
+    final int committeeCount = committeesPerSlot * specConfig.getSlotsPerEpoch();
+    assertThat(committeesPerSlot).isGreaterThan(1);
+
+    for (int i = 0; i < committeeCount; i++) {
+      final UInt64 slot = spec.computeStartSlotAtEpoch(epoch).plus(i / committeesPerSlot);
+      final UInt64 committeeIndex = UInt64.valueOf(i % committeesPerSlot);
+      assertThat(beaconStateAccessors.getBeaconCommittee(state, slot, committeeIndex))
+          .isEqualTo(
+              miscHelpers.computeCommittee(state, activeValidators, seed, i, committeeCount));
+    }
+  }
+
+  @Test
+  public void getBeaconProposerIndex_shouldMatchComputeProposerIndex() {
+    final BeaconState state = createStateWithActiveValidators(100);
+    final UInt64 epoch = spec.computeEpochAtSlot(state.getSlot());
+    final MiscHelpers miscHelpers = genesisSpec.miscHelpers();
+    final IntList activeValidators = beaconStateAccessors.getActiveValidatorIndices(state, epoch);
+    final Bytes32 epochSeed = beaconStateAccessors.getSeed(state, epoch, Domain.BEACON_PROPOSER);
+
+    UInt64.range(spec.computeStartSlotAtEpoch(epoch), spec.computeStartSlotAtEpoch(epoch.plus(1)))
+        .forEach(
+            slot ->
+                assertThat(beaconStateAccessors.getBeaconProposerIndex(state, slot))
+                    .isEqualTo(
+                        miscHelpers.computeProposerIndex(
+                            state,
+                            activeValidators,
+                            Hash.sha256(epochSeed, uint64ToBytes(slot)))));
+  }
+
+  @Test
+  public void getEpochCommittees_shouldBeSharedByStatesWithTheSameDependentRoot() {
+    final BeaconState state =
+        withAttesterDependentRoot(
+            createStateWithActiveValidators(100), dataStructureUtil.randomBytes32());
+    final BeaconState reloadedState = spec.deserializeBeaconState(state.sszSerialize());
+    final UInt64 epoch = beaconStateAccessors.getCurrentEpoch(state);
+
+    assertThat(beaconStateAccessors.getEpochCommittees(reloadedState, epoch))
+        .isSameAs(beaconStateAccessors.getEpochCommittees(state, epoch));
+    assertThat(beaconStateAccessors.getActiveValidatorIndices(reloadedState, epoch))
+        .isSameAs(beaconStateAccessors.getActiveValidatorIndices(state, epoch));
+  }
+
+  @Test
+  public void getEpochCommittees_shouldNotBeSharedByStatesWithDifferentDependentRoots() {
+    final BeaconState state = createStateWithActiveValidators(100);
+    final BeaconState state1 = withAttesterDependentRoot(state, dataStructureUtil.randomBytes32());
+    final BeaconState state2 = withAttesterDependentRoot(state, dataStructureUtil.randomBytes32());
+    final UInt64 epoch = beaconStateAccessors.getCurrentEpoch(state);
+
+    assertThat(beaconStateAccessors.getEpochCommittees(state1, epoch))
+        .isNotSameAs(beaconStateAccessors.getEpochCommittees(state2, epoch));
+  }
+
   @Test
   void calculateCommitteeFraction_full() {
     final BeaconState state = dataStructureUtil.randomBeaconState(1024);
@@ -211,6 +280,29 @@ public class BeaconStateAccessorsTest {
     assertThat(fraction).isEqualTo(totalActiveBalancePerSlot.dividedBy(100));
   }
 
+  private BeaconState createStateWithActiveValidators(final int validatorCount) {
+    final BeaconStateTestBuilder builder =
+        new BeaconStateTestBuilder(dataStructureUtil)
+            .slot(specConfig.getSlotsPerEpoch() * 3L + 2)
+            .forkVersion(specConfig.getGenesisForkVersion());
+    for (int i = 0; i < validatorCount; i++) {
+      builder.activeValidator(specConfig.getMaxEffectiveBalance());
+    }
+    return builder.build();
+  }
+
+  private BeaconState withAttesterDependentRoot(final BeaconState state, final Bytes32 root) {
+    final UInt64 epoch = beaconStateAccessors.getCurrentEpoch(state);
+    final UInt64 dependentSlot =
+        spec.computeStartSlotAtEpoch(epoch.minusMinZero(1)).minusMinZero(1);
+    return state.updated(
+        mutableState ->
+            mutableState
+                .getBlockRoots()
+                .setElement(
+                    dependentSlot.mod(specConfig.getSlotsPerHistoricalRoot()).intValue(), root));
+  }
+
   private BeaconState createBeaconState() {
     return new BeaconStateTestBuilder(dataStructureUtil)
         .forkVersion(specConfig.getGenesisForkVersion())
@@ -32,6 +32,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
+import org.junit.jupiter.params.provider.ValueSource;
 import tech.pegasys.teku.infrastructure.unsigned.UInt64;
 import tech.pegasys.teku.spec.Spec;
 import tech.pegasys.teku.spec.SpecMilestone;
@@ -82,6 +83,24 @@ class MiscHelpersTest {
                 .toArray());
   }
 
+  @ParameterizedTest(name = "indexCount={0}")
+  @ValueSource(ints = {1, 2, 255, 256, 257, MiscHelpers.PARALLEL_SHUFFLE_THRESHOLD + 77})
+  void shuffleList_shouldMatchShuffledIndexForAllListSizes(final int indexCount) {
+    final SpecConfig specConfig = mock(SpecConfig.class);
+    final MiscHelpers miscHelpers = new MiscHelpers(specConfig);
+
+    when(specConfig.getShuffleRoundCount()).thenReturn(10);
+    final Bytes32 seed = Bytes32.fromHexStringLenient("0x1234");
+    final int[] indices = IntStream.range(0, indexCount).toArray();
+
+    miscHelpers.shuffleList(indices, seed);
+    assertThat(indices)
+        .isEqualTo(
+            IntStream.range(0, indexCount)
+                .map(i -> miscHelpers.computeShuffledIndex(i, indexCount, seed))
+                .toArray());
+  }
+
   @Test
   void shuffleList_compareListAndArrayVersions() {
     final SpecConfig specConfig = mock(SpecConfig.class);
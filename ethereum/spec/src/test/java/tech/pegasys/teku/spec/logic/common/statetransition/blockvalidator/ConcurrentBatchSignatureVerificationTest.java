@@ -0,0 +1,66 @@
+/*
+ * Copyright Consensys Software Inc., 2025
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+
+package tech.pegasys.teku.spec.logic.common.statetransition.blockvalidator;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import org.junit.jupiter.api.Test;
+import tech.pegasys.teku.infrastructure.async.StubAsyncRunner;
+
+class ConcurrentBatchSignatureVerificationTest {
+  private final StubAsyncRunner asyncRunner = new StubAsyncRunner();
+  private final BatchSignatureVerifier verifier = mock(BatchSignatureVerifier.class);
+
+  @Test
+  void shouldUseResultFromAsyncRunnerWhenItVerifiedFirst() {
+    when(verifier.batchVerify()).thenReturn(false);
+    final ConcurrentBatchSignatureVerification verification =
+        ConcurrentBatchSignatureVerification.start(verifier, asyncRunner);
+
+    asyncRunner.executeQueuedActions();
+
+    assertThat(verification.isValid()).isFalse();
+    verify(verifier).batchVerify();
+  }
+
+  @Test
+  void shouldVerifyOnCallingThreadWhenAsyncRunnerHasNotStarted() {
+    when(verifier.batchVerify()).thenReturn(true);
+    final ConcurrentBatchSignatureVerification verification =
+        ConcurrentBatchSignatureVerification.start(verifier, asyncRunner);
+
+    assertThat(verification.isValid()).isTrue();
+    verify(verifier).batchVerify();
+
+    // the queued verification must not verify the batch a second time
+    asyncRunner.executeQueuedActions();
+    verify(verifier).batchVerify();
+  }
+
+  @Test
+  void shouldNotVerifyWhenCancelledBeforeAsyncRunnerStarted() {
+    final ConcurrentBatchSignatureVerification verification =
+        ConcurrentBatchSignatureVerification.start(verifier, asyncRunner);
+
+    verification.cancel();
+    asyncRunner.executeQueuedActions();
+
+    verify(verifier, never()).batchVerify();
+  }
+}
@@ -21,15 +21,18 @@ import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
+import static tech.pegasys.teku.spec.config.SpecConfig.FAR_FUTURE_EPOCH;
 
 import java.lang.reflect.Field;
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.List;
 import org.apache.commons.lang3.reflect.FieldUtils;
 import org.apache.logging.log4j.Logger;
 import org.junit.jupiter.api.Test;
 import org.junit.platform.commons.util.ReflectionUtils;
 import org.junit.platform.commons.util.ReflectionUtils.HierarchyTraversalMode;
+import tech.pegasys.teku.infrastructure.ssz.collections.SszMutableUInt64List;
 import tech.pegasys.teku.infrastructure.ssz.collections.SszPrimitiveVector;
 import tech.pegasys.teku.infrastructure.ssz.primitive.SszUInt64;
 import tech.pegasys.teku.infrastructure.time.StubTimeProvider;
@@ -37,8 +40,10 @@ import tech.pegasys.teku.infrastructure.time.Throttler;
 import tech.pegasys.teku.infrastructure.unsigned.UInt64;
 import tech.pegasys.teku.spec.Spec;
 import tech.pegasys.teku.spec.TestSpecFactory;
+import tech.pegasys.teku.spec.config.SpecConfig;
 import tech.pegasys.teku.spec.datastructures.state.Validator;
 import tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconState;
+import tech.pegasys.teku.spec.datastructures.state.beaconstate.versions.altair.MutableBeaconStateAltair;
 import tech.pegasys.teku.spec.logic.common.statetransition.epoch.status.ValidatorStatusFactory;
 import tech.pegasys.teku.spec.logic.common.statetransition.epoch.status.ValidatorStatuses;
 import tech.pegasys.teku.spec.logic.versions.capella.statetransition.epoch.EpochProcessorCapella;
@@ -117,6 +122,83 @@ class AbstractEpochProcessorTest {
     return loggerThrottler;
   }
 
+  @Test
+  public void shouldUpdateBalancesAsSeparateEpochProcessingStepsWould() throws Exception {
+    final int validatorCount = 64;
+    final UInt64 currentEpoch = UInt64.valueOf(10);
+    final SpecConfig config = spec.getGenesisSpecConfig();
+    final UInt64 maxEffectiveBalance = config.getMaxEffectiveBalance();
+    final UInt64 slashingWithdrawableEpoch =
+        currentEpoch.plus(config.getEpochsPerSlashingsVector() / 2);
+    final List<Validator> validators = new ArrayList<>();
+    final List<UInt64> balances = new ArrayList<>();
+    for (int i = 0; i < validatorCount; i++) {
+      final boolean slashed = i % 16 == 0;
+      validators.add(
+          dataStructureUtil
+              .validatorBuilder()
+              .effectiveBalance(maxEffectiveBalance)
+              .activationEligibilityEpoch(UInt64.ZERO)
+              .activationEpoch(UInt64.ZERO)
+              .slashed(slashed)
+              .exitEpoch(slashed ? currentEpoch.plus(1) : FAR_FUTURE_EPOCH)
+              .withdrawableEpoch(slashed ? slashingWithdrawableEpoch : FAR_FUTURE_EPOCH)
+              .build());
+      // some balances are far enough below the effective balance for it to decrease
+      balances.add(maxEffectiveBalance.minus(UInt64.valueOf(i * 100_000_000L)));
+    }
+    final BeaconState preState =
+        dataStructureUtil
+            .stateBuilder(spec.getGenesisSpec().getMilestone(), validatorCount, validatorCount)
+            .slot(spec.computeStartSlotAtEpoch(currentEpoch.plus(1)).minus(1))
+            .validators(
+                dataStructureUtil
+                    .getBeaconStateSchema()
+                    .getValidatorsSchema()
+                    .createFromElements(validators))
+            .balances(balances.toArray(UInt64[]::new))
+            .slashings(
+                dataStructureUtil.randomSszPrimitiveVector(
+                    dataStructureUtil.getBeaconStateSchema().getSlashingsSchema(),
+                    () -> UInt64.valueOf(1_000_000_000L)))
+            .finalizedCheckpoint(dataStructureUtil.randomCheckpoint(UInt64.ZERO))
+            .build()
+            .updated(
+                state -> {
+                  final SszMutableUInt64List inactivityScores =
+                      MutableBeaconStateAltair.required(state).getInactivityScores();
+                  for (int i = 0; i < validatorCount; i++) {
+                    inactivityScores.setElement(i, UInt64.ZERO);
+                  }
+                });
+
+    final BeaconState postState = epochProcessor.processEpoch(preState);
+
+    final ValidatorStatuses validatorStatuses =
+        spec.getGenesisSpec().getValidatorStatusFactory().createValidatorStatuses(preState);
+    final BeaconState expectedState =
+        preState.updated(
+            state -> {
+              epochProcessor.processJustificationAndFinalization(
+                  state, validatorStatuses.getTotalBalances());
+              epochProcessor.processInactivityUpdates(state, validatorStatuses);
+              epochProcessor.processRewardsAndPenalties(state, validatorStatuses);
+              epochProcessor.processRegistryUpdates(state, validatorStatuses.getStatuses());
+              epochProcessor.processSlashings(state, validatorStatuses);
+              epochProcessor.processEth1DataReset(state);
+              epochProcessor.processEffectiveBalanceUpdates(
+                  state, validatorStatuses.getStatuses());
+            });
+
+    assertThat(postState.getBalances()).isEqualTo(expectedState.getBalances());
+    assertThat(postState.getValidators()).isEqualTo(expectedState.getValidators());
+    // make sure slashings and effective balance updates were applied
+    assertThat(postState.getBalances().getElement(16))
+        .isLessThan(preState.getBalances().getElement(16));
+    assertThat(postState.getValidators().get(10).getEffectiveBalance())
+        .isLessThan(maxEffectiveBalance);
+  }
+
   @Test
   public void shouldCheckNewValidatorsDuringEpochProcessingReturnsFalse() {
     assertThat(
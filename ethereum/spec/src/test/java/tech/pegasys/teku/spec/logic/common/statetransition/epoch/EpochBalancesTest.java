@@ -0,0 +1,97 @@
+/*
+ * Copyright Consensys Software Inc., 2025
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.spec.logic.common.statetransition.epoch;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.junit.jupiter.api.Test;
+import tech.pegasys.teku.infrastructure.ssz.collections.SszMutableUInt64List;
+import tech.pegasys.teku.infrastructure.ssz.collections.SszUInt64List;
+import tech.pegasys.teku.infrastructure.ssz.schema.collections.SszUInt64ListSchema;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+
+class EpochBalancesTest {
+
+  private final SszUInt64List stateBalances =
+      SszUInt64ListSchema.create(10)
+          .of(UInt64.valueOf(100), UInt64.valueOf(200), UInt64.valueOf(300));
+
+  @Test
+  void shouldApplyDeltasLikeUInt64Arithmetic() {
+    final EpochBalances balances = EpochBalances.create(stateBalances).orElseThrow();
+
+    balances.applyDelta(0, UInt64.valueOf(10), UInt64.valueOf(5));
+    balances.applyDelta(1, UInt64.valueOf(10), UInt64.valueOf(500));
+    balances.applyDelta(2, UInt64.ZERO, UInt64.MAX_VALUE);
+
+    assertThat(balances.getBalance(0)).isEqualTo(UInt64.valueOf(105));
+    assertThat(balances.getBalance(1)).isEqualTo(UInt64.ZERO);
+    assertThat(balances.getBalance(2)).isEqualTo(UInt64.ZERO);
+  }
+
+  @Test
+  void shouldDecreaseBalanceToZeroAtMost() {
+    final EpochBalances balances = EpochBalances.create(stateBalances).orElseThrow();
+
+    balances.decreaseBalance(0, UInt64.valueOf(40));
+    balances.decreaseBalance(1, UInt64.valueOf(201));
+    balances.decreaseBalance(2, UInt64.MAX_VALUE);
+
+    assertThat(balances.getBalance(0)).isEqualTo(UInt64.valueOf(60));
+    assertThat(balances.getBalance(1)).isEqualTo(UInt64.ZERO);
+    assertThat(balances.getBalance(2)).isEqualTo(UInt64.ZERO);
+  }
+
+  @Test
+  void shouldTreatNegativeAmountsAsUInt64Bits() {
+    final EpochBalances balances = EpochBalances.create(stateBalances).orElseThrow();
+
+    balances.decreaseBalance(0, 40L);
+    balances.decreaseBalance(1, UInt64.MAX_VALUE.longValue());
+
+    assertThat(balances.get(0)).isEqualTo(60L);
+    assertThat(balances.get(1)).isZero();
+  }
+
+  @Test
+  void shouldFailWhenRewardOverflows() {
+    final EpochBalances balances = EpochBalances.create(stateBalances).orElseThrow();
+
+    assertThatThrownBy(() -> balances.applyDelta(0, UInt64.MAX_VALUE, UInt64.ZERO))
+        .isInstanceOf(ArithmeticException.class);
+  }
+
+  @Test
+  void shouldOnlyWriteChangedBalances() {
+    final EpochBalances balances = EpochBalances.create(stateBalances).orElseThrow();
+    balances.applyDelta(1, UInt64.valueOf(5), UInt64.ZERO);
+    // net change of zero doesn't need to be written
+    balances.applyDelta(2, UInt64.valueOf(5), UInt64.valueOf(5));
+
+    final SszMutableUInt64List mutableBalances = stateBalances.createWritableCopy();
+    balances.writeTo(mutableBalances);
+
+    assertThat(mutableBalances.asListUnboxed())
+        .containsExactly(UInt64.valueOf(100), UInt64.valueOf(205), UInt64.valueOf(300));
+  }
+
+  @Test
+  void shouldNotCreateWhenBalanceDoesNotFitInLong() {
+    final SszUInt64List hugeBalances =
+        SszUInt64ListSchema.create(10).of(UInt64.valueOf(100), UInt64.MAX_VALUE);
+
+    assertThat(EpochBalances.create(hugeBalances)).isEmpty();
+  }
+}
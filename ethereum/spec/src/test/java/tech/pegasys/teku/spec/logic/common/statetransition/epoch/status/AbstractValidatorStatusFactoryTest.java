@@ -23,6 +23,7 @@ import static org.mockito.Mockito.verify;
 import static tech.pegasys.teku.spec.config.SpecConfig.FAR_FUTURE_EPOCH;
 
 import java.util.List;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 import org.apache.commons.lang3.reflect.FieldUtils;
 import org.junit.jupiter.api.Test;
@@ -243,6 +244,32 @@ public abstract class AbstractValidatorStatusFactoryTest {
     assertThat(balances.getPreviousEpochHeadAttesters()).isEqualTo(balance(9));
   }
 
+  @Test
+  void createTotalBalances_shouldSumAcrossMultipleChunks() {
+    final int validatorCount = AbstractValidatorStatusFactory.PARALLEL_CHUNK_SIZE * 2 + 100;
+    final List<ValidatorStatus> statuses =
+        IntStream.range(0, validatorCount)
+            .mapToObj(
+                i ->
+                    createValidator(i % 4)
+                        .updateCurrentEpochSourceAttester(i % 2 == 0)
+                        .updatePreviousEpochTargetAttester(i % 3 == 0))
+            .toList();
+
+    long expectedSourceIncrements = 0;
+    long expectedTargetIncrements = 0;
+    for (int i = 0; i < validatorCount; i++) {
+      expectedSourceIncrements += i % 2 == 0 ? i % 4 : 0;
+      expectedTargetIncrements += i % 3 == 0 ? i % 4 : 0;
+    }
+
+    final TotalBalances balances = validatorStatusFactory.createTotalBalances(statuses);
+    assertThat(balances.getCurrentEpochSourceAttesters())
+        .isEqualTo(genesisConfig.getEffectiveBalanceIncrement().times(expectedSourceIncrements));
+    assertThat(balances.getPreviousEpochTargetAttesters())
+        .isEqualTo(genesisConfig.getEffectiveBalanceIncrement().times(expectedTargetIncrements));
+  }
+
   @Test
   void createTotalBalances_shouldReturnMinimumOfOneEffectiveBalanceIncrement() {
     final TotalBalances balances = validatorStatusFactory.createTotalBalances(emptyList());
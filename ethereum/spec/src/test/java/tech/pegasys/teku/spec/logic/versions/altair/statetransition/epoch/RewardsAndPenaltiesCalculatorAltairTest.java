@@ -0,0 +1,138 @@
+/*
+ * Copyright Consensys Software Inc., 2025
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.spec.logic.versions.altair.statetransition.epoch;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static tech.pegasys.teku.spec.logic.versions.altair.helpers.MiscHelpersAltair.PARTICIPATION_FLAG_WEIGHTS;
+
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+import tech.pegasys.teku.bls.BLSPublicKey;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+import tech.pegasys.teku.spec.Spec;
+import tech.pegasys.teku.spec.SpecVersion;
+import tech.pegasys.teku.spec.TestSpecFactory;
+import tech.pegasys.teku.spec.config.SpecConfigAltair;
+import tech.pegasys.teku.spec.datastructures.state.beaconstate.versions.altair.BeaconStateAltair;
+import tech.pegasys.teku.spec.datastructures.state.beaconstate.versions.altair.BeaconStateSchemaAltair;
+import tech.pegasys.teku.spec.logic.common.statetransition.epoch.RewardAndPenalty;
+import tech.pegasys.teku.spec.logic.common.statetransition.epoch.RewardAndPenaltyDeltas;
+import tech.pegasys.teku.spec.logic.versions.altair.helpers.BeaconStateAccessorsAltair;
+import tech.pegasys.teku.spec.logic.versions.altair.helpers.MiscHelpersAltair;
+import tech.pegasys.teku.spec.util.DataStructureUtil;
+
+public class RewardsAndPenaltiesCalculatorAltairTest {
+  // spans several chunks with the last one only partially filled
+  private static final int VALIDATOR_COUNT =
+      RewardsAndPenaltiesCalculatorAltair.PARALLEL_CHUNK_SIZE * 2 + 100;
+
+  private final Spec spec = TestSpecFactory.createMinimalAltair();
+  private final SpecVersion genesisSpec = spec.getGenesisSpec();
+  private final DataStructureUtil dataStructureUtil = new DataStructureUtil(spec);
+
+  @Test
+  void getDeltas_shouldMatchSequentialCalculation() {
+    final RewardsAndPenaltiesCalculatorAltair calculator =
+        createCalculator(createState(UInt64.valueOf(9)));
+
+    assertDeltasEqual(calculator.getDeltas(), calculateSequentially(calculator));
+  }
+
+  @Test
+  void getDeltas_shouldMatchSequentialCalculationDuringInactivityLeak() {
+    // nothing finalized since genesis so participation rewards are not paid
+    final RewardsAndPenaltiesCalculatorAltair calculator =
+        createCalculator(createState(UInt64.ZERO));
+
+    assertDeltasEqual(calculator.getDeltas(), calculateSequentially(calculator));
+  }
+
+  @Test
+  void getDetailedDeltas_shouldMatchAggregatedDeltas() {
+    final RewardsAndPenaltiesCalculatorAltair calculator =
+        createCalculator(createState(UInt64.valueOf(9)));
+
+    assertDeltasEqual(calculator.getDetailedDeltas(), calculator.getDeltas());
+  }
+
+  private RewardAndPenaltyDeltas calculateSequentially(
+      final RewardsAndPenaltiesCalculatorAltair calculator) {
+    final RewardAndPenaltyDeltas deltas = RewardAndPenaltyDeltas.aggregated(VALIDATOR_COUNT);
+    for (int flagIndex = 0; flagIndex < PARTICIPATION_FLAG_WEIGHTS.size(); flagIndex++) {
+      calculator.processFlagIndexDeltas(deltas, flagIndex);
+    }
+    calculator.processInactivityPenaltyDeltas(deltas);
+    return deltas;
+  }
+
+  private void assertDeltasEqual(
+      final RewardAndPenaltyDeltas actual, final RewardAndPenaltyDeltas expected) {
+    int nonZeroDeltas = 0;
+    for (int i = 0; i < VALIDATOR_COUNT; i++) {
+      final RewardAndPenalty actualDelta = actual.getDelta(i);
+      final RewardAndPenalty expectedDelta = expected.getDelta(i);
+      assertThat(actualDelta.getReward())
+          .describedAs("reward %s", i)
+          .isEqualTo(expectedDelta.getReward());
+      assertThat(actualDelta.getPenalty())
+          .describedAs("penalty %s", i)
+          .isEqualTo(expectedDelta.getPenalty());
+      if (!expectedDelta.isZero()) {
+        nonZeroDeltas++;
+      }
+    }
+    assertThat(nonZeroDeltas).isGreaterThan(VALIDATOR_COUNT / 2);
+  }
+
+  private BeaconStateAltair createState(final UInt64 finalizedEpoch) {
+    final BeaconStateSchemaAltair schema =
+        BeaconStateSchemaAltair.required(genesisSpec.getSchemaDefinitions().getBeaconStateSchema());
+    final UInt64 maxEffectiveBalance = genesisSpec.getConfig().getMaxEffectiveBalance();
+    final UInt64 effectiveBalanceIncrement = genesisSpec.getConfig().getEffectiveBalanceIncrement();
+    final BLSPublicKey publicKey = dataStructureUtil.randomPublicKey();
+    return dataStructureUtil
+        .stateBuilderAltair(VALIDATOR_COUNT, 10)
+        .setSlotToStartOfEpoch(UInt64.valueOf(10))
+        .setFinalizedCheckpointToEpoch(finalizedEpoch)
+        .validators(
+            IntStream.range(0, VALIDATOR_COUNT)
+                .mapToObj(
+                    i ->
+                        dataStructureUtil
+                            .validatorBuilder()
+                            .publicKey(publicKey)
+                            .activationEpoch(UInt64.ZERO)
+                            .effectiveBalance(
+                                maxEffectiveBalance.minusMinZero(
+                                    effectiveBalanceIncrement.times(i % 8)))
+                            .slashed(i % 13 == 0)
+                            .build())
+                .collect(schema.getValidatorsSchema().collector()))
+        .inactivityScores(
+            dataStructureUtil.randomSszUInt64List(
+                schema.getInactivityScoresSchema(),
+                VALIDATOR_COUNT,
+                () -> dataStructureUtil.randomUInt64(1000)))
+        .build();
+  }
+
+  private RewardsAndPenaltiesCalculatorAltair createCalculator(final BeaconStateAltair state) {
+    return new RewardsAndPenaltiesCalculatorAltair(
+        SpecConfigAltair.required(genesisSpec.getConfig()),
+        state,
+        genesisSpec.getValidatorStatusFactory().createValidatorStatuses(state),
+        (MiscHelpersAltair) genesisSpec.miscHelpers(),
+        (BeaconStateAccessorsAltair) genesisSpec.beaconStateAccessors());
+  }
+}
@@ -0,0 +1,220 @@
+/*
+ * Copyright Consensys Software Inc., 2025
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.spec.signatures;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static tech.pegasys.teku.infrastructure.async.SafeFutureAssert.assertThatSafeFuture;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.IntStream;
+import org.apache.tuweni.bytes.Bytes32;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import tech.pegasys.teku.bls.BLSPublicKey;
+import tech.pegasys.teku.ethereum.signingrecord.ValidatorSigningRecord;
+import tech.pegasys.teku.infrastructure.async.SafeFuture;
+import tech.pegasys.teku.infrastructure.async.StubAsyncRunner;
+import tech.pegasys.teku.infrastructure.io.SyncDataAccessor;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+import tech.pegasys.teku.spec.TestSpecFactory;
+import tech.pegasys.teku.spec.util.DataStructureUtil;
+
+class JournalingSlashingProtectorTest {
+  private static final Bytes32 GENESIS_VALIDATORS_ROOT = Bytes32.fromHexString("0x561234");
+
+  private final DataStructureUtil dataStructureUtil =
+      new DataStructureUtil(TestSpecFactory.createDefault());
+  private final BLSPublicKey validator = dataStructureUtil.randomPublicKey();
+  private final StubAsyncRunner asyncRunner = new StubAsyncRunner();
+
+  @TempDir Path baseDir;
+  private SyncDataAccessor dataAccessor;
+  private SlashingProtectionJournal journal;
+  private JournalingSlashingProtector slashingProtector;
+
+  @BeforeEach
+  void setUp() throws IOException {
+    dataAccessor = SyncDataAccessor.create(baseDir);
+    journal = SlashingProtectionJournal.open(baseDir);
+    slashingProtector =
+        new JournalingSlashingProtector(dataAccessor, baseDir, journal, asyncRunner);
+  }
+
+  @AfterEach
+  void tearDown() throws IOException {
+    journal.close();
+  }
+
+  @Test
+  void shouldAllowAndRecordNewAttestation() throws Exception {
+    assertThatSafeFuture(maySignAttestation(validator, 3, 4)).isCompletedWithValue(true);
+
+    final ValidatorSigningRecord expectedRecord = signingRecord(null, 3, 4);
+    assertThat(slashingProtector.getSigningRecord(validator)).contains(expectedRecord);
+    final List<ValidatorSigningRecord> journaled = new ArrayList<>();
+    SlashingProtectionJournal.readEntries(
+        baseDir.resolve(SlashingProtectionJournal.JOURNAL_FILE_NAME),
+        (key, record) -> journaled.add(record));
+    assertThat(journaled).containsExactly(expectedRecord);
+    // the journal is the durable store, so the record file isn't written on every signature
+    assertThat(readRecordFile(validator)).isEmpty();
+  }
+
+  @Test
+  void shouldWriteRecordFileWhenRequested() throws Exception {
+    final BLSPublicKey otherValidator = dataStructureUtil.randomPublicKey();
+    assertThatSafeFuture(maySignAttestation(validator, 3, 4)).isCompletedWithValue(true);
+    assertThatSafeFuture(maySignBlock(otherValidator, 7)).isCompletedWithValue(true);
+
+    slashingProtector.writeSigningRecordFile(validator);
+
+    assertThat(readRecordFile(validator)).contains(signingRecord(null, 3, 4));
+    assertThat(readRecordFile(otherValidator)).isEmpty();
+  }
+
+  @Test
+  void shouldRejectSurroundingAttestation() {
+    assertThatSafeFuture(maySignAttestation(validator, 3, 4)).isCompletedWithValue(true);
+    assertThatSafeFuture(maySignAttestation(validator, 2, 5)).isCompletedWithValue(false);
+  }
+
+  @Test
+  void shouldRejectBlockAtSameSlot() {
+    assertThatSafeFuture(maySignBlock(validator, 5)).isCompletedWithValue(true);
+    assertThatSafeFuture(maySignBlock(validator, 5)).isCompletedWithValue(false);
+    assertThatSafeFuture(maySignBlock(validator, 6)).isCompletedWithValue(true);
+  }
+
+  @Test
+  void shouldLoadExistingRecordFile() throws Exception {
+    dataAccessor.syncedWrite(
+        SlashingProtectionJournal.recordPath(baseDir, validator),
+        signingRecord(10, 3, 4).toBytes());
+
+    assertThatSafeFuture(maySignBlock(validator, 10)).isCompletedWithValue(false);
+    assertThatSafeFuture(maySignAttestation(validator, 3, 4)).isCompletedWithValue(false);
+    assertThatSafeFuture(maySignAttestation(validator, 4, 5)).isCompletedWithValue(true);
+  }
+
+  @Test
+  void shouldRecoverRecordsFromJournalWhenRecordFilesWereNotWritten() throws Exception {
+    assertThatSafeFuture(maySignAttestation(validator, 3, 4)).isCompletedWithValue(true);
+    assertThatSafeFuture(maySignAttestation(validator, 4, 5)).isCompletedWithValue(true);
+    // simulate a crash, before any record file was written
+    journal.close();
+
+    SlashingProtectionJournal.recover(dataAccessor, baseDir);
+    final JournalingSlashingProtector restarted =
+        JournalingSlashingProtector.create(dataAccessor, baseDir, asyncRunner);
+
+    assertThat(baseDir.resolve(SlashingProtectionJournal.JOURNAL_FILE_NAME)).isEmptyFile();
+    assertThat(readRecordFile(validator)).contains(signingRecord(null, 4, 5));
+    assertThatSafeFuture(
+            restarted.maySignAttestation(
+                validator, GENESIS_VALIDATORS_ROOT, UInt64.valueOf(4), UInt64.valueOf(5)))
+        .isCompletedWithValue(false);
+  }
+
+  @Test
+  void shouldIgnoreTornEntryAtEndOfJournal() throws Exception {
+    assertThatSafeFuture(maySignAttestation(validator, 3, 4)).isCompletedWithValue(true);
+    journal.close();
+    final Path journalFile = baseDir.resolve(SlashingProtectionJournal.JOURNAL_FILE_NAME);
+    final byte[] entry = Files.readAllBytes(journalFile);
+    // a second copy of the entry which was only partially written before a crash
+    Files.write(journalFile, Arrays.copyOf(entry, entry.length - 3), StandardOpenOption.APPEND);
+
+    final List<BLSPublicKey> recovered = new ArrayList<>();
+    SlashingProtectionJournal.readEntries(journalFile, (key, record) -> recovered.add(key));
+
+    assertThat(recovered).containsExactly(validator);
+  }
+
+  @Test
+  void shouldSyncRecordFilesAndDeleteRotatedJournalWhenCompacting() throws Exception {
+    final BLSPublicKey otherValidator = dataStructureUtil.randomPublicKey();
+    assertThatSafeFuture(maySignAttestation(validator, 3, 4)).isCompletedWithValue(true);
+    assertThatSafeFuture(maySignBlock(otherValidator, 7)).isCompletedWithValue(true);
+    assertThat(journal.size()).isPositive();
+
+    slashingProtector.compact();
+
+    assertThat(journal.size()).isZero();
+    assertThat(baseDir.resolve(SlashingProtectionJournal.ROTATED_JOURNAL_FILE_NAME))
+        .doesNotExist();
+    assertThat(readRecordFile(validator)).contains(signingRecord(null, 3, 4));
+    assertThat(readRecordFile(otherValidator)).contains(signingRecord(7, null, null));
+
+    // signing continues against the new journal
+    assertThatSafeFuture(maySignAttestation(validator, 4, 5)).isCompletedWithValue(true);
+    assertThat(journal.size()).isPositive();
+  }
+
+  @Test
+  void shouldRecordConcurrentUpdatesForManyValidators() throws Exception {
+    final List<BLSPublicKey> validators =
+        IntStream.range(0, 50).mapToObj(__ -> dataStructureUtil.randomPublicKey()).toList();
+
+    final List<SafeFuture<Boolean>> results =
+        validators.parallelStream()
+            .map(key -> maySignAttestation(key, 1, 2))
+            .toList();
+
+    assertThat(results).allSatisfy(result -> assertThat(result).isCompletedWithValue(true));
+    final List<BLSPublicKey> journaled = new ArrayList<>();
+    SlashingProtectionJournal.readEntries(
+        baseDir.resolve(SlashingProtectionJournal.JOURNAL_FILE_NAME),
+        (key, record) -> journaled.add(key));
+    assertThat(journaled).containsExactlyInAnyOrderElementsOf(validators);
+  }
+
+  private SafeFuture<Boolean> maySignAttestation(
+      final BLSPublicKey key, final int sourceEpoch, final int targetEpoch) {
+    return slashingProtector.maySignAttestation(
+        key, GENESIS_VALIDATORS_ROOT, UInt64.valueOf(sourceEpoch), UInt64.valueOf(targetEpoch));
+  }
+
+  private SafeFuture<Boolean> maySignBlock(final BLSPublicKey key, final int slot) {
+    return slashingProtector.maySignBlock(key, GENESIS_VALIDATORS_ROOT, UInt64.valueOf(slot));
+  }
+
+  private static ValidatorSigningRecord signingRecord(
+      final Integer blockSlot, final Integer sourceEpoch, final Integer targetEpoch) {
+    return new ValidatorSigningRecord(
+        Optional.of(GENESIS_VALIDATORS_ROOT),
+        toUInt64(blockSlot),
+        toUInt64(sourceEpoch),
+        toUInt64(targetEpoch));
+  }
+
+  private static UInt64 toUInt64(final Integer value) {
+    return value == null ? null : UInt64.valueOf(value);
+  }
+
+  private Optional<ValidatorSigningRecord> readRecordFile(final BLSPublicKey key)
+      throws IOException {
+    return dataAccessor
+        .read(SlashingProtectionJournal.recordPath(baseDir, key))
+        .map(ValidatorSigningRecord::fromBytes);
+  }
+}
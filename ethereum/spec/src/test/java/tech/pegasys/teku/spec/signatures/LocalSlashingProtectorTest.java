@@ -15,22 +15,34 @@ package tech.pegasys.teku.spec.signatures;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import com.google.common.util.concurrent.Striped;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Lock;
 import org.apache.tuweni.bytes.Bytes;
 import org.apache.tuweni.bytes.Bytes32;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
 import tech.pegasys.teku.bls.BLSPublicKey;
 import tech.pegasys.teku.ethereum.signingrecord.ValidatorSigningRecord;
+import tech.pegasys.teku.infrastructure.async.SafeFuture;
 import tech.pegasys.teku.infrastructure.io.SyncDataAccessor;
 import tech.pegasys.teku.infrastructure.unsigned.UInt64;
 import tech.pegasys.teku.spec.TestSpecFactory;
@@ -51,8 +63,9 @@ class LocalSlashingProtectorTest {
   private final Path signingRecordPath =
       baseDir.resolve(validator.toBytesCompressed().toUnprefixedHexString() + ".yml");
 
+  private final Striped<Lock> validatorLocks = Striped.lock(1024);
   private final LocalSlashingProtector slashingProtectionStorage =
-      new LocalSlashingProtector(dataWriter, baseDir);
+      new LocalSlashingProtector(dataWriter, baseDir, validatorLocks);
 
   @ParameterizedTest(name = "maySignBlock({0})")
   @MethodSource("blockCases")
@@ -73,6 +86,51 @@ class LocalSlashingProtectorTest {
     return slashingProtectionStorage;
   }
 
+  @Test
+  @Timeout(10)
+  void shouldNotBlockOtherValidatorsWhileSigningRecordIsWritten() throws Exception {
+    BLSPublicKey otherValidator = dataStructureUtil.randomPublicKey();
+    // validators sharing a stripe are expected to block each other
+    while (validatorLocks.get(otherValidator) == validatorLocks.get(validator)) {
+      otherValidator = dataStructureUtil.randomPublicKey();
+    }
+    final BLSPublicKey unblockedValidator = otherValidator;
+    final CountDownLatch writeStarted = new CountDownLatch(1);
+    final CountDownLatch releaseWrite = new CountDownLatch(1);
+    when(dataWriter.read(any())).thenReturn(Optional.empty());
+    doAnswer(
+            invocation -> {
+              writeStarted.countDown();
+              releaseWrite.await();
+              return null;
+            })
+        .when(dataWriter)
+        .syncedWrite(eq(signingRecordPath), any());
+
+    final ExecutorService executor = Executors.newFixedThreadPool(2);
+    try {
+      final Future<SafeFuture<Boolean>> blockedSigner =
+          executor.submit(
+              () ->
+                  getSlashingProtector()
+                      .maySignBlock(validator, GENESIS_VALIDATORS_ROOT, UInt64.ONE));
+      assertThat(writeStarted.await(5, TimeUnit.SECONDS)).isTrue();
+
+      // signed on another thread so a regression fails the test rather than hanging it
+      final Future<SafeFuture<Boolean>> otherSigner =
+          executor.submit(
+              () ->
+                  getSlashingProtector()
+                      .maySignBlock(unblockedValidator, GENESIS_VALIDATORS_ROOT, UInt64.ONE));
+      assertThat(otherSigner.get(5, TimeUnit.SECONDS)).isCompletedWithValue(true);
+
+      releaseWrite.countDown();
+      assertThat(blockedSigner.get(5, TimeUnit.SECONDS)).isCompletedWithValue(true);
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
   static List<Arguments> blockCases() {
     return List.of(
         Arguments.of("noExistingRecord", Optional.empty(), UInt64.valueOf(1), true),
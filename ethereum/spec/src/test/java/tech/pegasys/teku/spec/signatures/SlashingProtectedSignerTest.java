@@ -148,4 +148,10 @@ class SlashingProtectedSignerTest {
     signer.delete();
     verify(delegate).delete();
   }
+
+  @Test
+  void delete_shouldWriteSigningRecordFile() throws Exception {
+    signer.delete();
+    verify(slashingProtector).writeSigningRecordFile(publicKey);
+  }
 }
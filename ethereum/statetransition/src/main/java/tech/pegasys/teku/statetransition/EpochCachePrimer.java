@@ -13,8 +13,11 @@
 
 package tech.pegasys.teku.statetransition;
 
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import org.apache.tuweni.bytes.Bytes32;
 import tech.pegasys.teku.infrastructure.async.AsyncRunner;
 import tech.pegasys.teku.infrastructure.unsigned.UInt64;
 import tech.pegasys.teku.spec.Spec;
@@ -23,14 +26,23 @@ import tech.pegasys.teku.spec.datastructures.blocks.SlotAndBlockRoot;
 import tech.pegasys.teku.spec.datastructures.state.Checkpoint;
 import tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconState;
 import tech.pegasys.teku.spec.logic.common.util.BeaconStateUtil;
+import tech.pegasys.teku.storage.api.ChainHeadChannel;
+import tech.pegasys.teku.storage.api.ReorgContext;
 import tech.pegasys.teku.storage.client.RecentChainData;
 
-public class EpochCachePrimer {
+/**
+ * Speculatively processes the epoch transition for the current head before the epoch boundary.
+ * The resulting state is held in the checkpoint state cache so a block in the first slot of the
+ * next epoch which builds on the head doesn't have to process the epoch transition while being
+ * imported.
+ */
+public class EpochCachePrimer implements ChainHeadChannel {
   private static final Logger LOG = LogManager.getLogger();
 
   private final Spec spec;
   private final RecentChainData recentChainData;
   private final AsyncRunner asyncRunner;
+  private final AtomicReference<SlotAndBlockRoot> lastPrimedState = new AtomicReference<>();
 
   public EpochCachePrimer(
       final Spec spec, final RecentChainData recentChainData, final AsyncRunner asyncRunner) {
@@ -48,17 +60,55 @@ public class EpochCachePrimer {
             headBlock ->
                 isWithinOneEpochOfHeadBlock(firstSlot, headBlock)
                     && isAfterHeadBlockEpoch(epoch, headBlock))
+        .ifPresent(headBlock -> primeCacheForBlockAtSlot(headBlock.getRoot(), firstSlot));
+  }
+
+  /**
+   * Repeats the precomputation if the head changes during the last slot of an epoch, for example
+   * because the block for that slot arrived late or a re-org occurred. Otherwise the first block of
+   * the next epoch would have to process the epoch transition on top of the new head itself.
+   */
+  @Override
+  public void chainHeadUpdated(
+      final UInt64 slot,
+      final Bytes32 stateRoot,
+      final Bytes32 bestBlockRoot,
+      final boolean epochTransition,
+      final boolean executionOptimistic,
+      final Bytes32 previousDutyDependentRoot,
+      final Bytes32 currentDutyDependentRoot,
+      final Optional<ReorgContext> optionalReorgContext) {
+    recentChainData
+        .getCurrentSlot()
+        .filter(this::isLastSlotOfEpoch)
+        .map(currentSlot -> currentSlot.plus(1))
+        .filter(
+            firstSlotOfNextEpoch ->
+                slot.isLessThan(firstSlotOfNextEpoch)
+                    && slot.plus(spec.getSlotsPerEpoch(firstSlotOfNextEpoch))
+                        .isGreaterThanOrEqualTo(firstSlotOfNextEpoch))
         .ifPresent(
-            headBlock ->
-                asyncRunner
-                    .runAsync(() -> primeCacheForBlockAtSlot(headBlock, firstSlot))
-                    .ifExceptionGetsHereRaiseABug());
+            firstSlotOfNextEpoch -> primeCacheForBlockAtSlot(bestBlockRoot, firstSlotOfNextEpoch));
+  }
+
+  private boolean isLastSlotOfEpoch(final UInt64 slot) {
+    return spec.computeEpochAtSlot(slot.plus(1)).isGreaterThan(spec.computeEpochAtSlot(slot));
+  }
+
+  private void primeCacheForBlockAtSlot(final Bytes32 blockRoot, final UInt64 firstSlotOfEpoch) {
+    final SlotAndBlockRoot slotAndBlockRoot = new SlotAndBlockRoot(firstSlotOfEpoch, blockRoot);
+    // Both the slot timer and head updates may request the same state
+    if (slotAndBlockRoot.equals(lastPrimedState.getAndSet(slotAndBlockRoot))) {
+      return;
+    }
+    asyncRunner
+        .runAsync(() -> primeCacheForState(slotAndBlockRoot))
+        .ifExceptionGetsHereRaiseABug();
   }
 
-  private void primeCacheForBlockAtSlot(
-      final MinimalBeaconBlockSummary headBlock, final UInt64 firstSlotOfEpoch) {
+  private void primeCacheForState(final SlotAndBlockRoot slotAndBlockRoot) {
     recentChainData
-        .retrieveStateAtSlot(new SlotAndBlockRoot(firstSlotOfEpoch, headBlock.getRoot()))
+        .retrieveStateAtSlot(slotAndBlockRoot)
         .finish(
             maybeState -> maybeState.ifPresent(this::primeEpochStateCaches),
             error -> LOG.warn("Failed to precompute epoch transition", error));
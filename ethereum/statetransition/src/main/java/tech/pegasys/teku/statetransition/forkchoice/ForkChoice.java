@@ -33,6 +33,7 @@ import org.hyperledger.besu.plugin.services.MetricsSystem;
 import org.hyperledger.besu.plugin.services.metrics.Counter;
 import org.hyperledger.besu.plugin.services.metrics.LabelledMetric;
 import tech.pegasys.teku.ethereum.performance.trackers.BlockProductionPerformance;
+import tech.pegasys.teku.infrastructure.async.AsyncRunner;
 import tech.pegasys.teku.infrastructure.async.ExceptionThrowingRunnable;
 import tech.pegasys.teku.infrastructure.async.ExceptionThrowingSupplier;
 import tech.pegasys.teku.infrastructure.async.SafeFuture;
@@ -65,6 +66,7 @@ import tech.pegasys.teku.spec.datastructures.util.AttestationProcessingResult.St
 import tech.pegasys.teku.spec.executionlayer.ExecutionLayerChannel;
 import tech.pegasys.teku.spec.executionlayer.ForkChoiceState;
 import tech.pegasys.teku.spec.executionlayer.PayloadStatus;
+import tech.pegasys.teku.spec.logic.common.block.BlockProcessor;
 import tech.pegasys.teku.spec.logic.common.statetransition.exceptions.StateTransitionException;
 import tech.pegasys.teku.spec.logic.common.statetransition.results.BlockImportResult;
 import tech.pegasys.teku.spec.logic.common.statetransition.results.BlockImportResult.FailureReason;
@@ -110,6 +112,7 @@ public class ForkChoice implements ForkChoiceUpdatedResultSubscriber {
   private final LabelledMetric<Counter> getProposerHeadSelectedCounter;
 
   private final DebugDataDumper debugDataDumper;
+  private final Optional<AsyncRunner> signatureVerificationAsyncRunner;
 
   public ForkChoice(
       final Spec spec,
@@ -123,6 +126,34 @@ public class ForkChoice implements ForkChoiceUpdatedResultSubscriber {
       final boolean forkChoiceLateBlockReorgEnabled,
       final DebugDataDumper debugDataDumper,
       final MetricsSystem metricsSystem) {
+    this(
+        spec,
+        forkChoiceExecutor,
+        recentChainData,
+        blobSidecarManager,
+        forkChoiceNotifier,
+        forkChoiceStateProvider,
+        tickProcessor,
+        transitionBlockValidator,
+        forkChoiceLateBlockReorgEnabled,
+        debugDataDumper,
+        metricsSystem,
+        Optional.empty());
+  }
+
+  public ForkChoice(
+      final Spec spec,
+      final EventThread forkChoiceExecutor,
+      final RecentChainData recentChainData,
+      final BlobSidecarManager blobSidecarManager,
+      final ForkChoiceNotifier forkChoiceNotifier,
+      final ForkChoiceStateProvider forkChoiceStateProvider,
+      final TickProcessor tickProcessor,
+      final MergeTransitionBlockValidator transitionBlockValidator,
+      final boolean forkChoiceLateBlockReorgEnabled,
+      final DebugDataDumper debugDataDumper,
+      final MetricsSystem metricsSystem,
+      final Optional<AsyncRunner> signatureVerificationAsyncRunner) {
     this.spec = spec;
     this.forkChoiceExecutor = forkChoiceExecutor;
     this.blobSidecarManager = blobSidecarManager;
@@ -137,6 +168,7 @@ public class ForkChoice implements ForkChoiceUpdatedResultSubscriber {
     this.lastProcessHeadSlot.set(UInt64.ZERO);
     LOG.debug("forkChoiceLateBlockReorgEnabled is set to {}", forkChoiceLateBlockReorgEnabled);
     this.debugDataDumper = debugDataDumper;
+    this.signatureVerificationAsyncRunner = signatureVerificationAsyncRunner;
     getProposerHeadSelectedCounter =
         metricsSystem.createLabelledCounter(
             TekuMetricCategory.BEACON,
@@ -449,11 +481,18 @@ public class ForkChoice implements ForkChoiceUpdatedResultSubscriber {
 
     blobSidecarsAvailabilityChecker.initiateDataAvailabilityCheck();
 
+    final BlockProcessor blockProcessor = spec.getBlockProcessor(block.getSlot());
     final BeaconState postState;
     try {
       postState =
-          spec.getBlockProcessor(block.getSlot())
-              .processAndValidateBlock(
+          signatureVerificationAsyncRunner.isPresent()
+              ? blockProcessor.processAndValidateBlock(
+                  block,
+                  blockSlotState.get(),
+                  indexedAttestationCache,
+                  Optional.of(payloadExecutor),
+                  signatureVerificationAsyncRunner.get())
+              : blockProcessor.processAndValidateBlock(
                   block,
                   blockSlotState.get(),
                   indexedAttestationCache,
@@ -16,9 +16,9 @@ package tech.pegasys.teku.statetransition.validatorcache;
 import static com.google.common.base.Preconditions.checkArgument;
 
 import com.google.common.annotations.VisibleForTesting;
-import it.unimi.dsi.fastutil.objects.Object2BooleanArrayMap;
+import it.unimi.dsi.fastutil.objects.Object2BooleanLinkedOpenHashMap;
 import it.unimi.dsi.fastutil.objects.Object2BooleanMap;
-import java.util.Arrays;
+import java.util.BitSet;
 import java.util.List;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -31,7 +31,6 @@ import tech.pegasys.teku.spec.datastructures.blocks.SignedBeaconBlock;
 public class ActiveValidatorCache implements ActiveValidatorChannel {
   private final Spec spec;
   private static final Logger LOG = LogManager.getLogger();
-  private static final int VALIDATOR_CACHE_SPARE_CAPACITY = 1000;
   public static final int TRACKED_EPOCHS = 2;
 
   // We will definitely receive events for the current epoch,
@@ -39,70 +38,53 @@ public class ActiveValidatorCache implements ActiveValidatorChannel {
   // so the cache size will actually be the TRACKED_EPOCHS + 1
   private static final int CACHED_EPOCHS = TRACKED_EPOCHS + 1;
 
-  // validatorActiveEpochs is indexed by validator id, contains mod(CACHED_EPOCHS) of epoch values
-  // - basically a rotating list
-  private UInt64[][] validatorActiveEpochs;
+  // liveValidators holds one bitset of validator indices per cached epoch, at offset
+  // mod(CACHED_EPOCHS) of the epoch - basically a rotating list. cachedEpochs records which epoch
+  // each bitset currently holds so it can be cleared when its offset is reused.
+  private final BitSet[] liveValidators = new BitSet[CACHED_EPOCHS];
+  private final UInt64[] cachedEpochs = new UInt64[CACHED_EPOCHS];
 
   public ActiveValidatorCache(final Spec spec, final int initialSize) {
     checkArgument(initialSize >= 0);
-    validatorActiveEpochs = new UInt64[initialSize + VALIDATOR_CACHE_SPARE_CAPACITY][];
+    for (int i = 0; i < CACHED_EPOCHS; i++) {
+      liveValidators[i] = new BitSet(initialSize);
+    }
     this.spec = spec;
   }
 
-  void touch(final UInt64 validatorIndex, final UInt64 epoch) {
+  synchronized void touch(final UInt64 validatorIndex, final UInt64 epoch) {
     LOG.trace("Touch validator {} at epoch {}", validatorIndex, epoch);
 
-    ensureNodeIsInitialized(validatorIndex);
-    final int index = validatorIndex.intValue();
     final int offset = epoch.mod(CACHED_EPOCHS).intValue();
-    if (validatorActiveEpochs[index][offset] == null) {
-      validatorActiveEpochs[index][offset] = epoch;
-    } else {
+    final UInt64 cachedEpoch = cachedEpochs[offset];
+    if (cachedEpoch == null || epoch.isGreaterThan(cachedEpoch)) {
+      liveValidators[offset].clear();
+      cachedEpochs[offset] = epoch;
+    } else if (epoch.isLessThan(cachedEpoch)) {
       // Given the chain only ever goes forward,
       // older epochs are not important in this cache
-      validatorActiveEpochs[index][offset] = validatorActiveEpochs[index][offset].max(epoch);
+      return;
     }
+    liveValidators[offset].set(validatorIndex.intValue());
   }
 
-  boolean isValidatorSeenAtEpoch(final UInt64 validatorIndex, final UInt64 epoch) {
-    if (validatorActiveEpochs.length <= validatorIndex.intValue()) {
-      LOG.trace(
-          "validator index {} exceeds array size {}", validatorIndex, validatorActiveEpochs.length);
-      return false;
-    }
-
-    return validatorActiveEpochs[validatorIndex.intValue()] != null
-        && epoch.equals(
-            validatorActiveEpochs[validatorIndex.intValue()][epoch.mod(CACHED_EPOCHS).intValue()]);
-  }
-
-  int getCacheSize() {
-    return validatorActiveEpochs.length;
+  synchronized boolean isValidatorSeenAtEpoch(final UInt64 validatorIndex, final UInt64 epoch) {
+    final int offset = epoch.mod(CACHED_EPOCHS).intValue();
+    return epoch.equals(cachedEpochs[offset])
+        && liveValidators[offset].get(validatorIndex.intValue());
   }
 
   @VisibleForTesting
-  UInt64[] getValidatorEpochs(final UInt64 validatorIndex) {
-    checkArgument(validatorIndex.intValue() < validatorActiveEpochs.length);
-    return validatorActiveEpochs[validatorIndex.intValue()];
-  }
-
-  private void ensureNodeIsInitialized(final UInt64 validatorIndex) {
-    if (validatorIndex.intValue() >= validatorActiveEpochs.length) {
-      grow(validatorIndex);
-    }
-
-    if (validatorActiveEpochs[validatorIndex.intValue()] == null) {
-      validatorActiveEpochs[validatorIndex.intValue()] = new UInt64[CACHED_EPOCHS];
+  synchronized UInt64[] getValidatorEpochs(final UInt64 validatorIndex) {
+    final UInt64[] epochs = new UInt64[CACHED_EPOCHS];
+    boolean seen = false;
+    for (int offset = 0; offset < CACHED_EPOCHS; offset++) {
+      if (liveValidators[offset].get(validatorIndex.intValue())) {
+        epochs[offset] = cachedEpochs[offset];
+        seen = true;
+      }
     }
-  }
-
-  private void grow(final UInt64 requestedValidatorIndex) {
-    final int newSize = requestedValidatorIndex.intValue() + VALIDATOR_CACHE_SPARE_CAPACITY;
-    LOG.trace(
-        "Growing ActiveValidatorCache from {} to {} elements",
-        validatorActiveEpochs.length,
-        newSize);
-    validatorActiveEpochs = Arrays.copyOf(validatorActiveEpochs, newSize);
+    return seen ? epochs : null;
   }
 
   @Override
@@ -117,18 +99,24 @@ public class ActiveValidatorCache implements ActiveValidatorChannel {
         .ifPresent(
             attestation -> {
               final UInt64 epoch = spec.computeEpochAtSlot(attestation.getData().getSlot());
-              attestation
-                  .getAttestingIndices()
-                  .forEach((validatorIndex) -> touch(validatorIndex.get(), epoch));
+              synchronized (this) {
+                attestation
+                    .getAttestingIndices()
+                    .forEach((validatorIndex) -> touch(validatorIndex.get(), epoch));
+              }
             });
   }
 
   @Override
-  public SafeFuture<Object2BooleanMap<UInt64>> validatorsLiveAtEpoch(
+  public synchronized SafeFuture<Object2BooleanMap<UInt64>> validatorsLiveAtEpoch(
       final List<UInt64> validators, final UInt64 epoch) {
-    final Object2BooleanMap<UInt64> result = new Object2BooleanArrayMap<>();
+    final int offset = epoch.mod(CACHED_EPOCHS).intValue();
+    final BitSet liveAtEpoch =
+        epoch.equals(cachedEpochs[offset]) ? liveValidators[offset] : new BitSet();
+    final Object2BooleanMap<UInt64> result =
+        new Object2BooleanLinkedOpenHashMap<>(validators.size());
     for (UInt64 validator : validators) {
-      result.put(validator, isValidatorSeenAtEpoch(validator, epoch));
+      result.put(validator, liveAtEpoch.get(validator.intValue()));
     }
 
     return SafeFuture.completedFuture(result);
@@ -13,6 +13,7 @@
 
 package tech.pegasys.teku.statetransition;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.Mockito.mock;
@@ -32,6 +33,7 @@ import tech.pegasys.teku.infrastructure.async.StubAsyncRunner;
 import tech.pegasys.teku.infrastructure.unsigned.UInt64;
 import tech.pegasys.teku.spec.Spec;
 import tech.pegasys.teku.spec.TestSpecFactory;
+import tech.pegasys.teku.spec.datastructures.blocks.MinimalBeaconBlockSummary;
 import tech.pegasys.teku.spec.datastructures.blocks.SignedBlockAndState;
 import tech.pegasys.teku.spec.datastructures.blocks.SlotAndBlockRoot;
 import tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconState;
@@ -169,6 +171,53 @@ class EpochCachePrimerTest {
     verify(beaconStateUtil).getEffectiveActiveUnslashedBalances(justifiedState);
   }
 
+  @Test
+  void shouldPrecomputeNextEpochWhenHeadUpdatedInLastSlotOfEpoch() {
+    final UInt64 epoch = UInt64.ONE;
+    storageSystem.chainUpdater().setCurrentSlot(realSpec.computeStartSlotAtEpoch(epoch).minus(1));
+
+    notifyHeadUpdated();
+    asyncRunner.executeQueuedActions();
+
+    final BeaconState state = getStateForEpoch(epoch);
+    forEachSlotInEpoch(epoch, slot -> verify(mockSpec).getBeaconProposerIndex(state, slot));
+  }
+
+  @Test
+  void shouldNotPrecomputeWhenHeadUpdatedBeforeLastSlotOfEpoch() {
+    storageSystem
+        .chainUpdater()
+        .setCurrentSlot(realSpec.computeStartSlotAtEpoch(UInt64.ONE).minus(2));
+
+    notifyHeadUpdated();
+
+    assertThat(asyncRunner.hasDelayedActions()).isFalse();
+  }
+
+  @Test
+  void shouldNotPrecomputeSameStateTwice() {
+    final UInt64 epoch = UInt64.ONE;
+    storageSystem.chainUpdater().setCurrentSlot(realSpec.computeStartSlotAtEpoch(epoch).minus(1));
+
+    primer.primeCacheForEpoch(epoch);
+    notifyHeadUpdated();
+
+    assertThat(asyncRunner.countDelayedActions()).isEqualTo(1);
+  }
+
+  private void notifyHeadUpdated() {
+    final MinimalBeaconBlockSummary head = recentChainData.getHeadBlock().orElseThrow();
+    primer.chainHeadUpdated(
+        head.getSlot(),
+        head.getStateRoot(),
+        head.getRoot(),
+        false,
+        false,
+        Bytes32.ZERO,
+        Bytes32.ZERO,
+        Optional.empty());
+  }
+
   private void forEachSlotInEpoch(final UInt64 epoch, final Consumer<UInt64> action) {
     UInt64.range(
             realSpec.computeStartSlotAtEpoch(epoch),
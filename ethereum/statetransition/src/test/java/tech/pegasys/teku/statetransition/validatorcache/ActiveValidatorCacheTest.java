@@ -47,7 +47,6 @@ public class ActiveValidatorCacheTest {
 
   @Test
   void shouldCreateActiveValidatorCache() {
-    assertThat(cache.getCacheSize()).isEqualTo(10 + 1000);
     // no entry exists yet for this validator
     assertThat(cache.getValidatorEpochs(ZERO)).isNull();
 
@@ -78,17 +77,30 @@ public class ActiveValidatorCacheTest {
   }
 
   @Test
-  void shouldGrowCacheByLargeAmount() {
+  void shouldTrackValidatorsBeyondInitialSize() {
     cache.touch(UInt64.valueOf(100_000), ZERO);
-    assertThat(cache.getCacheSize()).isEqualTo(101_000);
     assertThat(cache.getValidatorEpochs(UInt64.valueOf(100_000))).containsExactly(ZERO, null, null);
+    assertThat(cache.isValidatorSeenAtEpoch(UInt64.valueOf(100_000), ZERO)).isTrue();
   }
 
   @Test
-  void shouldGrowCacheIncrementally() {
-    cache.touch(UInt64.valueOf(1_100), ZERO);
-    assertThat(cache.getCacheSize()).isEqualTo(2_100);
-    assertThat(cache.getValidatorEpochs(UInt64.valueOf(1_100))).containsExactly(ZERO, null, null);
+  void shouldClearValidatorsWhenEpochOffsetIsReused() {
+    cache.touch(ONE, ZERO);
+    cache.touch(TWO, THREE);
+
+    assertThat(cache.isValidatorSeenAtEpoch(ONE, ZERO)).isFalse();
+    assertThat(cache.isValidatorSeenAtEpoch(ONE, THREE)).isFalse();
+    assertThat(cache.isValidatorSeenAtEpoch(TWO, THREE)).isTrue();
+  }
+
+  @Test
+  void shouldIgnoreTouchForEpochOlderThanCached() {
+    cache.touch(ONE, THREE);
+    cache.touch(TWO, ZERO);
+
+    assertThat(cache.isValidatorSeenAtEpoch(TWO, ZERO)).isFalse();
+    assertThat(cache.isValidatorSeenAtEpoch(TWO, THREE)).isFalse();
+    assertThat(cache.isValidatorSeenAtEpoch(ONE, THREE)).isTrue();
   }
 
   @Test
@@ -101,9 +113,8 @@ public class ActiveValidatorCacheTest {
   }
 
   @Test
-  void shouldNotGrowStorageForIsSeenRequest() {
+  void shouldNotReportUnknownValidatorAsSeen() {
     assertThat(cache.isValidatorSeenAtEpoch(UInt64.valueOf(100_000), ZERO)).isFalse();
-    assertThat(cache.getCacheSize()).isEqualTo(1010);
   }
 
   @Test
@@ -151,7 +162,9 @@ public class ActiveValidatorCacheTest {
     cache.touch(TWO, TWO);
     cache.touch(THREE, THREE);
     cache.touch(ONE, THREE);
-    cache.touch(SIX, SIX);
+    // epoch 5 is still within the tracked epochs of epoch 3, see
+    // shouldClearLivenessOfAllValidatorsWhenNewerEpochReusesOffset for epoch 6
+    cache.touch(SIX, FIVE);
 
     final SafeFuture<Object2BooleanMap<UInt64>> future =
         cache.validatorsLiveAtEpoch(List.of(ONE, TWO, THREE, FOUR, FIVE, SIX), THREE);
@@ -167,4 +180,31 @@ public class ActiveValidatorCacheTest {
                 FIVE, Boolean.FALSE,
                 SIX, Boolean.FALSE));
   }
+
+  @Test
+  void shouldClearLivenessOfAllValidatorsWhenNewerEpochReusesOffset()
+      throws ExecutionException, InterruptedException {
+    cache.touch(ONE, ONE);
+    cache.touch(TWO, TWO);
+    cache.touch(THREE, THREE);
+    cache.touch(ONE, THREE);
+    // epoch 6 shares its offset with epoch 3, so any validator seen at epoch 6 drops epoch 3 for
+    // every validator, not only for itself
+    cache.touch(SIX, SIX);
+
+    final SafeFuture<Object2BooleanMap<UInt64>> future =
+        cache.validatorsLiveAtEpoch(List.of(ONE, TWO, THREE, FOUR, FIVE, SIX), THREE);
+    assertThat(future).isCompleted();
+    final Map<UInt64, Boolean> result = future.get();
+    assertThat(result)
+        .isEqualTo(
+            Map.of(
+                ONE, Boolean.FALSE,
+                TWO, Boolean.FALSE,
+                THREE, Boolean.FALSE,
+                FOUR, Boolean.FALSE,
+                FIVE, Boolean.FALSE,
+                SIX, Boolean.FALSE));
+    assertThat(cache.isValidatorSeenAtEpoch(SIX, SIX)).isTrue();
+  }
 }
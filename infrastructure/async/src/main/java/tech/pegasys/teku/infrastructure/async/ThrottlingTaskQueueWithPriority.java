@@ -39,7 +39,7 @@ public class ThrottlingTaskQueueWithPriority extends ThrottlingTaskQueue {
     return taskQueue;
   }
 
-  private ThrottlingTaskQueueWithPriority(final int maximumConcurrentTasks) {
+  protected ThrottlingTaskQueueWithPriority(final int maximumConcurrentTasks) {
     super(maximumConcurrentTasks);
   }
 
@@ -72,13 +72,52 @@ public class KeyStore {
     kdfParam.validate();
     cipher.validate();
 
-    final Crypto crypto = encryptUsingCipherFunction(blsPrivateKey, password, kdfParam, cipher);
+    final Bytes decryptionKey = kdfParam.generateDecryptionKey(password);
+    final Crypto crypto =
+        encryptUsingCipherFunction(blsPrivateKey, decryptionKey, kdfParam, cipher);
+    return new KeyStoreData(crypto, blsPublicKey, path);
+  }
+
+  /**
+   * Encrypt the given BLS12-381 key with a decryption key which was already generated from {@code
+   * kdfParam}. This allows many keys to be sealed with a single run of the key derivation function.
+   *
+   * @param blsPrivateKey BLS12-381 private key in Bytes to encrypt. It is not validated to be a
+   *     valid BLS12-381 key.
+   * @param blsPublicKey BLS12-381 public key in Bytes. It is not validated and stored as it is.
+   * @param decryptionKey The key generated by {@link KdfParam#generateDecryptionKey(String)}
+   * @param path Path as defined in EIP-2334. Can be empty String.
+   * @param kdfParam The parameters {@code decryptionKey} was generated with.
+   * @param cipher cipher function and iv parameter to use.
+   * @return The constructed KeyStore, which can also be decrypted with the original password.
+   */
+  public static KeyStoreData encryptWithDecryptionKey(
+      final Bytes blsPrivateKey,
+      final Bytes blsPublicKey,
+      final Bytes decryptionKey,
+      final String path,
+      final KdfParam kdfParam,
+      final Cipher cipher) {
+    checkNotNull(blsPrivateKey, "PrivateKey cannot be null");
+    checkNotNull(blsPublicKey, "PublicKey cannot be null");
+    checkNotNull(decryptionKey, "DecryptionKey cannot be null");
+    checkNotNull(path, "Path cannot be null");
+    checkNotNull(kdfParam, "KDFParam cannot be null");
+    checkNotNull(cipher, "Cipher cannot be null");
+
+    kdfParam.validate();
+    cipher.validate();
+
+    final Crypto crypto =
+        encryptUsingCipherFunction(blsPrivateKey, decryptionKey, kdfParam, cipher);
     return new KeyStoreData(crypto, blsPublicKey, path);
   }
 
   private static Crypto encryptUsingCipherFunction(
-      final Bytes secret, final String password, final KdfParam kdfParam, final Cipher cipher) {
-    final Bytes decryptionKey = kdfParam.generateDecryptionKey(password);
+      final Bytes secret,
+      final Bytes decryptionKey,
+      final KdfParam kdfParam,
+      final Cipher cipher) {
     final Bytes cipherMessage =
         applyCipherFunction(decryptionKey, cipher, true, secret.toArrayUnsafe());
     final Bytes checksumMessage = calculateSHA256Checksum(decryptionKey, cipherMessage);
@@ -118,6 +157,21 @@ public class KeyStore {
 
     final Bytes decryptionKey =
         keyStoreData.getCrypto().getKdf().getParam().generateDecryptionKey(password);
+    return decryptWithDecryptionKey(decryptionKey, keyStoreData);
+  }
+
+  /**
+   * Decrypts BLS private key from the given KeyStore using a decryption key which was already
+   * generated from the KeyStore's kdf parameters.
+   *
+   * @param decryptionKey The key generated by {@link KdfParam#generateDecryptionKey(String)}
+   * @param keyStoreData The given Key Store
+   * @return decrypted BLS private key in Bytes
+   */
+  public static Bytes decryptWithDecryptionKey(
+      final Bytes decryptionKey, final KeyStoreData keyStoreData) {
+    checkNotNull(decryptionKey, "DecryptionKey cannot be null");
+    checkNotNull(keyStoreData, "KeyStoreData cannot be null");
 
     if (!validateChecksum(decryptionKey, keyStoreData)) {
       throw new KeyStoreValidationException(
@@ -15,6 +15,7 @@ package tech.pegasys.teku.bls.keystore.model;
 
 import static com.google.common.base.Preconditions.checkNotNull;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.google.common.base.MoreObjects;
 import org.apache.tuweni.bytes.Bytes;
@@ -43,6 +44,17 @@ public abstract class KdfParam {
 
   protected abstract Bytes generateDecryptionKey(final Bytes password);
 
+  /**
+   * Estimates the memory needed to generate a decryption key with these parameters. Used to limit
+   * how many keystores are decrypted in parallel.
+   *
+   * @return estimated memory usage in bytes, 0 if the function needs no significant memory
+   */
+  @JsonIgnore
+  public long getEstimatedMemoryUsage() {
+    return 0;
+  }
+
   public void validate() {
     checkNotNull(getSalt(), "salt cannot be null");
     // because the EIP-2335 spec requires dklen >= 32
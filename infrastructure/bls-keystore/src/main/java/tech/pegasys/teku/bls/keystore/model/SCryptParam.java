@@ -105,6 +105,13 @@ public class SCryptParam extends KdfParam {
     return KdfFunction.SCRYPT;
   }
 
+  @Override
+  @JsonIgnore
+  public long getEstimatedMemoryUsage() {
+    // scrypt allocates a 128 * r * n byte scratch array plus 128 * r * p bytes for its blocks
+    return 128L * r * ((long) n + p);
+  }
+
   @Override
   protected Bytes generateDecryptionKey(final Bytes password) {
     checkNotNull(password, "Password cannot be null");
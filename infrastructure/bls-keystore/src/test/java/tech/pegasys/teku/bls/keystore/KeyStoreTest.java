@@ -184,6 +184,44 @@ class KeyStoreTest {
     assertThat(keyStoreData.getUuid()).isNotNull();
   }
 
+  @ParameterizedTest
+  @MethodSource("encryptWithKdfAndCipherArguments")
+  void encryptWithDecryptionKeyMatchesEncryptWithPassword(
+      final KdfParam kdfParam, final Bytes expectedChecksum, final Bytes encryptedCipherMessage) {
+    final Bytes decryptionKey = kdfParam.generateDecryptionKey(PASSWORD);
+    final KeyStoreData keyStoreData =
+        KeyStore.encryptWithDecryptionKey(
+            BLS_PRIVATE_KEY, BLS_PUB_KEY, decryptionKey, "", kdfParam, CIPHER);
+    assertThat(keyStoreData.getCrypto().getChecksum().getMessage()).isEqualTo(expectedChecksum);
+    assertThat(keyStoreData.getCrypto().getCipher().getMessage()).isEqualTo(encryptedCipherMessage);
+
+    assertThat(KeyStore.decryptWithDecryptionKey(decryptionKey, keyStoreData))
+        .isEqualTo(BLS_PRIVATE_KEY);
+    assertThat(KeyStore.decrypt(PASSWORD, keyStoreData)).isEqualTo(BLS_PRIVATE_KEY);
+  }
+
+  @Test
+  void decryptWithDecryptionKeyFailsForIncorrectKey() {
+    final KeyStoreData keyStoreData = loadKeyStoreFromResource(PBKDF2_KEYSTORE_RESOURCE);
+    final Bytes decryptionKey =
+        keyStoreData.getCrypto().getKdf().getParam().generateDecryptionKey("invalidpassword");
+    assertThatExceptionOfType(KeyStoreValidationException.class)
+        .isThrownBy(() -> KeyStore.decryptWithDecryptionKey(decryptionKey, keyStoreData))
+        .withMessage("Failed to decrypt KeyStore, checksum validation failed.");
+  }
+
+  @Test
+  void estimatedMemoryUsageShouldReflectKdfParameters() {
+    assertThat(
+            new SCryptParam(DKLEN, MEMORY_CPU_COST, PARALLELIZATION, BLOCKSIZE, SALT)
+                .getEstimatedMemoryUsage())
+        .isEqualTo(128L * BLOCKSIZE * (MEMORY_CPU_COST + PARALLELIZATION));
+    assertThat(
+            new Pbkdf2Param(DKLEN, ITERATIVE_COUNT, Pbkdf2PseudoRandomFunction.HMAC_SHA256, SALT)
+                .getEstimatedMemoryUsage())
+        .isZero();
+  }
+
   @ParameterizedTest(name = "{0}")
   @MethodSource("resourceLoaderErrorConditions")
   void shouldErrorLoadingFromFile(
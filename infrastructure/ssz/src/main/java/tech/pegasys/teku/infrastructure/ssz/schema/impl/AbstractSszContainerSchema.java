@@ -28,6 +28,7 @@ import java.util.Optional;
 import java.util.Queue;
 import java.util.function.Supplier;
 import java.util.stream.IntStream;
+import org.apache.tuweni.bytes.Bytes;
 import tech.pegasys.teku.infrastructure.json.types.DeserializableTypeDefinition;
 import tech.pegasys.teku.infrastructure.ssz.SszContainer;
 import tech.pegasys.teku.infrastructure.ssz.SszData;
@@ -40,6 +41,7 @@ import tech.pegasys.teku.infrastructure.ssz.sos.SszDeserializeException;
 import tech.pegasys.teku.infrastructure.ssz.sos.SszLengthBounds;
 import tech.pegasys.teku.infrastructure.ssz.sos.SszReader;
 import tech.pegasys.teku.infrastructure.ssz.sos.SszWriter;
+import tech.pegasys.teku.infrastructure.ssz.tree.BranchNode;
 import tech.pegasys.teku.infrastructure.ssz.tree.TreeNode;
 import tech.pegasys.teku.infrastructure.ssz.tree.TreeUtil;
 
@@ -79,6 +81,9 @@ public abstract class AbstractSszContainerSchema<C extends SszContainer>
     return new NamedSchema<>(fieldName, schema);
   }
 
+  /** Smaller fields are cheaper to deserialize straight away than to keep serialized. */
+  static final int LAZY_FIELD_MIN_SSZ_SIZE = 1024;
+
   private final Supplier<SszLengthBounds> sszLengthBounds =
       Suppliers.memoize(this::computeSszLengthBounds);
   private final String containerName;
@@ -236,7 +241,7 @@ public abstract class AbstractSszContainerSchema<C extends SszContainer>
       for (int i = 0; i < getFieldsCount(); i++) {
         SszSchema<?> childType = getChildSchema(i);
         if (!childType.isFixedSize()) {
-          size += childType.getSszSize(node.get(getChildGeneralizedIndex(i)));
+          size += getChildSszSize(childType, node.get(getChildGeneralizedIndex(i)));
         }
       }
       return size;
@@ -256,11 +261,11 @@ public abstract class AbstractSszContainerSchema<C extends SszContainer>
       TreeNode childSubtree = node.get(getChildGeneralizedIndex(i));
       SszSchema<?> childType = getChildSchema(i);
       if (childType.isFixedSize()) {
-        int size = childType.sszSerializeTree(childSubtree, writer);
+        int size = serializeChild(childType, childSubtree, writer);
         assert size == childType.getSszFixedPartSize();
       } else {
         writer.write(SszType.sszLengthToBytes(variableChildOffset));
-        int childSize = childType.getSszSize(childSubtree);
+        int childSize = getChildSszSize(childType, childSubtree);
         variableSizes[i] = childSize;
         variableChildOffset += childSize;
       }
@@ -269,15 +274,50 @@ public abstract class AbstractSszContainerSchema<C extends SszContainer>
       SszSchema<?> childType = getChildSchema(i);
       if (!childType.isFixedSize()) {
         TreeNode childSubtree = node.get(getChildGeneralizedIndex(i));
-        int size = childType.sszSerializeTree(childSubtree, writer);
+        int size = serializeChild(childType, childSubtree, writer);
         assert size == variableSizes[i];
       }
     }
     return variableChildOffset;
   }
 
+  private static int serializeChild(
+      final SszSchema<?> childType, final TreeNode childSubtree, final SszWriter writer) {
+    if (childSubtree instanceof LazySszBranchNode lazyNode) {
+      final Optional<Bytes> ssz = lazyNode.getSsz();
+      if (ssz.isPresent()) {
+        writer.write(ssz.get());
+        return ssz.get().size();
+      }
+    }
+    return childType.sszSerializeTree(childSubtree, writer);
+  }
+
+  private static int getChildSszSize(final SszSchema<?> childType, final TreeNode childSubtree) {
+    if (childSubtree instanceof LazySszBranchNode lazyNode) {
+      final Optional<Bytes> ssz = lazyNode.getSsz();
+      if (ssz.isPresent()) {
+        return ssz.get().size();
+      }
+    }
+    return childType.getSszSize(childSubtree);
+  }
+
   @Override
   public TreeNode sszDeserializeTree(final SszReader reader) {
+    return deserializeTree(reader, false);
+  }
+
+  /**
+   * Deserializes the container keeping large composite fields in their serialized form until they
+   * are first accessed. Only the offsets of the top level fields are validated up front so this
+   * must only be used for trusted input, like values read back from the local database.
+   */
+  public C sszDeserializeLazily(final Bytes ssz) throws SszDeserializeException {
+    return createFromBackingNode(deserializeTree(SszReader.fromBytes(ssz), true));
+  }
+
+  private TreeNode deserializeTree(final SszReader reader, final boolean lazy) {
     int endOffset = reader.getAvailableBytes();
     int childCount = getFieldsCount();
     Queue<TreeNode> fixedChildrenSubtrees = new ArrayDeque<>(childCount);
@@ -285,10 +325,8 @@ public abstract class AbstractSszContainerSchema<C extends SszContainer>
     for (int i = 0; i < childCount; i++) {
       SszSchema<?> childType = getChildSchema(i);
       if (childType.isFixedSize()) {
-        try (SszReader sszReader = reader.slice(childType.getSszFixedPartSize())) {
-          TreeNode childNode = childType.sszDeserializeTree(sszReader);
-          fixedChildrenSubtrees.add(childNode);
-        }
+        fixedChildrenSubtrees.add(
+            deserializeChild(childType, reader, childType.getSszFixedPartSize(), lazy));
       } else {
         int childOffset = SszType.sszBytesToLength(reader.read(SSZ_LENGTH_SIZE));
         variableChildrenOffsets.add(childOffset);
@@ -325,16 +363,27 @@ public abstract class AbstractSszContainerSchema<C extends SszContainer>
       if (childType.isFixedSize()) {
         childrenSubtrees.add(fixedChildrenSubtrees.remove());
       } else {
-        try (SszReader sszReader = reader.slice(variableChildrenSizes.remove())) {
-          TreeNode childNode = childType.sszDeserializeTree(sszReader);
-          childrenSubtrees.add(childNode);
-        }
+        childrenSubtrees.add(
+            deserializeChild(childType, reader, variableChildrenSizes.remove(), lazy));
       }
     }
 
     return TreeUtil.createTree(childrenSubtrees);
   }
 
+  private static TreeNode deserializeChild(
+      final SszSchema<?> childType, final SszReader reader, final int size, final boolean lazy) {
+    if (lazy
+        && size >= LAZY_FIELD_MIN_SSZ_SIZE
+        && childType.getDefaultTree() instanceof BranchNode) {
+      // copy the field so the lazy node doesn't pin the whole serialized state in memory
+      return new LazySszBranchNode(childType, reader.read(size).copy());
+    }
+    try (SszReader sszReader = reader.slice(size)) {
+      return childType.sszDeserializeTree(sszReader);
+    }
+  }
+
   @Override
   public SszLengthBounds getSszLengthBounds() {
     return sszLengthBounds.get();
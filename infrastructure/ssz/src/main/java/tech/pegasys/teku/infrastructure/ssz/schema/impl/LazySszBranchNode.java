@@ -0,0 +1,102 @@
+/*
+ * Copyright Consensys Software Inc., 2025
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.infrastructure.ssz.schema.impl;
+
+import java.util.Optional;
+import org.apache.tuweni.bytes.Bytes;
+import org.apache.tuweni.bytes.Bytes32;
+import org.jetbrains.annotations.NotNull;
+import tech.pegasys.teku.infrastructure.crypto.Sha256;
+import tech.pegasys.teku.infrastructure.ssz.schema.SszSchema;
+import tech.pegasys.teku.infrastructure.ssz.sos.SszReader;
+import tech.pegasys.teku.infrastructure.ssz.tree.BranchNode;
+import tech.pegasys.teku.infrastructure.ssz.tree.TreeNode;
+import tech.pegasys.teku.infrastructure.ssz.tree.TreeUpdates;
+
+/**
+ * Branch node which keeps the SSZ serialization of its subtree and only deserializes it when the
+ * node is first navigated, hashed or updated. Until then the serialized form is written out as is
+ * when the parent container is serialized.
+ *
+ * <p>Errors in the serialized form are only reported once the subtree is materialized so this must
+ * only be used for trusted input.
+ */
+class LazySszBranchNode implements BranchNode {
+  private final SszSchema<?> schema;
+  private volatile Bytes ssz;
+  private volatile BranchNode materialized;
+
+  LazySszBranchNode(final SszSchema<?> schema, final Bytes ssz) {
+    this.schema = schema;
+    this.ssz = ssz;
+  }
+
+  /** Returns the serialized subtree if it hasn't been materialized yet. */
+  Optional<Bytes> getSsz() {
+    return Optional.ofNullable(ssz);
+  }
+
+  private BranchNode materialize() {
+    BranchNode node = materialized;
+    if (node == null) {
+      synchronized (this) {
+        node = materialized;
+        if (node == null) {
+          node = (BranchNode) schema.sszDeserializeTree(SszReader.fromBytes(ssz));
+          materialized = node;
+          ssz = null;
+        }
+      }
+    }
+    return node;
+  }
+
+  @NotNull
+  @Override
+  public TreeNode left() {
+    return materialize().left();
+  }
+
+  @NotNull
+  @Override
+  public TreeNode right() {
+    return materialize().right();
+  }
+
+  @Override
+  public BranchNode rebind(final boolean left, final TreeNode newNode) {
+    return materialize().rebind(left, newNode);
+  }
+
+  @Override
+  public Bytes32 hashTreeRoot() {
+    return materialize().hashTreeRoot();
+  }
+
+  @Override
+  public Bytes32 hashTreeRoot(final Sha256 sha256) {
+    return materialize().hashTreeRoot(sha256);
+  }
+
+  @Override
+  public TreeNode updated(final TreeUpdates newNodes) {
+    return newNodes.isEmpty() ? this : materialize().updated(newNodes);
+  }
+
+  @Override
+  public String toString() {
+    final BranchNode node = materialized;
+    return node != null ? node.toString() : "[LazySsz " + schema + "]";
+  }
+}
@@ -0,0 +1,127 @@
+/*
+ * Copyright Consensys Software Inc., 2025
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.infrastructure.ssz.schema.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Arrays;
+import java.util.List;
+import org.apache.tuweni.bytes.Bytes;
+import org.junit.jupiter.api.Test;
+import tech.pegasys.teku.infrastructure.ssz.RandomSszDataGenerator;
+import tech.pegasys.teku.infrastructure.ssz.SszList;
+import tech.pegasys.teku.infrastructure.ssz.impl.SszContainerImpl;
+import tech.pegasys.teku.infrastructure.ssz.primitive.SszUInt64;
+import tech.pegasys.teku.infrastructure.ssz.schema.SszContainerSchema;
+import tech.pegasys.teku.infrastructure.ssz.schema.SszListSchema;
+import tech.pegasys.teku.infrastructure.ssz.schema.SszPrimitiveSchemas;
+import tech.pegasys.teku.infrastructure.ssz.schema.SszVectorSchema;
+import tech.pegasys.teku.infrastructure.ssz.schema.impl.AbstractSszContainerSchema.NamedSchema;
+import tech.pegasys.teku.infrastructure.ssz.tree.TreeNode;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+
+public class LazySszDeserializationTest {
+
+  private static final int SLOT_FIELD = 0;
+  private static final int LIST_FIELD = 1;
+  private static final int VECTOR_FIELD = 2;
+
+  private final AbstractSszContainerSchema<SszContainerImpl> schema =
+      (AbstractSszContainerSchema<SszContainerImpl>)
+          SszContainerSchema.<SszContainerImpl>create(
+              "LazyContainer",
+              List.of(
+                  NamedSchema.of("slot", SszPrimitiveSchemas.UINT64_SCHEMA),
+                  NamedSchema.of(
+                      "list", SszListSchema.create(SszPrimitiveSchemas.UINT64_SCHEMA, 1024)),
+                  NamedSchema.of(
+                      "vector", SszVectorSchema.create(SszPrimitiveSchemas.BYTES32_SCHEMA, 64))),
+              SszContainerImpl::new);
+
+  private final SszContainerImpl container = new RandomSszDataGenerator().randomData(schema);
+  private final Bytes ssz = container.sszSerialize();
+
+  @Test
+  void shouldMatchEagerlyDeserializedContainer() {
+    final SszContainerImpl lazyContainer = schema.sszDeserializeLazily(ssz);
+
+    assertThat(lazyContainer.hashTreeRoot()).isEqualTo(container.hashTreeRoot());
+    assertThat(lazyContainer).isEqualTo(container);
+    assertThat(lazyContainer.sszSerialize()).isEqualTo(ssz);
+  }
+
+  @Test
+  void shouldOnlyMaterializeFieldsWhenAccessed() {
+    final SszContainerImpl lazyContainer = schema.sszDeserializeLazily(ssz);
+    final LazySszBranchNode listNode = getLazyNode(lazyContainer, LIST_FIELD);
+    final LazySszBranchNode vectorNode = getLazyNode(lazyContainer, VECTOR_FIELD);
+
+    assertThat(lazyContainer.get(SLOT_FIELD)).isEqualTo(container.get(SLOT_FIELD));
+    assertThat(listNode.getSsz()).isPresent();
+    assertThat(vectorNode.getSsz()).isPresent();
+
+    @SuppressWarnings("unchecked")
+    final SszList<SszUInt64> list = (SszList<SszUInt64>) lazyContainer.get(LIST_FIELD);
+    assertThat(list.get(5)).isEqualTo(((SszList<?>) container.get(LIST_FIELD)).get(5));
+    assertThat(listNode.getSsz()).isEmpty();
+    assertThat(vectorNode.getSsz()).isPresent();
+  }
+
+  @Test
+  void shouldWriteUnmaterializedFieldsWithoutDeserializingThem() {
+    final SszContainerImpl lazyContainer = schema.sszDeserializeLazily(ssz);
+
+    assertThat(lazyContainer.sszSerialize()).isEqualTo(ssz);
+    assertThat(getLazyNode(lazyContainer, LIST_FIELD).getSsz()).isPresent();
+    assertThat(getLazyNode(lazyContainer, VECTOR_FIELD).getSsz()).isPresent();
+  }
+
+  @Test
+  void shouldApplyUpdatesToLazilyLoadedContainer() {
+    final SszContainerImpl lazyContainer = schema.sszDeserializeLazily(ssz);
+    final SszUInt64 newSlot = SszUInt64.of(UInt64.valueOf(42));
+
+    final TreeNode updated =
+        lazyContainer
+            .getBackingNode()
+            .updated(schema.getChildGeneralizedIndex(SLOT_FIELD), newSlot.getBackingNode());
+    final TreeNode expected =
+        container
+            .getBackingNode()
+            .updated(schema.getChildGeneralizedIndex(SLOT_FIELD), newSlot.getBackingNode());
+
+    assertThat(schema.createFromBackingNode(updated).sszSerialize())
+        .isEqualTo(schema.createFromBackingNode(expected).sszSerialize());
+    assertThat(updated.hashTreeRoot()).isEqualTo(expected.hashTreeRoot());
+  }
+
+  @Test
+  void shouldNotShareSerializedInputWithLazyFields() {
+    final byte[] input = ssz.toArrayUnsafe().clone();
+    final SszContainerImpl lazyContainer = schema.sszDeserializeLazily(Bytes.wrap(input));
+
+    // lazy fields hold a copy of their own bytes rather than a slice of the whole input
+    Arrays.fill(input, (byte) 0);
+
+    assertThat(lazyContainer).isEqualTo(container);
+    assertThat(lazyContainer.hashTreeRoot()).isEqualTo(container.hashTreeRoot());
+  }
+
+  private LazySszBranchNode getLazyNode(final SszContainerImpl container, final int fieldIndex) {
+    final TreeNode node =
+        container.getBackingNode().get(schema.getChildGeneralizedIndex(fieldIndex));
+    assertThat(node).isInstanceOf(LazySszBranchNode.class);
+    return (LazySszBranchNode) node;
+  }
+}
@@ -40,6 +40,7 @@ import tech.pegasys.teku.networking.eth2.gossip.forks.versions.GossipForkSubscri
 import tech.pegasys.teku.networking.eth2.gossip.forks.versions.GossipForkSubscriptionsDeneb;
 import tech.pegasys.teku.networking.eth2.gossip.forks.versions.GossipForkSubscriptionsElectra;
 import tech.pegasys.teku.networking.eth2.gossip.forks.versions.GossipForkSubscriptionsPhase0;
+import tech.pegasys.teku.networking.eth2.gossip.scheduling.GossipValidationScheduler;
 import tech.pegasys.teku.networking.eth2.gossip.subnets.AttestationSubnetTopicProvider;
 import tech.pegasys.teku.networking.eth2.gossip.subnets.PeerSubnetSubscriptions;
 import tech.pegasys.teku.networking.eth2.gossip.subnets.SyncCommitteeSubnetTopicProvider;
@@ -51,6 +52,7 @@ import tech.pegasys.teku.networking.eth2.peers.Eth2PeerManager;
 import tech.pegasys.teku.networking.eth2.peers.Eth2PeerSelectionStrategy;
 import tech.pegasys.teku.networking.eth2.peers.LibP2PDiscoveryNodeIdExtractor;
 import tech.pegasys.teku.networking.eth2.rpc.beaconchain.methods.StatusMessageFactory;
+import tech.pegasys.teku.networking.eth2.rpc.core.encodings.CompressedPayloadCache;
 import tech.pegasys.teku.networking.eth2.rpc.core.encodings.RpcEncoding;
 import tech.pegasys.teku.networking.p2p.connection.PeerPools;
 import tech.pegasys.teku.networking.p2p.connection.TargetPeerRange;
@@ -144,7 +146,9 @@ public class Eth2P2PNetworkBuilder {
 
     final DiscoveryNodeIdExtractor discoveryNodeIdExtractor = new LibP2PDiscoveryNodeIdExtractor();
     final RpcEncoding rpcEncoding =
-        RpcEncoding.createSszSnappyEncoding(spec.getNetworkingConfig().getMaxPayloadSize());
+        RpcEncoding.createSszSnappyEncoding(
+            spec.getNetworkingConfig().getMaxPayloadSize(),
+            CompressedPayloadCache.create(config.getRpcCompressedPayloadCacheSize(), metricsSystem));
     if (statusMessageFactory == null) {
       statusMessageFactory = new StatusMessageFactory(combinedChainDataClient.getRecentChainData());
     }
@@ -165,6 +169,9 @@ public class Eth2P2PNetworkBuilder {
             config.getPeerBlocksRateLimit(),
             config.getPeerBlobSidecarsRateLimit(),
             config.getPeerRequestLimit(),
+            config.getGlobalBlocksRateLimit(),
+            config.getGlobalBlobSidecarsRateLimit(),
+            config.isServeFinalizedRangesFromSszEnabled(),
             spec,
             kzg,
             discoveryNodeIdExtractor);
@@ -177,7 +184,11 @@ public class Eth2P2PNetworkBuilder {
     // Build core network and inject eth2 handlers
     final DiscoveryNetwork<?> network = buildNetwork(gossipEncoding, syncCommitteeSubnetService);
 
-    final GossipForkManager gossipForkManager = buildGossipForkManager(gossipEncoding, network);
+    final GossipValidationScheduler gossipValidationScheduler =
+        GossipValidationScheduler.create(
+            GossipValidationScheduler.DEFAULT_MAX_CONCURRENT_TASKS, metricsSystem, timeProvider);
+    final GossipForkManager gossipForkManager =
+        buildGossipForkManager(gossipEncoding, network, gossipValidationScheduler);
 
     return new ActiveEth2P2PNetwork(
         config.getSpec(),
@@ -196,7 +207,9 @@ public class Eth2P2PNetworkBuilder {
   }
 
   private GossipForkManager buildGossipForkManager(
-      final GossipEncoding gossipEncoding, final DiscoveryNetwork<?> network) {
+      final GossipEncoding gossipEncoding,
+      final DiscoveryNetwork<?> network,
+      final GossipValidationScheduler gossipValidationScheduler) {
     final GossipForkManager.Builder gossipForkManagerBuilder =
         GossipForkManager.builder()
             .spec(spec)
@@ -204,7 +217,8 @@ public class Eth2P2PNetworkBuilder {
     spec.getEnabledMilestones().stream()
         .map(
             forkAndSpecMilestone ->
-                createSubscriptions(forkAndSpecMilestone, network, gossipEncoding))
+                createSubscriptions(
+                    forkAndSpecMilestone, network, gossipEncoding, gossipValidationScheduler))
         .forEach(gossipForkManagerBuilder::fork);
     return gossipForkManagerBuilder.build();
   }
@@ -212,13 +226,15 @@ public class Eth2P2PNetworkBuilder {
   private GossipForkSubscriptions createSubscriptions(
       final ForkAndSpecMilestone forkAndSpecMilestone,
       final DiscoveryNetwork<?> network,
-      final GossipEncoding gossipEncoding) {
+      final GossipEncoding gossipEncoding,
+      final GossipValidationScheduler gossipValidationScheduler) {
     return switch (forkAndSpecMilestone.getSpecMilestone()) {
       case PHASE0 ->
           new GossipForkSubscriptionsPhase0(
               forkAndSpecMilestone.getFork(),
               spec,
               asyncRunner,
+              gossipValidationScheduler,
               metricsSystem,
               network,
               combinedChainDataClient.getRecentChainData(),
@@ -235,6 +251,7 @@ public class Eth2P2PNetworkBuilder {
               forkAndSpecMilestone.getFork(),
               spec,
               asyncRunner,
+              gossipValidationScheduler,
               metricsSystem,
               network,
               combinedChainDataClient.getRecentChainData(),
@@ -253,6 +270,7 @@ public class Eth2P2PNetworkBuilder {
               forkAndSpecMilestone.getFork(),
               spec,
               asyncRunner,
+              gossipValidationScheduler,
               metricsSystem,
               network,
               combinedChainDataClient.getRecentChainData(),
@@ -271,6 +289,7 @@ public class Eth2P2PNetworkBuilder {
               forkAndSpecMilestone.getFork(),
               spec,
               asyncRunner,
+              gossipValidationScheduler,
               metricsSystem,
               network,
               combinedChainDataClient.getRecentChainData(),
@@ -290,6 +309,7 @@ public class Eth2P2PNetworkBuilder {
               forkAndSpecMilestone.getFork(),
               spec,
               asyncRunner,
+              gossipValidationScheduler,
               metricsSystem,
               network,
               combinedChainDataClient.getRecentChainData(),
@@ -310,6 +330,7 @@ public class Eth2P2PNetworkBuilder {
               forkAndSpecMilestone.getFork(),
               spec,
               asyncRunner,
+              gossipValidationScheduler,
               metricsSystem,
               network,
               combinedChainDataClient.getRecentChainData(),
@@ -37,6 +37,12 @@ public class P2PConfig {
 
   public static final int DEFAULT_PEER_REQUEST_LIMIT = 100;
 
+  // 0 disables the limit across all peers, each peer is still limited individually
+  public static final int DEFAULT_GLOBAL_BLOCKS_RATE_LIMIT = 0;
+  public static final int DEFAULT_GLOBAL_BLOB_SIDECARS_RATE_LIMIT = 0;
+  public static final boolean DEFAULT_SERVE_FINALIZED_RANGES_FROM_SSZ_ENABLED = false;
+  public static final int DEFAULT_RPC_COMPRESSED_PAYLOAD_CACHE_SIZE = 64 * 1024 * 1024;
+
   public static final boolean DEFAULT_PEER_ALL_TOPIC_FILTER_ENABLED = true;
   public static final int DEFAULT_P2P_TARGET_SUBNET_SUBSCRIBER_COUNT = 2;
   public static final boolean DEFAULT_SUBSCRIBE_ALL_SUBNETS_ENABLED = false;
@@ -60,6 +66,10 @@ public class P2PConfig {
   private final int peerBlocksRateLimit;
   private final int peerBlobSidecarsRateLimit;
   private final int peerRequestLimit;
+  private final int globalBlocksRateLimit;
+  private final int globalBlobSidecarsRateLimit;
+  private final boolean serveFinalizedRangesFromSszEnabled;
+  private final int rpcCompressedPayloadCacheSize;
   private final int batchVerifyMaxThreads;
   private final int batchVerifyQueueCapacity;
   private final int batchVerifyMaxBatchSize;
@@ -78,6 +88,10 @@ public class P2PConfig {
       final int peerBlocksRateLimit,
       final int peerBlobSidecarsRateLimit,
       final int peerRequestLimit,
+      final int globalBlocksRateLimit,
+      final int globalBlobSidecarsRateLimit,
+      final boolean serveFinalizedRangesFromSszEnabled,
+      final int rpcCompressedPayloadCacheSize,
       final int batchVerifyMaxThreads,
       final int batchVerifyQueueCapacity,
       final int batchVerifyMaxBatchSize,
@@ -94,6 +108,10 @@ public class P2PConfig {
     this.peerBlocksRateLimit = peerBlocksRateLimit;
     this.peerBlobSidecarsRateLimit = peerBlobSidecarsRateLimit;
     this.peerRequestLimit = peerRequestLimit;
+    this.globalBlocksRateLimit = globalBlocksRateLimit;
+    this.globalBlobSidecarsRateLimit = globalBlobSidecarsRateLimit;
+    this.serveFinalizedRangesFromSszEnabled = serveFinalizedRangesFromSszEnabled;
+    this.rpcCompressedPayloadCacheSize = rpcCompressedPayloadCacheSize;
     this.batchVerifyMaxThreads = batchVerifyMaxThreads;
     this.batchVerifyQueueCapacity = batchVerifyQueueCapacity;
     this.batchVerifyMaxBatchSize = batchVerifyMaxBatchSize;
@@ -147,6 +165,22 @@ public class P2PConfig {
     return peerRequestLimit;
   }
 
+  public int getGlobalBlocksRateLimit() {
+    return globalBlocksRateLimit;
+  }
+
+  public int getGlobalBlobSidecarsRateLimit() {
+    return globalBlobSidecarsRateLimit;
+  }
+
+  public boolean isServeFinalizedRangesFromSszEnabled() {
+    return serveFinalizedRangesFromSszEnabled;
+  }
+
+  public int getRpcCompressedPayloadCacheSize() {
+    return rpcCompressedPayloadCacheSize;
+  }
+
   public int getBatchVerifyMaxThreads() {
     return batchVerifyMaxThreads;
   }
@@ -187,6 +221,11 @@ public class P2PConfig {
     private Integer peerBlocksRateLimit = DEFAULT_PEER_BLOCKS_RATE_LIMIT;
     private Integer peerBlobSidecarsRateLimit = DEFAULT_PEER_BLOB_SIDECARS_RATE_LIMIT;
     private Integer peerRequestLimit = DEFAULT_PEER_REQUEST_LIMIT;
+    private Integer globalBlocksRateLimit = DEFAULT_GLOBAL_BLOCKS_RATE_LIMIT;
+    private Integer globalBlobSidecarsRateLimit = DEFAULT_GLOBAL_BLOB_SIDECARS_RATE_LIMIT;
+    private boolean serveFinalizedRangesFromSszEnabled =
+        DEFAULT_SERVE_FINALIZED_RANGES_FROM_SSZ_ENABLED;
+    private int rpcCompressedPayloadCacheSize = DEFAULT_RPC_COMPRESSED_PAYLOAD_CACHE_SIZE;
     private int batchVerifyMaxThreads = DEFAULT_BATCH_VERIFY_MAX_THREADS;
     private OptionalInt batchVerifyQueueCapacity = OptionalInt.empty();
     private int batchVerifyMaxBatchSize = DEFAULT_BATCH_VERIFY_MAX_BATCH_SIZE;
@@ -239,6 +278,10 @@ public class P2PConfig {
           peerBlocksRateLimit,
           peerBlobSidecarsRateLimit,
           peerRequestLimit,
+          globalBlocksRateLimit,
+          globalBlobSidecarsRateLimit,
+          serveFinalizedRangesFromSszEnabled,
+          rpcCompressedPayloadCacheSize,
           batchVerifyMaxThreads,
           batchVerifyQueueCapacity.orElse(DEFAULT_BATCH_VERIFY_QUEUE_CAPACITY),
           batchVerifyMaxBatchSize,
@@ -319,6 +362,42 @@ public class P2PConfig {
       return this;
     }
 
+    public Builder globalBlocksRateLimit(final Integer globalBlocksRateLimit) {
+      checkNotNull(globalBlocksRateLimit);
+      if (globalBlocksRateLimit < 0) {
+        throw new InvalidConfigurationException(
+            String.format("Invalid globalBlocksRateLimit: %d", globalBlocksRateLimit));
+      }
+      this.globalBlocksRateLimit = globalBlocksRateLimit;
+      return this;
+    }
+
+    public Builder globalBlobSidecarsRateLimit(final Integer globalBlobSidecarsRateLimit) {
+      checkNotNull(globalBlobSidecarsRateLimit);
+      if (globalBlobSidecarsRateLimit < 0) {
+        throw new InvalidConfigurationException(
+            String.format("Invalid globalBlobSidecarsRateLimit: %d", globalBlobSidecarsRateLimit));
+      }
+      this.globalBlobSidecarsRateLimit = globalBlobSidecarsRateLimit;
+      return this;
+    }
+
+    public Builder serveFinalizedRangesFromSszEnabled(
+        final boolean serveFinalizedRangesFromSszEnabled) {
+      this.serveFinalizedRangesFromSszEnabled = serveFinalizedRangesFromSszEnabled;
+      return this;
+    }
+
+    public Builder rpcCompressedPayloadCacheSize(final int rpcCompressedPayloadCacheSize) {
+      if (rpcCompressedPayloadCacheSize < 0) {
+        throw new InvalidConfigurationException(
+            String.format(
+                "Invalid rpcCompressedPayloadCacheSize: %d", rpcCompressedPayloadCacheSize));
+      }
+      this.rpcCompressedPayloadCacheSize = rpcCompressedPayloadCacheSize;
+      return this;
+    }
+
     public Builder floodPublishMaxMessageSizeThreshold(
         final int floodPublishMaxMessageSizeThreshold) {
       this.floodPublishMaxMessageSizeThreshold = floodPublishMaxMessageSizeThreshold;
@@ -18,6 +18,8 @@ import tech.pegasys.teku.infrastructure.async.AsyncRunner;
 import tech.pegasys.teku.networking.eth2.gossip.SignedContributionAndProofGossipManager;
 import tech.pegasys.teku.networking.eth2.gossip.SyncCommitteeMessageGossipManager;
 import tech.pegasys.teku.networking.eth2.gossip.encoding.GossipEncoding;
+import tech.pegasys.teku.networking.eth2.gossip.scheduling.GossipTopicClass;
+import tech.pegasys.teku.networking.eth2.gossip.scheduling.GossipValidationScheduler;
 import tech.pegasys.teku.networking.eth2.gossip.subnets.SyncCommitteeSubnetSubscriptions;
 import tech.pegasys.teku.networking.eth2.gossip.topics.OperationProcessor;
 import tech.pegasys.teku.networking.p2p.discovery.DiscoveryNetwork;
@@ -50,6 +52,7 @@ public class GossipForkSubscriptionsAltair extends GossipForkSubscriptionsPhase0
       final Fork fork,
       final Spec spec,
       final AsyncRunner asyncRunner,
+      final GossipValidationScheduler gossipValidationScheduler,
       final MetricsSystem metricsSystem,
       final DiscoveryNetwork<?> discoveryNetwork,
       final RecentChainData recentChainData,
@@ -69,6 +72,7 @@ public class GossipForkSubscriptionsAltair extends GossipForkSubscriptionsPhase0
         fork,
         spec,
         asyncRunner,
+        gossipValidationScheduler,
         metricsSystem,
         discoveryNetwork,
         recentChainData,
@@ -93,7 +97,7 @@ public class GossipForkSubscriptionsAltair extends GossipForkSubscriptionsPhase0
         new SignedContributionAndProofGossipManager(
             recentChainData,
             schemaDefinitions,
-            asyncRunner,
+            getAsyncRunner(GossipTopicClass.SYNC_COMMITTEE_CONTRIBUTION),
             discoveryNetwork,
             gossipEncoding,
             forkInfo,
@@ -113,7 +117,7 @@ public class GossipForkSubscriptionsAltair extends GossipForkSubscriptionsPhase0
             discoveryNetwork,
             gossipEncoding,
             schemaDefinitions,
-            asyncRunner,
+            getAsyncRunner(GossipTopicClass.SYNC_COMMITTEE_MESSAGE),
             syncCommitteeMessageOperationProcessor,
             forkInfo,
             debugDataDumper);
@@ -16,6 +16,7 @@ package tech.pegasys.teku.networking.eth2.gossip.forks.versions;
 import org.hyperledger.besu.plugin.services.MetricsSystem;
 import tech.pegasys.teku.infrastructure.async.AsyncRunner;
 import tech.pegasys.teku.networking.eth2.gossip.encoding.GossipEncoding;
+import tech.pegasys.teku.networking.eth2.gossip.scheduling.GossipValidationScheduler;
 import tech.pegasys.teku.networking.eth2.gossip.topics.OperationProcessor;
 import tech.pegasys.teku.networking.p2p.discovery.DiscoveryNetwork;
 import tech.pegasys.teku.spec.Spec;
@@ -36,6 +37,7 @@ public class GossipForkSubscriptionsBellatrix extends GossipForkSubscriptionsAlt
       final Fork fork,
       final Spec spec,
       final AsyncRunner asyncRunner,
+      final GossipValidationScheduler gossipValidationScheduler,
       final MetricsSystem metricsSystem,
       final DiscoveryNetwork<?> discoveryNetwork,
       final RecentChainData recentChainData,
@@ -55,6 +57,7 @@ public class GossipForkSubscriptionsBellatrix extends GossipForkSubscriptionsAlt
         fork,
         spec,
         asyncRunner,
+        gossipValidationScheduler,
         metricsSystem,
         discoveryNetwork,
         recentChainData,
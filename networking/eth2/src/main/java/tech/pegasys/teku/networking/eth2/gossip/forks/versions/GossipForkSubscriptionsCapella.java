@@ -19,6 +19,8 @@ import org.hyperledger.besu.plugin.services.MetricsSystem;
 import tech.pegasys.teku.infrastructure.async.AsyncRunner;
 import tech.pegasys.teku.networking.eth2.gossip.SignedBlsToExecutionChangeGossipManager;
 import tech.pegasys.teku.networking.eth2.gossip.encoding.GossipEncoding;
+import tech.pegasys.teku.networking.eth2.gossip.scheduling.GossipTopicClass;
+import tech.pegasys.teku.networking.eth2.gossip.scheduling.GossipValidationScheduler;
 import tech.pegasys.teku.networking.eth2.gossip.topics.OperationProcessor;
 import tech.pegasys.teku.networking.p2p.discovery.DiscoveryNetwork;
 import tech.pegasys.teku.spec.Spec;
@@ -47,6 +49,7 @@ public class GossipForkSubscriptionsCapella extends GossipForkSubscriptionsBella
       final Fork fork,
       final Spec spec,
       final AsyncRunner asyncRunner,
+      final GossipValidationScheduler gossipValidationScheduler,
       final MetricsSystem metricsSystem,
       final DiscoveryNetwork<?> discoveryNetwork,
       final RecentChainData recentChainData,
@@ -68,6 +71,7 @@ public class GossipForkSubscriptionsCapella extends GossipForkSubscriptionsBella
         fork,
         spec,
         asyncRunner,
+        gossipValidationScheduler,
         metricsSystem,
         discoveryNetwork,
         recentChainData,
@@ -95,7 +99,7 @@ public class GossipForkSubscriptionsCapella extends GossipForkSubscriptionsBella
         new SignedBlsToExecutionChangeGossipManager(
             recentChainData,
             schemaDefinitions,
-            asyncRunner,
+            getAsyncRunner(GossipTopicClass.OPERATION),
             discoveryNetwork,
             gossipEncoding,
             forkInfo,
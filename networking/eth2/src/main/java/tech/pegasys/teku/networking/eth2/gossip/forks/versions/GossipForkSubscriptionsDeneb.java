@@ -18,6 +18,8 @@ import tech.pegasys.teku.infrastructure.async.AsyncRunner;
 import tech.pegasys.teku.infrastructure.async.SafeFuture;
 import tech.pegasys.teku.networking.eth2.gossip.BlobSidecarGossipManager;
 import tech.pegasys.teku.networking.eth2.gossip.encoding.GossipEncoding;
+import tech.pegasys.teku.networking.eth2.gossip.scheduling.GossipTopicClass;
+import tech.pegasys.teku.networking.eth2.gossip.scheduling.GossipValidationScheduler;
 import tech.pegasys.teku.networking.eth2.gossip.topics.OperationProcessor;
 import tech.pegasys.teku.networking.p2p.discovery.DiscoveryNetwork;
 import tech.pegasys.teku.spec.Spec;
@@ -45,6 +47,7 @@ public class GossipForkSubscriptionsDeneb extends GossipForkSubscriptionsCapella
       final Fork fork,
       final Spec spec,
       final AsyncRunner asyncRunner,
+      final GossipValidationScheduler gossipValidationScheduler,
       final MetricsSystem metricsSystem,
       final DiscoveryNetwork<?> discoveryNetwork,
       final RecentChainData recentChainData,
@@ -67,6 +70,7 @@ public class GossipForkSubscriptionsDeneb extends GossipForkSubscriptionsCapella
         fork,
         spec,
         asyncRunner,
+        gossipValidationScheduler,
         metricsSystem,
         discoveryNetwork,
         recentChainData,
@@ -95,7 +99,7 @@ public class GossipForkSubscriptionsDeneb extends GossipForkSubscriptionsCapella
         BlobSidecarGossipManager.create(
             recentChainData,
             spec,
-            asyncRunner,
+            getAsyncRunner(GossipTopicClass.BLOB_SIDECAR),
             discoveryNetwork,
             gossipEncoding,
             forkInfo,
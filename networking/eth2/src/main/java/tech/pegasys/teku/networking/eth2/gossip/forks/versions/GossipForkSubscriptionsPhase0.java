@@ -29,6 +29,8 @@ import tech.pegasys.teku.networking.eth2.gossip.ProposerSlashingGossipManager;
 import tech.pegasys.teku.networking.eth2.gossip.VoluntaryExitGossipManager;
 import tech.pegasys.teku.networking.eth2.gossip.encoding.GossipEncoding;
 import tech.pegasys.teku.networking.eth2.gossip.forks.GossipForkSubscriptions;
+import tech.pegasys.teku.networking.eth2.gossip.scheduling.GossipTopicClass;
+import tech.pegasys.teku.networking.eth2.gossip.scheduling.GossipValidationScheduler;
 import tech.pegasys.teku.networking.eth2.gossip.subnets.AttestationSubnetSubscriptions;
 import tech.pegasys.teku.networking.eth2.gossip.topics.OperationProcessor;
 import tech.pegasys.teku.networking.p2p.discovery.DiscoveryNetwork;
@@ -48,6 +50,7 @@ public class GossipForkSubscriptionsPhase0 implements GossipForkSubscriptions {
   private final Fork fork;
   protected final Spec spec;
   protected final AsyncRunner asyncRunner;
+  protected final GossipValidationScheduler gossipValidationScheduler;
   protected final MetricsSystem metricsSystem;
   protected final DiscoveryNetwork<?> discoveryNetwork;
   protected final RecentChainData recentChainData;
@@ -73,6 +76,7 @@ public class GossipForkSubscriptionsPhase0 implements GossipForkSubscriptions {
       final Fork fork,
       final Spec spec,
       final AsyncRunner asyncRunner,
+      final GossipValidationScheduler gossipValidationScheduler,
       final MetricsSystem metricsSystem,
       final DiscoveryNetwork<?> discoveryNetwork,
       final RecentChainData recentChainData,
@@ -87,6 +91,7 @@ public class GossipForkSubscriptionsPhase0 implements GossipForkSubscriptions {
     this.fork = fork;
     this.spec = spec;
     this.asyncRunner = asyncRunner;
+    this.gossipValidationScheduler = gossipValidationScheduler;
     this.metricsSystem = metricsSystem;
     this.discoveryNetwork = discoveryNetwork;
     this.recentChainData = recentChainData;
@@ -121,7 +126,7 @@ public class GossipForkSubscriptionsPhase0 implements GossipForkSubscriptions {
     AttestationSubnetSubscriptions attestationSubnetSubscriptions =
         new AttestationSubnetSubscriptions(
             spec,
-            asyncRunner,
+            getAsyncRunner(GossipTopicClass.ATTESTATION),
             discoveryNetwork,
             gossipEncoding,
             recentChainData,
@@ -139,7 +144,7 @@ public class GossipForkSubscriptionsPhase0 implements GossipForkSubscriptions {
         new BlockGossipManager(
             recentChainData,
             spec,
-            asyncRunner,
+            getAsyncRunner(GossipTopicClass.BEACON_BLOCK),
             discoveryNetwork,
             gossipEncoding,
             forkInfo,
@@ -153,7 +158,7 @@ public class GossipForkSubscriptionsPhase0 implements GossipForkSubscriptions {
         new AggregateGossipManager(
             spec,
             recentChainData,
-            asyncRunner,
+            getAsyncRunner(GossipTopicClass.AGGREGATE),
             discoveryNetwork,
             gossipEncoding,
             forkInfo,
@@ -166,7 +171,7 @@ public class GossipForkSubscriptionsPhase0 implements GossipForkSubscriptions {
     voluntaryExitGossipManager =
         new VoluntaryExitGossipManager(
             recentChainData,
-            asyncRunner,
+            getAsyncRunner(GossipTopicClass.OPERATION),
             discoveryNetwork,
             gossipEncoding,
             forkInfo,
@@ -180,7 +185,7 @@ public class GossipForkSubscriptionsPhase0 implements GossipForkSubscriptions {
     proposerSlashingGossipManager =
         new ProposerSlashingGossipManager(
             recentChainData,
-            asyncRunner,
+            getAsyncRunner(GossipTopicClass.OPERATION),
             discoveryNetwork,
             gossipEncoding,
             forkInfo,
@@ -195,7 +200,7 @@ public class GossipForkSubscriptionsPhase0 implements GossipForkSubscriptions {
         new AttesterSlashingGossipManager(
             spec,
             recentChainData,
-            asyncRunner,
+            getAsyncRunner(GossipTopicClass.OPERATION),
             discoveryNetwork,
             gossipEncoding,
             forkInfo,
@@ -204,6 +209,10 @@ public class GossipForkSubscriptionsPhase0 implements GossipForkSubscriptions {
     addGossipManager(attesterSlashingGossipManager);
   }
 
+  protected AsyncRunner getAsyncRunner(final GossipTopicClass topicClass) {
+    return gossipValidationScheduler.createAsyncRunner(topicClass, asyncRunner);
+  }
+
   protected void addGossipManagers(final ForkInfo forkInfo) {
     addAttestationGossipManager(forkInfo);
     addBlockGossipManager(forkInfo);
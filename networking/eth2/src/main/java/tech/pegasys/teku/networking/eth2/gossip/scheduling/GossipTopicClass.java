@@ -0,0 +1,72 @@
+/*
+ * Copyright Consensys Software Inc., 2025
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.networking.eth2.gossip.scheduling;
+
+import java.time.Duration;
+import java.util.Locale;
+
+/**
+ * Groups gossip topics which share a validation queue in {@link GossipValidationScheduler}. All
+ * attestation subnets share a single class so that a flood on one subnet is shed in the same way
+ * as a flood across many of them.
+ */
+public enum GossipTopicClass {
+  BEACON_BLOCK(true, 1, 512, Duration.ofSeconds(12)),
+  BLOB_SIDECAR(true, 1, 2048, Duration.ofSeconds(12)),
+  AGGREGATE(false, 4, 8192, Duration.ofSeconds(6)),
+  ATTESTATION(false, 2, 32768, Duration.ofSeconds(6)),
+  SYNC_COMMITTEE_CONTRIBUTION(false, 2, 2048, Duration.ofSeconds(4)),
+  SYNC_COMMITTEE_MESSAGE(false, 2, 8192, Duration.ofSeconds(4)),
+  OPERATION(false, 1, 1024, Duration.ofSeconds(12));
+
+  private final boolean prioritized;
+  private final int weight;
+  private final int maxQueueSize;
+  private final Duration deadline;
+
+  GossipTopicClass(
+      final boolean prioritized,
+      final int weight,
+      final int maxQueueSize,
+      final Duration deadline) {
+    this.prioritized = prioritized;
+    this.weight = weight;
+    this.maxQueueSize = maxQueueSize;
+    this.deadline = deadline;
+  }
+
+  /** Prioritized classes are always served before any non-prioritized class. */
+  public boolean isPrioritized() {
+    return prioritized;
+  }
+
+  /** Relative share of validation slots given to this class within its priority tier. */
+  public int getWeight() {
+    return weight;
+  }
+
+  public int getMaxQueueSize() {
+    return maxQueueSize;
+  }
+
+  /** Maximum time a message may wait in the queue before it is dropped without validation. */
+  public Duration getDeadline() {
+    return deadline;
+  }
+
+  @Override
+  public String toString() {
+    return name().toLowerCase(Locale.US);
+  }
+}
@@ -0,0 +1,254 @@
+/*
+ * Copyright Consensys Software Inc., 2025
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.networking.eth2.gossip.scheduling;
+
+import com.google.common.annotations.VisibleForTesting;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Supplier;
+import org.hyperledger.besu.plugin.services.MetricsSystem;
+import org.hyperledger.besu.plugin.services.metrics.Counter;
+import org.hyperledger.besu.plugin.services.metrics.LabelledMetric;
+import org.hyperledger.besu.plugin.services.metrics.LabelledSuppliedMetric;
+import tech.pegasys.teku.infrastructure.async.AsyncRunner;
+import tech.pegasys.teku.infrastructure.async.ExceptionThrowingFutureSupplier;
+import tech.pegasys.teku.infrastructure.async.SafeFuture;
+import tech.pegasys.teku.infrastructure.async.ThrottlingTaskQueueWithPriority;
+import tech.pegasys.teku.infrastructure.metrics.TekuMetricCategory;
+import tech.pegasys.teku.infrastructure.time.TimeProvider;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+
+/**
+ * Schedules gossip validation work across topics. Each {@link GossipTopicClass} gets its own
+ * bounded queue. Prioritized classes (blocks and blob sidecars) are always served first, the
+ * remaining classes share validation slots using smooth weighted round-robin. Messages which wait
+ * longer than their class deadline are dropped without being validated.
+ *
+ * <p>Dropped messages fail with {@link RejectedExecutionException} so they are ignored by the
+ * topic handler in the same way as when the executor queue is full.
+ */
+public class GossipValidationScheduler extends ThrottlingTaskQueueWithPriority {
+
+  public static final int DEFAULT_MAX_CONCURRENT_TASKS = 10;
+
+  static final String QUEUE_FULL_REASON = "queue_full";
+  static final String DEADLINE_EXCEEDED_REASON = "deadline_exceeded";
+
+  private final Map<GossipTopicClass, TopicQueue> topicQueues =
+      new EnumMap<>(GossipTopicClass.class);
+  private final TimeProvider timeProvider;
+  private final LabelledMetric<Counter> droppedTasksCounter;
+
+  public static GossipValidationScheduler create(
+      final int maximumConcurrentTasks,
+      final MetricsSystem metricsSystem,
+      final TimeProvider timeProvider) {
+    final GossipValidationScheduler scheduler =
+        new GossipValidationScheduler(maximumConcurrentTasks, metricsSystem, timeProvider);
+    final LabelledSuppliedMetric queueSizeGauge =
+        metricsSystem.createLabelledSuppliedGauge(
+            TekuMetricCategory.NETWORK,
+            "gossip_validation_queue_size",
+            "Number of gossip messages queued for validation",
+            "topic");
+    for (final GossipTopicClass topicClass : GossipTopicClass.values()) {
+      queueSizeGauge.labels(() -> scheduler.getQueuedTasksCount(topicClass), topicClass.toString());
+    }
+    return scheduler;
+  }
+
+  private GossipValidationScheduler(
+      final int maximumConcurrentTasks,
+      final MetricsSystem metricsSystem,
+      final TimeProvider timeProvider) {
+    super(maximumConcurrentTasks);
+    this.timeProvider = timeProvider;
+    this.droppedTasksCounter =
+        metricsSystem.createLabelledCounter(
+            TekuMetricCategory.NETWORK,
+            "gossip_validation_dropped_total",
+            "Total number of gossip messages dropped before validation",
+            "topic",
+            "reason");
+    for (final GossipTopicClass topicClass : GossipTopicClass.values()) {
+      topicQueues.put(topicClass, new TopicQueue(topicClass));
+    }
+  }
+
+  /**
+   * Creates an {@link AsyncRunner} which routes {@code runAsync} calls through the queue for the
+   * given topic class before handing them to {@code delegate}. A validation slot is only held while
+   * the task runs on the delegate, not while the returned future is pending.
+   */
+  public AsyncRunner createAsyncRunner(
+      final GossipTopicClass topicClass, final AsyncRunner delegate) {
+    return new TopicAsyncRunner(topicClass, delegate);
+  }
+
+  public <T> SafeFuture<T> queueTask(
+      final GossipTopicClass topicClass, final Supplier<SafeFuture<T>> request) {
+    final SafeFuture<T> target = new SafeFuture<>();
+    final UInt64 expiresAtMillis =
+        timeProvider.getTimeInMillis().plus(topicClass.getDeadline().toMillis());
+    final QueuedTask queuedTask =
+        new QueuedTask(getTaskToQueue(request, target), target, expiresAtMillis);
+    if (!offer(topicClass, queuedTask)) {
+      droppedTasksCounter.labels(topicClass.toString(), QUEUE_FULL_REASON).inc();
+      target.completeExceptionally(
+          new RejectedExecutionException(
+              "Gossip validation queue for " + topicClass + " topics is full"));
+      return target;
+    }
+    processQueuedTasks();
+    return target;
+  }
+
+  @VisibleForTesting
+  synchronized int getQueuedTasksCount(final GossipTopicClass topicClass) {
+    return topicQueues.get(topicClass).tasks.size();
+  }
+
+  private synchronized boolean offer(
+      final GossipTopicClass topicClass, final QueuedTask queuedTask) {
+    final Queue<QueuedTask> tasks = topicQueues.get(topicClass).tasks;
+    if (tasks.size() >= topicClass.getMaxQueueSize()) {
+      return false;
+    }
+    tasks.add(queuedTask);
+    return true;
+  }
+
+  @Override
+  protected synchronized Runnable getTaskToRun() {
+    final Optional<TopicQueue> prioritizedQueue = selectNextQueue(true);
+    if (prioritizedQueue.isPresent()) {
+      return prioritizedQueue.get().tasks.remove().task();
+    }
+    if (super.getQueuedTasksCount() > 0) {
+      return super.getTaskToRun();
+    }
+    return selectNextQueue(false).orElseThrow().tasks.remove().task();
+  }
+
+  @Override
+  protected synchronized int getQueuedTasksCount() {
+    dropExpiredTasks();
+    int queuedTasksCount = super.getQueuedTasksCount();
+    for (final TopicQueue topicQueue : topicQueues.values()) {
+      queuedTasksCount += topicQueue.tasks.size();
+    }
+    return queuedTasksCount;
+  }
+
+  private void dropExpiredTasks() {
+    final UInt64 currentTimeMillis = timeProvider.getTimeInMillis();
+    for (final TopicQueue topicQueue : topicQueues.values()) {
+      // tasks within a class share the same deadline so the oldest is always at the head
+      while (!topicQueue.tasks.isEmpty()
+          && currentTimeMillis.isGreaterThan(topicQueue.tasks.peek().expiresAtMillis())) {
+        topicQueue
+            .tasks
+            .remove()
+            .target()
+            .completeExceptionally(
+                new RejectedExecutionException(
+                    "Gossip message for "
+                        + topicQueue.topicClass
+                        + " topics was not validated before its deadline"));
+        droppedTasksCounter
+            .labels(topicQueue.topicClass.toString(), DEADLINE_EXCEEDED_REASON)
+            .inc();
+      }
+    }
+  }
+
+  /**
+   * Smooth weighted round-robin across the non-empty queues of one priority tier. Queues which are
+   * empty lose any accumulated credit so that a burst on a quiet topic can't starve the others.
+   */
+  private Optional<TopicQueue> selectNextQueue(final boolean prioritized) {
+    TopicQueue selected = null;
+    int totalWeight = 0;
+    for (final TopicQueue topicQueue : topicQueues.values()) {
+      if (topicQueue.topicClass.isPrioritized() != prioritized) {
+        continue;
+      }
+      if (topicQueue.tasks.isEmpty()) {
+        topicQueue.currentWeight = 0;
+        continue;
+      }
+      topicQueue.currentWeight += topicQueue.topicClass.getWeight();
+      totalWeight += topicQueue.topicClass.getWeight();
+      if (selected == null || topicQueue.currentWeight > selected.currentWeight) {
+        selected = topicQueue;
+      }
+    }
+    if (selected != null) {
+      selected.currentWeight -= totalWeight;
+    }
+    return Optional.ofNullable(selected);
+  }
+
+  private static class TopicQueue {
+    private final GossipTopicClass topicClass;
+    private final Queue<QueuedTask> tasks = new ArrayDeque<>();
+    private int currentWeight = 0;
+
+    private TopicQueue(final GossipTopicClass topicClass) {
+      this.topicClass = topicClass;
+    }
+  }
+
+  private record QueuedTask(Runnable task, SafeFuture<?> target, UInt64 expiresAtMillis) {}
+
+  private class TopicAsyncRunner implements AsyncRunner {
+    private final GossipTopicClass topicClass;
+    private final AsyncRunner delegate;
+
+    private TopicAsyncRunner(final GossipTopicClass topicClass, final AsyncRunner delegate) {
+      this.topicClass = topicClass;
+      this.delegate = delegate;
+    }
+
+    @Override
+    public <U> SafeFuture<U> runAsync(final ExceptionThrowingFutureSupplier<U> action) {
+      final SafeFuture<U> result = new SafeFuture<>();
+      queueTask(
+              topicClass,
+              () ->
+                  delegate.runAsync(
+                      () -> {
+                        SafeFuture.of(action).propagateTo(result);
+                      }))
+          .propagateExceptionTo(result);
+      return result;
+    }
+
+    @Override
+    public <U> SafeFuture<U> runAfterDelay(
+        final ExceptionThrowingFutureSupplier<U> action, final Duration delay) {
+      return delegate.runAfterDelay(action, delay);
+    }
+
+    @Override
+    public void shutdown() {
+      delegate.shutdown();
+    }
+  }
+}
@@ -27,7 +27,7 @@ import tech.pegasys.teku.storage.client.CombinedChainDataClient;
 
 public class Eth2PeerFactory {
 
-  private static final long TIME_OUT = 60;
+  static final long TIME_OUT = 60;
   private final Spec spec;
   private final StatusMessageFactory statusMessageFactory;
   private final MetadataMessagesFactory metadataMessagesFactory;
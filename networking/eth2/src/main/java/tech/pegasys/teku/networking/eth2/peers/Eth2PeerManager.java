@@ -80,7 +80,10 @@ public class Eth2PeerManager implements PeerLookup, PeerHandler {
       final RpcEncoding rpcEncoding,
       final Duration eth2RpcPingInterval,
       final int eth2RpcOutstandingPingThreshold,
-      final Duration eth2StatusUpdateInterval) {
+      final Duration eth2StatusUpdateInterval,
+      final RateTracker globalBlocksRateTracker,
+      final RateTracker globalBlobSidecarsRateTracker,
+      final boolean serveFinalizedRangesFromSszEnabled) {
     this.asyncRunner = asyncRunner;
     this.recentChainData = recentChainData;
     this.eth2PeerFactory = eth2PeerFactory;
@@ -95,7 +98,10 @@ public class Eth2PeerManager implements PeerLookup, PeerHandler {
             metricsSystem,
             statusMessageFactory,
             metadataMessagesFactory,
-            rpcEncoding);
+            rpcEncoding,
+            globalBlocksRateTracker,
+            globalBlobSidecarsRateTracker,
+            serveFinalizedRangesFromSszEnabled);
     this.eth2RpcPingInterval = eth2RpcPingInterval;
     this.eth2RpcOutstandingPingThreshold = eth2RpcOutstandingPingThreshold;
     this.eth2StatusUpdateInterval = eth2StatusUpdateInterval;
@@ -117,6 +123,9 @@ public class Eth2PeerManager implements PeerLookup, PeerHandler {
       final int peerBlocksRateLimit,
       final int peerBlobSidecarsRateLimit,
       final int peerRequestLimit,
+      final int globalBlocksRateLimit,
+      final int globalBlobSidecarsRateLimit,
+      final boolean serveFinalizedRangesFromSszEnabled,
       final Spec spec,
       final KZG kzg,
       final DiscoveryNodeIdExtractor discoveryNodeIdExtractor) {
@@ -151,7 +160,18 @@ public class Eth2PeerManager implements PeerLookup, PeerHandler {
         rpcEncoding,
         eth2RpcPingInterval,
         eth2RpcOutstandingPingThreshold,
-        eth2StatusUpdateInterval);
+        eth2StatusUpdateInterval,
+        createGlobalRateTracker(globalBlocksRateLimit, timeProvider),
+        createGlobalRateTracker(globalBlobSidecarsRateLimit, timeProvider),
+        serveFinalizedRangesFromSszEnabled);
+  }
+
+  private static RateTracker createGlobalRateTracker(
+      final int globalRateLimit, final TimeProvider timeProvider) {
+    // a limit of 0 disables global rate limiting, peers are still limited individually
+    return globalRateLimit > 0
+        ? RateTracker.create(globalRateLimit, Eth2PeerFactory.TIME_OUT, timeProvider)
+        : RateTracker.UNLIMITED;
   }
 
   public MetadataMessage getMetadataMessage() {
@@ -15,6 +15,7 @@ package tech.pegasys.teku.networking.eth2.peers;
 
 import java.util.Optional;
 import tech.pegasys.teku.infrastructure.time.TimeProvider;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
 
 public interface RateTracker {
   RateTracker NOOP =
@@ -32,6 +33,26 @@ public interface RateTracker {
         public void pruneRequests() {}
       };
 
+  /** Approves every request without tracking it, used when a limit is disabled. */
+  RateTracker UNLIMITED =
+      new RateTracker() {
+        @Override
+        public Optional<RequestApproval> approveObjectsRequest(final long objectsCount) {
+          return Optional.of(
+              new RequestApproval.RequestApprovalBuilder()
+                  .timeSeconds(UInt64.ZERO)
+                  .objectsCount(objectsCount)
+                  .build());
+        }
+
+        @Override
+        public void adjustObjectsRequest(
+            final RequestApproval requestApproval, final long returnedObjectsCount) {}
+
+        @Override
+        public void pruneRequests() {}
+      };
+
   // boundary: if a request comes in and remaining capacity is at least 1, then
   // they can have the objects they request otherwise they get none.
   Optional<RequestApproval> approveObjectsRequest(long objectsCount);
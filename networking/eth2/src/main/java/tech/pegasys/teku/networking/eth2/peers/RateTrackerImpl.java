@@ -14,22 +14,27 @@
 package tech.pegasys.teku.networking.eth2.peers;
 
 import com.google.common.base.Preconditions;
-import java.util.NavigableMap;
 import java.util.Optional;
-import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 import tech.pegasys.teku.infrastructure.time.TimeProvider;
 import tech.pegasys.teku.infrastructure.unsigned.UInt64;
 
+/**
+ * Sliding window rate tracker. Objects are accounted in a ring of per-second buckets covering the
+ * last {@code timeoutSeconds} seconds, so approving or adjusting a request doesn't depend on the
+ * number of requests within the window and doesn't require any locking. Buckets which fall outside
+ * the window are simply overwritten when their slot in the ring is reused.
+ */
 public class RateTrackerImpl implements RateTracker {
 
-  private final NavigableMap<RequestsKey, Long> requests = new TreeMap<>();
+  private final AtomicReferenceArray<Bucket> buckets;
 
   private final int peerRateLimit;
   private final long timeoutSeconds;
   private final TimeProvider timeProvider;
 
-  private long objectsWithinWindow = 0L;
-  private int newRequestId = 0;
+  private final AtomicInteger newRequestId = new AtomicInteger(0);
 
   public RateTrackerImpl(
       final int peerRateLimit, final long timeoutSeconds, final TimeProvider timeProvider) {
@@ -37,51 +42,90 @@ public class RateTrackerImpl implements RateTracker {
         peerRateLimit > 0,
         "peerRateLimit should be a positive number but it was %s",
         peerRateLimit);
+    Preconditions.checkArgument(
+        timeoutSeconds >= 0 && timeoutSeconds < Integer.MAX_VALUE,
+        "timeoutSeconds should be a non-negative int but it was %s",
+        timeoutSeconds);
     this.peerRateLimit = peerRateLimit;
     this.timeoutSeconds = timeoutSeconds;
     this.timeProvider = timeProvider;
+    this.buckets = new AtomicReferenceArray<>((int) timeoutSeconds + 1);
   }
 
   // boundary: if a request comes in and remaining capacity is at least 1, then
   // they can have the objects they request otherwise they get none.
+  // Concurrent approvals may both observe the remaining capacity before either is recorded, which
+  // overshoots the limit in the same way as the boundary above.
   @Override
-  public synchronized Optional<RequestApproval> approveObjectsRequest(final long objectsCount) {
-    pruneRequests();
+  public Optional<RequestApproval> approveObjectsRequest(final long objectsCount) {
     final UInt64 currentTime = timeProvider.getTimeInSeconds();
-    if (peerRateLimit - objectsWithinWindow <= 0) {
+    final long currentSecond = currentTime.longValue();
+    if (peerRateLimit - getObjectsWithinWindow(currentSecond) <= 0) {
       return Optional.empty();
     }
-    objectsWithinWindow += objectsCount;
-    final RequestApproval requestApproval =
+    final int index = getBucketIndex(currentSecond);
+    Bucket current;
+    Bucket updated;
+    do {
+      current = buckets.get(index);
+      updated =
+          current != null && current.timeSeconds() == currentSecond
+              ? new Bucket(currentSecond, current.objectsCount() + objectsCount)
+              : new Bucket(currentSecond, objectsCount);
+    } while (!buckets.compareAndSet(index, current, updated));
+    return Optional.of(
         new RequestApproval.RequestApprovalBuilder()
-            .requestId(newRequestId++)
+            .requestId(newRequestId.getAndIncrement())
             .timeSeconds(currentTime)
             .objectsCount(objectsCount)
-            .build();
-    requests.put(requestApproval.getRequestKey(), objectsCount);
-    return Optional.of(requestApproval);
+            .build());
   }
 
   @Override
-  public synchronized void adjustObjectsRequest(
+  public void adjustObjectsRequest(
       final RequestApproval requestApproval, final long returnedObjectsCount) {
-    pruneRequests();
-    final Long initialObjectsCount = requests.get(requestApproval.getRequestKey());
-    if (initialObjectsCount != null) {
-      requests.put(requestApproval.getRequestKey(), returnedObjectsCount);
-      objectsWithinWindow = objectsWithinWindow - initialObjectsCount + returnedObjectsCount;
+    final long requestSecond = requestApproval.getRequestKey().timeSeconds().longValue();
+    if (!isWithinWindow(requestSecond, timeProvider.getTimeInSeconds().longValue())) {
+      return;
     }
+    final long delta = returnedObjectsCount - requestApproval.getObjectsCount();
+    final int index = getBucketIndex(requestSecond);
+    Bucket current;
+    do {
+      current = buckets.get(index);
+      if (current == null || current.timeSeconds() != requestSecond) {
+        // bucket has already been reused for a later second
+        return;
+      }
+    } while (!buckets.compareAndSet(
+        index,
+        current,
+        new Bucket(requestSecond, Math.max(0, current.objectsCount() + delta))));
   }
 
   @Override
   public void pruneRequests() {
-    final UInt64 currentTime = timeProvider.getTimeInSeconds();
-    if (currentTime.isLessThan(timeoutSeconds)) {
-      return;
+    // buckets outside the window are ignored and reused so there is nothing to prune
+  }
+
+  private long getObjectsWithinWindow(final long currentSecond) {
+    long objectsWithinWindow = 0;
+    for (int i = 0; i < buckets.length(); i++) {
+      final Bucket bucket = buckets.get(i);
+      if (bucket != null && isWithinWindow(bucket.timeSeconds(), currentSecond)) {
+        objectsWithinWindow += bucket.objectsCount();
+      }
     }
-    final NavigableMap<RequestsKey, Long> headMap =
-        requests.headMap(new RequestsKey(currentTime.minus(timeoutSeconds), 0), false);
-    headMap.values().forEach(value -> objectsWithinWindow -= value);
-    headMap.clear();
+    return objectsWithinWindow;
+  }
+
+  private boolean isWithinWindow(final long timeSeconds, final long currentSecond) {
+    return timeSeconds <= currentSecond && currentSecond - timeSeconds <= timeoutSeconds;
   }
+
+  private int getBucketIndex(final long timeSeconds) {
+    return (int) (timeSeconds % buckets.length());
+  }
+
+  private record Bucket(long timeSeconds, long objectsCount) {}
 }
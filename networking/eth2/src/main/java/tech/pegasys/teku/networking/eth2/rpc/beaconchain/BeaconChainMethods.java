@@ -23,6 +23,7 @@ import tech.pegasys.teku.infrastructure.async.AsyncRunner;
 import tech.pegasys.teku.infrastructure.bytes.Bytes4;
 import tech.pegasys.teku.infrastructure.ssz.schema.SszSchema;
 import tech.pegasys.teku.networking.eth2.peers.PeerLookup;
+import tech.pegasys.teku.networking.eth2.peers.RateTracker;
 import tech.pegasys.teku.networking.eth2.rpc.beaconchain.methods.BeaconBlocksByRangeMessageHandler;
 import tech.pegasys.teku.networking.eth2.rpc.beaconchain.methods.BeaconBlocksByRootMessageHandler;
 import tech.pegasys.teku.networking.eth2.rpc.beaconchain.methods.BlobSidecarsByRangeMessageHandler;
@@ -113,7 +114,10 @@ public class BeaconChainMethods {
       final MetricsSystem metricsSystem,
       final StatusMessageFactory statusMessageFactory,
       final MetadataMessagesFactory metadataMessagesFactory,
-      final RpcEncoding rpcEncoding) {
+      final RpcEncoding rpcEncoding,
+      final RateTracker globalBlocksRateTracker,
+      final RateTracker globalBlobSidecarsRateTracker,
+      final boolean serveFinalizedRangesFromSszEnabled) {
     return new BeaconChainMethods(
         createStatus(asyncRunner, statusMessageFactory, peerLookup, rpcEncoding),
         createGoodBye(asyncRunner, metricsSystem, peerLookup, rpcEncoding),
@@ -126,7 +130,9 @@ public class BeaconChainMethods {
             recentChainData,
             combinedChainDataClient,
             peerLookup,
-            rpcEncoding),
+            rpcEncoding,
+            globalBlocksRateTracker,
+            serveFinalizedRangesFromSszEnabled),
         createBlobSidecarsByRoot(
             spec,
             metricsSystem,
@@ -142,7 +148,9 @@ public class BeaconChainMethods {
             combinedChainDataClient,
             peerLookup,
             rpcEncoding,
-            recentChainData),
+            recentChainData,
+            globalBlobSidecarsRateTracker,
+            serveFinalizedRangesFromSszEnabled),
         createMetadata(spec, asyncRunner, metadataMessagesFactory, peerLookup, rpcEncoding),
         createPing(asyncRunner, metadataMessagesFactory, peerLookup, rpcEncoding));
   }
@@ -231,9 +239,16 @@ public class BeaconChainMethods {
           final RecentChainData recentChainData,
           final CombinedChainDataClient combinedChainDataClient,
           final PeerLookup peerLookup,
-          final RpcEncoding rpcEncoding) {
+          final RpcEncoding rpcEncoding,
+          final RateTracker globalBlocksRateTracker,
+          final boolean serveFinalizedRangesFromSszEnabled) {
     final BeaconBlocksByRangeMessageHandler beaconBlocksByRangeHandler =
-        new BeaconBlocksByRangeMessageHandler(spec, metricsSystem, combinedChainDataClient);
+        new BeaconBlocksByRangeMessageHandler(
+            spec,
+            metricsSystem,
+            combinedChainDataClient,
+            globalBlocksRateTracker,
+            serveFinalizedRangesFromSszEnabled);
 
     final BeaconBlocksByRangeRequestMessageSchema requestType =
         BeaconBlocksByRangeRequestMessage.SSZ_SCHEMA;
@@ -304,7 +319,9 @@ public class BeaconChainMethods {
           final CombinedChainDataClient combinedChainDataClient,
           final PeerLookup peerLookup,
           final RpcEncoding rpcEncoding,
-          final RecentChainData recentChainData) {
+          final RecentChainData recentChainData,
+          final RateTracker globalBlobSidecarsRateTracker,
+          final boolean serveFinalizedRangesFromSszEnabled) {
 
     if (!spec.isMilestoneSupported(SpecMilestone.DENEB)) {
       return Optional.empty();
@@ -317,7 +334,12 @@ public class BeaconChainMethods {
         RpcContextCodec.forkDigest(spec, recentChainData, ForkDigestPayloadContext.BLOB_SIDECAR);
 
     final BlobSidecarsByRangeMessageHandler blobSidecarsByRangeHandler =
-        new BlobSidecarsByRangeMessageHandler(spec, metricsSystem, combinedChainDataClient);
+        new BlobSidecarsByRangeMessageHandler(
+            spec,
+            metricsSystem,
+            combinedChainDataClient,
+            globalBlobSidecarsRateTracker,
+            serveFinalizedRangesFromSszEnabled);
 
     return Optional.of(
         new SingleProtocolEth2RpcMethod<>(
@@ -20,12 +20,14 @@ import static tech.pegasys.teku.networking.eth2.rpc.core.RpcResponseStatus.INVAL
 
 import com.google.common.base.Throwables;
 import java.nio.channels.ClosedChannelException;
+import java.util.Map;
 import java.util.NavigableMap;
 import java.util.Optional;
 import java.util.TreeMap;
 import java.util.concurrent.atomic.AtomicInteger;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import org.apache.tuweni.bytes.Bytes;
 import org.apache.tuweni.bytes.Bytes32;
 import org.hyperledger.besu.plugin.services.MetricsSystem;
 import org.hyperledger.besu.plugin.services.metrics.Counter;
@@ -34,12 +36,14 @@ import tech.pegasys.teku.infrastructure.async.SafeFuture;
 import tech.pegasys.teku.infrastructure.metrics.TekuMetricCategory;
 import tech.pegasys.teku.infrastructure.unsigned.UInt64;
 import tech.pegasys.teku.networking.eth2.peers.Eth2Peer;
+import tech.pegasys.teku.networking.eth2.peers.RateTracker;
 import tech.pegasys.teku.networking.eth2.peers.RequestApproval;
 import tech.pegasys.teku.networking.eth2.rpc.beaconchain.BeaconChainMethodIds;
 import tech.pegasys.teku.networking.eth2.rpc.core.PeerRequiredLocalMessageHandler;
 import tech.pegasys.teku.networking.eth2.rpc.core.ResponseCallback;
 import tech.pegasys.teku.networking.eth2.rpc.core.RpcException;
 import tech.pegasys.teku.networking.eth2.rpc.core.RpcException.InvalidRpcMethodVersion;
+import tech.pegasys.teku.networking.eth2.rpc.core.RpcException.ResourceUnavailableException;
 import tech.pegasys.teku.networking.p2p.rpc.StreamClosedException;
 import tech.pegasys.teku.spec.Spec;
 import tech.pegasys.teku.spec.SpecMilestone;
@@ -52,17 +56,26 @@ public class BeaconBlocksByRangeMessageHandler
     extends PeerRequiredLocalMessageHandler<BeaconBlocksByRangeRequestMessage, SignedBeaconBlock> {
   private static final Logger LOG = LogManager.getLogger();
 
+  // Bounds the number of serialized blocks held in memory while serving a finalized range
+  static final UInt64 SSZ_BATCH_SLOTS = UInt64.valueOf(64);
+
   private final Spec spec;
   private final CombinedChainDataClient combinedChainDataClient;
+  private final RateTracker globalBlocksRateTracker;
+  private final boolean serveFinalizedRangesFromSszEnabled;
   private final LabelledMetric<Counter> requestCounter;
   private final Counter totalBlocksRequestedCounter;
 
   public BeaconBlocksByRangeMessageHandler(
       final Spec spec,
       final MetricsSystem metricsSystem,
-      final CombinedChainDataClient combinedChainDataClient) {
+      final CombinedChainDataClient combinedChainDataClient,
+      final RateTracker globalBlocksRateTracker,
+      final boolean serveFinalizedRangesFromSszEnabled) {
     this.spec = spec;
     this.combinedChainDataClient = combinedChainDataClient;
+    this.globalBlocksRateTracker = globalBlocksRateTracker;
+    this.serveFinalizedRangesFromSszEnabled = serveFinalizedRangesFromSszEnabled;
     requestCounter =
         metricsSystem.createLabelledCounter(
             TekuMetricCategory.NETWORK,
@@ -145,6 +158,17 @@ public class BeaconBlocksByRangeMessageHandler
       return;
     }
 
+    // the peer is within its own limits so don't penalise it when the node as a whole is busy
+    final Optional<RequestApproval> globalRequestApproval =
+        globalBlocksRateTracker.approveObjectsRequest(message.getCount().longValue());
+    if (globalRequestApproval.isEmpty()) {
+      peer.adjustBlocksRequest(blocksRequestApproval.get(), 0);
+      requestCounter.labels("global_rate_limited").inc();
+      callback.completeWithErrorResponse(
+          new ResourceUnavailableException("Blocks by range requests are currently rate limited"));
+      return;
+    }
+
     requestCounter.labels("ok").inc();
     totalBlocksRequestedCounter.inc(message.getCount().longValue());
     sendMatchingBlocks(message, callback)
@@ -153,11 +177,14 @@ public class BeaconBlocksByRangeMessageHandler
               if (requestState.sentBlocks.get() != message.getCount().longValue()) {
                 peer.adjustBlocksRequest(
                     blocksRequestApproval.get(), requestState.sentBlocks.get());
+                globalBlocksRateTracker.adjustObjectsRequest(
+                    globalRequestApproval.get(), requestState.sentBlocks.get());
               }
               callback.completeSuccessfully();
             },
             error -> {
               peer.adjustBlocksRequest(blocksRequestApproval.get(), 0);
+              globalBlocksRateTracker.adjustObjectsRequest(globalRequestApproval.get(), 0);
               final Throwable rootCause = Throwables.getRootCause(error);
               if (rootCause instanceof RpcException) {
                 LOG.trace("Rejecting beacon blocks by range request", error); // Keep full context
@@ -196,8 +223,20 @@ public class BeaconBlocksByRangeMessageHandler
                       .getChainHead()
                       .map(MinimalBeaconBlockSummary::getSlot)
                       .orElse(ZERO);
+              final boolean rangeFinalized =
+                  combinedChainDataClient.isFinalized(message.getMaxSlot());
+              if (rangeFinalized && serveFinalizedRangesFromSszEnabled && step.equals(ONE)) {
+                final RequestState initialState =
+                    new RequestState(
+                        startSlot, step, count, headBlockSlot, new TreeMap<>(), callback);
+                if (initialState.isComplete()) {
+                  return SafeFuture.completedFuture(initialState);
+                }
+                return sendFinalizedBlocksAsSsz(
+                    initialState, startSlot.plus(count).minusMinZero(1).min(headBlockSlot));
+              }
               final NavigableMap<UInt64, Bytes32> hotRoots;
-              if (combinedChainDataClient.isFinalized(message.getMaxSlot())) {
+              if (rangeFinalized) {
                 // All blocks are finalized so skip scanning the protoarray
                 hotRoots = new TreeMap<>();
               } else {
@@ -218,6 +257,37 @@ public class BeaconBlocksByRangeMessageHandler
             });
   }
 
+  /**
+   * Sends finalized blocks exactly as they are stored, without deserializing them. Blocks are read
+   * in batches of {@link #SSZ_BATCH_SLOTS} slots rather than holding a database iterator open while
+   * waiting on the peer.
+   */
+  private SafeFuture<RequestState> sendFinalizedBlocksAsSsz(
+      final RequestState requestState, final UInt64 endSlot) {
+    final UInt64 batchStartSlot = requestState.currentSlot;
+    final UInt64 batchEndSlot = batchStartSlot.plus(SSZ_BATCH_SLOTS).minusMinZero(1).min(endSlot);
+    return combinedChainDataClient
+        .getFinalizedBlocksAsSsz(batchStartSlot, batchEndSlot)
+        .thenCompose(
+            blocks -> {
+              SafeFuture<Void> sendFuture = SafeFuture.COMPLETE;
+              for (final Map.Entry<UInt64, Bytes> block : blocks.entrySet()) {
+                sendFuture =
+                    sendFuture.thenCompose(
+                        __ -> requestState.sendSerializedBlock(block.getKey(), block.getValue()));
+              }
+              return sendFuture;
+            })
+        .thenCompose(
+            __ -> {
+              if (batchEndSlot.isGreaterThanOrEqualTo(endSlot)) {
+                return completedFuture(requestState);
+              }
+              requestState.currentSlot = batchEndSlot.increment();
+              return sendFinalizedBlocksAsSsz(requestState, endSlot);
+            });
+  }
+
   private SafeFuture<RequestState> sendNextBlock(final RequestState requestState) {
     SafeFuture<Boolean> blockFuture = processNextBlock(requestState);
     // Avoid risk of StackOverflowException by iterating when the block future is already complete
@@ -309,6 +379,10 @@ public class BeaconBlocksByRangeMessageHandler
       return callback.respond(block).thenRun(sentBlocks::incrementAndGet);
     }
 
+    SafeFuture<Void> sendSerializedBlock(final UInt64 slot, final Bytes block) {
+      return callback.respondSerialized(slot, block).thenRun(sentBlocks::incrementAndGet);
+    }
+
     void decrementRemainingBlocks() {
       remainingBlocks = remainingBlocks.minusMinZero(1);
     }
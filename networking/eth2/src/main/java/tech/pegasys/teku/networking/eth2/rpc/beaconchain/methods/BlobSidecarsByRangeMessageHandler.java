@@ -26,6 +26,7 @@ import java.util.SortedMap;
 import java.util.concurrent.atomic.AtomicInteger;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import org.apache.tuweni.bytes.Bytes;
 import org.apache.tuweni.bytes.Bytes32;
 import org.hyperledger.besu.plugin.services.MetricsSystem;
 import org.hyperledger.besu.plugin.services.metrics.Counter;
@@ -34,6 +35,7 @@ import tech.pegasys.teku.infrastructure.async.SafeFuture;
 import tech.pegasys.teku.infrastructure.metrics.TekuMetricCategory;
 import tech.pegasys.teku.infrastructure.unsigned.UInt64;
 import tech.pegasys.teku.networking.eth2.peers.Eth2Peer;
+import tech.pegasys.teku.networking.eth2.peers.RateTracker;
 import tech.pegasys.teku.networking.eth2.peers.RequestApproval;
 import tech.pegasys.teku.networking.eth2.rpc.core.PeerRequiredLocalMessageHandler;
 import tech.pegasys.teku.networking.eth2.rpc.core.ResponseCallback;
@@ -57,17 +59,26 @@ public class BlobSidecarsByRangeMessageHandler
 
   private static final Logger LOG = LogManager.getLogger();
 
+  // Bounds the number of serialized blob sidecars held in memory while serving a finalized range
+  static final UInt64 SSZ_BATCH_SLOTS = UInt64.valueOf(8);
+
   private final Spec spec;
   private final CombinedChainDataClient combinedChainDataClient;
+  private final RateTracker globalBlobSidecarsRateTracker;
+  private final boolean serveFinalizedRangesFromSszEnabled;
   private final LabelledMetric<Counter> requestCounter;
   private final Counter totalBlobSidecarsRequestedCounter;
 
   public BlobSidecarsByRangeMessageHandler(
       final Spec spec,
       final MetricsSystem metricsSystem,
-      final CombinedChainDataClient combinedChainDataClient) {
+      final CombinedChainDataClient combinedChainDataClient,
+      final RateTracker globalBlobSidecarsRateTracker,
+      final boolean serveFinalizedRangesFromSszEnabled) {
     this.spec = spec;
     this.combinedChainDataClient = combinedChainDataClient;
+    this.globalBlobSidecarsRateTracker = globalBlobSidecarsRateTracker;
+    this.serveFinalizedRangesFromSszEnabled = serveFinalizedRangesFromSszEnabled;
     requestCounter =
         metricsSystem.createLabelledCounter(
             TekuMetricCategory.NETWORK,
@@ -138,6 +149,18 @@ public class BlobSidecarsByRangeMessageHandler
       return;
     }
 
+    // the peer is within its own limits so don't penalise it when the node as a whole is busy
+    final Optional<RequestApproval> globalRequestApproval =
+        globalBlobSidecarsRateTracker.approveObjectsRequest(requestedCount);
+    if (globalRequestApproval.isEmpty()) {
+      peer.adjustBlobSidecarsRequest(blobSidecarsRequestApproval.get(), 0);
+      requestCounter.labels("global_rate_limited").inc();
+      callback.completeWithErrorResponse(
+          new ResourceUnavailableException(
+              "Blob sidecars by range requests are currently rate limited"));
+      return;
+    }
+
     requestCounter.labels("ok").inc();
     totalBlobSidecarsRequestedCounter.inc(message.getCount().longValue());
 
@@ -181,6 +204,11 @@ public class BlobSidecarsByRangeMessageHandler
               if (message.getCount().isZero()) {
                 return SafeFuture.completedFuture(initialState);
               }
+              if (serveFinalizedRangesFromSszEnabled
+                  && endSlot.isLessThanOrEqualTo(finalizedSlot)) {
+                // every requested slot is finalized so all stored blob sidecars are canonical
+                return sendFinalizedBlobSidecarsAsSsz(initialState, startSlot);
+              }
               return sendBlobSidecars(initialState);
             })
         .finish(
@@ -188,12 +216,15 @@ public class BlobSidecarsByRangeMessageHandler
               final int sentBlobSidecars = requestState.sentBlobSidecars.get();
               if (sentBlobSidecars != requestedCount) {
                 peer.adjustBlobSidecarsRequest(blobSidecarsRequestApproval.get(), sentBlobSidecars);
+                globalBlobSidecarsRateTracker.adjustObjectsRequest(
+                    globalRequestApproval.get(), sentBlobSidecars);
               }
               LOG.trace("Sent {} blob sidecars to peer {}.", sentBlobSidecars, peer.getId());
               callback.completeSuccessfully();
             },
             error -> {
               peer.adjustBlobSidecarsRequest(blobSidecarsRequestApproval.get(), 0);
+              globalBlobSidecarsRateTracker.adjustObjectsRequest(globalRequestApproval.get(), 0);
               handleProcessingRequestError(error, callback);
             });
   }
@@ -227,6 +258,41 @@ public class BlobSidecarsByRangeMessageHandler
             });
   }
 
+  /**
+   * Sends finalized blob sidecars exactly as they are stored, without deserializing them. Blob
+   * sidecars are read in batches of {@link #SSZ_BATCH_SLOTS} slots rather than holding a database
+   * iterator open while waiting on the peer.
+   */
+  private SafeFuture<RequestState> sendFinalizedBlobSidecarsAsSsz(
+      final RequestState requestState, final UInt64 batchStartSlot) {
+    final UInt64 batchEndSlot =
+        batchStartSlot.plus(SSZ_BATCH_SLOTS).minusMinZero(1).min(requestState.endSlot);
+    return combinedChainDataClient
+        .getBlobSidecarsAsSsz(
+            batchStartSlot, batchEndSlot, requestState.getRemainingBlobSidecarsLimit())
+        .thenCompose(
+            blobSidecars -> {
+              SafeFuture<Void> sendFuture = SafeFuture.COMPLETE;
+              for (final Map.Entry<SlotAndBlockRootAndBlobIndex, Bytes> blobSidecar :
+                  blobSidecars.entrySet()) {
+                sendFuture =
+                    sendFuture.thenCompose(
+                        __ ->
+                            requestState.sendSerializedBlobSidecar(
+                                blobSidecar.getKey().getSlot(), blobSidecar.getValue()));
+              }
+              return sendFuture;
+            })
+        .thenCompose(
+            __ -> {
+              if (batchEndSlot.isGreaterThanOrEqualTo(requestState.endSlot)
+                  || requestState.getRemainingBlobSidecarsLimit() == 0) {
+                return SafeFuture.completedFuture(requestState);
+              }
+              return sendFinalizedBlobSidecarsAsSsz(requestState, batchEndSlot.increment());
+            });
+  }
+
   private void handleProcessingRequestError(
       final Throwable error, final ResponseCallback<BlobSidecar> callback) {
     final Throwable rootCause = Throwables.getRootCause(error);
@@ -280,6 +346,16 @@ public class BlobSidecarsByRangeMessageHandler
       return callback.respond(blobSidecar).thenRun(sentBlobSidecars::incrementAndGet);
     }
 
+    SafeFuture<Void> sendSerializedBlobSidecar(final UInt64 slot, final Bytes blobSidecar) {
+      return callback
+          .respondSerialized(slot, blobSidecar)
+          .thenRun(sentBlobSidecars::incrementAndGet);
+    }
+
+    int getRemainingBlobSidecarsLimit() {
+      return Math.max(0, maxRequestBlobSidecars - sentBlobSidecars.get());
+    }
+
     SafeFuture<Optional<BlobSidecar>> loadNextBlobSidecar() {
       if (blobSidecarKeysIterator.isEmpty()) {
         return combinedChainDataClient
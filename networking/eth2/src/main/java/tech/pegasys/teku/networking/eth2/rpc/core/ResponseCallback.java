@@ -13,11 +13,22 @@
 
 package tech.pegasys.teku.networking.eth2.rpc.core;
 
+import org.apache.tuweni.bytes.Bytes;
 import tech.pegasys.teku.infrastructure.async.SafeFuture;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
 
 public interface ResponseCallback<T> {
   SafeFuture<Void> respond(T data);
 
+  /**
+   * Sends a response chunk which is already SSZ serialized, avoiding the cost of deserializing and
+   * re-serializing it. The serialized bytes must be a valid encoding of the response type.
+   *
+   * @param slot the slot of the response, used to determine its context bytes
+   * @param serializedData the SSZ serialized response
+   */
+  SafeFuture<Void> respondSerialized(UInt64 slot, Bytes serializedData);
+
   void respondAndCompleteSuccessfully(T data);
 
   void completeSuccessfully();
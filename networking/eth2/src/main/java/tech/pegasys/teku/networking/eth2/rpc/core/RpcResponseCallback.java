@@ -16,9 +16,11 @@ package tech.pegasys.teku.networking.eth2.rpc.core;
 import java.nio.channels.ClosedChannelException;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import org.apache.tuweni.bytes.Bytes;
 import tech.pegasys.teku.infrastructure.async.RootCauseExceptionHandler;
 import tech.pegasys.teku.infrastructure.async.SafeFuture;
 import tech.pegasys.teku.infrastructure.ssz.SszData;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
 import tech.pegasys.teku.networking.eth2.rpc.core.RpcException.ServerErrorException;
 import tech.pegasys.teku.networking.p2p.peer.PeerDisconnectedException;
 import tech.pegasys.teku.networking.p2p.rpc.RpcStream;
@@ -40,6 +42,12 @@ class RpcResponseCallback<TResponse extends SszData> implements ResponseCallback
     return rpcStream.writeBytes(responseEncoder.encodeSuccessfulResponse(data));
   }
 
+  @Override
+  public SafeFuture<Void> respondSerialized(final UInt64 slot, final Bytes serializedData) {
+    return rpcStream.writeBytes(
+        responseEncoder.encodeSuccessfulSerializedResponse(slot, serializedData));
+  }
+
   @Override
   public void respondAndCompleteSuccessfully(final TResponse data) {
     respond(data)
@@ -17,6 +17,7 @@ import static tech.pegasys.teku.networking.eth2.rpc.core.RpcResponseStatus.SUCCE
 
 import org.apache.tuweni.bytes.Bytes;
 import tech.pegasys.teku.infrastructure.ssz.SszData;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
 import tech.pegasys.teku.networking.eth2.rpc.core.encodings.RpcEncoding;
 import tech.pegasys.teku.networking.eth2.rpc.core.encodings.context.RpcContextCodec;
 
@@ -36,6 +37,21 @@ public final class RpcResponseEncoder<TPayload extends SszData, TContext> {
         Bytes.of(SUCCESS_RESPONSE_CODE), context, encoding.encodePayload(response));
   }
 
+  /**
+   * Encodes a successful response from a payload which is already SSZ serialized, e.g. when read
+   * directly from the database.
+   *
+   * @param slot the slot of the response payload, used to determine the response context
+   * @param serializedResponse the SSZ serialized response payload
+   */
+  public Bytes encodeSuccessfulSerializedResponse(
+      final UInt64 slot, final Bytes serializedResponse) {
+    return Bytes.concatenate(
+        Bytes.of(SUCCESS_RESPONSE_CODE),
+        contextCodec.encodeContextForSlot(slot),
+        encoding.encodeSerializedPayload(serializedResponse));
+  }
+
   public Bytes encodeErrorResponse(final RpcException error) {
     return Bytes.concatenate(
         Bytes.of(error.getResponseCode()), encoding.encodePayload(error.getErrorMessage()));
@@ -0,0 +1,42 @@
+/*
+ * Copyright Consensys Software Inc., 2025
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.networking.eth2.rpc.core.encodings;
+
+import java.util.function.Supplier;
+import org.apache.tuweni.bytes.Bytes;
+import org.hyperledger.besu.plugin.services.MetricsSystem;
+import tech.pegasys.teku.infrastructure.ssz.SszData;
+
+/**
+ * Cache of encoded (length-prefixed and compressed) req/resp payloads. Peers syncing from us tend
+ * to request the same recent blocks and blob sidecars, so each one only needs to be serialized and
+ * compressed once.
+ */
+public interface CompressedPayloadCache {
+  CompressedPayloadCache NOOP = (payload, encoder) -> encoder.get();
+
+  static CompressedPayloadCache create(final int maxSizeBytes, final MetricsSystem metricsSystem) {
+    return maxSizeBytes > 0 ? new CompressedPayloadCacheImpl(maxSizeBytes, metricsSystem) : NOOP;
+  }
+
+  /**
+   * Returns the encoded payload from the cache if available, otherwise encodes it using the given
+   * encoder and caches the result if the payload type is cacheable.
+   *
+   * @param payload the payload being encoded
+   * @param encoder encodes the payload when it isn't cached
+   * @return the encoded payload
+   */
+  Bytes getOrEncode(SszData payload, Supplier<Bytes> encoder);
+}
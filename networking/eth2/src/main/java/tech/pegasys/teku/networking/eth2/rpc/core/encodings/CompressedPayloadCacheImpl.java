@@ -0,0 +1,125 @@
+/*
+ * Copyright Consensys Software Inc., 2025
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.networking.eth2.rpc.core.encodings;
+
+import com.google.common.annotations.VisibleForTesting;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Optional;
+import java.util.function.Supplier;
+import org.apache.tuweni.bytes.Bytes;
+import org.apache.tuweni.bytes.Bytes32;
+import org.hyperledger.besu.plugin.services.MetricsSystem;
+import org.hyperledger.besu.plugin.services.metrics.Counter;
+import org.hyperledger.besu.plugin.services.metrics.LabelledMetric;
+import tech.pegasys.teku.infrastructure.metrics.TekuMetricCategory;
+import tech.pegasys.teku.infrastructure.ssz.SszData;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+import tech.pegasys.teku.spec.datastructures.blobs.versions.deneb.BlobSidecar;
+import tech.pegasys.teku.spec.datastructures.blocks.SignedBeaconBlock;
+
+/**
+ * Caches encoded blocks and blob sidecars, keyed by block root (and blob index), evicting the least
+ * recently used entries once the total size of the cached payloads exceeds the limit. Payloads are
+ * encoded outside the lock so concurrent misses for the same payload may both encode it.
+ */
+class CompressedPayloadCacheImpl implements CompressedPayloadCache {
+
+  private final int maxSizeBytes;
+  private final LinkedHashMap<PayloadKey, Bytes> entries = new LinkedHashMap<>(16, 0.75f, true);
+  private long sizeBytes = 0;
+
+  private final Counter hitCounter;
+  private final Counter missCounter;
+
+  CompressedPayloadCacheImpl(final int maxSizeBytes, final MetricsSystem metricsSystem) {
+    this.maxSizeBytes = maxSizeBytes;
+    final LabelledMetric<Counter> requestsCounter =
+        metricsSystem.createLabelledCounter(
+            TekuMetricCategory.NETWORK,
+            "rpc_compressed_payload_cache_requests_total",
+            "Total number of lookups in the cache of compressed req/resp payloads",
+            "result");
+    this.hitCounter = requestsCounter.labels("hit");
+    this.missCounter = requestsCounter.labels("miss");
+    metricsSystem.createGauge(
+        TekuMetricCategory.NETWORK,
+        "rpc_compressed_payload_cache_size_bytes",
+        "Total size of the payloads held in the cache of compressed req/resp payloads",
+        this::getSizeBytes);
+  }
+
+  @Override
+  public Bytes getOrEncode(final SszData payload, final Supplier<Bytes> encoder) {
+    final Optional<PayloadKey> maybeKey = PayloadKey.fromPayload(payload);
+    if (maybeKey.isEmpty()) {
+      return encoder.get();
+    }
+    final PayloadKey key = maybeKey.get();
+    final Optional<Bytes> cached = get(key);
+    if (cached.isPresent()) {
+      hitCounter.inc();
+      return cached.get();
+    }
+    missCounter.inc();
+    final Bytes encoded = encoder.get();
+    put(key, encoded);
+    return encoded;
+  }
+
+  private synchronized Optional<Bytes> get(final PayloadKey key) {
+    return Optional.ofNullable(entries.get(key));
+  }
+
+  private synchronized void put(final PayloadKey key, final Bytes encoded) {
+    if (encoded.size() > maxSizeBytes) {
+      return;
+    }
+    final Bytes previous = entries.put(key, encoded);
+    if (previous != null) {
+      sizeBytes -= previous.size();
+    }
+    sizeBytes += encoded.size();
+    final Iterator<Bytes> leastRecentlyUsed = entries.values().iterator();
+    while (sizeBytes > maxSizeBytes) {
+      sizeBytes -= leastRecentlyUsed.next().size();
+      leastRecentlyUsed.remove();
+    }
+  }
+
+  @VisibleForTesting
+  synchronized long getSizeBytes() {
+    return sizeBytes;
+  }
+
+  @VisibleForTesting
+  synchronized int size() {
+    return entries.size();
+  }
+
+  private record PayloadKey(Bytes32 blockRoot, Optional<UInt64> blobIndex) {
+
+    static Optional<PayloadKey> fromPayload(final SszData payload) {
+      // blinded blocks share their root with the full block but are encoded differently
+      if (payload instanceof SignedBeaconBlock block && !block.isBlinded()) {
+        return Optional.of(new PayloadKey(block.getRoot(), Optional.empty()));
+      }
+      if (payload instanceof BlobSidecar blobSidecar) {
+        return Optional.of(
+            new PayloadKey(blobSidecar.getBlockRoot(), Optional.of(blobSidecar.getIndex())));
+      }
+      return Optional.empty();
+    }
+  }
+}
@@ -44,6 +44,7 @@ public class LengthPrefixedEncoding implements RpcEncoding {
   private final RpcPayloadEncoders payloadEncoders;
   private final Compressor compressor;
   private final int maxChunkSize;
+  private final CompressedPayloadCache payloadCache;
 
   @SuppressWarnings({"unchecked", "TypeParameterUnusedInFormals"})
   private static <T> RpcByteBufDecoder<T> getEmptyMessageDecoder() {
@@ -54,11 +55,13 @@ public class LengthPrefixedEncoding implements RpcEncoding {
       final String name,
       final RpcPayloadEncoders payloadEncoders,
       final Compressor compressor,
-      final int maxChunkSize) {
+      final int maxChunkSize,
+      final CompressedPayloadCache payloadCache) {
     this.name = name;
     this.payloadEncoders = payloadEncoders;
     this.compressor = compressor;
     this.maxChunkSize = maxChunkSize;
+    this.payloadCache = payloadCache;
   }
 
   @Override
@@ -69,11 +72,16 @@ public class LengthPrefixedEncoding implements RpcEncoding {
     }
     final RpcPayloadEncoder<T> payloadEncoder =
         payloadEncoders.getEncoder((SszSchema<T>) message.getSchema());
-    final Bytes payload = payloadEncoder.encode(message);
-    if (payload.isEmpty()) {
-      return payload;
+    return payloadCache.getOrEncode(
+        message, () -> encodeSerializedPayload(payloadEncoder.encode(message)));
+  }
+
+  @Override
+  public Bytes encodeSerializedPayload(final Bytes serializedPayload) {
+    if (serializedPayload.isEmpty()) {
+      return serializedPayload;
     }
-    return encodeMessageWithLength(payload);
+    return encodeMessageWithLength(serializedPayload);
   }
 
   @Override
@@ -20,11 +20,17 @@ import tech.pegasys.teku.networking.eth2.rpc.core.encodings.compression.snappy.S
 
 public interface RpcEncoding {
   static RpcEncoding createSszSnappyEncoding(final int maxChunkSize) {
+    return createSszSnappyEncoding(maxChunkSize, CompressedPayloadCache.NOOP);
+  }
+
+  static RpcEncoding createSszSnappyEncoding(
+      final int maxChunkSize, final CompressedPayloadCache payloadCache) {
     return new LengthPrefixedEncoding(
         "ssz_snappy",
         RpcPayloadEncoders.createSszEncoders(),
         new SnappyFramedCompressor(),
-        maxChunkSize);
+        maxChunkSize,
+        payloadCache);
   }
 
   /**
@@ -36,6 +42,15 @@ public interface RpcEncoding {
    */
   <T extends SszData> Bytes encodePayload(T payload);
 
+  /**
+   * Encodes an already SSZ serialized payload with its encoding-dependent header. Allows responses
+   * to be sent directly from storage without deserializing and re-serializing them.
+   *
+   * @param serializedPayload The SSZ serialized payload
+   * @return The encoded header and payload bytes
+   */
+  Bytes encodeSerializedPayload(Bytes serializedPayload);
+
   /**
    * Creates a brand new disposable {@link RpcByteBufDecoder} instance for decoding a payload with
    * it's encoding-dependent header
@@ -22,9 +22,11 @@ import static org.mockito.Mockito.verify;
 import org.junit.jupiter.api.Test;
 import tech.pegasys.teku.infrastructure.async.StubAsyncRunner;
 import tech.pegasys.teku.infrastructure.metrics.StubMetricsSystem;
+import tech.pegasys.teku.infrastructure.time.StubTimeProvider;
 import tech.pegasys.teku.infrastructure.unsigned.UInt64;
 import tech.pegasys.teku.networking.eth2.gossip.BlobSidecarGossipManager;
 import tech.pegasys.teku.networking.eth2.gossip.encoding.GossipEncoding;
+import tech.pegasys.teku.networking.eth2.gossip.scheduling.GossipValidationScheduler;
 import tech.pegasys.teku.networking.eth2.gossip.topics.OperationProcessor;
 import tech.pegasys.teku.networking.p2p.discovery.DiscoveryNetwork;
 import tech.pegasys.teku.spec.Spec;
@@ -69,6 +71,10 @@ public class GossipForkSubscriptionsDenebTest {
         fork,
         spec,
         new StubAsyncRunner(),
+        GossipValidationScheduler.create(
+            GossipValidationScheduler.DEFAULT_MAX_CONCURRENT_TASKS,
+            new StubMetricsSystem(),
+            StubTimeProvider.withTimeInSeconds(0)),
         new StubMetricsSystem(),
         discoveryNetwork,
         recentChainData,
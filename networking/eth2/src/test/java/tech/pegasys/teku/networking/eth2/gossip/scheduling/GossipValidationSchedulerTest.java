@@ -0,0 +1,171 @@
+/*
+ * Copyright Consensys Software Inc., 2025
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.networking.eth2.gossip.scheduling;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static tech.pegasys.teku.infrastructure.async.SafeFutureAssert.assertThatSafeFuture;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+import tech.pegasys.teku.infrastructure.async.AsyncRunner;
+import tech.pegasys.teku.infrastructure.async.SafeFuture;
+import tech.pegasys.teku.infrastructure.async.StubAsyncRunner;
+import tech.pegasys.teku.infrastructure.metrics.StubMetricsSystem;
+import tech.pegasys.teku.infrastructure.metrics.TekuMetricCategory;
+import tech.pegasys.teku.infrastructure.time.StubTimeProvider;
+
+public class GossipValidationSchedulerTest {
+
+  private final StubMetricsSystem metricsSystem = new StubMetricsSystem();
+  private final StubTimeProvider timeProvider = StubTimeProvider.withTimeInSeconds(1000);
+
+  private final GossipValidationScheduler scheduler =
+      GossipValidationScheduler.create(1, metricsSystem, timeProvider);
+
+  @Test
+  public void shouldRunPrioritizedTopicsBeforeOtherQueuedTasks() {
+    final SafeFuture<Void> blocker = new SafeFuture<>();
+    final List<GossipTopicClass> executionOrder = new ArrayList<>();
+
+    scheduler.queueTask(GossipTopicClass.ATTESTATION, () -> blocker);
+    queueRecordingTask(GossipTopicClass.ATTESTATION, executionOrder);
+    queueRecordingTask(GossipTopicClass.AGGREGATE, executionOrder);
+    queueRecordingTask(GossipTopicClass.BLOB_SIDECAR, executionOrder);
+    queueRecordingTask(GossipTopicClass.BEACON_BLOCK, executionOrder);
+
+    blocker.complete(null);
+
+    assertThat(executionOrder.subList(0, 2))
+        .containsExactlyInAnyOrder(GossipTopicClass.BLOB_SIDECAR, GossipTopicClass.BEACON_BLOCK);
+    assertThat(executionOrder.subList(2, 4))
+        .containsExactlyInAnyOrder(GossipTopicClass.ATTESTATION, GossipTopicClass.AGGREGATE);
+  }
+
+  @Test
+  public void shouldShareSlotsByWeight() {
+    final SafeFuture<Void> blocker = new SafeFuture<>();
+    final List<GossipTopicClass> executionOrder = new ArrayList<>();
+
+    scheduler.queueTask(GossipTopicClass.OPERATION, () -> blocker);
+    IntStream.range(0, 10)
+        .forEach(
+            __ -> {
+              queueRecordingTask(GossipTopicClass.OPERATION, executionOrder);
+              queueRecordingTask(GossipTopicClass.AGGREGATE, executionOrder);
+            });
+
+    blocker.complete(null);
+
+    // aggregates have four times the weight of other operations
+    assertThat(executionOrder.subList(0, 5))
+        .filteredOn(topicClass -> topicClass == GossipTopicClass.AGGREGATE)
+        .hasSize(4);
+    assertThat(executionOrder).hasSize(20);
+  }
+
+  @Test
+  public void shouldRejectTasksWhenTopicQueueIsFull() {
+    final SafeFuture<Void> blocker = new SafeFuture<>();
+    scheduler.queueTask(GossipTopicClass.OPERATION, () -> blocker);
+    IntStream.range(0, GossipTopicClass.OPERATION.getMaxQueueSize())
+        .forEach(__ -> scheduler.queueTask(GossipTopicClass.OPERATION, SafeFuture::new));
+
+    final SafeFuture<Void> rejected =
+        scheduler.queueTask(GossipTopicClass.OPERATION, () -> SafeFuture.COMPLETE);
+
+    assertThatSafeFuture(rejected).isCompletedExceptionallyWith(RejectedExecutionException.class);
+    assertThat(getDroppedCount(GossipTopicClass.OPERATION, "queue_full")).isEqualTo(1);
+
+    // other topics are unaffected
+    assertThat(scheduler.queueTask(GossipTopicClass.BEACON_BLOCK, SafeFuture::new))
+        .isNotCompleted();
+  }
+
+  @Test
+  public void shouldDropTasksWhichExceedTheirDeadline() {
+    final SafeFuture<Void> blocker = new SafeFuture<>();
+    scheduler.queueTask(GossipTopicClass.ATTESTATION, () -> blocker);
+    final SafeFuture<Void> expired =
+        scheduler.queueTask(GossipTopicClass.ATTESTATION, () -> SafeFuture.COMPLETE);
+
+    timeProvider.advanceTimeBy(GossipTopicClass.ATTESTATION.getDeadline().plusMillis(1));
+    final SafeFuture<Void> fresh =
+        scheduler.queueTask(GossipTopicClass.ATTESTATION, () -> SafeFuture.COMPLETE);
+    blocker.complete(null);
+
+    assertThatSafeFuture(expired).isCompletedExceptionallyWith(RejectedExecutionException.class);
+    assertThatSafeFuture(fresh).isCompleted();
+    assertThat(getDroppedCount(GossipTopicClass.ATTESTATION, "deadline_exceeded")).isEqualTo(1);
+  }
+
+  @Test
+  public void shouldReportQueueSizePerTopic() {
+    final SafeFuture<Void> blocker = new SafeFuture<>();
+    scheduler.queueTask(GossipTopicClass.ATTESTATION, () -> blocker);
+    scheduler.queueTask(GossipTopicClass.ATTESTATION, SafeFuture::new);
+    scheduler.queueTask(GossipTopicClass.ATTESTATION, SafeFuture::new);
+
+    assertThat(getQueueSize(GossipTopicClass.ATTESTATION)).isEqualTo(2);
+    assertThat(getQueueSize(GossipTopicClass.BEACON_BLOCK)).isZero();
+  }
+
+  @Test
+  public void topicAsyncRunnerShouldReleaseSlotOnceTaskHasRun() {
+    final StubAsyncRunner delegate = new StubAsyncRunner();
+    final AsyncRunner asyncRunner =
+        scheduler.createAsyncRunner(GossipTopicClass.ATTESTATION, delegate);
+    final SafeFuture<String> pendingResult = new SafeFuture<>();
+
+    final SafeFuture<String> first = asyncRunner.runAsync(() -> pendingResult);
+    final SafeFuture<String> second = asyncRunner.runAsync(() -> SafeFuture.completedFuture("b"));
+    assertThat(delegate.countDelayedActions()).isEqualTo(1);
+
+    delegate.executeQueuedActions();
+    // first task has run but its result is still pending, the second one can now be executed
+    assertThat(first).isNotCompleted();
+    delegate.executeQueuedActions();
+    assertThatSafeFuture(second).isCompletedWithValue("b");
+
+    pendingResult.complete("a");
+    assertThatSafeFuture(first).isCompletedWithValue("a");
+  }
+
+  private void queueRecordingTask(
+      final GossipTopicClass topicClass, final List<GossipTopicClass> executionOrder) {
+    scheduler.queueTask(
+        topicClass,
+        () -> {
+          executionOrder.add(topicClass);
+          return SafeFuture.COMPLETE;
+        });
+  }
+
+  private long getDroppedCount(final GossipTopicClass topicClass, final String reason) {
+    return metricsSystem.getCounterValue(
+        TekuMetricCategory.NETWORK,
+        "gossip_validation_dropped_total",
+        topicClass.toString(),
+        reason);
+  }
+
+  private double getQueueSize(final GossipTopicClass topicClass) {
+    return metricsSystem
+        .getLabelledGauge(TekuMetricCategory.NETWORK, "gossip_validation_queue_size")
+        .getValue(topicClass.toString())
+        .orElseThrow();
+  }
+}
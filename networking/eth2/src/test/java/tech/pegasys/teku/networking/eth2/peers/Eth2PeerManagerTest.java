@@ -77,7 +77,10 @@ public class Eth2PeerManagerTest {
           rpcEncoding,
           Eth2P2PNetworkBuilder.DEFAULT_ETH2_RPC_PING_INTERVAL,
           Eth2P2PNetworkBuilder.DEFAULT_ETH2_RPC_OUTSTANDING_PING_THRESHOLD,
-          Eth2P2PNetworkBuilder.DEFAULT_ETH2_STATUS_UPDATE_INTERVAL);
+          Eth2P2PNetworkBuilder.DEFAULT_ETH2_STATUS_UPDATE_INTERVAL,
+          RateTracker.UNLIMITED,
+          RateTracker.UNLIMITED,
+          false);
 
   @Test
   public void subscribeConnect_singleListener() {
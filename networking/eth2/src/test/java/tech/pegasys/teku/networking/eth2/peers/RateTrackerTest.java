@@ -15,7 +15,13 @@ package tech.pegasys.teku.networking.eth2.peers;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -183,6 +189,55 @@ public class RateTrackerTest {
     assertThat(objectRequests).isEmpty();
   }
 
+  @Test
+  public void shouldIgnoreAdjustmentsForRequestsOutsideWindow() {
+    final RateTracker tracker = RateTracker.create(10, 2, timeProvider);
+
+    final Optional<RequestApproval> expiredRequest = tracker.approveObjectsRequest(10);
+    assertRequestsAllowed(expiredRequest, 10, timeProvider);
+
+    timeProvider.advanceTimeBySeconds(3L);
+    // time: 1003, the bucket used at 1000 is reused
+    final Optional<RequestApproval> objectRequests = tracker.approveObjectsRequest(10);
+    assertRequestsAllowed(objectRequests, 10, timeProvider);
+
+    // must not release the capacity used by the request at 1003
+    tracker.adjustObjectsRequest(expiredRequest.get(), 0);
+    assertThat(tracker.approveObjectsRequest(1)).isEmpty();
+  }
+
+  @Test
+  public void shouldNotLoseObjectsWhenApprovedConcurrently() throws Exception {
+    final int threads = 8;
+    final int requestsPerThread = 1000;
+    final RateTracker tracker = RateTracker.create(threads * requestsPerThread, 60, timeProvider);
+    final AtomicInteger approvedCount = new AtomicInteger();
+
+    final ExecutorService executor = Executors.newFixedThreadPool(threads);
+    try {
+      final List<Future<?>> futures = new ArrayList<>();
+      for (int i = 0; i < threads; i++) {
+        futures.add(
+            executor.submit(
+                () -> {
+                  for (int j = 0; j < requestsPerThread; j++) {
+                    if (tracker.approveObjectsRequest(1).isPresent()) {
+                      approvedCount.incrementAndGet();
+                    }
+                  }
+                }));
+      }
+      for (final Future<?> future : futures) {
+        future.get(10, TimeUnit.SECONDS);
+      }
+    } finally {
+      executor.shutdownNow();
+    }
+
+    assertThat(approvedCount).hasValue(threads * requestsPerThread);
+    assertThat(tracker.approveObjectsRequest(1)).isEmpty();
+  }
+
   private void assertRequestsAllowed(
       final Optional<RequestApproval> requestApproval,
       final long objectsCount,
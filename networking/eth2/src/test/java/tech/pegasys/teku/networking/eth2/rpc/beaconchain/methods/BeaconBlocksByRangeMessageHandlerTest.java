@@ -34,6 +34,7 @@ import java.util.Optional;
 import java.util.TreeMap;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
+import org.apache.tuweni.bytes.Bytes;
 import org.apache.tuweni.bytes.Bytes32;
 import org.hyperledger.besu.metrics.noop.NoOpMetricsSystem;
 import org.hyperledger.besu.plugin.services.MetricsSystem;
@@ -44,6 +45,7 @@ import org.mockito.Mockito;
 import tech.pegasys.teku.infrastructure.async.SafeFuture;
 import tech.pegasys.teku.infrastructure.unsigned.UInt64;
 import tech.pegasys.teku.networking.eth2.peers.Eth2Peer;
+import tech.pegasys.teku.networking.eth2.peers.RateTracker;
 import tech.pegasys.teku.networking.eth2.peers.RequestApproval;
 import tech.pegasys.teku.networking.eth2.rpc.beaconchain.BeaconChainMethodIds;
 import tech.pegasys.teku.networking.eth2.rpc.core.ResponseCallback;
@@ -91,8 +93,10 @@ class BeaconBlocksByRangeMessageHandlerTest {
 
   private final MetricsSystem metricsSystem = new NoOpMetricsSystem();
   private final String protocolId = BeaconChainMethodIds.getBlocksByRangeMethodId(2, RPC_ENCODING);
+  private final RateTracker globalRateTracker = mock(RateTracker.class);
   private final BeaconBlocksByRangeMessageHandler handler =
-      new BeaconBlocksByRangeMessageHandler(spec, metricsSystem, combinedChainDataClient);
+      new BeaconBlocksByRangeMessageHandler(
+          spec, metricsSystem, combinedChainDataClient, globalRateTracker, false);
   private final Optional<RequestApproval> allowedObjectsRequest =
       Optional.of(
           new RequestApproval.RequestApprovalBuilder().objectsCount(100).timeSeconds(ZERO).build());
@@ -101,6 +105,7 @@ class BeaconBlocksByRangeMessageHandlerTest {
   public void setup() {
     when(peer.approveRequest()).thenReturn(true);
     when(peer.approveBlocksRequest(any(), anyLong())).thenReturn(allowedObjectsRequest);
+    when(globalRateTracker.approveObjectsRequest(anyLong())).thenReturn(allowedObjectsRequest);
     when(combinedChainDataClient.getEarliestAvailableBlockSlot())
         .thenReturn(completedFuture(Optional.of(ZERO)));
     when(listener.respond(any())).thenReturn(SafeFuture.COMPLETE);
@@ -119,7 +124,8 @@ class BeaconBlocksByRangeMessageHandlerTest {
   public void validateRequest_altairSpec_v2RequestForPhase0Block() {
     final Spec spec = TestSpecFactory.createMinimalWithAltairForkEpoch(UInt64.valueOf(4));
     final BeaconBlocksByRangeMessageHandler handler =
-        new BeaconBlocksByRangeMessageHandler(spec, metricsSystem, combinedChainDataClient);
+        new BeaconBlocksByRangeMessageHandler(
+            spec, metricsSystem, combinedChainDataClient, RateTracker.UNLIMITED, false);
 
     final Optional<RpcException> result =
         handler.validateRequest(
@@ -132,7 +138,8 @@ class BeaconBlocksByRangeMessageHandlerTest {
   public void validateRequest_altairSpec_v2RequestForAltairBlock() {
     final Spec spec = TestSpecFactory.createMinimalWithAltairForkEpoch(UInt64.valueOf(4));
     final BeaconBlocksByRangeMessageHandler handler =
-        new BeaconBlocksByRangeMessageHandler(spec, metricsSystem, combinedChainDataClient);
+        new BeaconBlocksByRangeMessageHandler(
+            spec, metricsSystem, combinedChainDataClient, RateTracker.UNLIMITED, false);
 
     final Optional<RpcException> result =
         handler.validateRequest(
@@ -145,7 +152,8 @@ class BeaconBlocksByRangeMessageHandlerTest {
   public void validateRequest_altairSpec_v2RequestForRangeOfBlocksAcrossForkBoundary() {
     final Spec spec = TestSpecFactory.createMinimalWithAltairForkEpoch(UInt64.valueOf(4));
     final BeaconBlocksByRangeMessageHandler handler =
-        new BeaconBlocksByRangeMessageHandler(spec, metricsSystem, combinedChainDataClient);
+        new BeaconBlocksByRangeMessageHandler(
+            spec, metricsSystem, combinedChainDataClient, RateTracker.UNLIMITED, false);
 
     final Optional<RpcException> result =
         handler.validateRequest(
@@ -235,7 +243,8 @@ class BeaconBlocksByRangeMessageHandlerTest {
     final Spec spec = TestSpecFactory.createMinimalWithDenebForkEpoch(ONE);
 
     final BeaconBlocksByRangeMessageHandler handler =
-        new BeaconBlocksByRangeMessageHandler(spec, metricsSystem, combinedChainDataClient);
+        new BeaconBlocksByRangeMessageHandler(
+            spec, metricsSystem, combinedChainDataClient, RateTracker.UNLIMITED, false);
 
     final SpecConfig config = spec.forMilestone(SpecMilestone.DENEB).getConfig();
     final SpecConfigDeneb specConfigDeneb = SpecConfigDeneb.required(config);
@@ -270,6 +279,43 @@ class BeaconBlocksByRangeMessageHandlerTest {
     verifyNoBlocksReturned();
   }
 
+  @Test
+  public void shouldReturnErrorWithoutDisconnectingWhenGloballyRateLimited() {
+    final int startBlock = 1;
+    final int count = 5;
+    final int skip = 1;
+    when(globalRateTracker.approveObjectsRequest(anyLong())).thenReturn(Optional.empty());
+
+    requestBlocks(startBlock, count, skip);
+
+    // the peer's own allowance is given back
+    verify(peer).adjustBlocksRequest(eq(allowedObjectsRequest.get()), eq(0L));
+    verify(peer, never()).disconnectCleanly(any());
+    verify(listener)
+        .completeWithErrorResponse(
+            new RpcException.ResourceUnavailableException(
+                "Blocks by range requests are currently rate limited"));
+    verifyNoMoreInteractions(listener);
+    verify(combinedChainDataClient, never()).getEarliestAvailableBlockSlot();
+  }
+
+  @Test
+  public void shouldReleaseGlobalAllowanceWhenRequestFails() {
+    final int startBlock = 1;
+    final int count = 5;
+    final int skip = 1;
+    withCanonicalHeadBlock(blocksWStates.get(8));
+    withFinalizedBlocks(0, 1, 2, 3, 4, 5, 6, 7);
+
+    when(combinedChainDataClient.getEarliestAvailableBlockSlot())
+        .thenReturn(completedFuture(Optional.of(UInt64.valueOf(2))));
+
+    requestBlocks(startBlock, count, skip);
+
+    verify(globalRateTracker).approveObjectsRequest(count);
+    verify(globalRateTracker).adjustObjectsRequest(allowedObjectsRequest.get(), 0);
+  }
+
   @Test
   public void shouldReturnErrorWhenFirstBlockIsMissing() {
     final int startBlock = 1;
@@ -322,6 +368,38 @@ class BeaconBlocksByRangeMessageHandlerTest {
     verifyNoMoreInteractions(listener);
   }
 
+  @Test
+  public void shouldSendFinalizedBlocksAsSszWhenEnabled() {
+    final BeaconBlocksByRangeMessageHandler handler =
+        new BeaconBlocksByRangeMessageHandler(
+            spec, metricsSystem, combinedChainDataClient, RateTracker.UNLIMITED, true);
+    withCanonicalHeadBlock(blocksWStates.get(10));
+    withFinalizedBlocks(0, 1, 2, 3, 4, 5, 6, 7);
+    final NavigableMap<UInt64, Bytes> serializedBlocks = new TreeMap<>();
+    // slot 5 is empty
+    IntStream.of(3, 4, 6, 7)
+        .forEach(
+            slot -> serializedBlocks.put(UInt64.valueOf(slot), blocks.get(slot).sszSerialize()));
+    when(combinedChainDataClient.getFinalizedBlocksAsSsz(UInt64.valueOf(3), UInt64.valueOf(7)))
+        .thenReturn(completedFuture(serializedBlocks));
+    when(listener.respondSerialized(any(), any())).thenReturn(SafeFuture.COMPLETE);
+
+    handler.onIncomingMessage(
+        protocolId,
+        peer,
+        new BeaconBlocksByRangeRequestMessage(UInt64.valueOf(3), UInt64.valueOf(5), ONE),
+        listener);
+
+    // Sending 4 blocks out of 5 requested
+    verify(peer).adjustBlocksRequest(eq(allowedObjectsRequest.get()), eq(4L));
+    final InOrder inOrder = Mockito.inOrder(listener);
+    serializedBlocks.forEach(
+        (slot, block) -> inOrder.verify(listener).respondSerialized(slot, block));
+    inOrder.verify(listener).completeSuccessfully();
+    verifyNoMoreInteractions(listener);
+    verify(combinedChainDataClient, never()).getBlockAtSlotExact(any());
+  }
+
   @Test
   public void shouldReturnRequestedNumberOfBlocksWhenFullySequential() {
     final int startBlock = 3;
@@ -17,11 +17,13 @@ import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
 import static tech.pegasys.teku.infrastructure.unsigned.UInt64.ONE;
 import static tech.pegasys.teku.infrastructure.unsigned.UInt64.ZERO;
@@ -31,18 +33,23 @@ import com.google.common.collect.ImmutableSortedMap;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.NavigableMap;
 import java.util.Optional;
+import java.util.TreeMap;
 import java.util.stream.Collectors;
 import org.apache.commons.lang3.tuple.Pair;
+import org.apache.tuweni.bytes.Bytes;
 import org.assertj.core.api.AssertionsForInterfaceTypes;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.TestTemplate;
 import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
 import tech.pegasys.teku.infrastructure.async.SafeFuture;
 import tech.pegasys.teku.infrastructure.metrics.StubMetricsSystem;
 import tech.pegasys.teku.infrastructure.metrics.TekuMetricCategory;
 import tech.pegasys.teku.infrastructure.unsigned.UInt64;
 import tech.pegasys.teku.networking.eth2.peers.Eth2Peer;
+import tech.pegasys.teku.networking.eth2.peers.RateTracker;
 import tech.pegasys.teku.networking.eth2.peers.RequestApproval;
 import tech.pegasys.teku.networking.eth2.rpc.beaconchain.BeaconChainMethodIds;
 import tech.pegasys.teku.networking.eth2.rpc.core.ResponseCallback;
@@ -84,6 +91,7 @@ public class BlobSidecarsByRangeMessageHandlerTest {
   private final CombinedChainDataClient combinedChainDataClient =
       mock(CombinedChainDataClient.class);
   private final UpdatableStore store = mock(UpdatableStore.class);
+  private final RateTracker globalRateTracker = mock(RateTracker.class);
   private final String protocolId =
       BeaconChainMethodIds.getBlobSidecarsByRangeMethodId(1, RPC_ENCODING);
   private final Optional<RequestApproval> allowedObjectsRequest =
@@ -118,11 +126,14 @@ public class BlobSidecarsByRangeMessageHandlerTest {
             .getMaxBlobsPerBlock();
     slotsPerEpoch = spec.getSlotsPerEpoch(ZERO);
     startSlot = currentForkEpoch.increment().times(slotsPerEpoch);
-    handler = new BlobSidecarsByRangeMessageHandler(spec, metricsSystem, combinedChainDataClient);
+    handler =
+        new BlobSidecarsByRangeMessageHandler(
+            spec, metricsSystem, combinedChainDataClient, globalRateTracker, false);
 
     when(peer.approveRequest()).thenReturn(true);
     when(peer.approveBlobSidecarsRequest(eq(listener), anyLong()))
         .thenReturn(allowedObjectsRequest);
+    when(globalRateTracker.approveObjectsRequest(anyLong())).thenReturn(allowedObjectsRequest);
     when(combinedChainDataClient.getEarliestAvailableBlobSidecarSlot())
         .thenReturn(SafeFuture.completedFuture(Optional.of(ZERO)));
     when(combinedChainDataClient.getStore()).thenReturn(store);
@@ -264,6 +275,36 @@ public class BlobSidecarsByRangeMessageHandlerTest {
     verifyNoInteractions(listener);
   }
 
+  @TestTemplate
+  public void shouldNotSendBlobSidecarsIfGloballyRateLimited() {
+    when(globalRateTracker.approveObjectsRequest(count.times(maxBlobsPerBlock).longValue()))
+        .thenReturn(Optional.empty());
+
+    final BlobSidecarsByRangeRequestMessage request =
+        new BlobSidecarsByRangeRequestMessage(startSlot, count, maxBlobsPerBlock);
+
+    handler.onIncomingMessage(protocolId, peer, request, listener);
+
+    // the peer's own allowance is given back and the peer is not disconnected
+    verify(peer).adjustBlobSidecarsRequest(allowedObjectsRequest.get(), 0);
+    verify(peer, never()).disconnectCleanly(any());
+
+    final long globalRateLimitedCount =
+        metricsSystem.getCounterValue(
+            TekuMetricCategory.NETWORK,
+            "rpc_blob_sidecars_by_range_requests_total",
+            "global_rate_limited");
+
+    assertThat(globalRateLimitedCount).isOne();
+
+    verify(listener)
+        .completeWithErrorResponse(
+            new RpcException.ResourceUnavailableException(
+                "Blob sidecars by range requests are currently rate limited"));
+    verifyNoMoreInteractions(listener);
+    verify(combinedChainDataClient, never()).getEarliestAvailableBlobSidecarSlot();
+  }
+
   @TestTemplate
   public void shouldSendResourceUnavailableIfBlobSidecarsAreNotAvailable() {
 
@@ -409,6 +450,70 @@ public class BlobSidecarsByRangeMessageHandlerTest {
     AssertionsForInterfaceTypes.assertThat(actualSent).containsExactlyElementsOf(expectedSent);
   }
 
+  @TestTemplate
+  public void shouldSendFinalizedBlobSidecarsAsSszWhenEnabled() {
+    final BlobSidecarsByRangeMessageHandler handler =
+        new BlobSidecarsByRangeMessageHandler(
+            spec, metricsSystem, combinedChainDataClient, RateTracker.UNLIMITED, true);
+    final BlobSidecarsByRangeRequestMessage request =
+        new BlobSidecarsByRangeRequestMessage(startSlot, count, maxBlobsPerBlock);
+
+    final NavigableMap<SlotAndBlockRootAndBlobIndex, Bytes> serializedBlobSidecars =
+        new TreeMap<>();
+    setupKeyAndHeaderList(startSlot, request.getMaxSlot())
+        .forEach(
+            headerAndKey ->
+                serializedBlobSidecars.put(
+                    headerAndKey.getValue(),
+                    dataStructureUtil
+                        .createRandomBlobSidecarBuilder()
+                        .signedBeaconBlockHeader(headerAndKey.getLeft())
+                        .index(headerAndKey.getValue().getBlobIndex())
+                        .build()
+                        .sszSerialize()));
+    when(combinedChainDataClient.getBlobSidecarsAsSsz(
+            eq(startSlot), eq(request.getMaxSlot()), anyLong()))
+        .thenReturn(SafeFuture.completedFuture(serializedBlobSidecars));
+    when(listener.respondSerialized(any(), any())).thenReturn(SafeFuture.COMPLETE);
+
+    handler.onIncomingMessage(protocolId, peer, request, listener);
+
+    verify(peer, times(1))
+        .adjustBlobSidecarsRequest(
+            eq(allowedObjectsRequest.get()), eq(Long.valueOf(serializedBlobSidecars.size())));
+    final InOrder inOrder = inOrder(listener);
+    serializedBlobSidecars.forEach(
+        (key, blobSidecar) ->
+            inOrder.verify(listener).respondSerialized(key.getSlot(), blobSidecar));
+    inOrder.verify(listener).completeSuccessfully();
+    verify(listener, never()).respond(any());
+    verify(combinedChainDataClient, never()).getBlobSidecarKeys(any(), any(), anyLong());
+  }
+
+  @TestTemplate
+  public void shouldNotSendBlobSidecarsAsSszWhenRangeIsPastFinality() {
+    final BlobSidecarsByRangeMessageHandler handler =
+        new BlobSidecarsByRangeMessageHandler(
+            spec, metricsSystem, combinedChainDataClient, RateTracker.UNLIMITED, true);
+    when(combinedChainDataClient.getFinalizedBlockSlot())
+        .thenReturn(Optional.of(startSlot.minus(1)));
+
+    final BlobSidecarsByRangeRequestMessage request =
+        new BlobSidecarsByRangeRequestMessage(startSlot, count, maxBlobsPerBlock);
+
+    // stored blob sidecars are all from a non-canonical fork
+    setUpBlobSidecarsData(startSlot, request.getMaxSlot());
+    when(combinedChainDataClient.getAncestorRoots(eq(startSlot), eq(ONE), any()))
+        .thenReturn(ImmutableSortedMap.of());
+
+    handler.onIncomingMessage(protocolId, peer, request, listener);
+
+    verify(combinedChainDataClient, never()).getBlobSidecarsAsSsz(any(), any(), anyLong());
+    verify(listener, never()).respondSerialized(any(), any());
+    verify(listener, never()).respond(any());
+    verify(listener).completeSuccessfully();
+  }
+
   @TestTemplate
   public void shouldIgnoreRequestWhenCountIsZero() {
 
@@ -25,6 +25,7 @@ import tech.pegasys.teku.infrastructure.async.SafeFuture;
 import tech.pegasys.teku.infrastructure.async.StubAsyncRunner;
 import tech.pegasys.teku.networking.eth2.peers.Eth2Peer;
 import tech.pegasys.teku.networking.eth2.peers.PeerLookup;
+import tech.pegasys.teku.networking.eth2.peers.RateTracker;
 import tech.pegasys.teku.networking.eth2.rpc.Utils;
 import tech.pegasys.teku.networking.eth2.rpc.beaconchain.BeaconChainMethods;
 import tech.pegasys.teku.networking.eth2.rpc.beaconchain.methods.MetadataMessagesFactory;
@@ -68,7 +69,10 @@ abstract class AbstractRequestHandlerTest<T extends RpcRequestHandler> {
             new NoOpMetricsSystem(),
             new StatusMessageFactory(recentChainData),
             new MetadataMessagesFactory(),
-            getRpcEncoding());
+            getRpcEncoding(),
+            RateTracker.UNLIMITED,
+            RateTracker.UNLIMITED,
+            false);
 
     reqHandler = createRequestHandler(beaconChainMethods);
 
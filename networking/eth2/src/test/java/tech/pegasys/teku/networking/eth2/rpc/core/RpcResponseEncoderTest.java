@@ -52,4 +52,12 @@ final class RpcResponseEncoderTest {
     final Bytes actual = responseEncoder.encodeSuccessfulResponse(RECORDED_STATUS_MESSAGE_DATA);
     assertThat(actual).isEqualTo(RECORDED_STATUS_RESPONSE_BYTES);
   }
+
+  @Test
+  public void shouldEncodeSuccessfulSerializedResponseSameAsDeserializedResponse() {
+    final Bytes actual =
+        responseEncoder.encodeSuccessfulSerializedResponse(
+            UInt64.ZERO, RECORDED_STATUS_MESSAGE_DATA.sszSerialize());
+    assertThat(actual).isEqualTo(RECORDED_STATUS_RESPONSE_BYTES);
+  }
 }
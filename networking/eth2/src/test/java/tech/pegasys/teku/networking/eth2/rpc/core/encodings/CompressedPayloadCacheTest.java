@@ -0,0 +1,146 @@
+/*
+ * Copyright Consensys Software Inc., 2025
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.networking.eth2.rpc.core.encodings;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import org.apache.tuweni.bytes.Bytes;
+import org.junit.jupiter.api.Test;
+import tech.pegasys.teku.infrastructure.metrics.StubMetricsSystem;
+import tech.pegasys.teku.infrastructure.metrics.TekuMetricCategory;
+import tech.pegasys.teku.infrastructure.ssz.SszData;
+import tech.pegasys.teku.spec.Spec;
+import tech.pegasys.teku.spec.TestSpecFactory;
+import tech.pegasys.teku.spec.datastructures.blobs.versions.deneb.BlobSidecar;
+import tech.pegasys.teku.spec.datastructures.blocks.SignedBeaconBlock;
+import tech.pegasys.teku.spec.util.DataStructureUtil;
+
+class CompressedPayloadCacheTest {
+  private final Spec spec = TestSpecFactory.createMinimalDeneb();
+  private final DataStructureUtil dataStructureUtil = new DataStructureUtil(spec);
+  private final StubMetricsSystem metricsSystem = new StubMetricsSystem();
+  private final AtomicInteger encodeCount = new AtomicInteger();
+
+  private final CompressedPayloadCacheImpl cache =
+      new CompressedPayloadCacheImpl(1000, metricsSystem);
+
+  @Test
+  void shouldOnlyEncodeBlockOnce() {
+    final SignedBeaconBlock block = dataStructureUtil.randomSignedBeaconBlock(1);
+
+    final Bytes first = cache.getOrEncode(block, encoder(Bytes.of(1, 2, 3)));
+    final Bytes second = cache.getOrEncode(block, encoder(Bytes.of(4, 5, 6)));
+
+    assertThat(first).isEqualTo(Bytes.of(1, 2, 3));
+    assertThat(second).isEqualTo(first);
+    assertThat(encodeCount).hasValue(1);
+    assertThat(getRequestsCount("hit")).isEqualTo(1);
+    assertThat(getRequestsCount("miss")).isEqualTo(1);
+  }
+
+  @Test
+  void shouldCacheBlobSidecarsByBlockRootAndIndex() {
+    final SignedBeaconBlock block = dataStructureUtil.randomSignedBeaconBlock(1);
+    final BlobSidecar blobSidecar0 = dataStructureUtil.randomBlobSidecarForBlock(block, 0);
+    final BlobSidecar blobSidecar1 = dataStructureUtil.randomBlobSidecarForBlock(block, 1);
+
+    cache.getOrEncode(blobSidecar0, encoder(Bytes.of(0)));
+    cache.getOrEncode(blobSidecar1, encoder(Bytes.of(1)));
+
+    assertThat(cache.getOrEncode(blobSidecar0, encoder(Bytes.EMPTY))).isEqualTo(Bytes.of(0));
+    assertThat(cache.getOrEncode(blobSidecar1, encoder(Bytes.EMPTY))).isEqualTo(Bytes.of(1));
+    assertThat(encodeCount).hasValue(2);
+  }
+
+  @Test
+  void shouldNotCacheBlindedBlocks() {
+    final SignedBeaconBlock block = dataStructureUtil.randomSignedBlindedBeaconBlock(1);
+
+    cache.getOrEncode(block, encoder(Bytes.of(1)));
+    cache.getOrEncode(block, encoder(Bytes.of(1)));
+
+    assertThat(encodeCount).hasValue(2);
+    assertThat(cache.size()).isZero();
+  }
+
+  @Test
+  void shouldNotCacheOtherPayloads() {
+    final SszData payload = dataStructureUtil.randomSignedBeaconBlock(1).getMessage();
+
+    cache.getOrEncode(payload, encoder(Bytes.of(1)));
+    cache.getOrEncode(payload, encoder(Bytes.of(1)));
+
+    assertThat(encodeCount).hasValue(2);
+    assertThat(cache.size()).isZero();
+  }
+
+  @Test
+  void shouldEvictLeastRecentlyUsedPayloadsWhenFull() {
+    final SignedBeaconBlock block1 = dataStructureUtil.randomSignedBeaconBlock(1);
+    final SignedBeaconBlock block2 = dataStructureUtil.randomSignedBeaconBlock(2);
+    final SignedBeaconBlock block3 = dataStructureUtil.randomSignedBeaconBlock(3);
+
+    cache.getOrEncode(block1, encoder(Bytes.wrap(new byte[400])));
+    cache.getOrEncode(block2, encoder(Bytes.wrap(new byte[400])));
+    // block1 is now the most recently used
+    cache.getOrEncode(block1, encoder(Bytes.EMPTY));
+    cache.getOrEncode(block3, encoder(Bytes.wrap(new byte[400])));
+
+    assertThat(cache.size()).isEqualTo(2);
+    assertThat(cache.getSizeBytes()).isEqualTo(800);
+    encodeCount.set(0);
+    cache.getOrEncode(block1, encoder(Bytes.EMPTY));
+    cache.getOrEncode(block3, encoder(Bytes.EMPTY));
+    assertThat(encodeCount).hasValue(0);
+    cache.getOrEncode(block2, encoder(Bytes.EMPTY));
+    assertThat(encodeCount).hasValue(1);
+  }
+
+  @Test
+  void shouldNotCachePayloadsLargerThanTheCache() {
+    final SignedBeaconBlock block = dataStructureUtil.randomSignedBeaconBlock(1);
+
+    cache.getOrEncode(block, encoder(Bytes.wrap(new byte[1001])));
+
+    assertThat(cache.size()).isZero();
+    assertThat(cache.getSizeBytes()).isZero();
+  }
+
+  @Test
+  void shouldEncodeSameBytesAsUncachedEncoding() {
+    final int maxChunkSize = spec.getNetworkingConfig().getMaxPayloadSize();
+    final RpcEncoding cachingEncoding =
+        RpcEncoding.createSszSnappyEncoding(
+            maxChunkSize, CompressedPayloadCache.create(1_000_000, new StubMetricsSystem()));
+    final RpcEncoding encoding = RpcEncoding.createSszSnappyEncoding(maxChunkSize);
+    final SignedBeaconBlock block = dataStructureUtil.randomSignedBeaconBlock(1);
+
+    assertThat(cachingEncoding.encodePayload(block)).isEqualTo(encoding.encodePayload(block));
+    assertThat(cachingEncoding.encodePayload(block)).isEqualTo(encoding.encodePayload(block));
+  }
+
+  private Supplier<Bytes> encoder(final Bytes result) {
+    return () -> {
+      encodeCount.incrementAndGet();
+      return result;
+    };
+  }
+
+  private long getRequestsCount(final String result) {
+    return metricsSystem.getCounterValue(
+        TekuMetricCategory.NETWORK, "rpc_compressed_payload_cache_requests_total", result);
+  }
+}
@@ -56,6 +56,7 @@ import tech.pegasys.teku.networking.eth2.gossip.forks.versions.GossipForkSubscri
 import tech.pegasys.teku.networking.eth2.gossip.forks.versions.GossipForkSubscriptionsDeneb;
 import tech.pegasys.teku.networking.eth2.gossip.forks.versions.GossipForkSubscriptionsElectra;
 import tech.pegasys.teku.networking.eth2.gossip.forks.versions.GossipForkSubscriptionsPhase0;
+import tech.pegasys.teku.networking.eth2.gossip.scheduling.GossipValidationScheduler;
 import tech.pegasys.teku.networking.eth2.gossip.subnets.AttestationSubnetTopicProvider;
 import tech.pegasys.teku.networking.eth2.gossip.subnets.PeerSubnetSubscriptions;
 import tech.pegasys.teku.networking.eth2.gossip.subnets.SyncCommitteeSubnetTopicProvider;
@@ -228,6 +229,9 @@ public class Eth2P2PNetworkFactory {
                 P2PConfig.DEFAULT_PEER_BLOCKS_RATE_LIMIT,
                 P2PConfig.DEFAULT_PEER_BLOB_SIDECARS_RATE_LIMIT,
                 P2PConfig.DEFAULT_PEER_REQUEST_LIMIT,
+                P2PConfig.DEFAULT_GLOBAL_BLOCKS_RATE_LIMIT,
+                P2PConfig.DEFAULT_GLOBAL_BLOB_SIDECARS_RATE_LIMIT,
+                P2PConfig.DEFAULT_SERVE_FINALIZED_RANGES_FROM_SSZ_ENABLED,
                 spec,
                 KZG.NOOP,
                 (__) -> Optional.empty());
@@ -313,12 +317,21 @@ public class Eth2P2PNetworkFactory {
 
         final GossipForkManager.Builder gossipForkManagerBuilder =
             GossipForkManager.builder().spec(spec).recentChainData(recentChainData);
+        final GossipValidationScheduler gossipValidationScheduler =
+            GossipValidationScheduler.create(
+                GossipValidationScheduler.DEFAULT_MAX_CONCURRENT_TASKS,
+                metricsSystem,
+                timeProvider);
 
         spec.getEnabledMilestones().stream()
             .map(
                 forkAndSpecMilestone ->
                     createSubscriptions(
-                        forkAndSpecMilestone, metricsSystem, network, gossipEncoding))
+                        forkAndSpecMilestone,
+                        metricsSystem,
+                        network,
+                        gossipEncoding,
+                        gossipValidationScheduler))
             .forEach(gossipForkManagerBuilder::fork);
 
         final GossipForkManager gossipForkManager = gossipForkManagerBuilder.build();
@@ -344,13 +357,15 @@ public class Eth2P2PNetworkFactory {
         final ForkAndSpecMilestone forkAndSpecMilestone,
         final NoOpMetricsSystem metricsSystem,
         final DiscoveryNetwork<?> network,
-        final GossipEncoding gossipEncoding) {
+        final GossipEncoding gossipEncoding,
+        final GossipValidationScheduler gossipValidationScheduler) {
       return switch (forkAndSpecMilestone.getSpecMilestone()) {
         case PHASE0 ->
             new GossipForkSubscriptionsPhase0(
                 forkAndSpecMilestone.getFork(),
                 spec,
                 asyncRunner,
+                gossipValidationScheduler,
                 metricsSystem,
                 network,
                 recentChainData,
@@ -367,6 +382,7 @@ public class Eth2P2PNetworkFactory {
                 forkAndSpecMilestone.getFork(),
                 spec,
                 asyncRunner,
+                gossipValidationScheduler,
                 metricsSystem,
                 network,
                 recentChainData,
@@ -385,6 +401,7 @@ public class Eth2P2PNetworkFactory {
                 forkAndSpecMilestone.getFork(),
                 spec,
                 asyncRunner,
+                gossipValidationScheduler,
                 metricsSystem,
                 network,
                 recentChainData,
@@ -403,6 +420,7 @@ public class Eth2P2PNetworkFactory {
                 forkAndSpecMilestone.getFork(),
                 spec,
                 asyncRunner,
+                gossipValidationScheduler,
                 metricsSystem,
                 network,
                 recentChainData,
@@ -422,6 +440,7 @@ public class Eth2P2PNetworkFactory {
                 forkAndSpecMilestone.getFork(),
                 spec,
                 asyncRunner,
+                gossipValidationScheduler,
                 metricsSystem,
                 network,
                 recentChainData,
@@ -442,6 +461,7 @@ public class Eth2P2PNetworkFactory {
                 forkAndSpecMilestone.getFork(),
                 spec,
                 asyncRunner,
+                gossipValidationScheduler,
                 metricsSystem,
                 network,
                 recentChainData,
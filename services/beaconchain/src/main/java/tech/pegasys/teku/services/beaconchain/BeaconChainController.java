@@ -826,7 +826,8 @@ public class BeaconChainController extends Service implements BeaconChainControl
             new MergeTransitionBlockValidator(spec, recentChainData),
             beaconConfig.eth2NetworkConfig().isForkChoiceLateBlockReorgEnabled(),
             debugDataDumper,
-            metricsSystem);
+            metricsSystem,
+            Optional.of(beaconAsyncRunner));
     forkChoiceTrigger = new ForkChoiceTrigger(forkChoice);
   }
 
@@ -1178,6 +1179,9 @@ public class BeaconChainController extends Service implements BeaconChainControl
   }
 
   protected void initSlotProcessor() {
+    final EpochCachePrimer epochCachePrimer =
+        new EpochCachePrimer(spec, recentChainData, beaconAsyncRunner);
+    eventChannels.subscribe(ChainHeadChannel.class, epochCachePrimer);
     slotProcessor =
         new SlotProcessor(
             spec,
@@ -1187,7 +1191,7 @@ public class BeaconChainController extends Service implements BeaconChainControl
             forkChoiceNotifier,
             p2pNetwork,
             slotEventsChannelPublisher,
-            new EpochCachePrimer(spec, recentChainData, beaconAsyncRunner));
+            epochCachePrimer);
   }
 
   public void initAttestationPool() {
@@ -15,8 +15,10 @@ package tech.pegasys.teku.storage.api;
 
 import java.util.List;
 import java.util.Map;
+import java.util.NavigableMap;
 import java.util.Optional;
 import java.util.Set;
+import org.apache.tuweni.bytes.Bytes;
 import org.apache.tuweni.bytes.Bytes32;
 import tech.pegasys.teku.ethereum.pow.api.DepositTreeSnapshot;
 import tech.pegasys.teku.infrastructure.async.SafeFuture;
@@ -51,6 +53,12 @@ public interface StorageQueryChannel extends ChannelInterface {
 
   SafeFuture<Optional<SignedBeaconBlock>> getLatestFinalizedBlockAtSlot(UInt64 slot);
 
+  /**
+   * Returns the serialized finalized blocks between startSlot and endSlot (both inclusive) keyed by
+   * slot, without deserializing them. Empty slots have no entry.
+   */
+  SafeFuture<NavigableMap<UInt64, Bytes>> getFinalizedBlocksAsSsz(UInt64 startSlot, UInt64 endSlot);
+
   SafeFuture<Optional<SignedBeaconBlock>> getBlockByBlockRoot(Bytes32 blockRoot);
 
   SafeFuture<Optional<SignedBlockAndState>> getHotBlockAndStateByBlockRoot(Bytes32 blockRoot);
@@ -107,6 +115,13 @@ public interface StorageQueryChannel extends ChannelInterface {
   SafeFuture<List<SlotAndBlockRootAndBlobIndex>> getBlobSidecarKeys(
       UInt64 startSlot, UInt64 endSlot, long limit);
 
+  /**
+   * Returns serialized blob sidecars without deserializing them. This method could return
+   * non-canonical blob sidecars for slots which are not finalized.
+   */
+  SafeFuture<NavigableMap<SlotAndBlockRootAndBlobIndex, Bytes>> getBlobSidecarsAsSsz(
+      UInt64 startSlot, UInt64 endSlot, long limit);
+
   SafeFuture<List<SlotAndBlockRootAndBlobIndex>> getBlobSidecarKeys(
       SlotAndBlockRoot slotAndBlockRoot);
 }
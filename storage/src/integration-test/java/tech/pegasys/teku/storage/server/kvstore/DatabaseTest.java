@@ -46,6 +46,7 @@ import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
+import org.apache.tuweni.bytes.Bytes;
 import org.apache.tuweni.bytes.Bytes32;
 import org.hyperledger.besu.metrics.noop.NoOpMetricsSystem;
 import org.junit.jupiter.api.AfterEach;
@@ -2466,6 +2467,12 @@ public class DatabaseTest {
         database.streamFinalizedBlocks(UInt64.valueOf(fromSlot), UInt64.valueOf(toSlot))) {
       assertThat(stream).containsExactly(expectedBlocks);
     }
+    try (final Stream<? extends Map.Entry<UInt64, Bytes>> stream =
+        database.streamFinalizedBlocksAsSsz(UInt64.valueOf(fromSlot), UInt64.valueOf(toSlot))) {
+      assertThat(stream.map(Map.Entry::getValue))
+          .containsExactly(
+              Stream.of(expectedBlocks).map(SignedBeaconBlock::sszSerialize).toArray(Bytes[]::new));
+    }
   }
 
   private void assertBlocksFinalized(final List<SignedBeaconBlock> blocks) {
@@ -26,6 +26,7 @@ import java.util.Optional;
 import java.util.stream.Stream;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import org.apache.tuweni.bytes.Bytes;
 import org.apache.tuweni.bytes.Bytes32;
 import tech.pegasys.teku.infrastructure.async.SafeFuture;
 import tech.pegasys.teku.infrastructure.unsigned.UInt64;
@@ -530,6 +531,20 @@ public class CombinedChainDataClient {
     return historicalChainData.getBlobSidecarKeys(startSlot, endSlot, limit);
   }
 
+  /**
+   * Retrieves serialized finalized blocks in the given slot range (both inclusive). Callers must
+   * ensure the whole range is finalized, otherwise blocks from the hot database are not included.
+   */
+  public SafeFuture<NavigableMap<UInt64, Bytes>> getFinalizedBlocksAsSsz(
+      final UInt64 startSlot, final UInt64 endSlot) {
+    return historicalChainData.getFinalizedBlocksAsSsz(startSlot, endSlot);
+  }
+
+  public SafeFuture<NavigableMap<SlotAndBlockRootAndBlobIndex, Bytes>> getBlobSidecarsAsSsz(
+      final UInt64 startSlot, final UInt64 endSlot, final long limit) {
+    return historicalChainData.getBlobSidecarsAsSsz(startSlot, endSlot, limit);
+  }
+
   public Optional<UInt64> getFinalizedBlockSlot() {
     if (recentChainData.isPreGenesis()) {
       return Optional.empty();
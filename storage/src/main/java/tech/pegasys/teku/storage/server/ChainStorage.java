@@ -16,11 +16,15 @@ package tech.pegasys.teku.storage.server;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
+import java.util.NavigableMap;
 import java.util.Optional;
 import java.util.Set;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import org.apache.tuweni.bytes.Bytes;
 import org.apache.tuweni.bytes.Bytes32;
 import tech.pegasys.teku.ethereum.pow.api.DepositTreeSnapshot;
 import tech.pegasys.teku.infrastructure.async.SafeFuture;
@@ -175,6 +179,20 @@ public class ChainStorage
     return SafeFuture.of(() -> database.getLatestFinalizedBlockAtSlot(slot));
   }
 
+  @Override
+  public SafeFuture<NavigableMap<UInt64, Bytes>> getFinalizedBlocksAsSsz(
+      final UInt64 startSlot, final UInt64 endSlot) {
+    return SafeFuture.of(
+        () -> {
+          try (final Stream<? extends Map.Entry<UInt64, Bytes>> blocks =
+              database.streamFinalizedBlocksAsSsz(startSlot, endSlot)) {
+            return blocks.collect(
+                Collectors.toMap(
+                    Map.Entry::getKey, Map.Entry::getValue, (a, b) -> b, TreeMap::new));
+          }
+        });
+  }
+
   @Override
   public SafeFuture<Optional<SignedBeaconBlock>> getBlockByBlockRoot(final Bytes32 blockRoot) {
     return SafeFuture.of(() -> database.getSignedBlock(blockRoot));
@@ -358,6 +376,22 @@ public class ChainStorage
         });
   }
 
+  @Override
+  public SafeFuture<NavigableMap<SlotAndBlockRootAndBlobIndex, Bytes>> getBlobSidecarsAsSsz(
+      final UInt64 startSlot, final UInt64 endSlot, final long limit) {
+    return SafeFuture.of(
+        () -> {
+          try (final Stream<? extends Map.Entry<SlotAndBlockRootAndBlobIndex, Bytes>> blobSidecars =
+              database.streamBlobSidecarsAsSsz(startSlot, endSlot)) {
+            return blobSidecars
+                .limit(limit)
+                .collect(
+                    Collectors.toMap(
+                        Map.Entry::getKey, Map.Entry::getValue, (a, b) -> b, TreeMap::new));
+          }
+        });
+  }
+
   @Override
   public SafeFuture<List<SlotAndBlockRootAndBlobIndex>> getBlobSidecarKeys(
       final SlotAndBlockRoot slotAndBlockRoot) {
@@ -16,8 +16,10 @@ package tech.pegasys.teku.storage.server;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
+import java.util.NavigableMap;
 import java.util.Optional;
 import java.util.Set;
+import org.apache.tuweni.bytes.Bytes;
 import org.apache.tuweni.bytes.Bytes32;
 import tech.pegasys.teku.ethereum.pow.api.DepositTreeSnapshot;
 import tech.pegasys.teku.infrastructure.async.AsyncRunner;
@@ -130,6 +132,12 @@ public class CombinedStorageChannelSplitter implements CombinedStorageChannel {
     return asyncRunner.runAsync(() -> queryDelegate.getLatestFinalizedBlockAtSlot(slot));
   }
 
+  @Override
+  public SafeFuture<NavigableMap<UInt64, Bytes>> getFinalizedBlocksAsSsz(
+      final UInt64 startSlot, final UInt64 endSlot) {
+    return asyncRunner.runAsync(() -> queryDelegate.getFinalizedBlocksAsSsz(startSlot, endSlot));
+  }
+
   @Override
   public SafeFuture<Optional<SignedBeaconBlock>> getBlockByBlockRoot(final Bytes32 blockRoot) {
     return asyncRunner.runAsync(() -> queryDelegate.getBlockByBlockRoot(blockRoot));
@@ -244,6 +252,13 @@ public class CombinedStorageChannelSplitter implements CombinedStorageChannel {
     return asyncRunner.runAsync(() -> queryDelegate.getBlobSidecarKeys(startSlot, endSlot, limit));
   }
 
+  @Override
+  public SafeFuture<NavigableMap<SlotAndBlockRootAndBlobIndex, Bytes>> getBlobSidecarsAsSsz(
+      final UInt64 startSlot, final UInt64 endSlot, final long limit) {
+    return asyncRunner.runAsync(
+        () -> queryDelegate.getBlobSidecarsAsSsz(startSlot, endSlot, limit));
+  }
+
   @Override
   public SafeFuture<List<SlotAndBlockRootAndBlobIndex>> getBlobSidecarKeys(
       final SlotAndBlockRoot slotAndBlockRoot) {
@@ -88,6 +88,11 @@ public interface Database extends AutoCloseable {
   @MustBeClosed
   Stream<SlotAndBlockRootAndBlobIndex> streamBlobSidecarKeys(UInt64 startSlot, UInt64 endSlot);
 
+  /** Could return non-canonical blob sidecars for slots which are not finalized */
+  @MustBeClosed
+  Stream<? extends Map.Entry<SlotAndBlockRootAndBlobIndex, Bytes>> streamBlobSidecarsAsSsz(
+      UInt64 startSlot, UInt64 endSlot);
+
   @MustBeClosed
   Stream<SlotAndBlockRootAndBlobIndex> streamNonCanonicalBlobSidecarKeys(
       UInt64 startSlot, UInt64 endSlot);
@@ -181,6 +186,18 @@ public interface Database extends AutoCloseable {
   @MustBeClosed
   Stream<SignedBeaconBlock> streamFinalizedBlocks(UInt64 startSlot, UInt64 endSlot);
 
+  /**
+   * Return a {@link Stream} of serialized finalized blocks keyed by slot beginning at startSlot and
+   * ending at endSlot, both inclusive. Blocks are not deserialized.
+   *
+   * @param startSlot the slot of the first block to return
+   * @param endSlot the slot of the last block to return
+   * @return a Stream of serialized blocks in the range startSlot to endSlot (both inclusive).
+   */
+  @MustBeClosed
+  Stream<? extends Map.Entry<UInt64, Bytes>> streamFinalizedBlocksAsSsz(
+      UInt64 startSlot, UInt64 endSlot);
+
   @MustBeClosed
   Stream<Map.Entry<Bytes32, BlockCheckpoints>> streamBlockCheckpoints();
 
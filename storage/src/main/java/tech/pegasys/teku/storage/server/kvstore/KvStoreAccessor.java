@@ -108,6 +108,21 @@ public interface KvStoreAccessor extends AutoCloseable {
   @MustBeClosed
   <K extends Comparable<K>, V> Stream<K> streamKeys(KvStoreColumn<K, V> column, K from, K to);
 
+  /**
+   * Stream entries from a column between keys from and to fully inclusive, leaving the values in
+   * their serialized form.
+   *
+   * @param column the column to stream entries from
+   * @param from the first key to return
+   * @param to the last key to return
+   * @param <K> the key type of the column
+   * @param <V> the value type of the column
+   * @return a Stream of entries with serialized values between from and to (fully inclusive).
+   */
+  @MustBeClosed
+  <K extends Comparable<K>, V> Stream<ColumnEntry<K, Bytes>> streamRawValues(
+      KvStoreColumn<K, V> column, K from, K to);
+
   KvStoreTransaction startTransaction();
 
   interface KvStoreTransaction extends AutoCloseable {
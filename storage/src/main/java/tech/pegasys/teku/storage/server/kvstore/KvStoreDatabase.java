@@ -267,6 +267,13 @@ public class KvStoreDatabase implements Database {
     return dao.streamFinalizedBlocks(startSlot, endSlot);
   }
 
+  @Override
+  @MustBeClosed
+  public Stream<? extends Map.Entry<UInt64, Bytes>> streamFinalizedBlocksAsSsz(
+      final UInt64 startSlot, final UInt64 endSlot) {
+    return dao.streamFinalizedBlocksAsSsz(startSlot, endSlot);
+  }
+
   protected Map<Bytes32, StoredBlockMetadata> buildHotBlockMetadata() {
     final Map<Bytes32, StoredBlockMetadata> blockInformation = new HashMap<>();
     try (final Stream<SignedBeaconBlock> hotBlocks = dao.streamHotBlocks()) {
@@ -1045,6 +1052,13 @@ public class KvStoreDatabase implements Database {
     return dao.streamBlobSidecarKeys(startSlot, endSlot);
   }
 
+  @MustBeClosed
+  @Override
+  public Stream<? extends Map.Entry<SlotAndBlockRootAndBlobIndex, Bytes>> streamBlobSidecarsAsSsz(
+      final UInt64 startSlot, final UInt64 endSlot) {
+    return dao.streamBlobSidecarsAsSsz(startSlot, endSlot);
+  }
+
   @MustBeClosed
   @Override
   public Stream<SlotAndBlockRootAndBlobIndex> streamNonCanonicalBlobSidecarKeys(
@@ -317,6 +317,13 @@ public class CombinedKvStoreDao<S extends SchemaCombined>
         .map(ColumnEntry::getValue);
   }
 
+  @Override
+  @MustBeClosed
+  public Stream<? extends Map.Entry<UInt64, Bytes>> streamFinalizedBlocksAsSsz(
+      final UInt64 startSlot, final UInt64 endSlot) {
+    return db.streamRawValues(schema.getColumnFinalizedBlocksBySlot(), startSlot, endSlot);
+  }
+
   @Override
   public Optional<UInt64> getSlotForFinalizedBlockRoot(final Bytes32 blockRoot) {
     return db.get(schema.getColumnSlotsByFinalizedRoot(), blockRoot);
@@ -367,6 +374,16 @@ public class CombinedKvStoreDao<S extends SchemaCombined>
         new SlotAndBlockRootAndBlobIndex(endSlot, MAX_BLOCK_ROOT, UInt64.MAX_VALUE));
   }
 
+  @Override
+  @MustBeClosed
+  public Stream<? extends Map.Entry<SlotAndBlockRootAndBlobIndex, Bytes>> streamBlobSidecarsAsSsz(
+      final UInt64 startSlot, final UInt64 endSlot) {
+    return db.stream(
+        schema.getColumnBlobSidecarBySlotRootBlobIndex(),
+        new SlotAndBlockRootAndBlobIndex(startSlot, MIN_BLOCK_ROOT, UInt64.ZERO),
+        new SlotAndBlockRootAndBlobIndex(endSlot, MAX_BLOCK_ROOT, UInt64.MAX_VALUE));
+  }
+
   @MustBeClosed
   @Override
   public Stream<SlotAndBlockRootAndBlobIndex> streamNonCanonicalBlobSidecarKeys(
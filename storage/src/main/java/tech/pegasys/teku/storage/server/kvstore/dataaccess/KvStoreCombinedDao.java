@@ -76,6 +76,10 @@ public interface KvStoreCombinedDao extends AutoCloseable {
   @MustBeClosed
   Stream<SignedBeaconBlock> streamFinalizedBlocks(UInt64 startSlot, UInt64 endSlot);
 
+  @MustBeClosed
+  Stream<? extends Map.Entry<UInt64, Bytes>> streamFinalizedBlocksAsSsz(
+      UInt64 startSlot, UInt64 endSlot);
+
   Optional<UInt64> getSlotForFinalizedBlockRoot(Bytes32 blockRoot);
 
   Optional<UInt64> getSlotForFinalizedStateRoot(Bytes32 stateRoot);
@@ -140,6 +144,10 @@ public interface KvStoreCombinedDao extends AutoCloseable {
   @MustBeClosed
   Stream<SlotAndBlockRootAndBlobIndex> streamBlobSidecarKeys(UInt64 startSlot, UInt64 endSlot);
 
+  @MustBeClosed
+  Stream<? extends Map.Entry<SlotAndBlockRootAndBlobIndex, Bytes>> streamBlobSidecarsAsSsz(
+      UInt64 startSlot, UInt64 endSlot);
+
   @MustBeClosed
   Stream<SlotAndBlockRootAndBlobIndex> streamNonCanonicalBlobSidecarKeys(
       UInt64 startSlot, UInt64 endSlot);
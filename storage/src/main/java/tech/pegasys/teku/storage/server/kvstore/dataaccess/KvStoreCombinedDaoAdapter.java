@@ -204,6 +204,13 @@ public class KvStoreCombinedDaoAdapter implements KvStoreCombinedDao, V4Migratab
     return finalizedDao.streamFinalizedBlocks(startSlot, endSlot);
   }
 
+  @Override
+  @MustBeClosed
+  public Stream<? extends Map.Entry<UInt64, Bytes>> streamFinalizedBlocksAsSsz(
+      final UInt64 startSlot, final UInt64 endSlot) {
+    return finalizedDao.streamFinalizedBlocksAsSsz(startSlot, endSlot);
+  }
+
   @Override
   public Optional<UInt64> getSlotForFinalizedBlockRoot(final Bytes32 blockRoot) {
     return finalizedDao.getSlotForFinalizedBlockRoot(blockRoot);
@@ -276,6 +283,13 @@ public class KvStoreCombinedDaoAdapter implements KvStoreCombinedDao, V4Migratab
     return finalizedDao.streamBlobSidecarKeys(startSlot, endSlot);
   }
 
+  @Override
+  @MustBeClosed
+  public Stream<? extends Map.Entry<SlotAndBlockRootAndBlobIndex, Bytes>> streamBlobSidecarsAsSsz(
+      final UInt64 startSlot, final UInt64 endSlot) {
+    return finalizedDao.streamBlobSidecarsAsSsz(startSlot, endSlot);
+  }
+
   @Override
   @MustBeClosed
   public Stream<SlotAndBlockRootAndBlobIndex> streamNonCanonicalBlobSidecarKeys(
@@ -103,6 +103,12 @@ public class V4FinalizedKvStoreDao {
         .map(ColumnEntry::getValue);
   }
 
+  @MustBeClosed
+  public Stream<? extends Map.Entry<UInt64, Bytes>> streamFinalizedBlocksAsSsz(
+      final UInt64 startSlot, final UInt64 endSlot) {
+    return db.streamRawValues(schema.getColumnFinalizedBlocksBySlot(), startSlot, endSlot);
+  }
+
   public Optional<UInt64> getSlotForFinalizedBlockRoot(final Bytes32 blockRoot) {
     return db.get(schema.getColumnSlotsByFinalizedRoot(), blockRoot);
   }
@@ -149,6 +155,15 @@ public class V4FinalizedKvStoreDao {
         new SlotAndBlockRootAndBlobIndex(endSlot, MAX_BLOCK_ROOT, UInt64.MAX_VALUE));
   }
 
+  @MustBeClosed
+  public Stream<? extends Map.Entry<SlotAndBlockRootAndBlobIndex, Bytes>> streamBlobSidecarsAsSsz(
+      final UInt64 startSlot, final UInt64 endSlot) {
+    return db.stream(
+        schema.getColumnBlobSidecarBySlotRootBlobIndex(),
+        new SlotAndBlockRootAndBlobIndex(startSlot, MIN_BLOCK_ROOT, UInt64.ZERO),
+        new SlotAndBlockRootAndBlobIndex(endSlot, MAX_BLOCK_ROOT, UInt64.MAX_VALUE));
+  }
+
   @MustBeClosed
   public Stream<SlotAndBlockRootAndBlobIndex> streamNonCanonicalBlobSidecarKeys(
       final UInt64 startSlot, final UInt64 endSlot) {
@@ -274,6 +274,18 @@ public class LevelDbInstance implements KvStoreAccessor {
     return streamKeys(column, fromBytes, toBytes);
   }
 
+  @Override
+  @MustBeClosed
+  public <K extends Comparable<K>, V> Stream<ColumnEntry<K, Bytes>> streamRawValues(
+      final KvStoreColumn<K, V> column, final K from, final K to) {
+    return streamRaw(column, getColumnKey(column, from), getColumnKey(column, to))
+        .map(
+            entry ->
+                ColumnEntry.create(
+                    column.getKeySerializer().deserialize(entry.getKey()),
+                    Bytes.wrap(entry.getValue())));
+  }
+
   @MustBeClosed
   private <K, V> Stream<ColumnEntry<K, V>> stream(
       final KvStoreColumn<K, V> column, final byte[] fromBytes, final byte[] toBytes) {
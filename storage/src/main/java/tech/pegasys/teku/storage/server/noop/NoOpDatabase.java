@@ -164,6 +164,12 @@ public class NoOpDatabase implements Database {
     return Stream.empty();
   }
 
+  @Override
+  public Stream<? extends Map.Entry<UInt64, Bytes>> streamFinalizedBlocksAsSsz(
+      final UInt64 startSlot, final UInt64 endSlot) {
+    return Stream.empty();
+  }
+
   @Override
   public Optional<UInt64> getGenesisTime() {
     return Optional.empty();
@@ -311,6 +317,12 @@ public class NoOpDatabase implements Database {
     return Stream.empty();
   }
 
+  @Override
+  public Stream<? extends Map.Entry<SlotAndBlockRootAndBlobIndex, Bytes>> streamBlobSidecarsAsSsz(
+      final UInt64 startSlot, final UInt64 endSlot) {
+    return Stream.empty();
+  }
+
   @Override
   public Stream<SlotAndBlockRootAndBlobIndex> streamNonCanonicalBlobSidecarKeys(
       final UInt64 startSlot, final UInt64 endSlot) {
@@ -17,8 +17,11 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.NavigableMap;
 import java.util.Optional;
 import java.util.Set;
+import java.util.TreeMap;
+import org.apache.tuweni.bytes.Bytes;
 import org.apache.tuweni.bytes.Bytes32;
 import tech.pegasys.teku.ethereum.pow.api.DepositTreeSnapshot;
 import tech.pegasys.teku.infrastructure.async.SafeFuture;
@@ -64,6 +67,12 @@ public class StubStorageQueryChannel implements StorageQueryChannel {
     return SafeFuture.completedFuture(Optional.empty());
   }
 
+  @Override
+  public SafeFuture<NavigableMap<UInt64, Bytes>> getFinalizedBlocksAsSsz(
+      final UInt64 startSlot, final UInt64 endSlot) {
+    return SafeFuture.completedFuture(new TreeMap<>());
+  }
+
   @Override
   public SafeFuture<Optional<SignedBeaconBlock>> getBlockByBlockRoot(final Bytes32 blockRoot) {
     return SafeFuture.completedFuture(Optional.empty());
@@ -170,6 +179,12 @@ public class StubStorageQueryChannel implements StorageQueryChannel {
     return SafeFuture.completedFuture(List.of());
   }
 
+  @Override
+  public SafeFuture<NavigableMap<SlotAndBlockRootAndBlobIndex, Bytes>> getBlobSidecarsAsSsz(
+      final UInt64 startSlot, final UInt64 endSlot, final long limit) {
+    return SafeFuture.completedFuture(new TreeMap<>());
+  }
+
   @Override
   public SafeFuture<List<SlotAndBlockRootAndBlobIndex>> getBlobSidecarKeys(
       final SlotAndBlockRoot slotAndBlockRoot) {
@@ -321,6 +321,46 @@ public class P2POptions {
       hidden = true)
   private Integer peerBlobSidecarsRateLimit = P2PConfig.DEFAULT_PEER_BLOB_SIDECARS_RATE_LIMIT;
 
+  @Option(
+      names = {"--Xp2p-global-blocks-rate-limit"},
+      paramLabel = "<NUMBER>",
+      description =
+          "The number of requested blocks by range to serve across all peers per minute. 0 disables the limit.",
+      arity = "1",
+      hidden = true)
+  private Integer globalBlocksRateLimit = P2PConfig.DEFAULT_GLOBAL_BLOCKS_RATE_LIMIT;
+
+  @Option(
+      names = {"--Xp2p-global-blob-sidecars-rate-limit"},
+      paramLabel = "<NUMBER>",
+      description =
+          "The number of requested blob sidecars by range to serve across all peers per minute. 0 disables the limit.",
+      arity = "1",
+      hidden = true)
+  private Integer globalBlobSidecarsRateLimit = P2PConfig.DEFAULT_GLOBAL_BLOB_SIDECARS_RATE_LIMIT;
+
+  @Option(
+      names = {"--Xp2p-serve-finalized-ranges-from-ssz-enabled"},
+      paramLabel = "<BOOLEAN>",
+      showDefaultValue = Visibility.ALWAYS,
+      description =
+          "Serve finalized blocks and blob sidecars by range directly from their stored SSZ without deserializing them",
+      fallbackValue = "true",
+      hidden = true,
+      arity = "0..1")
+  private boolean serveFinalizedRangesFromSszEnabled =
+      P2PConfig.DEFAULT_SERVE_FINALIZED_RANGES_FROM_SSZ_ENABLED;
+
+  @Option(
+      names = {"--Xp2p-rpc-compressed-payload-cache-size"},
+      paramLabel = "<NUMBER>",
+      showDefaultValue = Visibility.ALWAYS,
+      description =
+          "Maximum size (in bytes) of the cache of compressed blocks and blob sidecars served to peers. 0 disables the cache.",
+      arity = "1",
+      hidden = true)
+  private int rpcCompressedPayloadCacheSize = P2PConfig.DEFAULT_RPC_COMPRESSED_PAYLOAD_CACHE_SIZE;
+
   @Option(
       names = {"--Xp2p-gossip-blobs-after-block-enabled"},
       paramLabel = "<BOOLEAN>",
@@ -450,6 +490,10 @@ public class P2POptions {
                   .isGossipScoringEnabled(gossipScoringEnabled)
                   .peerBlocksRateLimit(peerBlocksRateLimit)
                   .peerBlobSidecarsRateLimit(peerBlobSidecarsRateLimit)
+                  .globalBlocksRateLimit(globalBlocksRateLimit)
+                  .globalBlobSidecarsRateLimit(globalBlobSidecarsRateLimit)
+                  .serveFinalizedRangesFromSszEnabled(serveFinalizedRangesFromSszEnabled)
+                  .rpcCompressedPayloadCacheSize(rpcCompressedPayloadCacheSize)
                   .allTopicsFilterEnabled(allTopicsFilterEnabled)
                   .peerRequestLimit(peerRequestLimit)
                   .floodPublishMaxMessageSizeThreshold(floodPublishMaxMessageSizeThreshold)
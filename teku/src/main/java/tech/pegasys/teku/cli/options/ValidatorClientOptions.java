@@ -97,6 +97,18 @@ public class ValidatorClientOptions {
       fallbackValue = "true")
   private boolean attestationsV2ApisEnabled = ValidatorConfig.DEFAULT_ATTESTATIONS_V2_APIS_ENABLED;
 
+  @Option(
+      names = {"--Xattestation-data-prefetch-enabled"},
+      paramLabel = "<BOOLEAN>",
+      description =
+          "Request attestation data from the beacon node as soon as the head changes so attestation duties can use it without waiting for another request",
+      hidden = true,
+      showDefaultValue = CommandLine.Help.Visibility.ALWAYS,
+      arity = "0..1",
+      fallbackValue = "true")
+  private boolean attestationDataPrefetchEnabled =
+      ValidatorConfig.DEFAULT_ATTESTATION_DATA_PREFETCH_ENABLED;
+
   public void configure(final TekuConfiguration.Builder builder) {
     configureBeaconNodeApiEndpoints();
 
@@ -111,7 +123,8 @@ public class ValidatorClientOptions {
                 .failoversPublishSignedDutiesEnabled(failoversPublishSignedDutiesEnabled)
                 .sentryNodeConfigurationFile(exclusiveParams.sentryConfigFile)
                 .obolDvtSelectionsEndpointEnabled(obolDvtSelectionsEndpointEnabled)
-                .attestationsV2ApisEnabled(attestationsV2ApisEnabled));
+                .attestationsV2ApisEnabled(attestationsV2ApisEnabled)
+                .attestationDataPrefetchEnabled(attestationDataPrefetchEnabled));
   }
 
   private void configureBeaconNodeApiEndpoints() {
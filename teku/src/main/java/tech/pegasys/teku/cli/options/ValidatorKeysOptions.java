@@ -104,6 +104,27 @@ public class ValidatorKeysOptions {
   private int validatorExternalSignerConcurrentRequestLimit =
       ValidatorConfig.DEFAULT_VALIDATOR_EXTERNAL_SIGNER_CONCURRENT_REQUEST_LIMIT;
 
+  @CommandLine.Option(
+      names = {"--Xvalidators-external-signer-http2-enabled"},
+      paramLabel = "<BOOLEAN>",
+      description =
+          "Use HTTP/2 for requests to the external signer so concurrent signing requests are multiplexed over a shared connection instead of each opening its own.",
+      hidden = true,
+      showDefaultValue = CommandLine.Help.Visibility.ALWAYS,
+      arity = "0..1",
+      fallbackValue = "true")
+  private boolean validatorExternalSignerHttp2Enabled =
+      ValidatorConfig.DEFAULT_VALIDATOR_EXTERNAL_SIGNER_HTTP2_ENABLED;
+
+  @CommandLine.Option(
+      names = {"--Xvalidator-keys-cache-password-file"},
+      paramLabel = "<FILE>",
+      description =
+          "Password file used to seal a local cache of decrypted validator keys. When set, keys loaded from --validator-keys are cached in the data directory so restarts need a single key derivation instead of one per keystore.",
+      hidden = true,
+      arity = "1")
+  private String validatorKeysCachePasswordFile = null;
+
   public void configure(final TekuConfiguration.Builder builder) {
     builder.validator(
         config ->
@@ -113,13 +134,15 @@ public class ValidatorKeysOptions {
                 .validatorExternalSignerUrl(parseValidatorExternalSignerUrl())
                 .validatorExternalSignerConcurrentRequestLimit(
                     validatorExternalSignerConcurrentRequestLimit)
+                .validatorExternalSignerHttp2Enabled(validatorExternalSignerHttp2Enabled)
                 .validatorExternalSignerTimeout(Duration.ofMillis(validatorExternalSignerTimeout))
                 .validatorExternalSignerKeystore(convertToPath(validatorExternalSignerKeystore))
                 .validatorExternalSignerKeystorePasswordFile(
                     convertToPath(validatorExternalSignerKeystorePasswordFile))
                 .validatorExternalSignerTruststore(convertToPath(validatorExternalSignerTruststore))
                 .validatorExternalSignerTruststorePasswordFile(
-                    convertToPath(validatorExternalSignerTruststorePasswordFile)));
+                    convertToPath(validatorExternalSignerTruststorePasswordFile))
+                .validatorKeysCachePasswordFile(convertToPath(validatorKeysCachePasswordFile)));
   }
 
   private List<String> parseValidatorExternalKeys() {
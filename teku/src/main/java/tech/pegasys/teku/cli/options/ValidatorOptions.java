@@ -151,7 +151,8 @@ public class ValidatorOptions {
   @Option(
       names = {"--validator-is-local-slashing-protection-synchronized-enabled"},
       paramLabel = "<BOOLEAN>",
-      description = "Restrict local signing to a single operation at a time.",
+      description =
+          "Restrict local signing to a single operation at a time for each validator, persisting every signing record before signing.",
       showDefaultValue = CommandLine.Help.Visibility.ALWAYS,
       arity = "0..1",
       fallbackValue = "true")
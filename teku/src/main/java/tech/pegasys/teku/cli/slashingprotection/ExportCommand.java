@@ -58,6 +58,8 @@ public class ExportCommand implements Runnable {
         SlashingProtectionCommandUtils.getSlashingProtectionPath(dataOptions);
     SlashingProtectionCommandUtils.verifySlashingProtectionPathExists(
         SUB_COMMAND_LOG, slashProtectionPath);
+    SlashingProtectionCommandUtils.recoverSlashingProtectionJournal(
+        SUB_COMMAND_LOG, slashProtectionPath);
 
     SlashingProtectionExporter slashingProtectionExporter =
         new SlashingProtectionExporter(slashProtectionPath);
@@ -59,6 +59,8 @@ public class ImportCommand implements Runnable {
     File importFile = new File(fromFileName);
     verifyImportFileExists(importFile);
     prepareOutputPath(slashProtectionPath.toFile());
+    SlashingProtectionCommandUtils.recoverSlashingProtectionJournal(
+        SUB_COMMAND_LOG, slashProtectionPath);
 
     SlashingProtectionImporter importer = new SlashingProtectionImporter(slashProtectionPath);
 
@@ -90,6 +90,8 @@ public class RepairCommand implements Runnable {
         SlashingProtectionCommandUtils.getSlashingProtectionPath(dataOptions);
     SlashingProtectionCommandUtils.verifySlashingProtectionPathExists(
         SUB_COMMAND_LOG, slashProtectionPath);
+    SlashingProtectionCommandUtils.recoverSlashingProtectionJournal(
+        SUB_COMMAND_LOG, slashProtectionPath);
     final Eth2NetworkConfiguration networkConfiguration =
         eth2NetworkOptions.getNetworkConfiguration();
     final Spec spec = networkConfiguration.getSpec();
@@ -13,10 +13,13 @@
 
 package tech.pegasys.teku.cli.util;
 
+import java.io.IOException;
 import java.nio.file.Path;
 import tech.pegasys.teku.cli.options.ValidatorClientDataOptions;
+import tech.pegasys.teku.infrastructure.io.SyncDataAccessor;
 import tech.pegasys.teku.infrastructure.logging.SubCommandLogger;
 import tech.pegasys.teku.service.serviceutils.layout.DataDirLayout;
+import tech.pegasys.teku.spec.signatures.SlashingProtectionJournal;
 import tech.pegasys.teku.validator.client.ValidatorClientService;
 
 public class SlashingProtectionCommandUtils {
@@ -31,6 +34,20 @@ public class SlashingProtectionCommandUtils {
     }
   }
 
+  /**
+   * Applies records left in the slashing protection journal by a validator client which didn't
+   * shut down cleanly, so the yml files are complete before they are read or updated.
+   */
+  public static void recoverSlashingProtectionJournal(
+      final SubCommandLogger subCommandLogger, final Path slashProtectionPath) {
+    try {
+      SlashingProtectionJournal.recover(
+          SyncDataAccessor.create(slashProtectionPath), slashProtectionPath);
+    } catch (final IOException e) {
+      subCommandLogger.exit(1, "Failed to apply records from the slashing protection journal.", e);
+    }
+  }
+
   public static Path getSlashingProtectionPath(final ValidatorClientDataOptions dataOptions) {
     final DataDirLayout dataDirLayout = DataDirLayout.createFrom(dataOptions.getDataConfig());
     return ValidatorClientService.getSlashingProtectionPath(dataDirLayout);
@@ -18,6 +18,7 @@ import static tech.pegasys.teku.validator.api.ValidatorConfig.DEFAULT_BUILDER_RE
 
 import java.net.MalformedURLException;
 import java.net.URL;
+import java.nio.file.Path;
 import java.time.Duration;
 import java.util.Optional;
 import org.apache.tuweni.bytes.Bytes32;
@@ -62,6 +63,38 @@ public class ValidatorOptionsTest extends AbstractBeaconNodeCommandTest {
     assertThat(config.getValidatorExternalSignerConcurrentRequestLimit()).isEqualTo(123);
   }
 
+  @Test
+  public void shouldDisableValidatorExternalSignerHttp2ByDefault() {
+    final ValidatorConfig config =
+        getTekuConfigurationFromArguments().validatorClient().getValidatorConfig();
+    assertThat(config.isValidatorExternalSignerHttp2Enabled()).isFalse();
+  }
+
+  @Test
+  public void shouldEnableValidatorExternalSignerHttp2() {
+    final ValidatorConfig config =
+        getTekuConfigurationFromArguments("--Xvalidators-external-signer-http2-enabled")
+            .validatorClient()
+            .getValidatorConfig();
+    assertThat(config.isValidatorExternalSignerHttp2Enabled()).isTrue();
+  }
+
+  @Test
+  public void shouldNotCacheDecryptedValidatorKeysByDefault() {
+    final ValidatorConfig config =
+        getTekuConfigurationFromArguments().validatorClient().getValidatorConfig();
+    assertThat(config.getValidatorKeysCachePasswordFile()).isEmpty();
+  }
+
+  @Test
+  public void shouldSetValidatorKeysCachePasswordFile() {
+    final ValidatorConfig config =
+        getTekuConfigurationFromArguments("--Xvalidator-keys-cache-password-file", "/tmp/pass.txt")
+            .validatorClient()
+            .getValidatorConfig();
+    assertThat(config.getValidatorKeysCachePasswordFile()).contains(Path.of("/tmp/pass.txt"));
+  }
+
   @Test
   public void graffiti_shouldBeEmptyByDefault() {
     final ValidatorConfig config =
@@ -58,6 +58,7 @@ public class ValidatorConfig {
   public static final int DEFAULT_EXECUTOR_MAX_QUEUE_SIZE_ALL_SUBNETS = 60_000;
   public static final Duration DEFAULT_VALIDATOR_EXTERNAL_SIGNER_TIMEOUT = Duration.ofSeconds(5);
   public static final int DEFAULT_VALIDATOR_EXTERNAL_SIGNER_CONCURRENT_REQUEST_LIMIT = 32;
+  public static final boolean DEFAULT_VALIDATOR_EXTERNAL_SIGNER_HTTP2_ENABLED = false;
   public static final boolean DEFAULT_VALIDATOR_KEYSTORE_LOCKING_ENABLED = true;
   public static final boolean DEFAULT_VALIDATOR_EXTERNAL_SIGNER_SLASHING_PROTECTION_ENABLED = true;
   public static final boolean DEFAULT_GENERATE_EARLY_ATTESTATIONS = true;
@@ -71,6 +72,7 @@ public class ValidatorConfig {
   public static final UInt64 DEFAULT_BUILDER_REGISTRATION_GAS_LIMIT = UInt64.valueOf(36_000_000);
   public static final boolean DEFAULT_OBOL_DVT_SELECTIONS_ENDPOINT_ENABLED = false;
   public static final boolean DEFAULT_ATTESTATIONS_V2_APIS_ENABLED = false;
+  public static final boolean DEFAULT_ATTESTATION_DATA_PREFETCH_ENABLED = false;
 
   private final List<String> validatorKeys;
   private final List<String> validatorExternalSignerPublicKeySources;
@@ -88,6 +90,7 @@ public class ValidatorConfig {
   private final boolean validatorKeystoreLockingEnabled;
   private final Optional<List<URI>> beaconNodeApiEndpoints;
   private final int validatorExternalSignerConcurrentRequestLimit;
+  private final boolean validatorExternalSignerHttp2Enabled;
   private final boolean generateEarlyAttestations;
   private final Optional<Eth1Address> proposerDefaultFeeRecipient;
   private final Optional<String> proposerConfigSource;
@@ -113,6 +116,8 @@ public class ValidatorConfig {
   private final boolean isLocalSlashingProtectionSynchronizedModeEnabled;
   private final boolean dvtSelectionsEndpointEnabled;
   private final boolean attestationsV2ApisEnabled;
+  private final boolean attestationDataPrefetchEnabled;
+  private final Optional<Path> validatorKeysCachePasswordFile;
 
   private ValidatorConfig(
       final List<String> validatorKeys,
@@ -131,6 +136,7 @@ public class ValidatorConfig {
       final boolean validatorKeystoreLockingEnabled,
       final boolean validatorExternalSignerSlashingProtectionEnabled,
       final int validatorExternalSignerConcurrentRequestLimit,
+      final boolean validatorExternalSignerHttp2Enabled,
       final boolean generateEarlyAttestations,
       final Optional<Eth1Address> proposerDefaultFeeRecipient,
       final Optional<String> proposerConfigSource,
@@ -153,7 +159,9 @@ public class ValidatorConfig {
       final Optional<String> sentryNodeConfigurationFile,
       final boolean isLocalSlashingProtectionSynchronizedModeEnabled,
       final boolean dvtSelectionsEndpointEnabled,
-      final boolean attestationsV2ApisEnabled) {
+      final boolean attestationsV2ApisEnabled,
+      final boolean attestationDataPrefetchEnabled,
+      final Optional<Path> validatorKeysCachePasswordFile) {
     this.validatorKeys = validatorKeys;
     this.validatorExternalSignerPublicKeySources = validatorExternalSignerPublicKeySources;
     this.validatorExternalSignerUrl = validatorExternalSignerUrl;
@@ -173,6 +181,7 @@ public class ValidatorConfig {
         validatorExternalSignerSlashingProtectionEnabled;
     this.validatorExternalSignerConcurrentRequestLimit =
         validatorExternalSignerConcurrentRequestLimit;
+    this.validatorExternalSignerHttp2Enabled = validatorExternalSignerHttp2Enabled;
     this.generateEarlyAttestations = generateEarlyAttestations;
     this.proposerDefaultFeeRecipient = proposerDefaultFeeRecipient;
     this.proposerConfigSource = proposerConfigSource;
@@ -198,6 +207,8 @@ public class ValidatorConfig {
         isLocalSlashingProtectionSynchronizedModeEnabled;
     this.dvtSelectionsEndpointEnabled = dvtSelectionsEndpointEnabled;
     this.attestationsV2ApisEnabled = attestationsV2ApisEnabled;
+    this.attestationDataPrefetchEnabled = attestationDataPrefetchEnabled;
+    this.validatorKeysCachePasswordFile = validatorKeysCachePasswordFile;
 
     LOG.debug(
         "Executor queue - {} threads, max queue size {} ", executorThreads, executorMaxQueueSize);
@@ -239,6 +250,10 @@ public class ValidatorConfig {
     return validatorExternalSignerConcurrentRequestLimit;
   }
 
+  public boolean isValidatorExternalSignerHttp2Enabled() {
+    return validatorExternalSignerHttp2Enabled;
+  }
+
   public Pair<Path, Path> getValidatorExternalSignerKeystorePasswordFilePair() {
     return Pair.of(validatorExternalSignerKeystore, validatorExternalSignerKeystorePasswordFile);
   }
@@ -371,6 +386,14 @@ public class ValidatorConfig {
     return attestationsV2ApisEnabled;
   }
 
+  public boolean isAttestationDataPrefetchEnabled() {
+    return attestationDataPrefetchEnabled;
+  }
+
+  public Optional<Path> getValidatorKeysCachePasswordFile() {
+    return validatorKeysCachePasswordFile;
+  }
+
   public static final class Builder {
     private List<String> validatorKeys = new ArrayList<>();
     private List<String> validatorExternalSignerPublicKeySources = new ArrayList<>();
@@ -378,6 +401,8 @@ public class ValidatorConfig {
     private Optional<String> validatorExternalSignerUserInfo = Optional.empty();
     private int validatorExternalSignerConcurrentRequestLimit =
         DEFAULT_VALIDATOR_EXTERNAL_SIGNER_CONCURRENT_REQUEST_LIMIT;
+    private boolean validatorExternalSignerHttp2Enabled =
+        DEFAULT_VALIDATOR_EXTERNAL_SIGNER_HTTP2_ENABLED;
     private Duration validatorExternalSignerTimeout = DEFAULT_VALIDATOR_EXTERNAL_SIGNER_TIMEOUT;
     private Path validatorExternalSignerKeystore;
     private Path validatorExternalSignerKeystorePasswordFile;
@@ -424,6 +449,8 @@ public class ValidatorConfig {
         DEFAULT_VALIDATOR_IS_LOCAL_SLASHING_PROTECTION_SYNCHRONIZED_ENABLED;
     private boolean dvtSelectionsEndpointEnabled = DEFAULT_OBOL_DVT_SELECTIONS_ENDPOINT_ENABLED;
     private boolean attestationsV2ApisEnabled = DEFAULT_ATTESTATIONS_V2_APIS_ENABLED;
+    private boolean attestationDataPrefetchEnabled = DEFAULT_ATTESTATION_DATA_PREFETCH_ENABLED;
+    private Optional<Path> validatorKeysCachePasswordFile = Optional.empty();
 
     private Builder() {}
 
@@ -478,6 +505,12 @@ public class ValidatorConfig {
       return this;
     }
 
+    public Builder validatorExternalSignerHttp2Enabled(
+        final boolean validatorExternalSignerHttp2Enabled) {
+      this.validatorExternalSignerHttp2Enabled = validatorExternalSignerHttp2Enabled;
+      return this;
+    }
+
     public Builder validatorExternalSignerKeystore(final Path validatorExternalSignerKeystore) {
       this.validatorExternalSignerKeystore = validatorExternalSignerKeystore;
       return this;
@@ -682,6 +715,16 @@ public class ValidatorConfig {
       return this;
     }
 
+    public Builder attestationDataPrefetchEnabled(final boolean attestationDataPrefetchEnabled) {
+      this.attestationDataPrefetchEnabled = attestationDataPrefetchEnabled;
+      return this;
+    }
+
+    public Builder validatorKeysCachePasswordFile(final Path validatorKeysCachePasswordFile) {
+      this.validatorKeysCachePasswordFile = Optional.ofNullable(validatorKeysCachePasswordFile);
+      return this;
+    }
+
     public ValidatorConfig build() {
       validateExternalSignerUrlAndPublicKeys();
       validateExternalSignerKeystoreAndPasswordFileConfig();
@@ -705,6 +748,7 @@ public class ValidatorConfig {
           validatorKeystoreLockingEnabled,
           validatorExternalSignerSlashingProtectionEnabled,
           validatorExternalSignerConcurrentRequestLimit,
+          validatorExternalSignerHttp2Enabled,
           generateEarlyAttestations,
           proposerDefaultFeeRecipient,
           proposerConfigSource,
@@ -727,7 +771,9 @@ public class ValidatorConfig {
           sentryNodeConfigurationFile,
           isLocalSlashingProtectionSynchronizedModeEnabled,
           dvtSelectionsEndpointEnabled,
-          attestationsV2ApisEnabled);
+          attestationsV2ApisEnabled,
+          attestationDataPrefetchEnabled,
+          validatorKeysCachePasswordFile);
     }
 
     private void validateExternalSignerUrlAndPublicKeys() {
@@ -62,6 +62,7 @@ public abstract class AbstractExternalSignerIntegrationTest {
             .validatorExternalSignerPublicKeySources(List.of(KEYPAIR.getPublicKey().toString()))
             .validatorExternalSignerUrl(new URL("http://127.0.0.1:" + client.getLocalPort()))
             .validatorExternalSignerTimeout(TIMEOUT)
+            .validatorExternalSignerHttp2Enabled(isHttp2Enabled())
             .build();
     final Supplier<HttpClient> externalSignerHttpClientFactory =
         HttpClientExternalSignerFactory.create(config);
@@ -83,4 +84,8 @@ public abstract class AbstractExternalSignerIntegrationTest {
   }
 
   public abstract Spec getSpec();
+
+  protected boolean isHttp2Enabled() {
+    return false;
+  }
 }
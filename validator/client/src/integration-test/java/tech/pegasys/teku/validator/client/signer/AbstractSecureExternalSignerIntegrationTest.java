@@ -43,7 +43,7 @@ import tech.pegasys.teku.validator.client.loader.HttpClientExternalSignerFactory
 
 @ExtendWith(MockServerExtension.class)
 public abstract class AbstractSecureExternalSignerIntegrationTest {
-  private static final BLSKeyPair KEYPAIR = BLSTestUtil.randomKeyPair(1234);
+  protected static final BLSKeyPair KEYPAIR = BLSTestUtil.randomKeyPair(1234);
   private static final Duration TIMEOUT = Duration.ofMillis(500);
   private static final Path TEKU_KEYSTORE;
   private static final Path EXTERNAL_SIGNER_TRUSTSTORE;
@@ -99,6 +99,7 @@ public abstract class AbstractSecureExternalSignerIntegrationTest {
             .validatorExternalSignerKeystorePasswordFile(PASSWORD_FILE)
             .validatorExternalSignerTruststore(EXTERNAL_SIGNER_TRUSTSTORE)
             .validatorExternalSignerTruststorePasswordFile(PASSWORD_FILE)
+            .validatorExternalSignerHttp2Enabled(isHttp2Enabled())
             .build();
 
     externalSignerHttpClientFactory = HttpClientExternalSignerFactory.create(validatorConfig);
@@ -128,4 +129,8 @@ public abstract class AbstractSecureExternalSignerIntegrationTest {
   protected URL getUrl() throws MalformedURLException {
     return new URL("https://127.0.0.1:" + client.getLocalPort());
   }
+
+  protected boolean isHttp2Enabled() {
+    return false;
+  }
 }
@@ -0,0 +1,88 @@
+/*
+ * Copyright Consensys Software Inc., 2025
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+
+package tech.pegasys.teku.validator.client.signer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockserver.model.HttpRequest.request;
+import static org.mockserver.model.HttpResponse.response;
+import static tech.pegasys.teku.validator.client.signer.ExternalSignerTestUtil.validateMetrics;
+import static tech.pegasys.teku.validator.client.signer.ExternalSignerTestUtil.verifySignRequest;
+
+import java.util.Map;
+import org.apache.tuweni.bytes.Bytes;
+import org.junit.jupiter.api.Test;
+import tech.pegasys.teku.bls.BLSSignature;
+import tech.pegasys.teku.infrastructure.async.SafeFuture;
+import tech.pegasys.teku.spec.Spec;
+import tech.pegasys.teku.spec.TestSpecFactory;
+import tech.pegasys.teku.spec.datastructures.blocks.BeaconBlock;
+import tech.pegasys.teku.spec.datastructures.operations.AttestationData;
+import tech.pegasys.teku.validator.api.signer.SignType;
+
+/**
+ * Signs over plain HTTP with HTTP/2 enabled, so the client attempts an h2c upgrade. Whether or not
+ * the signer accepts the upgrade, the POST bodies must arrive intact.
+ */
+public class ExternalSignerHttp2IntegrationTest extends AbstractExternalSignerIntegrationTest {
+
+  private static final BLSSignature EXPECTED_SIGNATURE =
+      BLSSignature.fromBytesCompressed(
+          Bytes.fromBase64String(
+              "luIZGEgsjSbFo4MEPVeqaqqm1AnnTODcxFy9gPmdAywVmDIpqkzYed8DJ2l4zx5WAejUTox+NO5HQ4M2APMNovd7FuqnCSVUEftrL4WtJqegPrING2ZCtVTrcaUzFpUQ"));
+
+  @Override
+  public Spec getSpec() {
+    return TestSpecFactory.createMinimalPhase0();
+  }
+
+  @Override
+  protected boolean isHttp2Enabled() {
+    return true;
+  }
+
+  @Test
+  void shouldSignBlockAndAttestationDataConcurrently() throws Exception {
+    final BeaconBlock block = dataStructureUtil.randomBeaconBlock(10);
+    final AttestationData attestationData = dataStructureUtil.randomAttestationData();
+    client.when(request()).respond(response().withBody(EXPECTED_SIGNATURE.toString()));
+
+    final SafeFuture<BLSSignature> blockSignature = externalSigner.signBlock(block, forkInfo);
+    final SafeFuture<BLSSignature> attestationSignature =
+        externalSigner.signAttestationData(attestationData, forkInfo);
+    assertThat(blockSignature.join()).isEqualTo(EXPECTED_SIGNATURE);
+    assertThat(attestationSignature.join()).isEqualTo(EXPECTED_SIGNATURE);
+
+    final ExternalSignerBlockRequestProvider blockRequestProvider =
+        new ExternalSignerBlockRequestProvider(spec, block);
+    verifySignRequest(
+        client,
+        KEYPAIR.getPublicKey().toString(),
+        new SigningRequestBody(
+            signingRootUtil.signingRootForSignBlock(block, forkInfo),
+            blockRequestProvider.getSignType(),
+            blockRequestProvider.getBlockMetadata(Map.of("fork_info", forkInfo))),
+        spec.getGenesisSchemaDefinitions());
+    verifySignRequest(
+        client,
+        KEYPAIR.getPublicKey().toString(),
+        new SigningRequestBody(
+            signingRootUtil.signingRootForSignAttestationData(attestationData, forkInfo),
+            SignType.ATTESTATION,
+            Map.of("fork_info", forkInfo, "attestation", attestationData)),
+        spec.getGenesisSchemaDefinitions());
+
+    validateMetrics(metricsSystem, 2, 0, 0);
+  }
+}
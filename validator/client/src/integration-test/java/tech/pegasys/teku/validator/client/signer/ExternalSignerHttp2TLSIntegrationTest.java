@@ -0,0 +1,63 @@
+/*
+ * Copyright Consensys Software Inc., 2025
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+
+package tech.pegasys.teku.validator.client.signer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockserver.model.HttpRequest.request;
+import static org.mockserver.model.HttpResponse.response;
+import static tech.pegasys.teku.validator.client.signer.ExternalSignerTestUtil.verifySignRequest;
+
+import java.util.Map;
+import org.apache.tuweni.bytes.Bytes;
+import org.junit.jupiter.api.Test;
+import org.mockserver.model.Protocol;
+import tech.pegasys.teku.bls.BLSSignature;
+import tech.pegasys.teku.spec.datastructures.operations.AttestationData;
+import tech.pegasys.teku.spec.signatures.SigningRootUtil;
+import tech.pegasys.teku.validator.api.signer.SignType;
+
+public class ExternalSignerHttp2TLSIntegrationTest
+    extends AbstractSecureExternalSignerIntegrationTest {
+
+  @Override
+  protected boolean isHttp2Enabled() {
+    return true;
+  }
+
+  @Test
+  void shouldSignAttestationDataOverHttp2() throws Exception {
+    final AttestationData attestationData = dataStructureUtil.randomAttestationData();
+    final BLSSignature expectedSignature =
+        BLSSignature.fromBytesCompressed(
+            Bytes.fromBase64String(
+                "l1DUv3fmbvZanhCaaraMk2PKAl+33sf3UHMbxkv18CKILzzIz+Hr6hnLXCHqWQYEGKTtLcf6OLV7Z+Y21BW2bBtJHXJqqzvWkec/j0X0hWaEoWOSAs20sipO1WSIUY2m"));
+    client
+        .when(request().withSecure(true).withProtocol(Protocol.HTTP_2))
+        .respond(response().withBody(expectedSignature.toString()));
+
+    final BLSSignature response =
+        externalSigner.signAttestationData(attestationData, forkInfo).join();
+    assertThat(response).isEqualTo(expectedSignature);
+
+    verifySignRequest(
+        client,
+        KEYPAIR.getPublicKey().toString(),
+        new SigningRequestBody(
+            new SigningRootUtil(spec).signingRootForSignAttestationData(attestationData, forkInfo),
+            SignType.ATTESTATION,
+            Map.of("fork_info", forkInfo, "attestation", attestationData)),
+        spec.getGenesisSchemaDefinitions());
+  }
+}
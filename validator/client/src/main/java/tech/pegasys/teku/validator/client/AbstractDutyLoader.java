@@ -13,8 +13,15 @@
 
 package tech.pegasys.teku.validator.client;
 
+import com.google.common.annotations.VisibleForTesting;
+import it.unimi.dsi.fastutil.ints.IntArrayList;
 import it.unimi.dsi.fastutil.ints.IntCollection;
+import it.unimi.dsi.fastutil.ints.IntList;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
+import java.util.function.BinaryOperator;
+import java.util.function.Function;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import tech.pegasys.teku.infrastructure.async.SafeFuture;
@@ -25,6 +32,9 @@ import tech.pegasys.teku.validator.client.loader.OwnedValidators;
 public abstract class AbstractDutyLoader<D, S extends ScheduledDuties> implements DutyLoader<S> {
 
   private static final Logger LOG = LogManager.getLogger();
+
+  @VisibleForTesting static final int MAX_VALIDATORS_PER_DUTIES_REQUEST = 2048;
+
   protected final OwnedValidators validators;
   private final ValidatorIndexProvider validatorIndexProvider;
 
@@ -57,6 +67,35 @@ public abstract class AbstractDutyLoader<D, S extends ScheduledDuties> implement
             });
   }
 
+  /**
+   * Splits the duties request for a large number of validators into batches which are requested in
+   * parallel, so the beacon node can calculate them concurrently and no single response becomes
+   * too large. Duties are only available if every batch returned them.
+   */
+  protected static <T> SafeFuture<Optional<T>> requestDutiesInBatches(
+      final IntCollection validatorIndices,
+      final Function<IntCollection, SafeFuture<Optional<T>>> request,
+      final BinaryOperator<T> combine) {
+    if (validatorIndices.size() <= MAX_VALIDATORS_PER_DUTIES_REQUEST) {
+      return request.apply(validatorIndices);
+    }
+    final IntList indices = new IntArrayList(validatorIndices);
+    final List<SafeFuture<Optional<T>>> batches = new ArrayList<>();
+    for (int from = 0; from < indices.size(); from += MAX_VALIDATORS_PER_DUTIES_REQUEST) {
+      final int to = Math.min(from + MAX_VALIDATORS_PER_DUTIES_REQUEST, indices.size());
+      batches.add(request.apply(new IntArrayList(indices.subList(from, to))));
+    }
+    LOG.trace("Requesting duties for {} validators in {} batches", indices.size(), batches.size());
+    return SafeFuture.collectAll(batches.stream())
+        .thenApply(
+            results -> {
+              if (results.stream().anyMatch(Optional::isEmpty)) {
+                return Optional.empty();
+              }
+              return results.stream().map(Optional::get).reduce(combine);
+            });
+  }
+
   protected abstract SafeFuture<Optional<D>> requestDuties(
       final UInt64 epoch, final IntCollection validatorIndices);
 
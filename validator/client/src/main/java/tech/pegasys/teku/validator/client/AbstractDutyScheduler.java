@@ -97,6 +97,7 @@ public abstract class AbstractDutyScheduler implements ValidatorTimingChannel {
   @Override
   public void onPossibleMissedEvents() {
     // We may have missed a re-org or head notification so we need to recalculate all duties.
+    epochDutiesScheduler.onPossibleMissedEvents();
     invalidateEpochs(dutiesByEpoch);
   }
 
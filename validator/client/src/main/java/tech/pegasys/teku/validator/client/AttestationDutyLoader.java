@@ -13,12 +13,19 @@
 
 package tech.pegasys.teku.validator.client;
 
+import com.google.common.annotations.VisibleForTesting;
 import it.unimi.dsi.fastutil.ints.IntCollection;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
+import java.util.stream.Stream;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.apache.tuweni.bytes.Bytes32;
+import tech.pegasys.teku.bls.BLSPublicKey;
+import tech.pegasys.teku.bls.BLSSignature;
 import tech.pegasys.teku.ethereum.json.types.validator.AttesterDuties;
 import tech.pegasys.teku.ethereum.json.types.validator.AttesterDuty;
 import tech.pegasys.teku.infrastructure.async.SafeFuture;
@@ -26,6 +33,7 @@ import tech.pegasys.teku.infrastructure.unsigned.UInt64;
 import tech.pegasys.teku.spec.Spec;
 import tech.pegasys.teku.spec.SpecVersion;
 import tech.pegasys.teku.spec.datastructures.operations.AttestationData;
+import tech.pegasys.teku.spec.datastructures.state.ForkInfo;
 import tech.pegasys.teku.validator.api.CommitteeSubscriptionRequest;
 import tech.pegasys.teku.validator.api.ValidatorApiChannel;
 import tech.pegasys.teku.validator.client.duties.BeaconCommitteeSubscriptions;
@@ -47,6 +55,20 @@ public class AttestationDutyLoader
   private final Spec spec;
   private final boolean useDvtEndpoint;
 
+  /**
+   * Slot signatures only depend on the validator and slot, so when duties are reloaded because the
+   * dependent root changed, validators whose duties are unchanged don't need to be signed again.
+   */
+  private final Map<SlotSignatureKey, SafeFuture<BLSSignature>> slotSignatures =
+      new ConcurrentHashMap<>();
+
+  /**
+   * Duties whose committee subscription has already been sent, by epoch. When duties are reloaded
+   * because the dependent root changed, only the duties which changed are subscribed again. Cleared
+   * when the beacon node may have lost its subscriptions or a subscription request fails.
+   */
+  private final Map<UInt64, Set<AttesterDuty>> subscribedDuties = new ConcurrentHashMap<>();
+
   public AttestationDutyLoader(
       final ValidatorApiChannel validatorApiChannel,
       final ForkProvider forkProvider,
@@ -72,7 +94,23 @@ public class AttestationDutyLoader
     if (validatorIndices.isEmpty()) {
       return SafeFuture.completedFuture(Optional.empty());
     }
-    return validatorApiChannel.getAttestationDuties(epoch, validatorIndices);
+    return requestDutiesInBatches(
+        validatorIndices,
+        batch -> validatorApiChannel.getAttestationDuties(epoch, batch),
+        AttestationDutyLoader::combineDuties);
+  }
+
+  private static AttesterDuties combineDuties(
+      final AttesterDuties first, final AttesterDuties second) {
+    if (!first.getDependentRoot().equals(second.getDependentRoot())) {
+      // the chain reorged while the batches were requested, retry so all duties share a root
+      throw new NodeDataUnavailableException(
+          "Dependent root changed while attestation duties were being requested");
+    }
+    return new AttesterDuties(
+        first.isExecutionOptimistic() || second.isExecutionOptimistic(),
+        first.getDependentRoot(),
+        Stream.concat(first.getDuties().stream(), second.getDuties().stream()).toList());
   }
 
   @Override
@@ -80,6 +118,16 @@ public class AttestationDutyLoader
       final UInt64 epoch, final AttesterDuties duties) {
     final SlotBasedScheduledDuties<AttestationProductionDuty, AggregationDuty> scheduledDuties =
         scheduledDutiesFactory.apply(duties.getDependentRoot());
+    pruneCaches(epoch);
+    final Set<AttesterDuty> epochSubscribedDuties =
+        subscribedDuties.computeIfAbsent(epoch, __ -> ConcurrentHashMap.newKeySet());
+    if (!epochSubscribedDuties.isEmpty()) {
+      LOG.debug(
+          "Reloading attestation duties for epoch {}, {} of {} duties changed",
+          epoch,
+          duties.getDuties().stream().filter(duty -> !epochSubscribedDuties.contains(duty)).count(),
+          duties.getDuties().size());
+    }
 
     final Optional<DvtAttestationAggregations> dvtAttestationAggregationsForEpoch =
         useDvtEndpoint
@@ -91,15 +139,33 @@ public class AttestationDutyLoader
             duties.getDuties().stream()
                 .map(
                     duty ->
-                        scheduleDuties(scheduledDuties, duty, dvtAttestationAggregationsForEpoch))
+                        scheduleDuties(
+                            scheduledDuties,
+                            duty,
+                            epochSubscribedDuties,
+                            dvtAttestationAggregationsForEpoch))
                 .toArray(SafeFuture[]::new))
         .<SlotBasedScheduledDuties<?, ?>>thenApply(__ -> scheduledDuties)
-        .alwaysRun(beaconCommitteeSubscriptions::sendRequests);
+        .alwaysRun(this::sendSubscriptionRequests);
+  }
+
+  private void sendSubscriptionRequests() {
+    beaconCommitteeSubscriptions
+        .sendRequests()
+        // requests from other epochs may share the batch, so resubscribe everything next time
+        .finish(__ -> subscribedDuties.clear());
+  }
+
+  @Override
+  public void onPossibleMissedEvents() {
+    // the beacon node may have restarted and lost all subscriptions
+    subscribedDuties.clear();
   }
 
   private SafeFuture<Void> scheduleDuties(
       final SlotBasedScheduledDuties<AttestationProductionDuty, AggregationDuty> scheduledDuties,
       final AttesterDuty duty,
+      final Set<AttesterDuty> epochSubscribedDuties,
       final Optional<DvtAttestationAggregations> dvtAttestationAggregationLoader) {
     final Optional<Validator> maybeValidator = validators.getValidator(duty.getPublicKey());
     if (maybeValidator.isEmpty()) {
@@ -123,6 +189,8 @@ public class AttestationDutyLoader
 
     return scheduleAggregation(
         scheduledDuties,
+        duty,
+        epochSubscribedDuties,
         duty.getCommitteeIndex(),
         duty.getCommitteesAtSlot(),
         duty.getValidatorIndex(),
@@ -155,6 +223,8 @@ public class AttestationDutyLoader
 
   private SafeFuture<Void> scheduleAggregation(
       final SlotBasedScheduledDuties<AttestationProductionDuty, AggregationDuty> scheduledDuties,
+      final AttesterDuty duty,
+      final Set<AttesterDuty> epochSubscribedDuties,
       final int attestationCommitteeIndex,
       final int committeesAtSlot,
       final int validatorIndex,
@@ -165,7 +235,7 @@ public class AttestationDutyLoader
       final Optional<DvtAttestationAggregations> dvtAttestationAggregation) {
     return forkProvider
         .getForkInfo(slot)
-        .thenCompose(forkInfo -> validator.getSigner().signAggregationSlot(slot, forkInfo))
+        .thenCompose(forkInfo -> getSlotSignature(validator, slot, forkInfo))
         .thenCompose(
             slotSignature ->
                 dvtAttestationAggregation
@@ -179,13 +249,16 @@ public class AttestationDutyLoader
               final SpecVersion specVersion = spec.atSlot(slot);
               final boolean isAggregator =
                   specVersion.getValidatorsUtil().isAggregator(slotSignature, aggregatorModulo);
-              beaconCommitteeSubscriptions.subscribeToBeaconCommittee(
-                  new CommitteeSubscriptionRequest(
-                      validatorIndex,
-                      attestationCommitteeIndex,
-                      UInt64.valueOf(committeesAtSlot),
-                      slot,
-                      isAggregator));
+              // the beacon node already has the subscription if the duty didn't change
+              if (epochSubscribedDuties.add(duty)) {
+                beaconCommitteeSubscriptions.subscribeToBeaconCommittee(
+                    new CommitteeSubscriptionRequest(
+                        validatorIndex,
+                        attestationCommitteeIndex,
+                        UInt64.valueOf(committeesAtSlot),
+                        slot,
+                        isAggregator));
+              }
               if (isAggregator) {
                 scheduledDuties.scheduleAggregation(
                     slot,
@@ -205,4 +278,30 @@ public class AttestationDutyLoader
               return null;
             });
   }
+
+  private SafeFuture<BLSSignature> getSlotSignature(
+      final Validator validator, final UInt64 slot, final ForkInfo forkInfo) {
+    final SlotSignatureKey key = new SlotSignatureKey(validator.getPublicKey(), slot);
+    final SafeFuture<BLSSignature> slotSignature =
+        slotSignatures.computeIfAbsent(
+            key, __ -> validator.getSigner().signAggregationSlot(slot, forkInfo));
+    // don't keep failed signatures so they are requested again on the next reload
+    slotSignature.finish(__ -> slotSignatures.remove(key, slotSignature));
+    return slotSignature;
+  }
+
+  private void pruneCaches(final UInt64 epoch) {
+    // duties for the previous epoch may still be reloaded while the next epoch is loaded
+    final UInt64 firstEpochToKeep = epoch.minusMinZero(1);
+    final UInt64 firstSlotToKeep = spec.computeStartSlotAtEpoch(firstEpochToKeep);
+    slotSignatures.keySet().removeIf(key -> key.slot().isLessThan(firstSlotToKeep));
+    subscribedDuties.keySet().removeIf(cachedEpoch -> cachedEpoch.isLessThan(firstEpochToKeep));
+  }
+
+  @VisibleForTesting
+  int getCachedSlotSignatureCount() {
+    return slotSignatures.size();
+  }
+
+  private record SlotSignatureKey(BLSPublicKey publicKey, UInt64 slot) {}
 }
@@ -24,6 +24,7 @@ import tech.pegasys.teku.infrastructure.unsigned.UInt64;
 import tech.pegasys.teku.validator.api.ValidatorApiChannel;
 import tech.pegasys.teku.validator.client.duties.BlockProductionDuty;
 import tech.pegasys.teku.validator.client.duties.Duty;
+import tech.pegasys.teku.validator.client.duties.PreSigningScheduler;
 import tech.pegasys.teku.validator.client.duties.SlotBasedScheduledDuties;
 import tech.pegasys.teku.validator.client.loader.OwnedValidators;
 
@@ -33,16 +34,19 @@ public class BlockProductionDutyLoader
   private final ValidatorApiChannel validatorApiChannel;
   private final Function<Bytes32, SlotBasedScheduledDuties<BlockProductionDuty, Duty>>
       scheduledDutiesFactory;
+  private final PreSigningScheduler preSigningScheduler;
 
   protected BlockProductionDutyLoader(
       final ValidatorApiChannel validatorApiChannel,
       final Function<Bytes32, SlotBasedScheduledDuties<BlockProductionDuty, Duty>>
           scheduledDutiesFactory,
       final OwnedValidators validators,
-      final ValidatorIndexProvider validatorIndexProvider) {
+      final ValidatorIndexProvider validatorIndexProvider,
+      final PreSigningScheduler preSigningScheduler) {
     super(validators, validatorIndexProvider);
     this.validatorApiChannel = validatorApiChannel;
     this.scheduledDutiesFactory = scheduledDutiesFactory;
+    this.preSigningScheduler = preSigningScheduler;
   }
 
   @Override
@@ -68,6 +72,10 @@ public class BlockProductionDutyLoader
       final ProposerDuty duty) {
     validators
         .getValidator(duty.getPublicKey())
-        .ifPresent(validator -> scheduledDuties.scheduleProduction(duty.getSlot(), validator));
+        .ifPresent(
+            validator -> {
+              scheduledDuties.scheduleProduction(duty.getSlot(), validator);
+              preSigningScheduler.scheduleRandaoReveal(validator, duty.getSlot());
+            });
   }
 }
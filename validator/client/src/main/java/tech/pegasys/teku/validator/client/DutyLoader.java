@@ -20,4 +20,7 @@ import tech.pegasys.teku.validator.client.duties.ScheduledDuties;
 
 public interface DutyLoader<T extends ScheduledDuties> {
   SafeFuture<Optional<T>> loadDutiesForEpoch(final UInt64 epoch);
+
+  /** Called when the beacon node may have restarted or events may have been missed. */
+  default void onPossibleMissedEvents() {}
 }
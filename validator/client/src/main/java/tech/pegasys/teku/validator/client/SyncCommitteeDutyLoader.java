@@ -15,6 +15,7 @@ package tech.pegasys.teku.validator.client;
 
 import it.unimi.dsi.fastutil.ints.IntCollection;
 import java.util.Optional;
+import java.util.stream.Stream;
 import org.hyperledger.besu.plugin.services.MetricsSystem;
 import tech.pegasys.teku.ethereum.json.types.validator.SyncCommitteeDuties;
 import tech.pegasys.teku.ethereum.json.types.validator.SyncCommitteeDuty;
@@ -72,13 +73,22 @@ public class SyncCommitteeDutyLoader
   @Override
   protected SafeFuture<Optional<SyncCommitteeDuties>> requestDuties(
       final UInt64 epoch, final IntCollection validatorIndices) {
-    return validatorApiChannel
-        .getSyncCommitteeDuties(epoch, validatorIndices)
+    return requestDutiesInBatches(
+            validatorIndices,
+            batch -> validatorApiChannel.getSyncCommitteeDuties(epoch, batch),
+            SyncCommitteeDutyLoader::combineDuties)
         .thenPeek(
             maybeDuties ->
                 currentSyncDutyCount.set(maybeDuties.map(d -> d.getDuties().size()).orElse(0)));
   }
 
+  private static SyncCommitteeDuties combineDuties(
+      final SyncCommitteeDuties first, final SyncCommitteeDuties second) {
+    return new SyncCommitteeDuties(
+        first.isExecutionOptimistic() || second.isExecutionOptimistic(),
+        Stream.concat(first.getDuties().stream(), second.getDuties().stream()).toList());
+  }
+
   @Override
   protected SafeFuture<SyncCommitteeScheduledDuties> scheduleAllDuties(
       final UInt64 epoch, final SyncCommitteeDuties duties) {
@@ -16,6 +16,7 @@ package tech.pegasys.teku.validator.client;
 import static tech.pegasys.teku.infrastructure.exceptions.ExitConstants.FATAL_EXIT_CODE;
 import static tech.pegasys.teku.infrastructure.logging.StatusLogger.STATUS_LOG;
 
+import java.io.IOException;
 import java.net.http.HttpClient;
 import java.nio.file.Path;
 import java.time.Duration;
@@ -46,8 +47,9 @@ import tech.pegasys.teku.service.serviceutils.ServiceConfig;
 import tech.pegasys.teku.service.serviceutils.layout.DataDirLayout;
 import tech.pegasys.teku.spec.Spec;
 import tech.pegasys.teku.spec.SpecMilestone;
+import tech.pegasys.teku.spec.signatures.JournalingSlashingProtector;
 import tech.pegasys.teku.spec.signatures.LocalSlashingProtector;
-import tech.pegasys.teku.spec.signatures.LocalSlashingProtectorConcurrentAccess;
+import tech.pegasys.teku.spec.signatures.SlashingProtectionJournal;
 import tech.pegasys.teku.spec.signatures.SlashingProtector;
 import tech.pegasys.teku.validator.api.GraffitiManager;
 import tech.pegasys.teku.validator.api.ValidatorApiChannel;
@@ -58,6 +60,7 @@ import tech.pegasys.teku.validator.beaconnode.GenesisDataProvider;
 import tech.pegasys.teku.validator.client.doppelganger.DoppelgangerDetector;
 import tech.pegasys.teku.validator.client.duties.BeaconCommitteeSubscriptions;
 import tech.pegasys.teku.validator.client.duties.BlockDutyFactory;
+import tech.pegasys.teku.validator.client.duties.PreSigningScheduler;
 import tech.pegasys.teku.validator.client.duties.SlotBasedScheduledDuties;
 import tech.pegasys.teku.validator.client.duties.ValidatorDutyMetrics;
 import tech.pegasys.teku.validator.client.duties.attestations.AttestationDutyFactory;
@@ -410,12 +413,15 @@ public class ValidatorClientService extends Service {
       final AsyncRunner asyncRunner,
       final Function<BLSPublicKey, Optional<Bytes32>> updatableGraffitiProvider) {
     final Path slashingProtectionPath = getSlashingProtectionPath(services.getDataDirLayout());
+    final SyncDataAccessor slashingProtectionDataAccessor =
+        SyncDataAccessor.create(slashingProtectionPath);
+    // a previous run may have used the journal even if synchronized mode is enabled now
+    recoverSlashingProtectionJournal(slashingProtectionDataAccessor, slashingProtectionPath);
     final SlashingProtector slashingProtector =
         config.getValidatorConfig().isLocalSlashingProtectionSynchronizedModeEnabled()
-            ? new LocalSlashingProtector(
-                SyncDataAccessor.create(slashingProtectionPath), slashingProtectionPath)
-            : new LocalSlashingProtectorConcurrentAccess(
-                SyncDataAccessor.create(slashingProtectionPath), slashingProtectionPath);
+            ? new LocalSlashingProtector(slashingProtectionDataAccessor, slashingProtectionPath)
+            : JournalingSlashingProtector.create(
+                slashingProtectionDataAccessor, slashingProtectionPath, asyncRunner);
     final SlashingProtectionLogger slashingProtectionLogger =
         new SlashingProtectionLogger(
             slashingProtector, config.getSpec(), asyncRunner, ValidatorLogger.VALIDATOR_LOGGER);
@@ -455,9 +461,16 @@ public class ValidatorClientService extends Service {
     final OwnedValidators validators = validatorLoader.getOwnedValidators();
     final BlockContainerSigner blockContainerSigner = new MilestoneBasedBlockContainerSigner(spec);
     final ValidatorDutyMetrics validatorDutyMetrics = ValidatorDutyMetrics.create(metricsSystem);
+    final PreSigningScheduler preSigningScheduler =
+        new PreSigningScheduler(spec, forkProvider, asyncRunner);
     final BlockDutyFactory blockDutyFactory =
         new BlockDutyFactory(
-            forkProvider, validatorApiChannel, blockContainerSigner, spec, validatorDutyMetrics);
+            forkProvider,
+            validatorApiChannel,
+            blockContainerSigner,
+            spec,
+            validatorDutyMetrics,
+            preSigningScheduler);
     final AttestationDutyFactory attestationDutyFactory =
         new AttestationDutyFactory(spec, forkProvider, validatorApiChannel, validatorDutyMetrics);
     final BeaconCommitteeSubscriptions beaconCommitteeSubscriptions =
@@ -491,7 +504,8 @@ public class ValidatorClientService extends Service {
                         dependentRoot,
                         validatorDutyMetrics::performDutyWithMetrics),
                 validators,
-                validatorIndexProvider));
+                validatorIndexProvider,
+                preSigningScheduler));
     validatorTimingChannels.add(new BlockDutyScheduler(metricsSystem, blockDutyLoader, spec));
     validatorTimingChannels.add(
         new AttestationDutyScheduler(metricsSystem, attestationDutyLoader, spec));
@@ -531,6 +545,16 @@ public class ValidatorClientService extends Service {
         validatorStatusLogger::onUpdatedValidatorStatuses);
   }
 
+  private static void recoverSlashingProtectionJournal(
+      final SyncDataAccessor dataAccessor, final Path slashingProtectionPath) {
+    try {
+      SlashingProtectionJournal.recover(dataAccessor, slashingProtectionPath);
+    } catch (final IOException e) {
+      throw new IllegalStateException(
+          "Failed to recover slashing protection journal in " + slashingProtectionPath, e);
+    }
+  }
+
   public static Path getSlashingProtectionPath(final DataDirLayout dataDirLayout) {
     return dataDirLayout.getValidatorDataDirectory().resolve("slashprotection");
   }
@@ -15,18 +15,22 @@ package tech.pegasys.teku.validator.client.doppelganger;
 
 import static tech.pegasys.teku.infrastructure.logging.StatusLogger.STATUS_LOG;
 
+import com.google.common.collect.Lists;
+import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
+import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
 import java.time.Duration;
-import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.TimeoutException;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
-import org.apache.commons.lang3.tuple.Pair;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import tech.pegasys.teku.api.migrated.ValidatorLivenessAtEpoch;
@@ -42,9 +46,15 @@ import tech.pegasys.teku.spec.Spec;
 import tech.pegasys.teku.validator.api.ValidatorApiChannel;
 import tech.pegasys.teku.validator.beaconnode.GenesisDataProvider;
 
+/**
+ * Checks whether any of the given keys are already active on the network before they start
+ * performing duties. Validator indices are looked up once per key and liveness is requested in
+ * shards of sorted indices, with the live indices of each epoch collected into a {@link BitSet}.
+ */
 public class DoppelgangerDetector {
 
   private static final Logger LOG = LogManager.getLogger();
+  public static final int MAX_INDICES_PER_LIVENESS_REQUEST = 2048;
   private final StatusLogger statusLog;
   private final Duration checkDelay;
   private final int maxEpochs;
@@ -117,6 +127,10 @@ public class DoppelgangerDetector {
     private final Set<BLSPublicKey> pubKeys;
     private Optional<UInt64> epochAtStart = Optional.empty();
     private final Map<UInt64, BLSPublicKey> detectedDoppelgangers = new HashMap<>();
+    private final Set<BLSPublicKey> detectedPubKeys = new HashSet<>();
+    private final Map<BLSPublicKey, Integer> validatorIndicesByPubKey = new HashMap<>();
+    private final Int2ObjectMap<BLSPublicKey> pubKeysByValidatorIndex =
+        new Int2ObjectOpenHashMap<>();
     private final AtomicBoolean firstCheck = new AtomicBoolean(true);
 
     public DoppelgangerDetectionTask(final UInt64 startTime, final Set<BLSPublicKey> pubKeys) {
@@ -210,24 +224,15 @@ public class DoppelgangerDetector {
     }
 
     private SafeFuture<Void> checkDoppelgangersAtEpoch(final UInt64 epoch) {
-      Set<BLSPublicKey> inactivePubKeys =
+      final Set<BLSPublicKey> inactivePubKeys =
           pubKeys.stream()
-              .filter(pubKey -> !detectedDoppelgangers.containsValue(pubKey))
+              .filter(pubKey -> !detectedPubKeys.contains(pubKey))
               .collect(Collectors.toSet());
       statusLog.doppelgangerCheck(
           epoch, mapToAbbreviatedKeys(inactivePubKeys).collect(Collectors.toSet()));
 
-      return validatorApiChannel
-          .getValidatorIndices(inactivePubKeys)
-          .thenCompose(
-              validatorIndicesByPubKeys ->
-                  checkValidatorsLivenessAtEpoch(
-                      epoch,
-                      inactivePubKeys,
-                      validatorIndicesByPubKeys.entrySet().stream()
-                          .collect(
-                              Collectors.toMap(
-                                  Map.Entry::getKey, e -> UInt64.valueOf(e.getValue())))))
+      return lookupMissingValidatorIndices(inactivePubKeys)
+          .thenCompose(__ -> checkValidatorsLivenessAtEpoch(epoch, inactivePubKeys))
           .orTimeout(checkDelay)
           .exceptionally(
               throwable -> {
@@ -240,6 +245,29 @@ public class DoppelgangerDetector {
           .toVoid();
     }
 
+    /**
+     * Validator indices never change once assigned, so only keys without a known index are looked
+     * up. Keys which are not yet active are looked up again in later checks.
+     */
+    private SafeFuture<Void> lookupMissingValidatorIndices(final Set<BLSPublicKey> pubKeys) {
+      final Set<BLSPublicKey> pubKeysWithoutIndices =
+          pubKeys.stream()
+              .filter(pubKey -> !validatorIndicesByPubKey.containsKey(pubKey))
+              .collect(Collectors.toSet());
+      if (pubKeysWithoutIndices.isEmpty()) {
+        return SafeFuture.COMPLETE;
+      }
+      return validatorApiChannel
+          .getValidatorIndices(pubKeysWithoutIndices)
+          .thenAccept(
+              validatorIndices ->
+                  validatorIndices.forEach(
+                      (pubKey, validatorIndex) -> {
+                        validatorIndicesByPubKey.put(pubKey, validatorIndex);
+                        pubKeysByValidatorIndex.put(validatorIndex.intValue(), pubKey);
+                      }));
+    }
+
     private void captureEpochAtStart(final UInt64 epoch) {
       if (epochAtStart.isEmpty()) {
         epochAtStart = Optional.of(epoch);
@@ -251,28 +279,41 @@ public class DoppelgangerDetector {
     }
 
     private boolean allKeysAreActive() {
-      return detectedDoppelgangers.values().containsAll(pubKeys);
+      return detectedPubKeys.containsAll(pubKeys);
     }
 
     private SafeFuture<Void> checkValidatorsLivenessAtEpoch(
-        final UInt64 epoch,
-        final Set<BLSPublicKey> pubKeys,
-        final Map<BLSPublicKey, UInt64> validatorIndicesByPubKey) {
+        final UInt64 epoch, final Set<BLSPublicKey> pubKeys) {
+      final List<UInt64> validatorIndices =
+          pubKeys.stream()
+              .map(validatorIndicesByPubKey::get)
+              .filter(Objects::nonNull)
+              .sorted()
+              .map(UInt64::valueOf)
+              .toList();
 
-      if (validatorIndicesByPubKey.isEmpty()) {
+      if (validatorIndices.isEmpty()) {
         LOG.info(
             "Skipping validators doppelgangers check for public keys {}. No associated indices found. Public keys are inactive",
             mapToAbbreviatedKeys(pubKeys).collect(Collectors.joining(", ")));
         return SafeFuture.COMPLETE;
       }
 
-      logMissingIndices(pubKeys, validatorIndicesByPubKey);
+      logMissingIndices(pubKeys);
 
-      return validatorApiChannel
-          .getValidatorsLiveness(new ArrayList<>(validatorIndicesByPubKey.values()), epoch)
+      return SafeFuture.collectAll(
+              Lists.partition(validatorIndices, MAX_INDICES_PER_LIVENESS_REQUEST).stream()
+                  .map(
+                      shard ->
+                          validatorApiChannel
+                              .getValidatorsLiveness(shard, epoch)
+                              .thenApply(this::toLiveValidatorIndices)))
           .thenAccept(
-              validatorLivenessAtEpoches ->
-                  checkValidatorDoppelgangers(validatorLivenessAtEpoches, validatorIndicesByPubKey))
+              liveValidatorIndicesByShard -> {
+                final BitSet liveValidatorIndices = new BitSet();
+                liveValidatorIndicesByShard.forEach(liveValidatorIndices::or);
+                checkValidatorDoppelgangers(liveValidatorIndices);
+              })
           .orTimeout(checkDelay)
           .exceptionally(
               throwable -> {
@@ -281,12 +322,23 @@ public class DoppelgangerDetector {
                     mapToAbbreviatedKeys(pubKeys).collect(Collectors.joining(", ")),
                     extractErrorMessage(throwable));
                 return null;
-              })
-          .thenApply(doppelgangerDetected -> null);
+              });
+    }
+
+    private BitSet toLiveValidatorIndices(
+        final Optional<List<ValidatorLivenessAtEpoch>> validatorLivenessAtEpochs) {
+      final BitSet liveValidatorIndices = new BitSet();
+      validatorLivenessAtEpochs.ifPresent(
+          validatorLiveness ->
+              validatorLiveness.stream()
+                  .filter(ValidatorLivenessAtEpoch::isLive)
+                  .forEach(
+                      validatorLivenessAtEpoch ->
+                          liveValidatorIndices.set(validatorLivenessAtEpoch.index().intValue())));
+      return liveValidatorIndices;
     }
 
-    private void logMissingIndices(
-        final Set<BLSPublicKey> pubKeys, final Map<BLSPublicKey, UInt64> validatorIndicesByPubKey) {
+    private void logMissingIndices(final Set<BLSPublicKey> pubKeys) {
       Set<BLSPublicKey> publicKeysWithoutIndices =
           pubKeys.stream()
               .filter(publicKey -> !validatorIndicesByPubKey.containsKey(publicKey))
@@ -301,19 +353,26 @@ public class DoppelgangerDetector {
       }
     }
 
-    private void checkValidatorDoppelgangers(
-        final Optional<List<ValidatorLivenessAtEpoch>> validatorLivenessAtEpoches,
-        final Map<BLSPublicKey, UInt64> validatorsIndicesByPubKey) {
-      final List<Pair<BLSPublicKey, ValidatorLivenessAtEpoch>> doppelgangers =
-          filterLiveValidators(validatorLivenessAtEpoches, validatorsIndicesByPubKey);
+    private void checkValidatorDoppelgangers(final BitSet liveValidatorIndices) {
+      final Map<UInt64, BLSPublicKey> doppelgangers = new HashMap<>();
+      liveValidatorIndices.stream()
+          .forEach(
+              validatorIndex -> {
+                final BLSPublicKey pubKey = pubKeysByValidatorIndex.get(validatorIndex);
+                if (pubKey != null && !detectedPubKeys.contains(pubKey)) {
+                  doppelgangers.put(UInt64.valueOf(validatorIndex), pubKey);
+                }
+              });
       if (!doppelgangers.isEmpty()) {
         LOG.fatal("Validator doppelganger detected...");
         statusLog.validatorsDoppelgangersDetected(
-            mapLivenessAtEpochToIndicesByPubKeyStrings(doppelgangers));
+            doppelgangers.entrySet().stream()
+                .collect(Collectors.toMap(Map.Entry::getKey, e -> e.getValue().toString())));
         doppelgangers.forEach(
-            doppelganger ->
-                detectedDoppelgangers.putIfAbsent(
-                    doppelganger.getRight().index(), doppelganger.getLeft()));
+            (validatorIndex, pubKey) -> {
+              detectedDoppelgangers.putIfAbsent(validatorIndex, pubKey);
+              detectedPubKeys.add(pubKey);
+            });
         if (allKeysAreActive()) {
           statusLog.doppelgangerDetectionEnd(
               mapToAbbreviatedKeys(pubKeys).collect(Collectors.toSet()),
@@ -324,43 +383,10 @@ public class DoppelgangerDetector {
       }
     }
 
-    private Map<UInt64, String> mapLivenessAtEpochToIndicesByPubKeyStrings(
-        final List<Pair<BLSPublicKey, ValidatorLivenessAtEpoch>> doppelgangers) {
-      return doppelgangers.stream()
-          .collect(Collectors.toMap(e -> e.getRight().index(), e -> e.getLeft().toString()));
-    }
-
     private Stream<String> mapToAbbreviatedKeys(final Set<BLSPublicKey> pubKeys) {
       return pubKeys.stream().map(BLSPublicKey::toAbbreviatedString);
     }
 
-    private List<Pair<BLSPublicKey, ValidatorLivenessAtEpoch>> filterLiveValidators(
-        final Optional<List<ValidatorLivenessAtEpoch>> validatorLivenessAtEpoches,
-        final Map<BLSPublicKey, UInt64> validatorPubKeysByIndices) {
-      return validatorLivenessAtEpoches
-          .map(
-              validatorLiveness ->
-                  validatorLiveness.stream()
-                      .filter(
-                          validatorLivenessAtEpoch ->
-                              validatorPubKeysByIndices.containsValue(
-                                      validatorLivenessAtEpoch.index())
-                                  && validatorLivenessAtEpoch.isLive())
-                      .map(
-                          validatorLivenessAtEpoch ->
-                              Pair.of(
-                                  validatorPubKeysByIndices.entrySet().stream()
-                                      .filter(
-                                          e ->
-                                              e.getValue().equals(validatorLivenessAtEpoch.index()))
-                                      .findFirst()
-                                      .get()
-                                      .getKey(),
-                                  validatorLivenessAtEpoch))
-                      .toList())
-          .orElse(new ArrayList<>());
-    }
-
     private String extractErrorMessage(final Throwable throwable) {
       return ExceptionUtil.hasCause(throwable, TimeoutException.class)
           ? "Request timeout"
@@ -19,6 +19,7 @@ import java.util.Queue;
 import java.util.concurrent.ConcurrentLinkedQueue;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import tech.pegasys.teku.infrastructure.async.SafeFuture;
 import tech.pegasys.teku.validator.api.CommitteeSubscriptionRequest;
 import tech.pegasys.teku.validator.api.ValidatorApiChannel;
 
@@ -38,7 +39,7 @@ public class BeaconCommitteeSubscriptions {
     pendingRequests.add(request);
   }
 
-  public void sendRequests() {
+  public SafeFuture<Void> sendRequests() {
     final List<CommitteeSubscriptionRequest> requestsToSend = new ArrayList<>();
     for (CommitteeSubscriptionRequest request = pendingRequests.poll();
         request != null;
@@ -46,11 +47,11 @@ public class BeaconCommitteeSubscriptions {
       requestsToSend.add(request);
     }
     if (requestsToSend.isEmpty()) {
-      return;
+      return SafeFuture.COMPLETE;
     }
-    validatorApiChannel
+    return validatorApiChannel
         .subscribeToBeaconCommittee(requestsToSend)
-        .finish(
+        .whenException(
             error -> LOG.error("Failed to subscribe to beacon committee for aggregation.", error));
   }
 }
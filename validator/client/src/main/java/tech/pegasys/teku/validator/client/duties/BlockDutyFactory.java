@@ -27,18 +27,21 @@ public class BlockDutyFactory implements DutyFactory<BlockProductionDuty, Duty>
   private final BlockContainerSigner blockContainerSigner;
   private final Spec spec;
   private final ValidatorDutyMetrics validatorDutyMetrics;
+  private final PreSigningScheduler preSigningScheduler;
 
   public BlockDutyFactory(
       final ForkProvider forkProvider,
       final ValidatorApiChannel validatorApiChannel,
       final BlockContainerSigner blockContainerSigner,
       final Spec spec,
-      final ValidatorDutyMetrics validatorDutyMetrics) {
+      final ValidatorDutyMetrics validatorDutyMetrics,
+      final PreSigningScheduler preSigningScheduler) {
     this.forkProvider = forkProvider;
     this.validatorApiChannel = validatorApiChannel;
     this.blockContainerSigner = blockContainerSigner;
     this.spec = spec;
     this.validatorDutyMetrics = validatorDutyMetrics;
+    this.preSigningScheduler = preSigningScheduler;
   }
 
   @Override
@@ -50,7 +53,8 @@ public class BlockDutyFactory implements DutyFactory<BlockProductionDuty, Duty>
         validatorApiChannel,
         blockContainerSigner,
         spec,
-        validatorDutyMetrics);
+        validatorDutyMetrics,
+        preSigningScheduler);
   }
 
   @Override
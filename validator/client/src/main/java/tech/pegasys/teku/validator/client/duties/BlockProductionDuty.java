@@ -52,6 +52,7 @@ public class BlockProductionDuty implements Duty {
   private final BlockContainerSigner blockContainerSigner;
   private final Spec spec;
   private final ValidatorDutyMetrics validatorDutyMetrics;
+  private final PreSigningScheduler preSigningScheduler;
 
   public BlockProductionDuty(
       final Validator validator,
@@ -60,7 +61,8 @@ public class BlockProductionDuty implements Duty {
       final ValidatorApiChannel validatorApiChannel,
       final BlockContainerSigner blockContainerSigner,
       final Spec spec,
-      final ValidatorDutyMetrics validatorDutyMetrics) {
+      final ValidatorDutyMetrics validatorDutyMetrics,
+      final PreSigningScheduler preSigningScheduler) {
     this.validator = validator;
     this.slot = slot;
     this.forkProvider = forkProvider;
@@ -68,6 +70,7 @@ public class BlockProductionDuty implements Duty {
     this.blockContainerSigner = blockContainerSigner;
     this.spec = spec;
     this.validatorDutyMetrics = validatorDutyMetrics;
+    this.preSigningScheduler = preSigningScheduler;
   }
 
   @Override
@@ -102,7 +105,7 @@ public class BlockProductionDuty implements Duty {
   }
 
   private SafeFuture<BLSSignature> createRandaoReveal(final ForkInfo forkInfo) {
-    return validator.getSigner().createRandaoReveal(spec.computeEpochAtSlot(slot), forkInfo);
+    return preSigningScheduler.getRandaoReveal(validator, spec.computeEpochAtSlot(slot), forkInfo);
   }
 
   private SafeFuture<Optional<BlockContainerAndMetaData>> createUnsignedBlock(
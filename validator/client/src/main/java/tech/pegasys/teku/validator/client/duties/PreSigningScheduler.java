@@ -0,0 +1,117 @@
+/*
+ * Copyright Consensys Software Inc., 2025
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.validator.client.duties;
+
+import com.google.common.annotations.VisibleForTesting;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import tech.pegasys.teku.bls.BLSPublicKey;
+import tech.pegasys.teku.bls.BLSSignature;
+import tech.pegasys.teku.infrastructure.async.AsyncRunner;
+import tech.pegasys.teku.infrastructure.async.SafeFuture;
+import tech.pegasys.teku.infrastructure.async.ThrottlingTaskQueue;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+import tech.pegasys.teku.spec.Spec;
+import tech.pegasys.teku.spec.datastructures.state.ForkInfo;
+import tech.pegasys.teku.validator.client.ForkProvider;
+import tech.pegasys.teku.validator.client.Validator;
+
+/**
+ * Signs messages which only depend on the slot, epoch and fork ahead of the duty which needs them,
+ * so the signing round trip isn't on the critical path when the duty is performed. This matters
+ * most with a remote signer.
+ *
+ * <p>Pre-signing runs in the background with a small concurrency limit so it doesn't compete with
+ * live signing. A duty which needs a signature before its pre-signing task has started signs it
+ * directly and the queued task then reuses that result.
+ */
+public class PreSigningScheduler {
+  private static final Logger LOG = LogManager.getLogger();
+
+  static final int MAX_CONCURRENT_PRE_SIGNING_TASKS = 2;
+
+  private final Map<RandaoRevealKey, SafeFuture<BLSSignature>> randaoReveals =
+      new ConcurrentHashMap<>();
+  private final ThrottlingTaskQueue taskQueue =
+      ThrottlingTaskQueue.create(MAX_CONCURRENT_PRE_SIGNING_TASKS);
+  private final Spec spec;
+  private final ForkProvider forkProvider;
+  private final AsyncRunner asyncRunner;
+
+  public PreSigningScheduler(
+      final Spec spec, final ForkProvider forkProvider, final AsyncRunner asyncRunner) {
+    this.spec = spec;
+    this.forkProvider = forkProvider;
+    this.asyncRunner = asyncRunner;
+  }
+
+  /** Starts creating the RANDAO reveal the validator will need to propose a block at the slot. */
+  public void scheduleRandaoReveal(final Validator validator, final UInt64 slot) {
+    final UInt64 epoch = spec.computeEpochAtSlot(slot);
+    // duties are loaded for the current and next epoch, anything older is no longer needed
+    pruneRandaoReveals(epoch.minusMinZero(1));
+    forkProvider
+        .getForkInfo(slot)
+        .thenCompose(
+            forkInfo ->
+                taskQueue.queueTask(
+                    () ->
+                        asyncRunner.runAsync(
+                            () -> getOrCreateRandaoReveal(validator, epoch, forkInfo))))
+        .finish(
+            error ->
+                LOG.debug(
+                    "Failed to pre-sign RANDAO reveal for validator {} at slot {}",
+                    validator.getPublicKey(),
+                    slot,
+                    error));
+  }
+
+  /**
+   * Returns the RANDAO reveal for the epoch, using the pre-signed one if available. Pre-signed
+   * reveals for earlier epochs are discarded as they can no longer be used.
+   */
+  public SafeFuture<BLSSignature> getRandaoReveal(
+      final Validator validator, final UInt64 epoch, final ForkInfo forkInfo) {
+    pruneRandaoReveals(epoch);
+    final SafeFuture<BLSSignature> preSignedReveal =
+        randaoReveals.get(new RandaoRevealKey(validator.getPublicKey(), epoch, forkInfo));
+    if (preSignedReveal == null) {
+      return getOrCreateRandaoReveal(validator, epoch, forkInfo);
+    }
+    // a failed pre-signing attempt shouldn't fail the duty, sign again instead
+    return preSignedReveal.exceptionallyCompose(
+        error -> validator.getSigner().createRandaoReveal(epoch, forkInfo));
+  }
+
+  private SafeFuture<BLSSignature> getOrCreateRandaoReveal(
+      final Validator validator, final UInt64 epoch, final ForkInfo forkInfo) {
+    return randaoReveals.computeIfAbsent(
+        new RandaoRevealKey(validator.getPublicKey(), epoch, forkInfo),
+        __ -> validator.getSigner().createRandaoReveal(epoch, forkInfo));
+  }
+
+  private void pruneRandaoReveals(final UInt64 earliestEpochToKeep) {
+    randaoReveals.keySet().removeIf(key -> key.epoch().isLessThan(earliestEpochToKeep));
+  }
+
+  @VisibleForTesting
+  int getPreSignedRandaoRevealCount() {
+    return randaoReveals.size();
+  }
+
+  private record RandaoRevealKey(BLSPublicKey publicKey, UInt64 epoch, ForkInfo forkInfo) {}
+}
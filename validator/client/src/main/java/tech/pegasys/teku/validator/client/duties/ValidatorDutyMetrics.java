@@ -16,40 +16,66 @@ package tech.pegasys.teku.validator.client.duties;
 import static tech.pegasys.teku.infrastructure.metrics.Validator.ValidatorDutyMetricUtils.startTimer;
 import static tech.pegasys.teku.infrastructure.metrics.Validator.ValidatorDutyMetricsSteps.TOTAL;
 
+import java.util.List;
 import java.util.function.Supplier;
 import org.hyperledger.besu.plugin.services.MetricsSystem;
 import org.hyperledger.besu.plugin.services.metrics.LabelledMetric;
 import org.hyperledger.besu.plugin.services.metrics.OperationTimer;
 import tech.pegasys.teku.infrastructure.async.SafeFuture;
+import tech.pegasys.teku.infrastructure.metrics.MetricsHistogram;
+import tech.pegasys.teku.infrastructure.metrics.TekuMetricCategory;
 import tech.pegasys.teku.infrastructure.metrics.Validator.ValidatorDutyMetricUtils;
 import tech.pegasys.teku.infrastructure.metrics.Validator.ValidatorDutyMetricsSteps;
 
 public class ValidatorDutyMetrics {
   private final LabelledMetric<OperationTimer> dutyMetric;
+  private final MetricsHistogram stepLatencyHistogram;
 
-  private ValidatorDutyMetrics(final LabelledMetric<OperationTimer> dutyMetric) {
+  private ValidatorDutyMetrics(
+      final LabelledMetric<OperationTimer> dutyMetric,
+      final MetricsHistogram stepLatencyHistogram) {
     this.dutyMetric = dutyMetric;
+    this.stepLatencyHistogram = stepLatencyHistogram;
   }
 
   public static ValidatorDutyMetrics create(final MetricsSystem metricsSystem) {
     return new ValidatorDutyMetrics(
-        ValidatorDutyMetricUtils.createValidatorDutyMetric(metricsSystem));
+        ValidatorDutyMetricUtils.createValidatorDutyMetric(metricsSystem),
+        MetricsHistogram.create(
+            TekuMetricCategory.VALIDATOR_DUTY,
+            metricsSystem,
+            "step_latency_milliseconds",
+            "Histogram of the time taken by each step of a duty",
+            3,
+            List.of("type", "step")));
   }
 
   public SafeFuture<DutyResult> performDutyWithMetrics(final Duty duty) {
-    try (final OperationTimer.TimingContext context =
-        startTimer(dutyMetric, getDutyType(duty), TOTAL.getName())) {
-      return duty.performDuty().alwaysRun(context::stopTimer);
-    }
+    return time(duty::performDuty, getDutyType(duty), TOTAL.getName());
   }
 
   public <T> SafeFuture<T> record(
       final Supplier<SafeFuture<T>> dutyStepFutureSupplier,
       final Duty duty,
       final ValidatorDutyMetricsSteps step) {
-    try (final OperationTimer.TimingContext context =
-        startTimer(dutyMetric, getDutyType(duty), step.getName())) {
-      return dutyStepFutureSupplier.get().alwaysRun(context::stopTimer);
+    return time(dutyStepFutureSupplier, getDutyType(duty), step.getName());
+  }
+
+  /**
+   * Steps which run once per message, such as signing each validator's attestation, are also
+   * recorded in a histogram so the tail of large duties is visible rather than only the average.
+   */
+  private <T> SafeFuture<T> time(
+      final Supplier<SafeFuture<T>> futureSupplier, final String dutyType, final String step) {
+    try (final OperationTimer.TimingContext context = startTimer(dutyMetric, dutyType, step)) {
+      return futureSupplier
+          .get()
+          .alwaysRun(
+              () -> {
+                final double elapsedSeconds = context.stopTimer();
+                stepLatencyHistogram.recordValue(
+                    Math.round(elapsedSeconds * 1000), dutyType, step);
+              });
     }
   }
 
@@ -51,7 +51,9 @@ public class AttestationDutyFactory
         slot,
         forkProvider,
         validatorApiChannel,
-        new BatchAttestationSendingStrategy<>(validatorApiChannel::sendSignedAttestations),
+        new MicroBatchAttestationSendingStrategy<>(
+            validatorApiChannel::sendSignedAttestations,
+            MicroBatchAttestationSendingStrategy.DEFAULT_MAX_BATCH_SIZE),
         validatorDutyMetrics);
   }
 
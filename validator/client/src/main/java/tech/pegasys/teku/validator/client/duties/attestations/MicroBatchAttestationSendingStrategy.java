@@ -0,0 +1,96 @@
+/*
+ * Copyright Consensys Software Inc., 2025
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.validator.client.duties.attestations;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import tech.pegasys.teku.infrastructure.async.SafeFuture;
+import tech.pegasys.teku.validator.api.SubmitDataError;
+import tech.pegasys.teku.validator.client.duties.DutyResult;
+import tech.pegasys.teku.validator.client.duties.ProductionResult;
+
+/**
+ * Sends messages in micro-batches as they are produced instead of waiting for every message in the
+ * duty. A batch is sent as soon as {@code maxBatchSize} messages are ready and any remaining
+ * messages are sent once the last one has been produced, so slow signatures only delay the batch
+ * they end up in.
+ */
+public class MicroBatchAttestationSendingStrategy<T> implements SendingStrategy<T> {
+  public static final int DEFAULT_MAX_BATCH_SIZE = 64;
+
+  private final Function<List<T>, SafeFuture<List<SubmitDataError>>> sendFunction;
+  private final int maxBatchSize;
+
+  public MicroBatchAttestationSendingStrategy(
+      final Function<List<T>, SafeFuture<List<SubmitDataError>>> sendFunction,
+      final int maxBatchSize) {
+    this.sendFunction = sendFunction;
+    this.maxBatchSize = maxBatchSize;
+  }
+
+  @Override
+  public SafeFuture<DutyResult> send(final Stream<SafeFuture<ProductionResult<T>>> messages) {
+    final List<SafeFuture<ProductionResult<T>>> productionResults = messages.toList();
+    final MicroBatcher batcher = new MicroBatcher();
+    final SafeFuture<?>[] batchedResults =
+        productionResults.stream()
+            .map(productionResult -> productionResult.thenAccept(batcher::add))
+            .toArray(SafeFuture[]::new);
+    return SafeFuture.allOf(batchedResults).thenCompose(__ -> batcher.sendRemaining());
+  }
+
+  private class MicroBatcher {
+    private final List<SafeFuture<DutyResult>> sentBatches = new ArrayList<>();
+    private List<ProductionResult<T>> pending = new ArrayList<>();
+
+    void add(final ProductionResult<T> result) {
+      addAndTakeFullBatch(result).ifPresent(this::sendBatch);
+    }
+
+    SafeFuture<DutyResult> sendRemaining() {
+      takeRemaining().ifPresent(this::sendBatch);
+      return DutyResult.combine(getSentBatches());
+    }
+
+    private synchronized Optional<List<ProductionResult<T>>> addAndTakeFullBatch(
+        final ProductionResult<T> result) {
+      pending.add(result);
+      return pending.size() >= maxBatchSize ? takeRemaining() : Optional.empty();
+    }
+
+    private synchronized Optional<List<ProductionResult<T>>> takeRemaining() {
+      if (pending.isEmpty()) {
+        return Optional.empty();
+      }
+      final List<ProductionResult<T>> batch = pending;
+      pending = new ArrayList<>();
+      return Optional.of(batch);
+    }
+
+    private void sendBatch(final List<ProductionResult<T>> batch) {
+      // send outside the lock so results completing meanwhile can start the next batch
+      final SafeFuture<DutyResult> sent = ProductionResult.send(batch, sendFunction);
+      synchronized (this) {
+        sentBatches.add(sent);
+      }
+    }
+
+    private synchronized List<SafeFuture<DutyResult>> getSentBatches() {
+      return List.copyOf(sentBatches);
+    }
+  }
+}
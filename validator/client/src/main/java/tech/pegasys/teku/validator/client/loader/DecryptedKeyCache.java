@@ -0,0 +1,208 @@
+/*
+ * Copyright Consensys Software Inc., 2025
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.validator.client.loader;
+
+import com.google.common.annotations.VisibleForTesting;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileAttribute;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.security.SecureRandom;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.apache.tuweni.bytes.Bytes;
+import org.apache.tuweni.bytes.Bytes32;
+import tech.pegasys.teku.bls.BLSPublicKey;
+import tech.pegasys.teku.bls.BLSSecretKey;
+import tech.pegasys.teku.bls.keystore.KeyStore;
+import tech.pegasys.teku.bls.keystore.KeyStoreLoader;
+import tech.pegasys.teku.bls.keystore.KeyStoreValidationException;
+import tech.pegasys.teku.bls.keystore.model.Cipher;
+import tech.pegasys.teku.bls.keystore.model.KdfParam;
+import tech.pegasys.teku.bls.keystore.model.KeyStoreData;
+import tech.pegasys.teku.bls.keystore.model.SCryptParam;
+
+/**
+ * Caches validator keys which have already been decrypted from their keystores. Each entry is an
+ * EIP-2335 keystore sealed with a single master password, and all entries share the same kdf
+ * parameters. The key derivation function therefore only runs once when loading the cache rather
+ * than once per keystore.
+ *
+ * <p>Entries which can't be decrypted or don't match the expected public key are treated as a
+ * cache miss so the original keystore is decrypted instead. Where the file system supports it,
+ * the cache directory and its entries are only accessible by the owner.
+ */
+public class DecryptedKeyCache {
+  private static final Logger LOG = LogManager.getLogger();
+  private static final int DKLEN = 32;
+  private static final String ENTRY_SUFFIX = ".json";
+  private static final String TEMP_FILE_SUFFIX = ".tmp";
+
+  private final Path cacheDirectory;
+  private final String password;
+  private final SecureRandom secureRandom;
+
+  // Guarded by this
+  private final Map<Bytes, Bytes> decryptionKeysBySalt = new HashMap<>();
+  private Optional<KdfParam> sealingKdfParam = Optional.empty();
+
+  public DecryptedKeyCache(final Path cacheDirectory, final String password) {
+    this(cacheDirectory, password, new SecureRandom());
+  }
+
+  @VisibleForTesting
+  DecryptedKeyCache(
+      final Path cacheDirectory, final String password, final SecureRandom secureRandom) {
+    this.cacheDirectory = cacheDirectory;
+    this.password = password;
+    this.secureRandom = secureRandom;
+  }
+
+  public Optional<Bytes32> get(final BLSPublicKey publicKey) {
+    final Path entryPath = getEntryPath(publicKey);
+    if (!entryPath.toFile().exists()) {
+      return Optional.empty();
+    }
+    try {
+      final KeyStoreData keyStoreData = KeyStoreLoader.loadFromFile(entryPath.toUri());
+      final KdfParam kdfParam = keyStoreData.getCrypto().getKdf().getParam();
+      final Bytes32 privateKey =
+          Bytes32.wrap(KeyStore.decryptWithDecryptionKey(getDecryptionKey(kdfParam), keyStoreData));
+      if (!BLSSecretKey.fromBytes(privateKey).toPublicKey().equals(publicKey)) {
+        LOG.debug("Ignoring cached key {} as it does not match the expected public key", entryPath);
+        return Optional.empty();
+      }
+      useForSealingIfUnset(kdfParam);
+      return Optional.of(privateKey);
+    } catch (final KeyStoreValidationException | IllegalArgumentException e) {
+      LOG.debug("Ignoring invalid cached key {}", entryPath, e);
+      return Optional.empty();
+    }
+  }
+
+  public void put(final BLSPublicKey publicKey, final Bytes32 privateKey) {
+    final KdfParam kdfParam = getSealingKdfParam();
+    final KeyStoreData keyStoreData =
+        KeyStore.encryptWithDecryptionKey(
+            privateKey,
+            publicKey.toBytesCompressed(),
+            getDecryptionKey(kdfParam),
+            "",
+            kdfParam,
+            new Cipher(Bytes.random(16, secureRandom)));
+    try {
+      Files.createDirectories(cacheDirectory, ownerOnly("rwx------"));
+      // Write to an owner only file first so the entry is never readable by others, even briefly
+      final Path tempFile =
+          Files.createTempFile(cacheDirectory, "entry", TEMP_FILE_SUFFIX, ownerOnly("rw-------"));
+      try {
+        KeyStoreLoader.saveToFile(tempFile, keyStoreData);
+        Files.move(
+            tempFile,
+            getEntryPath(publicKey),
+            StandardCopyOption.REPLACE_EXISTING,
+            StandardCopyOption.ATOMIC_MOVE);
+      } finally {
+        Files.deleteIfExists(tempFile);
+      }
+    } catch (final IOException e) {
+      LOG.warn("Unable to add decrypted key for {} to the key cache", publicKey, e);
+    }
+  }
+
+  /**
+   * Deletes the entries for all keys other than {@code publicKeys} so keys which are no longer
+   * loaded don't stay on disk.
+   */
+  public void retainAll(final Collection<BLSPublicKey> publicKeys) {
+    if (!Files.isDirectory(cacheDirectory)) {
+      return;
+    }
+    final Set<Path> retainedEntries =
+        publicKeys.stream().map(this::getEntryPath).collect(Collectors.toSet());
+    try (Stream<Path> files = Files.list(cacheDirectory)) {
+      files
+          .filter(file -> !retainedEntries.contains(file))
+          .filter(DecryptedKeyCache::isCacheFile)
+          .forEach(this::deleteEntry);
+    } catch (final IOException e) {
+      LOG.warn("Unable to remove unused entries from the key cache {}", cacheDirectory, e);
+    }
+  }
+
+  private void deleteEntry(final Path entryPath) {
+    try {
+      Files.deleteIfExists(entryPath);
+    } catch (final IOException e) {
+      LOG.warn("Unable to remove unused entry {} from the key cache", entryPath, e);
+    }
+  }
+
+  private static boolean isCacheFile(final Path file) {
+    final String fileName = file.getFileName().toString();
+    return fileName.endsWith(ENTRY_SUFFIX) || fileName.endsWith(TEMP_FILE_SUFFIX);
+  }
+
+  private Path getEntryPath(final BLSPublicKey publicKey) {
+    return cacheDirectory.resolve(
+        publicKey.toBytesCompressed().toUnprefixedHexString() + ENTRY_SUFFIX);
+  }
+
+  private FileAttribute<?>[] ownerOnly(final String permissions) {
+    if (!cacheDirectory.getFileSystem().supportedFileAttributeViews().contains("posix")) {
+      return new FileAttribute<?>[0];
+    }
+    return new FileAttribute<?>[] {
+      PosixFilePermissions.asFileAttribute(PosixFilePermissions.fromString(permissions))
+    };
+  }
+
+  /**
+   * Derives the key for the given kdf parameters, or reuses it if it was already derived. This is
+   * synchronized so that threads loading keys in parallel wait for the first derivation rather
+   * than each running the expensive key derivation function themselves.
+   */
+  private synchronized Bytes getDecryptionKey(final KdfParam kdfParam) {
+    final Bytes salt = kdfParam.getSalt();
+    final Bytes existingKey = decryptionKeysBySalt.get(salt);
+    if (existingKey != null) {
+      return existingKey;
+    }
+    final Bytes decryptionKey = kdfParam.generateDecryptionKey(password);
+    decryptionKeysBySalt.put(salt, decryptionKey);
+    return decryptionKey;
+  }
+
+  private synchronized void useForSealingIfUnset(final KdfParam kdfParam) {
+    if (sealingKdfParam.isEmpty()) {
+      sealingKdfParam = Optional.of(kdfParam);
+    }
+  }
+
+  private synchronized KdfParam getSealingKdfParam() {
+    if (sealingKdfParam.isEmpty()) {
+      sealingKdfParam = Optional.of(new SCryptParam(DKLEN, Bytes32.random(secureRandom)));
+    }
+    return sealingKdfParam.get();
+  }
+}
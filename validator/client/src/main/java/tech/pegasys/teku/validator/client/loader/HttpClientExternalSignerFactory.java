@@ -52,7 +52,14 @@ public class HttpClientExternalSignerFactory implements Supplier<HttpClient> {
 
   @Override
   public HttpClient get() {
-    final HttpClient.Builder builder = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1);
+    // HTTP/2 multiplexes concurrent signing requests over one connection, but is opt-in as it
+    // relies on the signer (or any proxy in front of it) supporting it properly
+    final HttpClient.Builder builder =
+        HttpClient.newBuilder()
+            .version(
+                validatorConfig.isValidatorExternalSignerHttp2Enabled()
+                    ? HttpClient.Version.HTTP_2
+                    : HttpClient.Version.HTTP_1_1);
     if (isTLSEnabled()) {
       validatorConfig
           .getValidatorExternalSignerUserInfo()
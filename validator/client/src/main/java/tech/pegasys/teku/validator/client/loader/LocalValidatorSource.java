@@ -57,6 +57,7 @@ public class LocalValidatorSource extends AbstractValidatorSource implements Val
   private final KeystoreLocker keystoreLocker;
   private final AsyncRunner asyncRunner;
   private final KeyStoreFilesLocator keyStoreFilesLocator;
+  private final Optional<DecryptedKeyCache> decryptedKeyCache;
   private final Map<BLSPublicKey, ActiveLocalValidatorSource> localValidatorSourceMap =
       new ConcurrentHashMap<>();
 
@@ -67,19 +68,25 @@ public class LocalValidatorSource extends AbstractValidatorSource implements Val
       final KeyStoreFilesLocator keyStoreFilesLocator,
       final AsyncRunner asyncRunner,
       final boolean readOnly,
-      final Optional<DataDirLayout> maybeDataDirLayout) {
+      final Optional<DataDirLayout> maybeDataDirLayout,
+      final Optional<DecryptedKeyCache> decryptedKeyCache) {
     super(readOnly, maybeDataDirLayout);
     this.spec = spec;
     this.validatorKeystoreLockingEnabled = validatorKeystoreLockingEnabled;
     this.keystoreLocker = keystoreLocker;
     this.asyncRunner = asyncRunner;
     this.keyStoreFilesLocator = keyStoreFilesLocator;
+    this.decryptedKeyCache = decryptedKeyCache;
   }
 
   @Override
   public List<ValidatorProvider> getAvailableValidators() {
     final List<Pair<Path, Path>> filePairs = keyStoreFilesLocator.parse();
-    return filePairs.stream().map(this::createValidatorProvider).toList();
+    final List<ValidatorProvider> providers =
+        filePairs.stream().map(this::createValidatorProvider).toList();
+    decryptedKeyCache.ifPresent(
+        cache -> cache.retainAll(providers.stream().map(ValidatorProvider::getPublicKey).toList()));
+    return providers;
   }
 
   @Override
@@ -230,6 +237,11 @@ public class LocalValidatorSource extends AbstractValidatorSource implements Val
       return readOnly;
     }
 
+    @Override
+    public long getEstimatedDecryptionMemoryUsage() {
+      return keyStoreData.getCrypto().getKdf().getParam().getEstimatedMemoryUsage();
+    }
+
     @Override
     public Signer createSigner() {
       final BLSKeyPair keyPair = new BLSKeyPair(BLSSecretKey.fromBytes(loadBLSPrivateKey()));
@@ -247,7 +259,14 @@ public class LocalValidatorSource extends AbstractValidatorSource implements Val
         if (validatorKeystoreLockingEnabled) {
           keystoreLocker.lockKeystore(keystoreFile);
         }
-        return Bytes32.wrap(KeyStore.decrypt(password, keyStoreData));
+        final Optional<Bytes32> cachedKey =
+            decryptedKeyCache.flatMap(cache -> cache.get(publicKey));
+        if (cachedKey.isPresent()) {
+          return cachedKey.get();
+        }
+        final Bytes32 privateKey = Bytes32.wrap(KeyStore.decrypt(password, keyStoreData));
+        decryptedKeyCache.ifPresent(cache -> cache.put(publicKey, privateKey));
+        return privateKey;
       } catch (final KeyStoreValidationException e) {
         keystoreLocker.unlockKeystore(keystoreFile);
         throw new InvalidConfigurationException(
@@ -38,6 +38,7 @@ public class LocalValidatorVerifier {
             keyStoreFilesLocator,
             asyncRunner,
             true,
+            Optional.empty(),
             Optional.empty());
   }
 
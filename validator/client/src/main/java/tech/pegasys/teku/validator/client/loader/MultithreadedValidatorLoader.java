@@ -15,6 +15,7 @@ package tech.pegasys.teku.validator.client.loader;
 
 import static tech.pegasys.teku.infrastructure.logging.StatusLogger.STATUS_LOG;
 
+import com.google.common.annotations.VisibleForTesting;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
@@ -25,6 +26,8 @@ import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Function;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
 import org.apache.tuweni.bytes.Bytes32;
 import tech.pegasys.teku.bls.BLSPublicKey;
 import tech.pegasys.teku.service.serviceutils.layout.DataDirLayout;
@@ -40,10 +43,14 @@ import tech.pegasys.teku.validator.client.loader.ValidatorSource.ValidatorProvid
  * memory. If a simple `parallelStream` was used and the machine had a large number of CPUs the
  * available memory would be exhausted resulting in a crash with `OutOfMemoryError`.
  *
+ * <p>The number of threads is based on the available CPUs, limited so that the most expensive
+ * keystore decryptions running in parallel use at most half of the free heap.
+ *
  * <p>Progress is reported to the logs to keep the user informed as loading a large number of keys
  * can be slow.
  */
 public class MultithreadedValidatorLoader {
+  private static final Logger LOG = LogManager.getLogger();
 
   public static void loadValidators(
       final OwnedValidators ownedValidators,
@@ -54,8 +61,22 @@ public class MultithreadedValidatorLoader {
     final int totalValidatorCount = providers.size();
     STATUS_LOG.loadingValidators(totalValidatorCount);
 
-    final ExecutorService executorService =
-        Executors.newFixedThreadPool(Math.min(4, Runtime.getRuntime().availableProcessors()));
+    final Runtime runtime = Runtime.getRuntime();
+    final long maxDecryptionMemoryUsage =
+        providers.values().stream()
+            .mapToLong(ValidatorProvider::getEstimatedDecryptionMemoryUsage)
+            .max()
+            .orElse(0);
+    final int threadCount =
+        calculateThreadCount(
+            runtime.availableProcessors(),
+            runtime.maxMemory() - (runtime.totalMemory() - runtime.freeMemory()),
+            maxDecryptionMemoryUsage);
+    LOG.debug(
+        "Loading validators with {} threads, estimated decryption memory {} bytes per key",
+        threadCount,
+        maxDecryptionMemoryUsage);
+    final ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
     try {
       final AtomicInteger numberOfLoadedKeys = new AtomicInteger(0);
       final List<Future<Validator>> futures =
@@ -112,4 +133,16 @@ public class MultithreadedValidatorLoader {
       executorService.shutdownNow();
     }
   }
+
+  @VisibleForTesting
+  static int calculateThreadCount(
+      final int availableProcessors,
+      final long availableMemory,
+      final long decryptionMemoryUsage) {
+    if (decryptionMemoryUsage <= 0) {
+      return Math.max(1, availableProcessors);
+    }
+    final long memoryLimitedThreads = (availableMemory / 2) / decryptionMemoryUsage;
+    return (int) Math.max(1, Math.min(availableProcessors, memoryLimitedThreads));
+  }
 }
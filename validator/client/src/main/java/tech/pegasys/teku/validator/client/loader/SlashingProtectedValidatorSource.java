@@ -88,6 +88,11 @@ public class SlashingProtectedValidatorSource implements ValidatorSource {
       return delegate.isReadOnly();
     }
 
+    @Override
+    public long getEstimatedDecryptionMemoryUsage() {
+      return delegate.getEstimatedDecryptionMemoryUsage();
+    }
+
     @Override
     public Signer createSigner() {
       return new SlashingProtectedSigner(
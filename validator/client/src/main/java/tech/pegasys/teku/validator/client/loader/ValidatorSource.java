@@ -39,5 +39,13 @@ public interface ValidatorSource {
     Signer createSigner();
 
     boolean isReadOnly();
+
+    /**
+     * Estimated memory required by {@link #createSigner()} to decrypt the validator key, used to
+     * limit how many validators are loaded in parallel.
+     */
+    default long getEstimatedDecryptionMemoryUsage() {
+      return 0;
+    }
   }
 }
@@ -13,8 +13,12 @@
 
 package tech.pegasys.teku.validator.client.loader;
 
+import static java.nio.charset.StandardCharsets.UTF_8;
+
 import java.io.File;
+import java.io.IOException;
 import java.net.http.HttpClient;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.List;
@@ -25,6 +29,7 @@ import org.apache.logging.log4j.Logger;
 import org.hyperledger.besu.plugin.services.MetricsSystem;
 import tech.pegasys.teku.infrastructure.async.AsyncRunner;
 import tech.pegasys.teku.infrastructure.async.ThrottlingTaskQueueWithPriority;
+import tech.pegasys.teku.infrastructure.exceptions.InvalidConfigurationException;
 import tech.pegasys.teku.infrastructure.metrics.TekuMetricCategory;
 import tech.pegasys.teku.service.serviceutils.layout.DataDirLayout;
 import tech.pegasys.teku.spec.Spec;
@@ -146,7 +151,8 @@ public class ValidatorSourceFactory {
             keyStoreFilesLocator,
             asyncRunner,
             false,
-            maybeDataDir);
+            maybeDataDir,
+            Optional.empty());
     mutableLocalValidatorSource = Optional.of(slashingProtected(localValidatorSource));
     return mutableLocalValidatorSource;
   }
@@ -206,7 +212,34 @@ public class ValidatorSourceFactory {
                 keyStoreFilesLocator,
                 asyncRunner,
                 true,
-                maybeDataDir)));
+                maybeDataDir,
+                createDecryptedKeyCache())));
+  }
+
+  private Optional<DecryptedKeyCache> createDecryptedKeyCache() {
+    final Optional<Path> maybePasswordFile = config.getValidatorKeysCachePasswordFile();
+    if (maybePasswordFile.isEmpty()) {
+      return Optional.empty();
+    }
+    if (maybeDataDir.isEmpty()) {
+      LOG.warn("Validator key cache is not available without a data directory");
+      return Optional.empty();
+    }
+    final Path passwordFile = maybePasswordFile.get();
+    final String password;
+    try {
+      password = Files.readString(passwordFile, UTF_8);
+    } catch (final IOException e) {
+      throw new InvalidConfigurationException(
+          "Unable to read validator key cache password file " + passwordFile, e);
+    }
+    if (password.isEmpty()) {
+      throw new InvalidConfigurationException(
+          "Validator key cache password cannot be empty: " + passwordFile);
+    }
+    return Optional.of(
+        new DecryptedKeyCache(
+            maybeDataDir.get().getValidatorDataDirectory().resolve("key-cache"), password));
   }
 
   private Optional<ValidatorSource> addExternalValidatorSource() {
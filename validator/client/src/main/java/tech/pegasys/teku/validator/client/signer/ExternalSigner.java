@@ -19,10 +19,12 @@ import static tech.pegasys.teku.infrastructure.http.HttpStatusCodes.SC_PRECONDIT
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Throwables;
+import java.io.ByteArrayOutputStream;
 import java.net.URI;
 import java.net.URL;
 import java.net.http.HttpClient;
 import java.net.http.HttpRequest;
+import java.net.http.HttpRequest.BodyPublisher;
 import java.net.http.HttpRequest.BodyPublishers;
 import java.net.http.HttpResponse;
 import java.net.http.HttpResponse.BodyHandlers;
@@ -282,7 +284,8 @@ public class ExternalSigner implements Signer {
     final String publicKey = blsPublicKey.toBytesCompressed().toString();
     return SafeFuture.of(
             () -> {
-              final String requestBody = createSigningRequestBody(signingRoot, type, metadata);
+              final BodyPublisher requestBody =
+                  createSigningRequestBody(signingRoot, type, metadata);
               final URI uri =
                   signingServiceUrl.toURI().resolve(EXTERNAL_SIGNER_ENDPOINT + "/" + publicKey);
               final HttpRequest request =
@@ -290,7 +293,7 @@ public class ExternalSigner implements Signer {
                       .uri(uri)
                       .timeout(timeout)
                       .header("Content-Type", "application/json")
-                      .POST(BodyPublishers.ofString(requestBody))
+                      .POST(requestBody)
                       .build();
               return httpClient
                   .sendAsync(request, BodyHandlers.ofString())
@@ -302,13 +305,16 @@ public class ExternalSigner implements Signer {
         .whenComplete(this::recordMetrics);
   }
 
-  private String createSigningRequestBody(
+  private BodyPublisher createSigningRequestBody(
       final Bytes signingRoot, final SignType type, final Map<String, Object> metadata) {
     try {
       final SigningRequestBody request = new SigningRequestBody(signingRoot, type, metadata);
       final SchemaDefinitions schemaDefinitions =
           getSpecVersionFromForkInfo(Optional.ofNullable((ForkInfo) metadata.get(FORK_INFO)));
-      return JsonUtil.serialize(request, request.getJsonTypeDefinition(schemaDefinitions));
+      final RequestBodyOutputStream requestBody = new RequestBodyOutputStream();
+      JsonUtil.serializeToBytes(
+          request, request.getJsonTypeDefinition(schemaDefinitions), requestBody);
+      return requestBody.toBodyPublisher();
     } catch (final JsonProcessingException e) {
       throw new ExternalSignerException("Unable to create external signing request", e);
     }
@@ -389,4 +395,22 @@ public class ExternalSigner implements Signer {
     return () ->
         "External signer refused to sign " + type + " because it may violate a slashing condition";
   }
+
+  /**
+   * Collects the UTF-8 encoded request body and publishes it without copying. Together with writing
+   * the JSON as bytes this keeps a single buffer per request, rather than a String, its encoded
+   * bytes and a copy of the written bytes.
+   */
+  private static class RequestBodyOutputStream extends ByteArrayOutputStream {
+    // large enough for most requests, only blocks need to grow the buffer
+    private static final int INITIAL_CAPACITY = 1024;
+
+    private RequestBodyOutputStream() {
+      super(INITIAL_CAPACITY);
+    }
+
+    private BodyPublisher toBodyPublisher() {
+      return BodyPublishers.ofByteArray(buf, 0, count);
+    }
+  }
 }
@@ -16,16 +16,25 @@ package tech.pegasys.teku.validator.client;
 import static java.util.Collections.emptyList;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
+import static tech.pegasys.teku.infrastructure.async.SafeFutureAssert.assertThatSafeFuture;
 
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import it.unimi.dsi.fastutil.ints.IntCollection;
 import it.unimi.dsi.fastutil.ints.IntList;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.stream.IntStream;
+import org.apache.tuweni.bytes.Bytes32;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 import tech.pegasys.teku.bls.BLSPublicKey;
 import tech.pegasys.teku.ethereum.json.types.validator.AttesterDuties;
 import tech.pegasys.teku.ethereum.json.types.validator.AttesterDuty;
@@ -84,6 +93,7 @@ class AttestationDutyLoaderTest {
     when(validatorIndexProvider.getValidatorIndices())
         .thenReturn(SafeFuture.completedFuture(VALIDATOR_INDICES));
     when(forkProvider.getForkInfo(any())).thenReturn(SafeFuture.completedFuture(forkInfo));
+    when(beaconCommitteeSubscriptions.sendRequests()).thenReturn(SafeFuture.COMPLETE);
   }
 
   @Test
@@ -173,4 +183,187 @@ class AttestationDutyLoaderTest {
     assertThat(result).isCompleted();
     verify(beaconCommitteeSubscriptions).sendRequests();
   }
+
+  @Test
+  void shouldNotSignSlotAgainWhenDutiesAreReloadedForNewDependentRoot() {
+    final UInt64 slot = UInt64.ONE;
+    final AttesterDuty duty =
+        new AttesterDuty(validatorKey, VALIDATOR_INDICES.getInt(0), 1, 3, 4, 0, slot);
+    when(validatorApiChannel.getAttestationDuties(UInt64.ONE, VALIDATOR_INDICES))
+        .thenReturn(
+            SafeFuture.completedFuture(
+                Optional.of(
+                    new AttesterDuties(false, dataStructureUtil.randomBytes32(), List.of(duty)))))
+        .thenReturn(
+            SafeFuture.completedFuture(
+                Optional.of(
+                    new AttesterDuties(false, dataStructureUtil.randomBytes32(), List.of(duty)))));
+    when(scheduledDuties.scheduleProduction(any(), any(), any())).thenReturn(new SafeFuture<>());
+    when(signer.signAggregationSlot(slot, forkInfo))
+        .thenReturn(SafeFuture.completedFuture(dataStructureUtil.randomSignature()));
+
+    assertThat(dutyLoader.loadDutiesForEpoch(UInt64.ONE)).isCompleted();
+    assertThat(dutyLoader.loadDutiesForEpoch(UInt64.ONE)).isCompleted();
+
+    verify(signer, times(1)).signAggregationSlot(slot, forkInfo);
+    assertThat(dutyLoader.getCachedSlotSignatureCount()).isEqualTo(1);
+  }
+
+  @Test
+  void shouldOnlySubscribeChangedDutiesWhenDutiesAreReloaded() {
+    final UInt64 slot = UInt64.ONE;
+    final int validatorIndex = VALIDATOR_INDICES.getInt(0);
+    final AttesterDuty duty = new AttesterDuty(validatorKey, validatorIndex, 1, 3, 4, 0, slot);
+    final AttesterDuty changedDuty =
+        new AttesterDuty(validatorKey, validatorIndex, 1, 2, 4, 0, slot);
+    when(validatorApiChannel.getAttestationDuties(UInt64.ONE, VALIDATOR_INDICES))
+        .thenReturn(
+            SafeFuture.completedFuture(
+                Optional.of(
+                    new AttesterDuties(false, dataStructureUtil.randomBytes32(), List.of(duty)))))
+        .thenReturn(
+            SafeFuture.completedFuture(
+                Optional.of(
+                    new AttesterDuties(false, dataStructureUtil.randomBytes32(), List.of(duty)))))
+        .thenReturn(
+            SafeFuture.completedFuture(
+                Optional.of(
+                    new AttesterDuties(
+                        false, dataStructureUtil.randomBytes32(), List.of(changedDuty)))));
+    when(scheduledDuties.scheduleProduction(any(), any(), any())).thenReturn(new SafeFuture<>());
+    when(signer.signAggregationSlot(slot, forkInfo))
+        .thenReturn(SafeFuture.completedFuture(dataStructureUtil.randomSignature()));
+
+    assertThat(dutyLoader.loadDutiesForEpoch(UInt64.ONE)).isCompleted();
+    assertThat(dutyLoader.loadDutiesForEpoch(UInt64.ONE)).isCompleted();
+
+    verify(beaconCommitteeSubscriptions, times(1)).subscribeToBeaconCommittee(any());
+
+    assertThat(dutyLoader.loadDutiesForEpoch(UInt64.ONE)).isCompleted();
+
+    verify(beaconCommitteeSubscriptions, times(2)).subscribeToBeaconCommittee(any());
+    verify(beaconCommitteeSubscriptions)
+        .subscribeToBeaconCommittee(
+            new CommitteeSubscriptionRequest(validatorIndex, 2, UInt64.valueOf(4), slot, true));
+  }
+
+  @Test
+  void shouldSubscribeAllDutiesAgainAfterPossibleMissedEvents() {
+    final UInt64 slot = UInt64.ONE;
+    final AttesterDuty duty =
+        new AttesterDuty(validatorKey, VALIDATOR_INDICES.getInt(0), 1, 3, 4, 0, slot);
+    when(validatorApiChannel.getAttestationDuties(UInt64.ONE, VALIDATOR_INDICES))
+        .thenReturn(
+            SafeFuture.completedFuture(
+                Optional.of(
+                    new AttesterDuties(false, dataStructureUtil.randomBytes32(), List.of(duty)))));
+    when(scheduledDuties.scheduleProduction(any(), any(), any())).thenReturn(new SafeFuture<>());
+    when(signer.signAggregationSlot(slot, forkInfo))
+        .thenReturn(SafeFuture.completedFuture(dataStructureUtil.randomSignature()));
+
+    assertThat(dutyLoader.loadDutiesForEpoch(UInt64.ONE)).isCompleted();
+    verify(beaconCommitteeSubscriptions, times(1)).subscribeToBeaconCommittee(any());
+
+    // the beacon node may have restarted and lost its subscriptions
+    dutyLoader.onPossibleMissedEvents();
+    assertThat(dutyLoader.loadDutiesForEpoch(UInt64.ONE)).isCompleted();
+
+    verify(beaconCommitteeSubscriptions, times(2)).subscribeToBeaconCommittee(any());
+  }
+
+  @Test
+  void shouldSubscribeAllDutiesAgainWhenSubscriptionRequestFailed() {
+    final UInt64 slot = UInt64.ONE;
+    final AttesterDuty duty =
+        new AttesterDuty(validatorKey, VALIDATOR_INDICES.getInt(0), 1, 3, 4, 0, slot);
+    when(validatorApiChannel.getAttestationDuties(UInt64.ONE, VALIDATOR_INDICES))
+        .thenReturn(
+            SafeFuture.completedFuture(
+                Optional.of(
+                    new AttesterDuties(false, dataStructureUtil.randomBytes32(), List.of(duty)))));
+    when(scheduledDuties.scheduleProduction(any(), any(), any())).thenReturn(new SafeFuture<>());
+    when(signer.signAggregationSlot(slot, forkInfo))
+        .thenReturn(SafeFuture.completedFuture(dataStructureUtil.randomSignature()));
+    when(beaconCommitteeSubscriptions.sendRequests())
+        .thenReturn(SafeFuture.failedFuture(new RuntimeException("Beacon node unavailable")))
+        .thenReturn(SafeFuture.COMPLETE);
+
+    assertThat(dutyLoader.loadDutiesForEpoch(UInt64.ONE)).isCompleted();
+    assertThat(dutyLoader.loadDutiesForEpoch(UInt64.ONE)).isCompleted();
+    assertThat(dutyLoader.loadDutiesForEpoch(UInt64.ONE)).isCompleted();
+
+    // subscribed again after the failure, but not after the successful request
+    verify(beaconCommitteeSubscriptions, times(2)).subscribeToBeaconCommittee(any());
+  }
+
+  @Test
+  void shouldSignSlotAgainWhenPreviousSignatureFailed() {
+    final UInt64 slot = UInt64.ONE;
+    final AttesterDuty duty =
+        new AttesterDuty(validatorKey, VALIDATOR_INDICES.getInt(0), 1, 3, 4, 0, slot);
+    when(validatorApiChannel.getAttestationDuties(UInt64.ONE, VALIDATOR_INDICES))
+        .thenReturn(
+            SafeFuture.completedFuture(
+                Optional.of(
+                    new AttesterDuties(false, dataStructureUtil.randomBytes32(), List.of(duty)))));
+    when(scheduledDuties.scheduleProduction(any(), any(), any())).thenReturn(new SafeFuture<>());
+    when(signer.signAggregationSlot(slot, forkInfo))
+        .thenReturn(SafeFuture.failedFuture(new RuntimeException("Signer unavailable")))
+        .thenReturn(SafeFuture.completedFuture(dataStructureUtil.randomSignature()));
+
+    assertThat(dutyLoader.loadDutiesForEpoch(UInt64.ONE)).isCompleted();
+    assertThat(dutyLoader.getCachedSlotSignatureCount()).isZero();
+    assertThat(dutyLoader.loadDutiesForEpoch(UInt64.ONE)).isCompleted();
+
+    verify(signer, times(2)).signAggregationSlot(slot, forkInfo);
+    assertThat(dutyLoader.getCachedSlotSignatureCount()).isEqualTo(1);
+  }
+
+  @Test
+  void shouldRequestDutiesForLargeNumberOfValidatorsInBatches() {
+    final int validatorCount = AbstractDutyLoader.MAX_VALIDATORS_PER_DUTIES_REQUEST + 10;
+    final IntList validatorIndices = new IntArrayList(IntStream.range(0, validatorCount).toArray());
+    when(validatorIndexProvider.getValidatorIndices())
+        .thenReturn(SafeFuture.completedFuture(validatorIndices));
+    final Bytes32 dependentRoot = dataStructureUtil.randomBytes32();
+    when(validatorApiChannel.getAttestationDuties(eq(UInt64.ONE), any()))
+        .thenReturn(
+            SafeFuture.completedFuture(
+                Optional.of(new AttesterDuties(false, dependentRoot, emptyList()))));
+
+    assertThat(dutyLoader.loadDutiesForEpoch(UInt64.ONE)).isCompleted();
+
+    final ArgumentCaptor<IntCollection> batchCaptor = ArgumentCaptor.forClass(IntCollection.class);
+    verify(validatorApiChannel, times(2))
+        .getAttestationDuties(eq(UInt64.ONE), batchCaptor.capture());
+    final List<Integer> requestedIndices = new ArrayList<>();
+    batchCaptor.getAllValues().forEach(requestedIndices::addAll);
+    assertThat(requestedIndices).containsExactlyElementsOf(validatorIndices);
+    assertThat(batchCaptor.getAllValues())
+        .allSatisfy(
+            batch ->
+                assertThat(batch.size())
+                    .isLessThanOrEqualTo(AbstractDutyLoader.MAX_VALIDATORS_PER_DUTIES_REQUEST));
+  }
+
+  @Test
+  void shouldFailWhenDependentRootChangesBetweenBatches() {
+    final int validatorCount = AbstractDutyLoader.MAX_VALIDATORS_PER_DUTIES_REQUEST + 10;
+    when(validatorIndexProvider.getValidatorIndices())
+        .thenReturn(
+            SafeFuture.completedFuture(
+                new IntArrayList(IntStream.range(0, validatorCount).toArray())));
+    when(validatorApiChannel.getAttestationDuties(eq(UInt64.ONE), any()))
+        .thenReturn(
+            SafeFuture.completedFuture(
+                Optional.of(
+                    new AttesterDuties(false, dataStructureUtil.randomBytes32(), emptyList()))))
+        .thenReturn(
+            SafeFuture.completedFuture(
+                Optional.of(
+                    new AttesterDuties(false, dataStructureUtil.randomBytes32(), emptyList()))));
+
+    assertThatSafeFuture(dutyLoader.loadDutiesForEpoch(UInt64.ONE))
+        .isCompletedExceptionallyWith(NodeDataUnavailableException.class);
+  }
 }
@@ -81,6 +81,7 @@ public class AttestationDutySchedulerTest extends AbstractDutySchedulerTest {
         .thenReturn(SafeFuture.completedFuture(DutyResult.NO_OP));
     when(scheduledDuties.performAggregationDuty(any()))
         .thenReturn(SafeFuture.completedFuture(DutyResult.NO_OP));
+    when(beaconCommitteeSubscriptions.sendRequests()).thenReturn(SafeFuture.COMPLETE);
   }
 
   @Test
@@ -282,6 +283,29 @@ public class AttestationDutySchedulerTest extends AbstractDutySchedulerTest {
     verifyNoMoreInteractions(validatorApiChannel);
   }
 
+  @Test
+  void shouldSubscribeToBeaconCommitteesAgainOnMissedEvents() {
+    createDutySchedulerWithMockDuties();
+    final UInt64 attestationSlot = spec.computeStartSlotAtEpoch(ONE).plus(1);
+    final AttesterDuty duty = new AttesterDuty(VALIDATOR1_KEY, 5, 1, 3, 15, 9, attestationSlot);
+    // the same duties are returned when the beacon node reconnects with the same dependent root
+    when(validatorApiChannel.getAttestationDuties(eq(ONE), any()))
+        .thenReturn(
+            completedFuture(
+                Optional.of(
+                    new AttesterDuties(false, dataStructureUtil.randomBytes32(), List.of(duty)))));
+    when(validator1.getSigner().signAggregationSlot(attestationSlot, fork))
+        .thenReturn(completedFuture(dataStructureUtil.randomSignature()));
+    when(scheduledDuties.scheduleProduction(any(), any(), any())).thenReturn(new SafeFuture<>());
+
+    dutyScheduler.onSlot(spec.computeStartSlotAtEpoch(ONE));
+    verify(beaconCommitteeSubscriptions, times(1)).subscribeToBeaconCommittee(any());
+
+    dutyScheduler.onPossibleMissedEvents();
+
+    verify(beaconCommitteeSubscriptions, times(2)).subscribeToBeaconCommittee(any());
+  }
+
   @Test
   void shouldRefetchAllDutiesOnMissedEventsWithNoPreviousEpoch() {
     createDutySchedulerWithRealDuties();
@@ -45,6 +45,7 @@ import tech.pegasys.teku.validator.client.duties.BlockDutyFactory;
 import tech.pegasys.teku.validator.client.duties.BlockProductionDuty;
 import tech.pegasys.teku.validator.client.duties.Duty;
 import tech.pegasys.teku.validator.client.duties.DutyResult;
+import tech.pegasys.teku.validator.client.duties.PreSigningScheduler;
 import tech.pegasys.teku.validator.client.duties.SlotBasedScheduledDuties;
 import tech.pegasys.teku.validator.client.duties.ValidatorDutyMetrics;
 import tech.pegasys.teku.validator.client.loader.OwnedValidators;
@@ -55,6 +56,7 @@ public class BlockDutySchedulerTest extends AbstractDutySchedulerTest {
   private final Spec spec = TestSpecFactory.createMinimalPhase0();
 
   private final BlockDutyFactory blockDutyFactory = mock(BlockDutyFactory.class);
+  private final PreSigningScheduler preSigningScheduler = mock(PreSigningScheduler.class);
 
   @SuppressWarnings("unchecked")
   final SlotBasedScheduledDuties<BlockProductionDuty, Duty> scheduledDuties =
@@ -134,6 +136,23 @@ public class BlockDutySchedulerTest extends AbstractDutySchedulerTest {
     verify(blockCreationDuty).performDuty();
   }
 
+  @Test
+  public void shouldPreSignRandaoRevealWhenBlockProposalDutyIsScheduled() {
+    createDutySchedulerWithRealDuties();
+    final UInt64 blockProposerSlot = UInt64.valueOf(5);
+    final ProposerDuty validator1Duties = new ProposerDuty(VALIDATOR1_KEY, 5, blockProposerSlot);
+    when(validatorApiChannel.getProposerDuties(ZERO))
+        .thenReturn(
+            completedFuture(
+                Optional.of(
+                    new ProposerDuties(
+                        dataStructureUtil.randomBytes32(), List.of(validator1Duties), false))));
+
+    dutyScheduler.onSlot(spec.computeStartSlotAtEpoch(ZERO));
+
+    verify(preSigningScheduler).scheduleRandaoReveal(validator1, blockProposerSlot);
+  }
+
   private BlockProductionDuty createBlockProductionDutyAtSlot(final UInt64 blockProposerSlot) {
     final BlockProductionDuty blockCreationDuty = mock(BlockProductionDuty.class);
     when(blockCreationDuty.getType()).thenReturn(DutyType.BLOCK_PRODUCTION);
@@ -338,7 +357,8 @@ public class BlockDutySchedulerTest extends AbstractDutySchedulerTest {
                             validatorDutyMetrics::performDutyWithMetrics),
                     new OwnedValidators(
                         Map.of(VALIDATOR1_KEY, validator1, VALIDATOR2_KEY, validator2)),
-                    validatorIndexProvider)),
+                    validatorIndexProvider,
+                    preSigningScheduler)),
             spec);
   }
 
@@ -353,7 +373,8 @@ public class BlockDutySchedulerTest extends AbstractDutySchedulerTest {
                     dependentRoot -> scheduledDuties,
                     new OwnedValidators(
                         Map.of(VALIDATOR1_KEY, validator1, VALIDATOR2_KEY, validator2)),
-                    validatorIndexProvider)),
+                    validatorIndexProvider,
+                    preSigningScheduler)),
             spec);
   }
 }
@@ -15,6 +15,7 @@ package tech.pegasys.teku.validator.client;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -30,11 +31,13 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 import org.apache.logging.log4j.Level;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 import tech.pegasys.infrastructure.logging.LogCaptor;
 import tech.pegasys.teku.api.migrated.ValidatorLivenessAtEpoch;
 import tech.pegasys.teku.bls.BLSPublicKey;
@@ -503,6 +506,62 @@ public class DoppelgangerDetectorTest {
     assertThat(doppelgangerDetectorFuture).isCompletedWithValue(doppelgangers);
   }
 
+  @Test
+  public void shouldLookUpValidatorIndicesOnlyOnce() {
+    when(validatorApiChannel.getValidatorsLiveness(any(), any()))
+        .thenReturn(SafeFuture.completedFuture(Optional.of(new ArrayList<>())));
+
+    doppelgangerDetector.performDoppelgangerDetection(Set.of(pubKey1, pubKey2, pubKey3));
+    asyncRunner.executeQueuedActions();
+    timeProvider.advanceTimeBy(checkDelay);
+    asyncRunner.executeQueuedActions();
+
+    verify(validatorApiChannel, times(2)).getValidatorsLiveness(any(), eq(UInt64.ZERO));
+    verify(validatorApiChannel, times(1)).getValidatorIndices(any());
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  public void shouldRequestLivenessInShardsOfSortedIndices() {
+    final int validatorCount = DoppelgangerDetector.MAX_INDICES_PER_LIVENESS_REQUEST + 1;
+    final Map<BLSPublicKey, Integer> validatorIndices = new HashMap<>();
+    IntStream.range(0, validatorCount)
+        .forEach(index -> validatorIndices.put(dataStructureUtil.randomPublicKey(), index));
+    when(validatorApiChannel.getValidatorIndices(validatorIndices.keySet()))
+        .thenReturn(SafeFuture.completedFuture(validatorIndices));
+    final UInt64 liveIndex = UInt64.valueOf(validatorCount - 1);
+    when(validatorApiChannel.getValidatorsLiveness(any(), any()))
+        .thenReturn(
+            SafeFuture.completedFuture(Optional.of(new ArrayList<>())),
+            SafeFuture.completedFuture(
+                Optional.of(List.of(new ValidatorLivenessAtEpoch(liveIndex, true)))));
+
+    final SafeFuture<Map<UInt64, BLSPublicKey>> doppelgangerDetectorFuture =
+        doppelgangerDetector.performDoppelgangerDetection(validatorIndices.keySet());
+    asyncRunner.executeQueuedActions();
+
+    final ArgumentCaptor<List<UInt64>> requestedIndices = ArgumentCaptor.forClass(List.class);
+    verify(validatorApiChannel, times(2))
+        .getValidatorsLiveness(requestedIndices.capture(), eq(UInt64.ZERO));
+    assertThat(requestedIndices.getAllValues().get(0))
+        .hasSize(DoppelgangerDetector.MAX_INDICES_PER_LIVENESS_REQUEST)
+        .isSorted();
+    assertThat(requestedIndices.getAllValues().get(1)).containsExactly(liveIndex);
+    verify(statusLog)
+        .validatorsDoppelgangersDetected(
+            Map.of(liveIndex, getPubKeyForIndex(validatorIndices, liveIndex).toString()));
+    assertThat(doppelgangerDetectorFuture).isNotDone();
+  }
+
+  private BLSPublicKey getPubKeyForIndex(
+      final Map<BLSPublicKey, Integer> validatorIndices, final UInt64 index) {
+    return validatorIndices.entrySet().stream()
+        .filter(entry -> index.equals(UInt64.valueOf(entry.getValue())))
+        .findFirst()
+        .orElseThrow()
+        .getKey();
+  }
+
   private Stream<String> toAbbreviatedKeys(final Set<BLSPublicKey> pubKeys) {
     return pubKeys.stream().map(BLSPublicKey::toAbbreviatedString);
   }
@@ -17,6 +17,7 @@ import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
+import static tech.pegasys.teku.infrastructure.async.SafeFutureAssert.assertThatSafeFuture;
 
 import java.util.List;
 import org.junit.jupiter.api.Test;
@@ -52,4 +53,15 @@ class BeaconCommitteeSubscriptionsTest {
     verify(validatorApiChannel).subscribeToBeaconCommittee(requests);
     verifyNoMoreInteractions(validatorApiChannel);
   }
+  @Test
+  void shouldReturnFailureWhenSubscriptionRequestFails() {
+    final List<CommitteeSubscriptionRequest> requests =
+        List.of(new CommitteeSubscriptionRequest(1, 2, UInt64.valueOf(3), UInt64.valueOf(5), true));
+    requests.forEach(subscriptions::subscribeToBeaconCommittee);
+    final RuntimeException error = new RuntimeException("Beacon node unavailable");
+    when(validatorApiChannel.subscribeToBeaconCommittee(requests))
+        .thenReturn(SafeFuture.failedFuture(error));
+
+    assertThatSafeFuture(subscriptions.sendRequests()).isCompletedExceptionallyWith(error);
+  }
 }
@@ -41,6 +41,7 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.ArgumentMatchers;
 import tech.pegasys.teku.bls.BLSSignature;
 import tech.pegasys.teku.infrastructure.async.SafeFuture;
+import tech.pegasys.teku.infrastructure.async.StubAsyncRunner;
 import tech.pegasys.teku.infrastructure.bytes.Bytes20;
 import tech.pegasys.teku.infrastructure.logging.ValidatorLogger;
 import tech.pegasys.teku.infrastructure.metrics.StubMetricsSystem;
@@ -93,6 +94,8 @@ class BlockProductionDutyTest {
       new MilestoneBasedBlockContainerSigner(spec);
   private final ValidatorDutyMetrics validatorDutyMetrics =
       spy(ValidatorDutyMetrics.create(new StubMetricsSystem()));
+  private final PreSigningScheduler preSigningScheduler =
+      new PreSigningScheduler(spec, forkProvider, new StubAsyncRunner());
   private BlockProductionDuty duty;
 
   @BeforeEach
@@ -105,7 +108,8 @@ class BlockProductionDutyTest {
             validatorApiChannel,
             blockContainerSigner,
             spec,
-            validatorDutyMetrics);
+            validatorDutyMetrics,
+            preSigningScheduler);
     when(forkProvider.getForkInfo(any())).thenReturn(completedFuture(fork));
   }
 
@@ -120,7 +124,8 @@ class BlockProductionDutyTest {
             validatorApiChannel,
             blockContainerSigner,
             spec,
-            validatorDutyMetrics);
+            validatorDutyMetrics,
+            preSigningScheduler);
     final BLSSignature randaoReveal = dataStructureUtil.randomSignature();
     final BLSSignature blockSignature = dataStructureUtil.randomSignature();
     final BlockContainerAndMetaData blockContainerAndMetaData;
@@ -175,7 +180,8 @@ class BlockProductionDutyTest {
             validatorApiChannel,
             blockContainerSigner,
             spec,
-            validatorDutyMetrics);
+            validatorDutyMetrics,
+            preSigningScheduler);
 
     final BLSSignature randaoReveal = dataStructureUtil.randomSignature();
     final BLSSignature blockSignature = dataStructureUtil.randomSignature();
@@ -262,7 +268,8 @@ class BlockProductionDutyTest {
             validatorApiChannel,
             blockContainerSigner,
             spec,
-            validatorDutyMetrics);
+            validatorDutyMetrics,
+            preSigningScheduler);
 
     final BLSSignature randaoReveal = dataStructureUtil.randomSignature();
     final BLSSignature blockSignature = dataStructureUtil.randomSignature();
@@ -325,7 +332,8 @@ class BlockProductionDutyTest {
             validatorApiChannel,
             blockContainerSigner,
             spec,
-            validatorDutyMetrics);
+            validatorDutyMetrics,
+            preSigningScheduler);
 
     final BLSSignature randaoReveal = dataStructureUtil.randomSignature();
     final BLSSignature blockSignature = dataStructureUtil.randomSignature();
@@ -368,7 +376,8 @@ class BlockProductionDutyTest {
             validatorApiChannel,
             blockContainerSigner,
             spec,
-            validatorDutyMetrics);
+            validatorDutyMetrics,
+            preSigningScheduler);
 
     final BLSSignature randaoReveal = dataStructureUtil.randomSignature();
     final BLSSignature blockSignature = dataStructureUtil.randomSignature();
@@ -511,7 +520,8 @@ class BlockProductionDutyTest {
             validatorApiChannel,
             blockContainerSigner,
             spec,
-            validatorDutyMetrics);
+            validatorDutyMetrics,
+            preSigningScheduler);
     final BLSSignature randaoReveal = dataStructureUtil.randomSignature();
     final BLSSignature blockSignature = dataStructureUtil.randomSignature();
     final BlockContainerAndMetaData blockContainerAndMetaData;
@@ -568,7 +578,8 @@ class BlockProductionDutyTest {
             validatorApiChannel,
             blockContainerSigner,
             spec,
-            validatorDutyMetrics);
+            validatorDutyMetrics,
+            preSigningScheduler);
 
     final BLSSignature randaoReveal = dataStructureUtil.randomSignature();
     final BLSSignature blockSignature = dataStructureUtil.randomSignature();
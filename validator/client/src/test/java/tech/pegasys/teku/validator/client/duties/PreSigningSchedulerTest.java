@@ -0,0 +1,113 @@
+/*
+ * Copyright Consensys Software Inc., 2025
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.validator.client.duties;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static tech.pegasys.teku.infrastructure.async.SafeFuture.completedFuture;
+import static tech.pegasys.teku.infrastructure.async.SafeFutureAssert.assertThatSafeFuture;
+
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import tech.pegasys.teku.bls.BLSSignature;
+import tech.pegasys.teku.infrastructure.async.SafeFuture;
+import tech.pegasys.teku.infrastructure.async.StubAsyncRunner;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+import tech.pegasys.teku.spec.Spec;
+import tech.pegasys.teku.spec.TestSpecFactory;
+import tech.pegasys.teku.spec.datastructures.state.ForkInfo;
+import tech.pegasys.teku.spec.signatures.Signer;
+import tech.pegasys.teku.spec.util.DataStructureUtil;
+import tech.pegasys.teku.validator.client.ForkProvider;
+import tech.pegasys.teku.validator.client.Validator;
+
+class PreSigningSchedulerTest {
+  private final Spec spec = TestSpecFactory.createMinimalPhase0();
+  private final DataStructureUtil dataStructureUtil = new DataStructureUtil(spec);
+  private final ForkProvider forkProvider = mock(ForkProvider.class);
+  private final Signer signer = mock(Signer.class);
+  private final Validator validator =
+      new Validator(dataStructureUtil.randomPublicKey(), signer, Optional::empty);
+  private final ForkInfo forkInfo = dataStructureUtil.randomForkInfo();
+  private final StubAsyncRunner asyncRunner = new StubAsyncRunner();
+  private final BLSSignature randaoReveal = dataStructureUtil.randomSignature();
+
+  private final UInt64 slot = UInt64.valueOf(20);
+  private final UInt64 epoch = spec.computeEpochAtSlot(slot);
+
+  private final PreSigningScheduler preSigningScheduler =
+      new PreSigningScheduler(spec, forkProvider, asyncRunner);
+
+  @BeforeEach
+  void setUp() {
+    when(forkProvider.getForkInfo(any())).thenReturn(completedFuture(forkInfo));
+    when(signer.createRandaoReveal(epoch, forkInfo)).thenReturn(completedFuture(randaoReveal));
+  }
+
+  @Test
+  void shouldUsePreSignedRandaoReveal() {
+    preSigningScheduler.scheduleRandaoReveal(validator, slot);
+    verify(signer, never()).createRandaoReveal(any(), any());
+
+    asyncRunner.executeQueuedActions();
+    verify(signer).createRandaoReveal(epoch, forkInfo);
+
+    assertThatSafeFuture(preSigningScheduler.getRandaoReveal(validator, epoch, forkInfo))
+        .isCompletedWithValue(randaoReveal);
+    verify(signer).createRandaoReveal(epoch, forkInfo);
+  }
+
+  @Test
+  void shouldSignDirectlyWhenPreSigningHasNotStarted() {
+    preSigningScheduler.scheduleRandaoReveal(validator, slot);
+
+    assertThatSafeFuture(preSigningScheduler.getRandaoReveal(validator, epoch, forkInfo))
+        .isCompletedWithValue(randaoReveal);
+
+    // the queued pre-signing task reuses the live signature
+    asyncRunner.executeQueuedActions();
+    verify(signer).createRandaoReveal(epoch, forkInfo);
+  }
+
+  @Test
+  void shouldSignAgainWhenPreSigningFailed() {
+    when(signer.createRandaoReveal(epoch, forkInfo))
+        .thenReturn(SafeFuture.failedFuture(new IllegalStateException("Signer unavailable")))
+        .thenReturn(completedFuture(randaoReveal));
+    preSigningScheduler.scheduleRandaoReveal(validator, slot);
+    asyncRunner.executeQueuedActions();
+
+    assertThatSafeFuture(preSigningScheduler.getRandaoReveal(validator, epoch, forkInfo))
+        .isCompletedWithValue(randaoReveal);
+  }
+
+  @Test
+  void shouldDiscardRandaoRevealsForEarlierEpochs() {
+    preSigningScheduler.scheduleRandaoReveal(validator, slot);
+    asyncRunner.executeQueuedActions();
+    assertThat(preSigningScheduler.getPreSignedRandaoRevealCount()).isEqualTo(1);
+
+    final UInt64 nextEpoch = epoch.increment();
+    when(signer.createRandaoReveal(nextEpoch, forkInfo))
+        .thenReturn(completedFuture(dataStructureUtil.randomSignature()));
+    preSigningScheduler.getRandaoReveal(validator, nextEpoch, forkInfo);
+
+    assertThat(preSigningScheduler.getPreSignedRandaoRevealCount()).isEqualTo(1);
+  }
+}
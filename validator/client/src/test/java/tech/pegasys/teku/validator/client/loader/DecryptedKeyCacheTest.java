@@ -0,0 +1,177 @@
+/*
+ * Copyright Consensys Software Inc., 2025
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.validator.client.loader;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.util.List;
+import java.util.stream.Stream;
+import org.apache.tuweni.bytes.Bytes;
+import org.apache.tuweni.bytes.Bytes32;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.DisabledOnOs;
+import org.junit.jupiter.api.condition.OS;
+import org.junit.jupiter.api.io.TempDir;
+import tech.pegasys.teku.bls.BLSKeyPair;
+import tech.pegasys.teku.bls.BLSTestUtil;
+import tech.pegasys.teku.bls.keystore.KeyStoreLoader;
+import tech.pegasys.teku.bls.keystore.model.KeyStoreData;
+
+class DecryptedKeyCacheTest {
+  private static final String PASSWORD = "masterpassword";
+
+  private final BLSKeyPair keyPair1 = BLSTestUtil.randomKeyPair(1);
+  private final BLSKeyPair keyPair2 = BLSTestUtil.randomKeyPair(2);
+
+  @TempDir Path cacheDir;
+
+  @Test
+  void shouldReturnEmptyWhenKeyIsNotCached() {
+    final DecryptedKeyCache cache = new DecryptedKeyCache(cacheDir, PASSWORD);
+    assertThat(cache.get(keyPair1.getPublicKey())).isEmpty();
+  }
+
+  @Test
+  void shouldLoadCachedKeysAfterRestart() {
+    final DecryptedKeyCache cache = new DecryptedKeyCache(cacheDir, PASSWORD);
+    cache.put(keyPair1.getPublicKey(), getPrivateKey(keyPair1));
+    cache.put(keyPair2.getPublicKey(), getPrivateKey(keyPair2));
+
+    final DecryptedKeyCache reloadedCache = new DecryptedKeyCache(cacheDir, PASSWORD);
+    assertThat(reloadedCache.get(keyPair1.getPublicKey())).contains(getPrivateKey(keyPair1));
+    assertThat(reloadedCache.get(keyPair2.getPublicKey())).contains(getPrivateKey(keyPair2));
+  }
+
+  @Test
+  void shouldSealAllEntriesWithTheSameKdfParameters() throws IOException {
+    final DecryptedKeyCache cache = new DecryptedKeyCache(cacheDir, PASSWORD);
+    cache.put(keyPair1.getPublicKey(), getPrivateKey(keyPair1));
+    cache.put(keyPair2.getPublicKey(), getPrivateKey(keyPair2));
+
+    try (Stream<Path> entries = Files.list(cacheDir)) {
+      assertThat(entries.map(this::loadSalt).distinct()).hasSize(1);
+    }
+  }
+
+  @Test
+  void shouldReuseKdfParametersOfExistingEntries() throws IOException {
+    new DecryptedKeyCache(cacheDir, PASSWORD).put(keyPair1.getPublicKey(), getPrivateKey(keyPair1));
+
+    final DecryptedKeyCache reloadedCache = new DecryptedKeyCache(cacheDir, PASSWORD);
+    assertThat(reloadedCache.get(keyPair1.getPublicKey())).isPresent();
+    reloadedCache.put(keyPair2.getPublicKey(), getPrivateKey(keyPair2));
+
+    try (Stream<Path> entries = Files.list(cacheDir)) {
+      assertThat(entries.map(this::loadSalt).distinct()).hasSize(1);
+    }
+  }
+
+  @Test
+  void shouldTreatEntryAsMissWhenPasswordIsIncorrect() {
+    new DecryptedKeyCache(cacheDir, PASSWORD).put(keyPair1.getPublicKey(), getPrivateKey(keyPair1));
+
+    final DecryptedKeyCache cache = new DecryptedKeyCache(cacheDir, "otherpassword");
+    assertThat(cache.get(keyPair1.getPublicKey())).isEmpty();
+  }
+
+  @Test
+  void shouldTreatEntryAsMissWhenKeyDoesNotMatchPublicKey() throws IOException {
+    final DecryptedKeyCache cache = new DecryptedKeyCache(cacheDir, PASSWORD);
+    cache.put(keyPair1.getPublicKey(), getPrivateKey(keyPair1));
+    Files.move(getEntryPath(keyPair1), getEntryPath(keyPair2));
+
+    assertThat(cache.get(keyPair2.getPublicKey())).isEmpty();
+  }
+
+  @Test
+  void shouldTreatInvalidEntryAsMiss() throws IOException {
+    Files.writeString(getEntryPath(keyPair1), "not a keystore");
+
+    final DecryptedKeyCache cache = new DecryptedKeyCache(cacheDir, PASSWORD);
+    assertThat(cache.get(keyPair1.getPublicKey())).isEmpty();
+  }
+
+  @Test
+  @DisabledOnOs(OS.WINDOWS) // Can't set permissions on Windows
+  void shouldOnlyAllowOwnerToAccessEntries() throws IOException {
+    final Path subDir = cacheDir.resolve("key-cache");
+    final DecryptedKeyCache cache = new DecryptedKeyCache(subDir, PASSWORD);
+    cache.put(keyPair1.getPublicKey(), getPrivateKey(keyPair1));
+
+    assertThat(PosixFilePermissions.toString(Files.getPosixFilePermissions(subDir)))
+        .isEqualTo("rwx------");
+    try (Stream<Path> entries = Files.list(subDir)) {
+      assertThat(entries)
+          .singleElement()
+          .satisfies(
+              entry ->
+                  assertThat(PosixFilePermissions.toString(Files.getPosixFilePermissions(entry)))
+                      .isEqualTo("rw-------"));
+    }
+  }
+
+  @Test
+  void shouldReplaceExistingEntry() {
+    final DecryptedKeyCache cache = new DecryptedKeyCache(cacheDir, PASSWORD);
+    cache.put(keyPair1.getPublicKey(), getPrivateKey(keyPair1));
+    cache.put(keyPair1.getPublicKey(), getPrivateKey(keyPair1));
+
+    assertThat(cacheDir.toFile().list())
+        .containsExactly(getEntryPath(keyPair1).getFileName().toString());
+    assertThat(cache.get(keyPair1.getPublicKey())).contains(getPrivateKey(keyPair1));
+  }
+
+  @Test
+  void shouldDeleteEntriesForKeysWhichAreNotRetained() throws IOException {
+    final DecryptedKeyCache cache = new DecryptedKeyCache(cacheDir, PASSWORD);
+    cache.put(keyPair1.getPublicKey(), getPrivateKey(keyPair1));
+    cache.put(keyPair2.getPublicKey(), getPrivateKey(keyPair2));
+    final Path leftoverTempFile = Files.createFile(cacheDir.resolve("entry123.tmp"));
+    final Path unrelatedFile = Files.createFile(cacheDir.resolve("README.txt"));
+
+    cache.retainAll(List.of(keyPair1.getPublicKey()));
+
+    assertThat(getEntryPath(keyPair1)).exists();
+    assertThat(getEntryPath(keyPair2)).doesNotExist();
+    assertThat(leftoverTempFile).doesNotExist();
+    assertThat(unrelatedFile).exists();
+    assertThat(cache.get(keyPair1.getPublicKey())).contains(getPrivateKey(keyPair1));
+  }
+
+  @Test
+  void shouldIgnoreRetainAllWhenCacheDirectoryDoesNotExist() {
+    final Path missingDir = cacheDir.resolve("missing");
+    new DecryptedKeyCache(missingDir, PASSWORD).retainAll(List.of(keyPair1.getPublicKey()));
+
+    assertThat(missingDir).doesNotExist();
+  }
+
+  private Path getEntryPath(final BLSKeyPair keyPair) {
+    return cacheDir.resolve(
+        keyPair.getPublicKey().toBytesCompressed().toUnprefixedHexString() + ".json");
+  }
+
+  private Bytes loadSalt(final Path entry) {
+    final KeyStoreData keyStoreData = KeyStoreLoader.loadFromFile(entry.toUri());
+    return keyStoreData.getCrypto().getKdf().getParam().getSalt();
+  }
+
+  private static Bytes32 getPrivateKey(final BLSKeyPair keyPair) {
+    return keyPair.getSecretKey().toBytes();
+  }
+}
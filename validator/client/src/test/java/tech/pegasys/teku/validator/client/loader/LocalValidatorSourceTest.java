@@ -78,7 +78,14 @@ class LocalValidatorSourceTest {
 
   private final LocalValidatorSource validatorSource =
       new LocalValidatorSource(
-          spec, true, keystoreLocker, keyStoreFilesLocator, asyncRunner, true, Optional.empty());
+          spec,
+          true,
+          keystoreLocker,
+          keyStoreFilesLocator,
+          asyncRunner,
+          true,
+          Optional.empty(),
+          Optional.empty());
 
   @Test
   void shouldLoadKeysFromKeyStores(@TempDir final Path tempDir) throws Exception {
@@ -103,6 +110,85 @@ class LocalValidatorSourceTest {
     assertProviderMatchesKey(availableValidators.get(1), EXPECTED_BLS_KEY_PAIR);
   }
 
+  @Test
+  void shouldStoreDecryptedKeysInCache(@TempDir final Path tempDir) throws Exception {
+    final Path pbkdf2Keystore = Path.of(Resources.getResource("pbkdf2TestVector.json").toURI());
+    final Path tempPasswordFile = createTempFile(tempDir, "pass", ".txt");
+    writeString(tempPasswordFile, EXPECTED_PASSWORD);
+    when(keyStoreFilesLocator.parse())
+        .thenReturn(List.of(Pair.of(pbkdf2Keystore, tempPasswordFile)));
+
+    final Path cacheDir = tempDir.resolve("cache");
+    final LocalValidatorSource cachingValidatorSource =
+        new LocalValidatorSource(
+            spec,
+            true,
+            keystoreLocker,
+            keyStoreFilesLocator,
+            asyncRunner,
+            true,
+            Optional.empty(),
+            Optional.of(new DecryptedKeyCache(cacheDir, "masterpassword")));
+
+    final List<ValidatorProvider> availableValidators =
+        cachingValidatorSource.getAvailableValidators();
+    assertProviderMatchesKey(availableValidators.get(0), EXPECTED_BLS_KEY_PAIR);
+    assertThat(new DecryptedKeyCache(cacheDir, "masterpassword").get(PBKDF2_PUBKEY))
+        .contains(BLS_PRIVATE_KEY);
+
+    // Loading again uses the cached key
+    assertProviderMatchesKey(
+        cachingValidatorSource.getAvailableValidators().get(0), EXPECTED_BLS_KEY_PAIR);
+  }
+
+  @Test
+  void shouldRemoveCachedKeysWhichAreNoLongerLoaded(@TempDir final Path tempDir) throws Exception {
+    final Path pbkdf2Keystore = Path.of(Resources.getResource("pbkdf2TestVector.json").toURI());
+    final Path tempPasswordFile = createTempFile(tempDir, "pass", ".txt");
+    writeString(tempPasswordFile, EXPECTED_PASSWORD);
+    when(keyStoreFilesLocator.parse())
+        .thenReturn(List.of(Pair.of(pbkdf2Keystore, tempPasswordFile)));
+
+    final Path cacheDir = tempDir.resolve("cache");
+    final DecryptedKeyCache decryptedKeyCache = new DecryptedKeyCache(cacheDir, "masterpassword");
+    final LocalValidatorSource cachingValidatorSource =
+        new LocalValidatorSource(
+            spec,
+            true,
+            keystoreLocker,
+            keyStoreFilesLocator,
+            asyncRunner,
+            true,
+            Optional.empty(),
+            Optional.of(decryptedKeyCache));
+    cachingValidatorSource.getAvailableValidators().get(0).createSigner();
+    assertThat(decryptedKeyCache.get(PBKDF2_PUBKEY)).isPresent();
+
+    when(keyStoreFilesLocator.parse()).thenReturn(List.of());
+    assertThat(cachingValidatorSource.getAvailableValidators()).isEmpty();
+
+    assertThat(decryptedKeyCache.get(PBKDF2_PUBKEY)).isEmpty();
+    assertThat(cacheDir.toFile().list()).isEmpty();
+  }
+
+  @Test
+  void shouldEstimateDecryptionMemoryUsageFromKdfParameters(@TempDir final Path tempDir)
+      throws Exception {
+    final Path scryptKeystore = Path.of(Resources.getResource("scryptTestVector.json").toURI());
+    final Path pbkdf2Keystore = Path.of(Resources.getResource("pbkdf2TestVector.json").toURI());
+    final Path tempPasswordFile = createTempFile(tempDir, "pass", ".txt");
+    writeString(tempPasswordFile, EXPECTED_PASSWORD);
+    when(keyStoreFilesLocator.parse())
+        .thenReturn(
+            List.of(
+                Pair.of(scryptKeystore, tempPasswordFile),
+                Pair.of(pbkdf2Keystore, tempPasswordFile)));
+
+    final List<ValidatorProvider> availableValidators = validatorSource.getAvailableValidators();
+    assertThat(availableValidators.get(0).getEstimatedDecryptionMemoryUsage()).isPositive();
+    assertThat(availableValidators.get(1).getEstimatedDecryptionMemoryUsage()).isZero();
+  }
+
   @Test
   void shouldThrowExceptionWhenPasswordFileIsEmpty(@TempDir final Path tempDir) throws Exception {
     // load keystores from resources
@@ -269,7 +355,8 @@ class LocalValidatorSourceTest {
             keyStoreFilesLocator,
             asyncRunner,
             false,
-            Optional.of(new SimpleDataDirLayout(tempDir)));
+            Optional.of(new SimpleDataDirLayout(tempDir)),
+            Optional.empty());
     final KeyStoreData keyStoreData =
         KeyStoreLoader.loadFromString(
             Resources.toString(Resources.getResource(resourceName), StandardCharsets.UTF_8));
@@ -0,0 +1,51 @@
+/*
+ * Copyright Consensys Software Inc., 2025
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.validator.client.loader;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+class MultithreadedValidatorLoaderTest {
+  private static final long SCRYPT_MEMORY_USAGE = 256L * 1024 * 1024;
+
+  @Test
+  void shouldUseAllProcessorsWhenDecryptionNeedsNoSignificantMemory() {
+    assertThat(MultithreadedValidatorLoader.calculateThreadCount(16, 1024, 0)).isEqualTo(16);
+  }
+
+  @Test
+  void shouldLimitThreadsByAvailableMemory() {
+    assertThat(
+            MultithreadedValidatorLoader.calculateThreadCount(
+                16, 8 * SCRYPT_MEMORY_USAGE, SCRYPT_MEMORY_USAGE))
+        .isEqualTo(4);
+  }
+
+  @Test
+  void shouldLimitThreadsByAvailableProcessors() {
+    assertThat(
+            MultithreadedValidatorLoader.calculateThreadCount(
+                2, 100 * SCRYPT_MEMORY_USAGE, SCRYPT_MEMORY_USAGE))
+        .isEqualTo(2);
+  }
+
+  @Test
+  void shouldAlwaysUseAtLeastOneThread() {
+    assertThat(
+            MultithreadedValidatorLoader.calculateThreadCount(
+                16, SCRYPT_MEMORY_USAGE, SCRYPT_MEMORY_USAGE))
+        .isEqualTo(1);
+  }
+}
@@ -0,0 +1,121 @@
+/*
+ * Copyright Consensys Software Inc., 2025
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.validator.remote;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.hyperledger.besu.plugin.services.MetricsSystem;
+import org.hyperledger.besu.plugin.services.metrics.LabelledSuppliedMetric;
+import tech.pegasys.teku.infrastructure.metrics.MetricsHistogram;
+import tech.pegasys.teku.infrastructure.metrics.TekuMetricCategory;
+import tech.pegasys.teku.infrastructure.time.TimeProvider;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+
+/**
+ * Tracks the latency of recent requests to each Beacon Node endpoint and derives the delay after
+ * which a request should be hedged to another node. The delay follows the 95th percentile of the
+ * last {@link #SAMPLE_WINDOW_SIZE} requests for the same endpoint and method, so a node only gets
+ * hedged when it is slower than it usually is.
+ *
+ * <p>A single tracker should be shared by all the handlers created against the same metrics system.
+ */
+public class BeaconNodeLatencyTracker {
+
+  static final int SAMPLE_WINDOW_SIZE = 64;
+  static final int MIN_SAMPLES = 8;
+  static final double HEDGE_PERCENTILE = 0.95;
+  static final Duration DEFAULT_HEDGE_DELAY = Duration.ofMillis(500);
+  static final Duration MIN_HEDGE_DELAY = Duration.ofMillis(50);
+  static final Duration MAX_HEDGE_DELAY = Duration.ofSeconds(1);
+
+  private final Map<EndpointAndMethod, LatencyWindow> latencyWindows = new ConcurrentHashMap<>();
+  private final MetricsHistogram latencyHistogram;
+  private final LabelledSuppliedMetric hedgeDelayGauge;
+  private final TimeProvider timeProvider;
+
+  public BeaconNodeLatencyTracker(
+      final MetricsSystem metricsSystem, final TimeProvider timeProvider) {
+    this.timeProvider = timeProvider;
+    this.latencyHistogram =
+        MetricsHistogram.create(
+            TekuMetricCategory.VALIDATOR,
+            metricsSystem,
+            "remote_beacon_nodes_request_latency_milliseconds",
+            "Latency of requests sent to the configured Beacon Nodes endpoint(s)",
+            1,
+            List.of("endpoint", "method"));
+    this.hedgeDelayGauge =
+        metricsSystem.createLabelledSuppliedGauge(
+            TekuMetricCategory.VALIDATOR,
+            "remote_beacon_nodes_hedge_delay_milliseconds",
+            "Delay after which a request to a Beacon Node endpoint is also sent to the next node",
+            "endpoint",
+            "method");
+  }
+
+  UInt64 getCurrentTimeMillis() {
+    return timeProvider.getTimeInMillis();
+  }
+
+  void recordLatency(final String endpoint, final String method, final UInt64 startTimeMillis) {
+    final long latencyMillis =
+        timeProvider.getTimeInMillis().minusMinZero(startTimeMillis).longValue();
+    latencyHistogram.recordValue(latencyMillis, endpoint, method);
+    getLatencyWindow(endpoint, method).add(latencyMillis);
+  }
+
+  Duration getHedgeDelay(final String endpoint, final String method) {
+    return getLatencyWindow(endpoint, method).getHedgeDelay();
+  }
+
+  private LatencyWindow getLatencyWindow(final String endpoint, final String method) {
+    return latencyWindows.computeIfAbsent(
+        new EndpointAndMethod(endpoint, method),
+        __ -> {
+          final LatencyWindow latencyWindow = new LatencyWindow();
+          hedgeDelayGauge.labels(() -> latencyWindow.getHedgeDelay().toMillis(), endpoint, method);
+          return latencyWindow;
+        });
+  }
+
+  private record EndpointAndMethod(String endpoint, String method) {}
+
+  private static class LatencyWindow {
+    private final long[] samples = new long[SAMPLE_WINDOW_SIZE];
+    private int sampleCount = 0;
+    private int nextSampleIndex = 0;
+
+    synchronized void add(final long latencyMillis) {
+      samples[nextSampleIndex] = latencyMillis;
+      nextSampleIndex = (nextSampleIndex + 1) % SAMPLE_WINDOW_SIZE;
+      sampleCount = Math.min(sampleCount + 1, SAMPLE_WINDOW_SIZE);
+    }
+
+    synchronized Duration getHedgeDelay() {
+      if (sampleCount < MIN_SAMPLES) {
+        return DEFAULT_HEDGE_DELAY;
+      }
+      final long[] sortedSamples = Arrays.copyOf(samples, sampleCount);
+      Arrays.sort(sortedSamples);
+      final long percentileMillis =
+          sortedSamples[(int) Math.ceil(sampleCount * HEDGE_PERCENTILE) - 1];
+      return Duration.ofMillis(
+          Math.max(
+              MIN_HEDGE_DELAY.toMillis(), Math.min(percentileMillis, MAX_HEDGE_DELAY.toMillis())));
+    }
+  }
+}
@@ -15,6 +15,7 @@ package tech.pegasys.teku.validator.remote;
 
 import com.google.common.annotations.VisibleForTesting;
 import it.unimi.dsi.fastutil.ints.IntCollection;
+import java.time.Duration;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.Iterator;
@@ -40,6 +41,7 @@ import tech.pegasys.teku.ethereum.json.types.validator.ProposerDuties;
 import tech.pegasys.teku.ethereum.json.types.validator.SyncCommitteeDuties;
 import tech.pegasys.teku.ethereum.json.types.validator.SyncCommitteeSelectionProof;
 import tech.pegasys.teku.ethereum.json.types.validator.SyncCommitteeSubnetSubscription;
+import tech.pegasys.teku.infrastructure.async.AsyncRunner;
 import tech.pegasys.teku.infrastructure.async.SafeFuture;
 import tech.pegasys.teku.infrastructure.collections.LimitedMap;
 import tech.pegasys.teku.infrastructure.metrics.TekuMetricCategory;
@@ -72,6 +74,8 @@ public class FailoverValidatorApiHandler implements ValidatorApiChannel {
 
   static final String REMOTE_BEACON_NODES_REQUESTS_COUNTER_NAME =
       "remote_beacon_nodes_requests_total";
+  static final String REMOTE_BEACON_NODES_HEDGED_REQUESTS_COUNTER_NAME =
+      "remote_beacon_nodes_hedged_requests_total";
 
   private final Map<SlotAndBlockRoot, ValidatorApiChannel> blindedBlockCreatorCache =
       LimitedMap.createSynchronizedLRU(2);
@@ -82,6 +86,9 @@ public class FailoverValidatorApiHandler implements ValidatorApiChannel {
   private final boolean failoversSendSubnetSubscriptions;
   private final boolean failoversPublishSignedDuties;
   private final LabelledMetric<Counter> failoverBeaconNodesRequestsCounter;
+  private final LabelledMetric<Counter> hedgedRequestsCounter;
+  private final BeaconNodeLatencyTracker latencyTracker;
+  private final AsyncRunner asyncRunner;
 
   public FailoverValidatorApiHandler(
       final BeaconNodeReadinessManager beaconNodeReadinessManager,
@@ -89,12 +96,16 @@ public class FailoverValidatorApiHandler implements ValidatorApiChannel {
       final List<? extends RemoteValidatorApiChannel> failoverDelegates,
       final boolean failoversSendSubnetSubscriptions,
       final boolean failoversPublishSignedDuties,
-      final MetricsSystem metricsSystem) {
+      final MetricsSystem metricsSystem,
+      final AsyncRunner asyncRunner,
+      final BeaconNodeLatencyTracker latencyTracker) {
     this.beaconNodeReadinessManager = beaconNodeReadinessManager;
     this.primaryDelegate = primaryDelegate;
     this.failoverDelegates = failoverDelegates;
     this.failoversSendSubnetSubscriptions = failoversSendSubnetSubscriptions;
     this.failoversPublishSignedDuties = failoversPublishSignedDuties;
+    this.asyncRunner = asyncRunner;
+    this.latencyTracker = latencyTracker;
     failoverBeaconNodesRequestsCounter =
         metricsSystem.createLabelledCounter(
             TekuMetricCategory.VALIDATOR,
@@ -103,6 +114,13 @@ public class FailoverValidatorApiHandler implements ValidatorApiChannel {
             "endpoint",
             "method",
             "outcome");
+    hedgedRequestsCounter =
+        metricsSystem.createLabelledCounter(
+            TekuMetricCategory.VALIDATOR,
+            REMOTE_BEACON_NODES_HEDGED_REQUESTS_COUNTER_NAME,
+            "Counter recording the number of requests which were hedged to another Beacon Node because the previous node was slow to respond",
+            "endpoint",
+            "method");
   }
 
   @Override
@@ -188,7 +206,7 @@ public class FailoverValidatorApiHandler implements ValidatorApiChannel {
   @Override
   public SafeFuture<Optional<AttestationData>> createAttestationData(
       final UInt64 slot, final int committeeIndex) {
-    return tryRequestUntilSuccess(
+    return hedgeRequest(
         apiChannel -> apiChannel.createAttestationData(slot, committeeIndex),
         BeaconNodeRequestLabels.CREATE_ATTESTATION_METHOD);
   }
@@ -198,7 +216,7 @@ public class FailoverValidatorApiHandler implements ValidatorApiChannel {
       final UInt64 slot,
       final Bytes32 attestationHashTreeRoot,
       final Optional<UInt64> committeeIndex) {
-    return tryRequestUntilSuccess(
+    return hedgeRequest(
         apiChannel -> apiChannel.createAggregate(slot, attestationHashTreeRoot, committeeIndex),
         BeaconNodeRequestLabels.CREATE_AGGREGATE_METHOD);
   }
@@ -206,7 +224,7 @@ public class FailoverValidatorApiHandler implements ValidatorApiChannel {
   @Override
   public SafeFuture<Optional<SyncCommitteeContribution>> createSyncCommitteeContribution(
       final UInt64 slot, final int subcommitteeIndex, final Bytes32 beaconBlockRoot) {
-    return tryRequestUntilSuccess(
+    return hedgeRequest(
         apiChannel ->
             apiChannel.createSyncCommitteeContribution(slot, subcommitteeIndex, beaconBlockRoot),
         BeaconNodeRequestLabels.CREATE_SYNC_COMMITTEE_CONTRIBUTION_METHOD);
@@ -481,6 +499,33 @@ public class FailoverValidatorApiHandler implements ValidatorApiChannel {
                     currentFailoverDelegate.getEndpoint()));
   }
 
+  /**
+   * Sends the given request to the primary Beacon Node (or the most ready failover if the primary
+   * is NOT ready) and, if there is no response within the hedge delay of that node, also sends it
+   * to the next failover in order of readiness. A failed request moves on to the next node straight
+   * away. The returned {@link SafeFuture} completes with the first non-empty response. An empty
+   * response (e.g. a node which doesn't have the data yet) is only used once no other request is
+   * pending, and the returned {@link SafeFuture} only completes exceptionally with a {@link
+   * FailoverRequestException} when all the requests fail. The hedge delay follows the recent
+   * latency of each node, see {@link BeaconNodeLatencyTracker}.
+   */
+  private <T> SafeFuture<Optional<T>> hedgeRequest(
+      final ValidatorApiChannelRequest<Optional<T>> request, final String method) {
+    if (failoverDelegates.isEmpty()) {
+      return runPrimaryRequest(request, method);
+    }
+    final boolean sendToPrimary = beaconNodeReadinessManager.isReady(primaryDelegate);
+    if (!sendToPrimary) {
+      LOG.debug(
+          "Remote request ({}) will NOT be sent to the primary Beacon Node {} because it is NOT ready. Will try sending the request to one of the configured failovers.",
+          method,
+          primaryDelegate.getEndpoint());
+    }
+    final HedgedRequest<T> hedgedRequest = new HedgedRequest<>(request, method, sendToPrimary);
+    hedgedRequest.sendToNextDelegate();
+    return hedgedRequest.response;
+  }
+
   private <T> SafeFuture<T> runPrimaryRequest(
       final ValidatorApiChannelRequest<T> request, final String method) {
     return runRequest(primaryDelegate, request, method);
@@ -490,6 +535,7 @@ public class FailoverValidatorApiHandler implements ValidatorApiChannel {
       final RemoteValidatorApiChannel delegate,
       final ValidatorApiChannelRequest<T> request,
       final String method) {
+    final UInt64 startTimeMillis = latencyTracker.getCurrentTimeMillis();
     return request
         .run(delegate)
         .handleComposed(
@@ -501,6 +547,9 @@ public class FailoverValidatorApiHandler implements ValidatorApiChannel {
                 recordFailedRequest(delegate, method);
                 return SafeFuture.failedFuture(throwable);
               }
+              // failures can be instant (e.g. connection refused) so only successes are timed
+              latencyTracker.recordLatency(
+                  delegate.getEndpoint().toString(), method, startTimeMillis);
               recordSuccessfulRequest(delegate, method);
               return SafeFuture.completedFuture(response);
             });
@@ -522,6 +571,131 @@ public class FailoverValidatorApiHandler implements ValidatorApiChannel {
         .inc();
   }
 
+  private class HedgedRequest<T> {
+    private final SafeFuture<Optional<T>> response = new SafeFuture<>();
+    private final Map<RemoteValidatorApiChannel, Throwable> capturedExceptions =
+        new ConcurrentHashMap<>();
+    private final ValidatorApiChannelRequest<Optional<T>> request;
+    private final String method;
+    private boolean sendToPrimary;
+    private boolean receivedEmptyResponse = false;
+    private Iterator<? extends RemoteValidatorApiChannel> failovers;
+    private int pendingRequests = 0;
+
+    private HedgedRequest(
+        final ValidatorApiChannelRequest<Optional<T>> request,
+        final String method,
+        final boolean sendToPrimary) {
+      this.request = request;
+      this.method = method;
+      this.sendToPrimary = sendToPrimary;
+    }
+
+    private void sendToNextDelegate() {
+      takeNextDelegate().ifPresentOrElse(this::sendRequest, this::completeIfNoRequestsPending);
+    }
+
+    private void sendRequest(final RemoteValidatorApiChannel delegate) {
+      final SafeFuture<Optional<T>> delegateResponse = runRequest(delegate, request, method);
+      delegateResponse.finish(
+          result -> onResponse(delegate, result), error -> onFailure(delegate, error));
+      if (!delegateResponse.isDone() && hasMoreDelegates()) {
+        final Duration hedgeDelay =
+            latencyTracker.getHedgeDelay(delegate.getEndpoint().toString(), method);
+        asyncRunner
+            .runAfterDelay(() -> hedgeIfStillPending(delegate, delegateResponse), hedgeDelay)
+            .ifExceptionGetsHereRaiseABug();
+      }
+    }
+
+    private void hedgeIfStillPending(
+        final RemoteValidatorApiChannel delegate, final SafeFuture<Optional<T>> delegateResponse) {
+      if (delegateResponse.isDone()) {
+        return;
+      }
+      takeNextDelegate()
+          .ifPresent(
+              nextDelegate -> {
+                LOG.debug(
+                    "Remote request ({}) to Beacon Node {} is taking longer than usual. Will also send the request to {}",
+                    method,
+                    delegate.getEndpoint(),
+                    nextDelegate.getEndpoint());
+                hedgedRequestsCounter.labels(delegate.getEndpoint().toString(), method).inc();
+                sendRequest(nextDelegate);
+              });
+    }
+
+    private void onResponse(final RemoteValidatorApiChannel delegate, final Optional<T> result) {
+      if (result.isEmpty()) {
+        synchronized (this) {
+          pendingRequests--;
+          receivedEmptyResponse = true;
+        }
+        // another node may still have the data
+        completeIfNoRequestsPending();
+        return;
+      }
+      if (response.complete(result) && !delegate.equals(primaryDelegate)) {
+        LOG.debug(
+            "Remote request ({}) succeeded using a failover Beacon Node {}",
+            method,
+            delegate.getEndpoint());
+      }
+    }
+
+    private void onFailure(final RemoteValidatorApiChannel delegate, final Throwable error) {
+      synchronized (this) {
+        pendingRequests--;
+        capturedExceptions.put(delegate, error);
+      }
+      LOG.debug(
+          "Remote request ({}) to Beacon Node {} failed. Will try sending the request to another Beacon Node if there is one available.",
+          method,
+          delegate.getEndpoint());
+      sendToNextDelegate();
+    }
+
+    private synchronized Optional<RemoteValidatorApiChannel> takeNextDelegate() {
+      if (response.isDone()) {
+        return Optional.empty();
+      }
+      if (sendToPrimary) {
+        sendToPrimary = false;
+        pendingRequests++;
+        return Optional.of(primaryDelegate);
+      }
+      // failovers are only ranked once the request actually needs one
+      if (failovers == null) {
+        failovers = beaconNodeReadinessManager.getFailoversInOrderOfReadiness();
+      }
+      if (!failovers.hasNext()) {
+        return Optional.empty();
+      }
+      pendingRequests++;
+      return Optional.of(failovers.next());
+    }
+
+    private synchronized boolean hasMoreDelegates() {
+      return sendToPrimary || failovers == null || failovers.hasNext();
+    }
+
+    private void completeIfNoRequestsPending() {
+      final boolean completeWithEmptyResponse;
+      synchronized (this) {
+        if (pendingRequests > 0) {
+          return;
+        }
+        completeWithEmptyResponse = receivedEmptyResponse;
+      }
+      if (completeWithEmptyResponse) {
+        response.complete(Optional.empty());
+      } else {
+        response.completeExceptionally(new FailoverRequestException(method, capturedExceptions));
+      }
+    }
+  }
+
   @VisibleForTesting
   @FunctionalInterface
   interface ValidatorApiChannelRequest<T> {
@@ -0,0 +1,357 @@
+/*
+ * Copyright Consensys Software Inc., 2025
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.validator.remote;
+
+import com.google.common.annotations.VisibleForTesting;
+import it.unimi.dsi.fastutil.ints.IntCollection;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.apache.tuweni.bytes.Bytes32;
+import tech.pegasys.teku.api.migrated.ValidatorLivenessAtEpoch;
+import tech.pegasys.teku.api.response.v1.beacon.ValidatorStatus;
+import tech.pegasys.teku.bls.BLSPublicKey;
+import tech.pegasys.teku.bls.BLSSignature;
+import tech.pegasys.teku.ethereum.json.types.beacon.StateValidatorData;
+import tech.pegasys.teku.ethereum.json.types.node.PeerCount;
+import tech.pegasys.teku.ethereum.json.types.validator.AttesterDuties;
+import tech.pegasys.teku.ethereum.json.types.validator.BeaconCommitteeSelectionProof;
+import tech.pegasys.teku.ethereum.json.types.validator.ProposerDuties;
+import tech.pegasys.teku.ethereum.json.types.validator.SyncCommitteeDuties;
+import tech.pegasys.teku.ethereum.json.types.validator.SyncCommitteeSelectionProof;
+import tech.pegasys.teku.ethereum.json.types.validator.SyncCommitteeSubnetSubscription;
+import tech.pegasys.teku.infrastructure.async.SafeFuture;
+import tech.pegasys.teku.infrastructure.ssz.SszList;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+import tech.pegasys.teku.spec.Spec;
+import tech.pegasys.teku.spec.SpecMilestone;
+import tech.pegasys.teku.spec.datastructures.blocks.SignedBlockContainer;
+import tech.pegasys.teku.spec.datastructures.blocks.SlotAndBlockRoot;
+import tech.pegasys.teku.spec.datastructures.builder.SignedValidatorRegistration;
+import tech.pegasys.teku.spec.datastructures.genesis.GenesisData;
+import tech.pegasys.teku.spec.datastructures.metadata.BlockContainerAndMetaData;
+import tech.pegasys.teku.spec.datastructures.operations.Attestation;
+import tech.pegasys.teku.spec.datastructures.operations.AttestationData;
+import tech.pegasys.teku.spec.datastructures.operations.AttesterSlashing;
+import tech.pegasys.teku.spec.datastructures.operations.ProposerSlashing;
+import tech.pegasys.teku.spec.datastructures.operations.SignedAggregateAndProof;
+import tech.pegasys.teku.spec.datastructures.operations.versions.altair.SignedContributionAndProof;
+import tech.pegasys.teku.spec.datastructures.operations.versions.altair.SyncCommitteeContribution;
+import tech.pegasys.teku.spec.datastructures.operations.versions.altair.SyncCommitteeMessage;
+import tech.pegasys.teku.spec.datastructures.validator.BeaconPreparableProposer;
+import tech.pegasys.teku.spec.datastructures.validator.BroadcastValidationLevel;
+import tech.pegasys.teku.spec.datastructures.validator.SubnetSubscription;
+import tech.pegasys.teku.validator.api.CommitteeSubscriptionRequest;
+import tech.pegasys.teku.validator.api.SendSignedBlockResult;
+import tech.pegasys.teku.validator.api.SubmitDataError;
+import tech.pegasys.teku.validator.api.ValidatorApiChannel;
+import tech.pegasys.teku.validator.api.ValidatorTimingChannel;
+
+/**
+ * Requests attestation data from the beacon node as soon as the head changes, keyed by slot and
+ * head block root, so attestation duties can use it without another round trip when the head is
+ * unchanged by the time they run. Apart from the committee index, attestation data for a slot is
+ * the same for every committee, so a single request serves all committees.
+ *
+ * <p>Only slots with an attestation duty are prefetched. The duty slots are taken from the
+ * attester duties returned through this channel, so validators without a duty in the current slot
+ * don't cause any extra requests.
+ *
+ * <p>Cached data is only used when its beacon block root still matches the latest head, otherwise
+ * the request goes to the beacon node as usual.
+ */
+public class PrefetchingValidatorApiChannel implements ValidatorApiChannel, ValidatorTimingChannel {
+
+  private static final Logger LOG = LogManager.getLogger();
+
+  private final ValidatorApiChannel delegate;
+  private final Spec spec;
+  private final Map<SlotAndBlockRoot, SafeFuture<Optional<AttestationData>>> attestationData =
+      new ConcurrentHashMap<>();
+  private final Set<UInt64> attestationDutySlots = ConcurrentHashMap.newKeySet();
+  private volatile Optional<Bytes32> headBlockRoot = Optional.empty();
+
+  public PrefetchingValidatorApiChannel(final ValidatorApiChannel delegate, final Spec spec) {
+    this.delegate = delegate;
+    this.spec = spec;
+  }
+
+  @Override
+  public void onSlot(final UInt64 slot) {
+    attestationData.keySet().removeIf(key -> key.getSlot().plus(1).isLessThan(slot));
+    attestationDutySlots.removeIf(dutySlot -> dutySlot.isLessThan(slot));
+    // covers a slot without a block, where duties attest to the previous head
+    prefetchAttestationData(slot);
+  }
+
+  @Override
+  public void onHeadUpdate(
+      final UInt64 slot,
+      final Bytes32 previousDutyDependentRoot,
+      final Bytes32 currentDutyDependentRoot,
+      final Bytes32 headBlockRoot) {
+    this.headBlockRoot = Optional.of(headBlockRoot);
+    prefetchAttestationData(slot);
+  }
+
+  @Override
+  public void onPossibleMissedEvents() {
+    headBlockRoot = Optional.empty();
+  }
+
+  private void prefetchAttestationData(final UInt64 slot) {
+    if (!attestationDutySlots.contains(slot)) {
+      return;
+    }
+    headBlockRoot.ifPresent(
+        root -> {
+          final SlotAndBlockRoot key = new SlotAndBlockRoot(slot, root);
+          if (attestationData.containsKey(key)) {
+            return;
+          }
+          LOG.trace("Prefetching attestation data for slot {} with head {}", slot, root);
+          cacheRequest(key, delegate.createAttestationData(slot, 0));
+        });
+  }
+
+  @Override
+  public SafeFuture<Optional<AttestationData>> createAttestationData(
+      final UInt64 slot, final int committeeIndex) {
+    final Optional<Bytes32> maybeHeadBlockRoot = headBlockRoot;
+    if (maybeHeadBlockRoot.isEmpty()) {
+      return delegate.createAttestationData(slot, committeeIndex);
+    }
+    final SlotAndBlockRoot key = new SlotAndBlockRoot(slot, maybeHeadBlockRoot.get());
+    final SafeFuture<Optional<AttestationData>> cachedRequest = attestationData.get(key);
+    if (cachedRequest == null) {
+      final SafeFuture<Optional<AttestationData>> request =
+          delegate.createAttestationData(slot, committeeIndex);
+      // share the request with the prefetch for the same head if it hasn't started yet
+      cacheRequest(key, request);
+      return request;
+    }
+    return cachedRequest
+        .exceptionally(__ -> Optional.empty())
+        .thenCompose(
+            maybeData ->
+                maybeData
+                    .filter(data -> data.getBeaconBlockRoot().equals(key.getBlockRoot()))
+                    .map(
+                        data ->
+                            SafeFuture.completedFuture(
+                                Optional.of(forCommittee(data, committeeIndex))))
+                    .orElseGet(() -> delegate.createAttestationData(slot, committeeIndex)));
+  }
+
+  private void cacheRequest(
+      final SlotAndBlockRoot key, final SafeFuture<Optional<AttestationData>> request) {
+    if (attestationData.putIfAbsent(key, request) == null) {
+      request.finish(__ -> attestationData.remove(key, request));
+    }
+  }
+
+  private AttestationData forCommittee(final AttestationData data, final int committeeIndex) {
+    final UInt64 index = UInt64.valueOf(committeeIndex);
+    // from Electra the committee index is not part of the attestation data
+    final boolean isElectra =
+        spec.atSlot(data.getSlot()).getMilestone().isGreaterThanOrEqualTo(SpecMilestone.ELECTRA);
+    if (isElectra || data.getIndex().equals(index)) {
+      return data;
+    }
+    return new AttestationData(
+        data.getSlot(), index, data.getBeaconBlockRoot(), data.getSource(), data.getTarget());
+  }
+
+  @VisibleForTesting
+  int getCachedAttestationDataCount() {
+    return attestationData.size();
+  }
+
+  @Override
+  public void onValidatorsAdded() {}
+
+  @Override
+  public void onBlockProductionDue(final UInt64 slot) {}
+
+  @Override
+  public void onAttestationCreationDue(final UInt64 slot) {}
+
+  @Override
+  public void onAttestationAggregationDue(final UInt64 slot) {}
+
+  @Override
+  public void onAttesterSlashing(final AttesterSlashing attesterSlashing) {}
+
+  @Override
+  public void onProposerSlashing(final ProposerSlashing proposerSlashing) {}
+
+  @Override
+  public void onUpdatedValidatorStatuses(
+      final Map<BLSPublicKey, ValidatorStatus> newValidatorStatuses,
+      final boolean possibleMissingEvents) {}
+
+  @Override
+  public SafeFuture<Optional<GenesisData>> getGenesisData() {
+    return delegate.getGenesisData();
+  }
+
+  @Override
+  public SafeFuture<Map<BLSPublicKey, Integer>> getValidatorIndices(
+      final Collection<BLSPublicKey> publicKeys) {
+    return delegate.getValidatorIndices(publicKeys);
+  }
+
+  @Override
+  public SafeFuture<Optional<Map<BLSPublicKey, StateValidatorData>>> getValidatorStatuses(
+      final Collection<BLSPublicKey> validatorIdentifiers) {
+    return delegate.getValidatorStatuses(validatorIdentifiers);
+  }
+
+  @Override
+  public SafeFuture<Optional<AttesterDuties>> getAttestationDuties(
+      final UInt64 epoch, final IntCollection validatorIndices) {
+    return delegate
+        .getAttestationDuties(epoch, validatorIndices)
+        .thenPeek(
+            maybeDuties ->
+                maybeDuties.ifPresent(
+                    duties ->
+                        duties
+                            .getDuties()
+                            .forEach(duty -> attestationDutySlots.add(duty.getSlot()))));
+  }
+
+  @Override
+  public SafeFuture<Optional<SyncCommitteeDuties>> getSyncCommitteeDuties(
+      final UInt64 epoch, final IntCollection validatorIndices) {
+    return delegate.getSyncCommitteeDuties(epoch, validatorIndices);
+  }
+
+  @Override
+  public SafeFuture<Optional<ProposerDuties>> getProposerDuties(final UInt64 epoch) {
+    return delegate.getProposerDuties(epoch);
+  }
+
+  @Override
+  public SafeFuture<Optional<PeerCount>> getPeerCount() {
+    return delegate.getPeerCount();
+  }
+
+  @Override
+  public SafeFuture<Optional<BlockContainerAndMetaData>> createUnsignedBlock(
+      final UInt64 slot,
+      final BLSSignature randaoReveal,
+      final Optional<Bytes32> graffiti,
+      final Optional<UInt64> requestedBuilderBoostFactor) {
+    return delegate.createUnsignedBlock(slot, randaoReveal, graffiti, requestedBuilderBoostFactor);
+  }
+
+  @Override
+  public SafeFuture<Optional<Attestation>> createAggregate(
+      final UInt64 slot,
+      final Bytes32 attestationHashTreeRoot,
+      final Optional<UInt64> committeeIndex) {
+    return delegate.createAggregate(slot, attestationHashTreeRoot, committeeIndex);
+  }
+
+  @Override
+  public SafeFuture<Optional<SyncCommitteeContribution>> createSyncCommitteeContribution(
+      final UInt64 slot, final int subcommitteeIndex, final Bytes32 beaconBlockRoot) {
+    return delegate.createSyncCommitteeContribution(slot, subcommitteeIndex, beaconBlockRoot);
+  }
+
+  @Override
+  public SafeFuture<Void> subscribeToBeaconCommittee(
+      final List<CommitteeSubscriptionRequest> requests) {
+    return delegate.subscribeToBeaconCommittee(requests);
+  }
+
+  @Override
+  public SafeFuture<Void> subscribeToSyncCommitteeSubnets(
+      final Collection<SyncCommitteeSubnetSubscription> subscriptions) {
+    return delegate.subscribeToSyncCommitteeSubnets(subscriptions);
+  }
+
+  @Override
+  public SafeFuture<Void> subscribeToPersistentSubnets(
+      final Set<SubnetSubscription> subnetSubscriptions) {
+    return delegate.subscribeToPersistentSubnets(subnetSubscriptions);
+  }
+
+  @Override
+  public SafeFuture<List<SubmitDataError>> sendSignedAttestations(
+      final List<Attestation> attestations) {
+    return delegate.sendSignedAttestations(attestations);
+  }
+
+  @Override
+  public SafeFuture<List<SubmitDataError>> sendAggregateAndProofs(
+      final List<SignedAggregateAndProof> aggregateAndProofs) {
+    return delegate.sendAggregateAndProofs(aggregateAndProofs);
+  }
+
+  @Override
+  public SafeFuture<SendSignedBlockResult> sendSignedBlock(
+      final SignedBlockContainer blockContainer,
+      final BroadcastValidationLevel broadcastValidationLevel) {
+    return delegate.sendSignedBlock(blockContainer, broadcastValidationLevel);
+  }
+
+  @Override
+  public SafeFuture<List<SubmitDataError>> sendSyncCommitteeMessages(
+      final List<SyncCommitteeMessage> syncCommitteeMessages) {
+    return delegate.sendSyncCommitteeMessages(syncCommitteeMessages);
+  }
+
+  @Override
+  public SafeFuture<Void> sendSignedContributionAndProofs(
+      final Collection<SignedContributionAndProof> signedContributionAndProofs) {
+    return delegate.sendSignedContributionAndProofs(signedContributionAndProofs);
+  }
+
+  @Override
+  public SafeFuture<Void> prepareBeaconProposer(
+      final Collection<BeaconPreparableProposer> beaconPreparableProposers) {
+    return delegate.prepareBeaconProposer(beaconPreparableProposers);
+  }
+
+  @Override
+  public SafeFuture<Void> registerValidators(
+      final SszList<SignedValidatorRegistration> validatorRegistrations) {
+    return delegate.registerValidators(validatorRegistrations);
+  }
+
+  @Override
+  public SafeFuture<Optional<List<ValidatorLivenessAtEpoch>>> getValidatorsLiveness(
+      final List<UInt64> validatorIndices, final UInt64 epoch) {
+    return delegate.getValidatorsLiveness(validatorIndices, epoch);
+  }
+
+  @Override
+  public SafeFuture<Optional<List<BeaconCommitteeSelectionProof>>> getBeaconCommitteeSelectionProof(
+      final List<BeaconCommitteeSelectionProof> requests) {
+    return delegate.getBeaconCommitteeSelectionProof(requests);
+  }
+
+  @Override
+  public SafeFuture<Optional<List<SyncCommitteeSelectionProof>>> getSyncCommitteeSelectionProof(
+      final List<SyncCommitteeSelectionProof> requests) {
+    return delegate.getSyncCommitteeSelectionProof(requests);
+  }
+}
@@ -124,7 +124,7 @@ public class RemoteBeaconNodeApi implements BeaconNodeApi {
 
     eventChannels.subscribe(ValidatorTimingChannel.class, beaconNodeReadinessManager);
 
-    final ValidatorApiChannel validatorApi =
+    final ValidatorApiChannel metricRecordingValidatorApi =
         new MetricRecordingValidatorApiChannel(
             metricsSystem,
             new FailoverValidatorApiHandler(
@@ -133,7 +133,19 @@ public class RemoteBeaconNodeApi implements BeaconNodeApi {
                 failoverValidatorApis,
                 validatorConfig.isFailoversSendSubnetSubscriptionsEnabled(),
                 validatorConfig.isFailoversPublishSignedDutiesEnabled(),
-                metricsSystem));
+                metricsSystem,
+                asyncRunner,
+                new BeaconNodeLatencyTracker(metricsSystem, serviceConfig.getTimeProvider())));
+
+    final ValidatorApiChannel validatorApi;
+    if (validatorConfig.isAttestationDataPrefetchEnabled()) {
+      final PrefetchingValidatorApiChannel prefetchingValidatorApi =
+          new PrefetchingValidatorApiChannel(metricRecordingValidatorApi, spec);
+      eventChannels.subscribe(ValidatorTimingChannel.class, prefetchingValidatorApi);
+      validatorApi = prefetchingValidatorApi;
+    } else {
+      validatorApi = metricRecordingValidatorApi;
+    }
 
     final EventSourceBeaconChainEventAdapter beaconChainEventAdapter =
         new EventSourceBeaconChainEventAdapter(
@@ -35,6 +35,7 @@ import tech.pegasys.teku.validator.beaconnode.BeaconNodeApi;
 import tech.pegasys.teku.validator.beaconnode.GenesisDataProvider;
 import tech.pegasys.teku.validator.beaconnode.TimeBasedEventAdapter;
 import tech.pegasys.teku.validator.beaconnode.metrics.MetricRecordingValidatorApiChannel;
+import tech.pegasys.teku.validator.remote.BeaconNodeLatencyTracker;
 import tech.pegasys.teku.validator.remote.BeaconNodeReadinessChannel;
 import tech.pegasys.teku.validator.remote.BeaconNodeReadinessManager;
 import tech.pegasys.teku.validator.remote.FailoverValidatorApiHandler;
@@ -101,6 +102,9 @@ public class SentryBeaconNodeApi implements BeaconNodeApi {
 
     eventChannels.subscribe(ValidatorTimingChannel.class, beaconNodeReadinessManager);
 
+    final BeaconNodeLatencyTracker latencyTracker =
+        new BeaconNodeLatencyTracker(metricsSystem, serviceConfig.getTimeProvider());
+
     final ValidatorApiChannel dutiesProviderValidatorApi =
         new MetricRecordingValidatorApiChannel(
             serviceConfig.getMetricsSystem(),
@@ -110,7 +114,9 @@ public class SentryBeaconNodeApi implements BeaconNodeApi {
                 dutiesProviderFailoverValidatorApiChannel,
                 validatorConfig.isFailoversSendSubnetSubscriptionsEnabled(),
                 validatorConfig.isFailoversPublishSignedDutiesEnabled(),
-                serviceConfig.getMetricsSystem()));
+                serviceConfig.getMetricsSystem(),
+                asyncRunner,
+                latencyTracker));
 
     final Optional<ValidatorApiChannel> blockHandlerValidatorApi =
         beaconNodesSentryConfig
@@ -124,7 +130,8 @@ public class SentryBeaconNodeApi implements BeaconNodeApi {
                         sentryNodesHttpClient,
                         spec,
                         asyncRunner,
-                        metricsSystem));
+                        metricsSystem,
+                        latencyTracker));
 
     final Optional<ValidatorApiChannel> attestationPublisherValidatorApi =
         beaconNodesSentryConfig
@@ -138,7 +145,8 @@ public class SentryBeaconNodeApi implements BeaconNodeApi {
                         sentryNodesHttpClient,
                         spec,
                         asyncRunner,
-                        metricsSystem));
+                        metricsSystem,
+                        latencyTracker));
 
     final ValidatorApiChannel sentryValidatorApi =
         new SentryValidatorApiChannel(
@@ -222,7 +230,8 @@ public class SentryBeaconNodeApi implements BeaconNodeApi {
       final OkHttpClient httpClient,
       final Spec spec,
       final AsyncRunner asyncRunner,
-      final MetricsSystem metricsSystem) {
+      final MetricsSystem metricsSystem,
+      final BeaconNodeLatencyTracker latencyTracker) {
     final RemoteBeaconNodeEndpoints remoteBeaconNodeEndpoints =
         new RemoteBeaconNodeEndpoints(endpoints);
     final RemoteValidatorApiChannel primaryValidatorApi =
@@ -240,7 +249,9 @@ public class SentryBeaconNodeApi implements BeaconNodeApi {
             failoverValidatorApis,
             validatorConfig.isFailoversSendSubnetSubscriptionsEnabled(),
             validatorConfig.isFailoversPublishSignedDutiesEnabled(),
-            metricsSystem));
+            metricsSystem,
+            asyncRunner,
+            latencyTracker));
   }
 
   @Override
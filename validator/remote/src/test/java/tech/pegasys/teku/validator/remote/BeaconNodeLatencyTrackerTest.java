@@ -0,0 +1,118 @@
+/*
+ * Copyright Consensys Software Inc., 2025
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.validator.remote;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+import tech.pegasys.teku.infrastructure.metrics.StubMetricsSystem;
+import tech.pegasys.teku.infrastructure.metrics.TekuMetricCategory;
+import tech.pegasys.teku.infrastructure.time.StubTimeProvider;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+
+class BeaconNodeLatencyTrackerTest {
+
+  private static final String ENDPOINT = "http://localhost:5051/";
+  private static final String METHOD = "create_attestation_data";
+
+  private final StubMetricsSystem metricsSystem = new StubMetricsSystem();
+  private final StubTimeProvider timeProvider = StubTimeProvider.withTimeInSeconds(1000);
+
+  private final BeaconNodeLatencyTracker latencyTracker =
+      new BeaconNodeLatencyTracker(metricsSystem, timeProvider);
+
+  @Test
+  void shouldUseDefaultHedgeDelayUntilEnoughSamplesAreRecorded() {
+    recordLatencies(ENDPOINT, METHOD, BeaconNodeLatencyTracker.MIN_SAMPLES - 1, 100);
+
+    assertThat(latencyTracker.getHedgeDelay(ENDPOINT, METHOD))
+        .isEqualTo(BeaconNodeLatencyTracker.DEFAULT_HEDGE_DELAY);
+
+    recordLatencies(ENDPOINT, METHOD, 1, 100);
+
+    assertThat(latencyTracker.getHedgeDelay(ENDPOINT, METHOD)).isEqualTo(Duration.ofMillis(100));
+  }
+
+  @Test
+  void shouldFollowPercentileOfRecentLatencies() {
+    recordLatencies(ENDPOINT, METHOD, 19, 100);
+    recordLatencies(ENDPOINT, METHOD, 1, 900);
+
+    // a single outlier out of 20 requests is above the 95th percentile
+    assertThat(latencyTracker.getHedgeDelay(ENDPOINT, METHOD)).isEqualTo(Duration.ofMillis(100));
+
+    recordLatencies(ENDPOINT, METHOD, 2, 900);
+
+    assertThat(latencyTracker.getHedgeDelay(ENDPOINT, METHOD)).isEqualTo(Duration.ofMillis(900));
+  }
+
+  @Test
+  void shouldOnlyConsiderMostRecentSamples() {
+    recordLatencies(ENDPOINT, METHOD, BeaconNodeLatencyTracker.SAMPLE_WINDOW_SIZE, 900);
+    recordLatencies(ENDPOINT, METHOD, BeaconNodeLatencyTracker.SAMPLE_WINDOW_SIZE, 100);
+
+    assertThat(latencyTracker.getHedgeDelay(ENDPOINT, METHOD)).isEqualTo(Duration.ofMillis(100));
+  }
+
+  @Test
+  void shouldClampHedgeDelay() {
+    final String fastEndpoint = "http://fast:5051/";
+    final String slowEndpoint = "http://slow:5051/";
+    recordLatencies(fastEndpoint, METHOD, BeaconNodeLatencyTracker.MIN_SAMPLES, 1);
+    recordLatencies(slowEndpoint, METHOD, BeaconNodeLatencyTracker.MIN_SAMPLES, 10_000);
+
+    assertThat(latencyTracker.getHedgeDelay(fastEndpoint, METHOD))
+        .isEqualTo(BeaconNodeLatencyTracker.MIN_HEDGE_DELAY);
+    assertThat(latencyTracker.getHedgeDelay(slowEndpoint, METHOD))
+        .isEqualTo(BeaconNodeLatencyTracker.MAX_HEDGE_DELAY);
+  }
+
+  @Test
+  void shouldTrackEndpointsAndMethodsSeparately() {
+    final String otherEndpoint = "http://other:5051/";
+    final String otherMethod = "create_aggregate";
+    recordLatencies(ENDPOINT, METHOD, BeaconNodeLatencyTracker.MIN_SAMPLES, 200);
+
+    assertThat(latencyTracker.getHedgeDelay(ENDPOINT, METHOD)).isEqualTo(Duration.ofMillis(200));
+    assertThat(latencyTracker.getHedgeDelay(otherEndpoint, METHOD))
+        .isEqualTo(BeaconNodeLatencyTracker.DEFAULT_HEDGE_DELAY);
+    assertThat(latencyTracker.getHedgeDelay(ENDPOINT, otherMethod))
+        .isEqualTo(BeaconNodeLatencyTracker.DEFAULT_HEDGE_DELAY);
+  }
+
+  @Test
+  void shouldExposeHedgeDelayAsMetric() {
+    recordLatencies(ENDPOINT, METHOD, BeaconNodeLatencyTracker.MIN_SAMPLES, 300);
+
+    assertThat(
+            metricsSystem
+                .getLabelledGauge(
+                    TekuMetricCategory.VALIDATOR, "remote_beacon_nodes_hedge_delay_milliseconds")
+                .getValue(ENDPOINT, METHOD))
+        .hasValue(300.0);
+  }
+
+  private void recordLatencies(
+      final String endpoint, final String method, final int count, final long latencyMillis) {
+    IntStream.range(0, count)
+        .forEach(
+            __ -> {
+              final UInt64 startTimeMillis = latencyTracker.getCurrentTimeMillis();
+              timeProvider.advanceTimeByMillis(latencyMillis);
+              latencyTracker.recordLatency(endpoint, method, startTimeMillis);
+            });
+  }
+}
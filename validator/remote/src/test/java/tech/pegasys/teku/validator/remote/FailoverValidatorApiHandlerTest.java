@@ -34,6 +34,7 @@ import java.util.Optional;
 import java.util.Set;
 import java.util.function.Consumer;
 import java.util.function.Supplier;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 import okhttp3.HttpUrl;
 import org.apache.tuweni.bytes.Bytes32;
@@ -55,9 +56,11 @@ import tech.pegasys.teku.ethereum.json.types.validator.SyncCommitteeDuties;
 import tech.pegasys.teku.ethereum.json.types.validator.SyncCommitteeSubnetSubscription;
 import tech.pegasys.teku.infrastructure.async.SafeFuture;
 import tech.pegasys.teku.infrastructure.async.SafeFutureAssert;
+import tech.pegasys.teku.infrastructure.async.StubAsyncRunner;
 import tech.pegasys.teku.infrastructure.metrics.StubMetricsSystem;
 import tech.pegasys.teku.infrastructure.metrics.TekuMetricCategory;
 import tech.pegasys.teku.infrastructure.ssz.SszList;
+import tech.pegasys.teku.infrastructure.time.StubTimeProvider;
 import tech.pegasys.teku.infrastructure.unsigned.UInt64;
 import tech.pegasys.teku.spec.Spec;
 import tech.pegasys.teku.spec.TestSpecFactory;
@@ -89,6 +92,10 @@ class FailoverValidatorApiHandlerTest {
   private static final DataStructureUtil DATA_STRUCTURE_UTIL = new DataStructureUtil(SPEC);
 
   private final StubMetricsSystem stubMetricsSystem = new StubMetricsSystem();
+  private final StubTimeProvider timeProvider = StubTimeProvider.withTimeInSeconds(1000);
+  private final StubAsyncRunner asyncRunner = new StubAsyncRunner(timeProvider);
+  private final BeaconNodeLatencyTracker latencyTracker =
+      new BeaconNodeLatencyTracker(stubMetricsSystem, timeProvider);
 
   private BeaconNodeReadinessManager beaconNodeReadinessManager;
 
@@ -127,7 +134,9 @@ class FailoverValidatorApiHandlerTest {
             failoverDelegates,
             true,
             true,
-            stubMetricsSystem);
+            stubMetricsSystem,
+            asyncRunner,
+            latencyTracker);
   }
 
   @ParameterizedTest(name = "{0}")
@@ -245,7 +254,9 @@ class FailoverValidatorApiHandlerTest {
             List.of(),
             true,
             true,
-            stubMetricsSystem);
+            stubMetricsSystem,
+            asyncRunner,
+            latencyTracker);
 
     // readiness is ignored
     when(beaconNodeReadinessManager.isReady(primaryApiChannel)).thenReturn(false);
@@ -278,7 +289,9 @@ class FailoverValidatorApiHandlerTest {
             List.of(failoverApiChannel1, failoverApiChannel2),
             false,
             true,
-            stubMetricsSystem);
+            stubMetricsSystem,
+            asyncRunner,
+            latencyTracker);
 
     setupSuccesses(request, response, primaryApiChannel);
 
@@ -318,7 +331,9 @@ class FailoverValidatorApiHandlerTest {
             List.of(failoverApiChannel1, failoverApiChannel2),
             true,
             false,
-            stubMetricsSystem);
+            stubMetricsSystem,
+            asyncRunner,
+            latencyTracker);
 
     setupSuccesses(request, response, primaryApiChannel);
 
@@ -390,7 +405,9 @@ class FailoverValidatorApiHandlerTest {
             List.of(),
             true,
             true,
-            stubMetricsSystem);
+            stubMetricsSystem,
+            asyncRunner,
+            latencyTracker);
 
     // readiness is ignored
     when(beaconNodeReadinessManager.isReady(primaryApiChannel)).thenReturn(false);
@@ -575,6 +592,179 @@ class FailoverValidatorApiHandlerTest {
         Map.of(RequestOutcome.SUCCESS, 0L, RequestOutcome.ERROR, 1L));
   }
 
+  @ParameterizedTest(name = "{0}")
+  @MethodSource("getHedgedRequests")
+  <T> void hedgedRequestIsSentToFailoverWhenPrimaryIsSlow(
+      final ValidatorApiChannelRequest<T> request, final String methodLabel, final T response) {
+
+    when(request.run(primaryApiChannel)).thenReturn(new SafeFuture<>());
+    setupSuccesses(request, response, failoverApiChannel1);
+
+    final SafeFuture<T> result = request.run(failoverApiHandler);
+
+    assertThat(result).isNotDone();
+    verifyNoInteractions(failoverApiChannel1);
+
+    timeProvider.advanceTimeBy(BeaconNodeLatencyTracker.DEFAULT_HEDGE_DELAY);
+    asyncRunner.executeDueActions();
+
+    assertThat(result).isCompletedWithValue(response);
+    verifyNoInteractions(failoverApiChannel2);
+    assertThat(asyncRunner.hasDelayedActions()).isFalse();
+
+    verifyRequestCounters(
+        failoverApiChannel1,
+        methodLabel,
+        Map.of(RequestOutcome.SUCCESS, 1L, RequestOutcome.ERROR, 0L));
+    assertThat(getHedgedCounterValue(primaryApiChannel, methodLabel)).isEqualTo(1);
+  }
+
+  @ParameterizedTest(name = "{0}")
+  @MethodSource("getHedgedRequests")
+  <T> void hedgedRequestIsNotSentWhenPrimaryRespondsInTime(
+      final ValidatorApiChannelRequest<T> request, final String methodLabel, final T response) {
+
+    final SafeFuture<T> primaryResponse = new SafeFuture<>();
+    when(request.run(primaryApiChannel)).thenReturn(primaryResponse);
+
+    final SafeFuture<T> result = request.run(failoverApiHandler);
+
+    primaryResponse.complete(response);
+    timeProvider.advanceTimeBy(BeaconNodeLatencyTracker.DEFAULT_HEDGE_DELAY);
+    asyncRunner.executeDueActions();
+
+    assertThat(result).isCompletedWithValue(response);
+    verifyNoInteractions(failoverApiChannel1, failoverApiChannel2);
+    assertThat(getHedgedCounterValue(primaryApiChannel, methodLabel)).isZero();
+  }
+
+  @ParameterizedTest(name = "{0}")
+  @MethodSource("getHedgedRequests")
+  <T> void hedgedRequestUsesSlowPrimaryResponseIfItArrivesFirst(
+      final ValidatorApiChannelRequest<T> request, final String methodLabel, final T response) {
+
+    final SafeFuture<T> primaryResponse = new SafeFuture<>();
+    final SafeFuture<T> failoverResponse = new SafeFuture<>();
+    when(request.run(primaryApiChannel)).thenReturn(primaryResponse);
+    when(request.run(failoverApiChannel1)).thenReturn(failoverResponse);
+
+    final SafeFuture<T> result = request.run(failoverApiHandler);
+
+    timeProvider.advanceTimeBy(BeaconNodeLatencyTracker.DEFAULT_HEDGE_DELAY);
+    asyncRunner.executeDueActions();
+    assertThat(result).isNotDone();
+
+    primaryResponse.complete(response);
+
+    assertThat(result).isCompletedWithValue(response);
+    verifyRequestCounters(
+        primaryApiChannel,
+        methodLabel,
+        Map.of(RequestOutcome.SUCCESS, 1L, RequestOutcome.ERROR, 0L));
+  }
+
+  @ParameterizedTest(name = "{0}")
+  @MethodSource("getHedgedRequests")
+  <T> void hedgedRequestWaitsForPendingNodesWhenFailoverReturnsEmptyResponse(
+      final ValidatorApiChannelRequest<Optional<T>> request,
+      final String methodLabel,
+      final Optional<T> response) {
+
+    final SafeFuture<Optional<T>> primaryResponse = new SafeFuture<>();
+    when(request.run(primaryApiChannel)).thenReturn(primaryResponse);
+    setupSuccesses(request, Optional.empty(), failoverApiChannel1);
+
+    final SafeFuture<Optional<T>> result = request.run(failoverApiHandler);
+
+    timeProvider.advanceTimeBy(BeaconNodeLatencyTracker.DEFAULT_HEDGE_DELAY);
+    asyncRunner.executeDueActions();
+
+    // the failover doesn't have the data (yet) but the primary may still return it
+    assertThat(result).isNotDone();
+    verifyNoInteractions(failoverApiChannel2);
+
+    primaryResponse.complete(response);
+
+    assertThat(result).isCompletedWithValue(response);
+    verifyRequestCounters(
+        failoverApiChannel1,
+        methodLabel,
+        Map.of(RequestOutcome.SUCCESS, 1L, RequestOutcome.ERROR, 0L));
+  }
+
+  @ParameterizedTest(name = "{0}")
+  @MethodSource("getHedgedRequests")
+  <T> void hedgedRequestReturnsEmptyResponseWhenNoNodeHasTheData(
+      final ValidatorApiChannelRequest<Optional<T>> request) {
+
+    final SafeFuture<Optional<T>> primaryResponse = new SafeFuture<>();
+    when(request.run(primaryApiChannel)).thenReturn(primaryResponse);
+    setupSuccesses(request, Optional.empty(), failoverApiChannel1);
+
+    final SafeFuture<Optional<T>> result = request.run(failoverApiHandler);
+
+    timeProvider.advanceTimeBy(BeaconNodeLatencyTracker.DEFAULT_HEDGE_DELAY);
+    asyncRunner.executeDueActions();
+    assertThat(result).isNotDone();
+
+    primaryResponse.complete(Optional.empty());
+
+    assertThat(result).isCompletedWithValue(Optional.empty());
+    verifyNoInteractions(failoverApiChannel2);
+  }
+
+  @Test
+  public void failedRequestsAreNotUsedForHedgeDelay() {
+    final ValidatorApiChannelRequest<Optional<AttestationData>> request =
+        apiChannel -> apiChannel.createAttestationData(UInt64.ONE, 0);
+    setupFailures(request, primaryApiChannel);
+    setupSuccesses(request, Optional.of(mock(AttestationData.class)), failoverApiChannel1);
+
+    IntStream.range(0, BeaconNodeLatencyTracker.MIN_SAMPLES)
+        .forEach(
+            __ -> {
+              doReturn(List.of(failoverApiChannel1, failoverApiChannel2).iterator())
+                  .when(beaconNodeReadinessManager)
+                  .getFailoversInOrderOfReadiness();
+              assertThat(request.run(failoverApiHandler)).isCompleted();
+            });
+
+    assertThat(
+            latencyTracker.getHedgeDelay(
+                primaryApiChannel.getEndpoint().toString(),
+                BeaconNodeRequestLabels.CREATE_ATTESTATION_METHOD))
+        .isEqualTo(BeaconNodeLatencyTracker.DEFAULT_HEDGE_DELAY);
+    assertThat(
+            latencyTracker.getHedgeDelay(
+                failoverApiChannel1.getEndpoint().toString(),
+                BeaconNodeRequestLabels.CREATE_ATTESTATION_METHOD))
+        .isEqualTo(BeaconNodeLatencyTracker.MIN_HEDGE_DELAY);
+  }
+
+  @ParameterizedTest(name = "{0}")
+  @MethodSource("getHedgedRequests")
+  <T> void hedgedRequestFailsOnlyOnceAllNodesHaveFailed(
+      final ValidatorApiChannelRequest<T> request, final String methodLabel) {
+
+    final SafeFuture<T> primaryResponse = new SafeFuture<>();
+    when(request.run(primaryApiChannel)).thenReturn(primaryResponse);
+    setupFailures(request, failoverApiChannel1, failoverApiChannel2);
+
+    final SafeFuture<T> result = request.run(failoverApiHandler);
+
+    timeProvider.advanceTimeBy(BeaconNodeLatencyTracker.DEFAULT_HEDGE_DELAY);
+    asyncRunner.executeDueActions();
+
+    // both failovers failed straight away but the primary may still respond
+    assertThat(result).isNotDone();
+
+    primaryResponse.completeExceptionally(
+        new IllegalStateException(
+            String.format("Request failed for %s", primaryApiChannel.getEndpoint())));
+
+    verifyFailoverRequestExceptionIsThrown(result, methodLabel);
+  }
+
   @Test
   public void publishesBlindedBlockOnlyToTheBeaconNodeWhichCreatedIt() {
     final UInt64 slot = UInt64.ONE;
@@ -719,6 +909,29 @@ class FailoverValidatorApiHandlerTest {
             Optional.of(List.of(validatorLivenessAtEpoch))));
   }
 
+  private static Stream<Arguments> getHedgedRequests() {
+    final UInt64 slot = DATA_STRUCTURE_UTIL.randomUInt64();
+    final Bytes32 randomBytes32 = DATA_STRUCTURE_UTIL.randomBytes32();
+    final Attestation attestation = DATA_STRUCTURE_UTIL.randomAttestation();
+
+    return Stream.of(
+        getArguments(
+            "createAttestationData",
+            apiChannel -> apiChannel.createAttestationData(slot, 0),
+            BeaconNodeRequestLabels.CREATE_ATTESTATION_METHOD,
+            Optional.of(mock(AttestationData.class))),
+        getArguments(
+            "createAggregate",
+            apiChannel -> apiChannel.createAggregate(slot, randomBytes32, Optional.empty()),
+            BeaconNodeRequestLabels.CREATE_AGGREGATE_METHOD,
+            Optional.of(attestation)),
+        getArguments(
+            "createSyncCommitteeContribution",
+            apiChannel -> apiChannel.createSyncCommitteeContribution(slot, 0, randomBytes32),
+            BeaconNodeRequestLabels.CREATE_SYNC_COMMITTEE_CONTRIBUTION_METHOD,
+            Optional.of(mock(SyncCommitteeContribution.class))));
+  }
+
   private static Stream<Arguments> getRelayRequests() {
     final SszList<SignedValidatorRegistration> validatorRegistrations =
         DATA_STRUCTURE_UTIL.randomSignedValidatorRegistrations(3);
@@ -897,4 +1110,13 @@ class FailoverValidatorApiHandlerTest {
         methodLabel,
         outcome.toString());
   }
+
+  private long getHedgedCounterValue(
+      final RemoteValidatorApiChannel apiChannel, final String methodLabel) {
+    return stubMetricsSystem.getCounterValue(
+        TekuMetricCategory.VALIDATOR,
+        FailoverValidatorApiHandler.REMOTE_BEACON_NODES_HEDGED_REQUESTS_COUNTER_NAME,
+        apiChannel.getEndpoint().toString(),
+        methodLabel);
+  }
 }
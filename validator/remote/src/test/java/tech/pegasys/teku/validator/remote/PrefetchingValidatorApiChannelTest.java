@@ -0,0 +1,241 @@
+/*
+ * Copyright Consensys Software Inc., 2025
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.validator.remote;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static tech.pegasys.teku.infrastructure.async.SafeFutureAssert.assertThatSafeFuture;
+
+import it.unimi.dsi.fastutil.ints.IntList;
+import java.util.List;
+import java.util.Optional;
+import org.apache.tuweni.bytes.Bytes32;
+import org.junit.jupiter.api.Test;
+import tech.pegasys.teku.ethereum.json.types.validator.AttesterDuties;
+import tech.pegasys.teku.ethereum.json.types.validator.AttesterDuty;
+import tech.pegasys.teku.infrastructure.async.SafeFuture;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+import tech.pegasys.teku.spec.Spec;
+import tech.pegasys.teku.spec.TestSpecFactory;
+import tech.pegasys.teku.spec.datastructures.operations.AttestationData;
+import tech.pegasys.teku.spec.util.DataStructureUtil;
+import tech.pegasys.teku.validator.api.ValidatorApiChannel;
+
+class PrefetchingValidatorApiChannelTest {
+
+  private static final UInt64 SLOT = UInt64.valueOf(10);
+
+  private final Spec spec = TestSpecFactory.createMinimalPhase0();
+  private final DataStructureUtil dataStructureUtil = new DataStructureUtil(spec);
+  private final ValidatorApiChannel delegate = mock(ValidatorApiChannel.class);
+  private final Bytes32 headBlockRoot = dataStructureUtil.randomBytes32();
+
+  private final PrefetchingValidatorApiChannel validatorApiChannel =
+      new PrefetchingValidatorApiChannel(delegate, spec);
+
+  @Test
+  void shouldServeAttestationDataPrefetchedOnHeadUpdate() {
+    scheduleAttestationDuty(validatorApiChannel, SLOT);
+    final AttestationData attestationData = attestationData(headBlockRoot);
+    when(delegate.createAttestationData(SLOT, 0))
+        .thenReturn(SafeFuture.completedFuture(Optional.of(attestationData)));
+
+    onHeadUpdate(headBlockRoot);
+
+    assertThatSafeFuture(validatorApiChannel.createAttestationData(SLOT, 0))
+        .isCompletedWithValue(Optional.of(attestationData));
+    verify(delegate, times(1)).createAttestationData(SLOT, 0);
+  }
+
+  @Test
+  void shouldSetCommitteeIndexOfPrefetchedDataBeforeElectra() {
+    scheduleAttestationDuty(validatorApiChannel, SLOT);
+    final AttestationData attestationData = attestationData(headBlockRoot);
+    when(delegate.createAttestationData(SLOT, 0))
+        .thenReturn(SafeFuture.completedFuture(Optional.of(attestationData)));
+
+    onHeadUpdate(headBlockRoot);
+
+    assertThatSafeFuture(validatorApiChannel.createAttestationData(SLOT, 3))
+        .isCompletedWithValue(
+            Optional.of(
+                new AttestationData(
+                    SLOT,
+                    UInt64.valueOf(3),
+                    headBlockRoot,
+                    attestationData.getSource(),
+                    attestationData.getTarget())));
+    verify(delegate, times(1)).createAttestationData(SLOT, 0);
+  }
+
+  @Test
+  void shouldUsePrefetchedDataAsIsFromElectra() {
+    final Spec electraSpec = TestSpecFactory.createMinimalElectra();
+    final PrefetchingValidatorApiChannel electraValidatorApiChannel =
+        new PrefetchingValidatorApiChannel(delegate, electraSpec);
+    scheduleAttestationDuty(electraValidatorApiChannel, SLOT);
+    final AttestationData attestationData = attestationData(headBlockRoot);
+    when(delegate.createAttestationData(SLOT, 0))
+        .thenReturn(SafeFuture.completedFuture(Optional.of(attestationData)));
+
+    electraValidatorApiChannel.onHeadUpdate(
+        SLOT, dataStructureUtil.randomBytes32(), dataStructureUtil.randomBytes32(), headBlockRoot);
+
+    assertThatSafeFuture(electraValidatorApiChannel.createAttestationData(SLOT, 3))
+        .isCompletedWithValue(Optional.of(attestationData));
+  }
+
+  @Test
+  void shouldRequestFromBeaconNodeWhenPrefetchedDataIsForDifferentHead() {
+    scheduleAttestationDuty(validatorApiChannel, SLOT);
+    final AttestationData staleData = attestationData(dataStructureUtil.randomBytes32());
+    final AttestationData currentData = attestationData(headBlockRoot);
+    when(delegate.createAttestationData(SLOT, 0))
+        .thenReturn(SafeFuture.completedFuture(Optional.of(staleData)))
+        .thenReturn(SafeFuture.completedFuture(Optional.of(currentData)));
+
+    onHeadUpdate(headBlockRoot);
+
+    assertThatSafeFuture(validatorApiChannel.createAttestationData(SLOT, 0))
+        .isCompletedWithValue(Optional.of(currentData));
+    verify(delegate, times(2)).createAttestationData(SLOT, 0);
+  }
+
+  @Test
+  void shouldRequestFromBeaconNodeWhenPrefetchFailed() {
+    scheduleAttestationDuty(validatorApiChannel, SLOT);
+    final AttestationData attestationData = attestationData(headBlockRoot);
+    final SafeFuture<Optional<AttestationData>> prefetch = new SafeFuture<>();
+    when(delegate.createAttestationData(SLOT, 0))
+        .thenReturn(prefetch)
+        .thenReturn(SafeFuture.completedFuture(Optional.of(attestationData)));
+
+    onHeadUpdate(headBlockRoot);
+    final SafeFuture<Optional<AttestationData>> result =
+        validatorApiChannel.createAttestationData(SLOT, 0);
+    prefetch.completeExceptionally(new RuntimeException("Beacon node unavailable"));
+
+    assertThatSafeFuture(result).isCompletedWithValue(Optional.of(attestationData));
+    assertThat(validatorApiChannel.getCachedAttestationDataCount()).isZero();
+  }
+
+  @Test
+  void shouldNotPrefetchWhenDutyAlreadyRequestedDataForSameHead() {
+    final UInt64 nextSlot = SLOT.plus(1);
+    scheduleAttestationDuty(validatorApiChannel, SLOT);
+    scheduleAttestationDuty(validatorApiChannel, nextSlot);
+    when(delegate.createAttestationData(SLOT, 0)).thenReturn(new SafeFuture<>());
+    when(delegate.createAttestationData(nextSlot, 2)).thenReturn(new SafeFuture<>());
+    onHeadUpdate(headBlockRoot);
+
+    validatorApiChannel.createAttestationData(nextSlot, 2);
+    validatorApiChannel.onSlot(nextSlot);
+
+    verify(delegate).createAttestationData(nextSlot, 2);
+    verify(delegate, never()).createAttestationData(nextSlot, 0);
+  }
+
+  @Test
+  void shouldNotUseCacheWhenNoHeadIsKnown() {
+    final AttestationData attestationData = attestationData(headBlockRoot);
+    when(delegate.createAttestationData(SLOT, 1))
+        .thenReturn(SafeFuture.completedFuture(Optional.of(attestationData)));
+
+    validatorApiChannel.onSlot(SLOT);
+
+    assertThatSafeFuture(validatorApiChannel.createAttestationData(SLOT, 1))
+        .isCompletedWithValue(Optional.of(attestationData));
+    assertThat(validatorApiChannel.getCachedAttestationDataCount()).isZero();
+  }
+
+  @Test
+  void shouldPruneAttestationDataForOldSlots() {
+    scheduleAttestationDuty(validatorApiChannel, SLOT);
+    scheduleAttestationDuty(validatorApiChannel, SLOT.plus(2));
+    when(delegate.createAttestationData(SLOT, 0)).thenReturn(new SafeFuture<>());
+    when(delegate.createAttestationData(SLOT.plus(2), 0)).thenReturn(new SafeFuture<>());
+    onHeadUpdate(headBlockRoot);
+    assertThat(validatorApiChannel.getCachedAttestationDataCount()).isEqualTo(1);
+
+    validatorApiChannel.onSlot(SLOT.plus(2));
+
+    // only the prefetch for the new slot remains
+    assertThat(validatorApiChannel.getCachedAttestationDataCount()).isEqualTo(1);
+  }
+
+  @Test
+  void shouldNotPrefetchBeforeHeadIsKnown() {
+    scheduleAttestationDuty(validatorApiChannel, SLOT);
+
+    validatorApiChannel.onSlot(SLOT);
+
+    verify(delegate, never()).createAttestationData(any(), anyInt());
+  }
+
+  @Test
+  void shouldNotPrefetchForSlotsWithoutAttestationDuty() {
+    scheduleAttestationDuty(validatorApiChannel, SLOT.plus(1));
+
+    onHeadUpdate(headBlockRoot);
+    validatorApiChannel.onSlot(SLOT);
+
+    verify(delegate, never()).createAttestationData(any(), anyInt());
+    assertThat(validatorApiChannel.getCachedAttestationDataCount()).isZero();
+  }
+
+  @Test
+  void shouldPrefetchOnSlotWithAttestationDuty() {
+    final UInt64 nextSlot = SLOT.plus(1);
+    when(delegate.createAttestationData(nextSlot, 0)).thenReturn(new SafeFuture<>());
+    scheduleAttestationDuty(validatorApiChannel, nextSlot);
+    onHeadUpdate(headBlockRoot);
+
+    validatorApiChannel.onSlot(nextSlot);
+
+    verify(delegate).createAttestationData(nextSlot, 0);
+  }
+
+  private void scheduleAttestationDuty(
+      final PrefetchingValidatorApiChannel channel, final UInt64 slot) {
+    final UInt64 epoch = spec.computeEpochAtSlot(slot);
+    final AttesterDuty duty =
+        new AttesterDuty(dataStructureUtil.randomPublicKey(), 1, 4, 0, 1, 2, slot);
+    when(delegate.getAttestationDuties(epoch, IntList.of(1)))
+        .thenReturn(
+            SafeFuture.completedFuture(
+                Optional.of(
+                    new AttesterDuties(false, dataStructureUtil.randomBytes32(), List.of(duty)))));
+    assertThatSafeFuture(channel.getAttestationDuties(epoch, IntList.of(1))).isCompleted();
+  }
+
+  private void onHeadUpdate(final Bytes32 blockRoot) {
+    validatorApiChannel.onHeadUpdate(
+        SLOT, dataStructureUtil.randomBytes32(), dataStructureUtil.randomBytes32(), blockRoot);
+  }
+
+  private AttestationData attestationData(final Bytes32 blockRoot) {
+    return new AttestationData(
+        SLOT,
+        UInt64.ZERO,
+        blockRoot,
+        dataStructureUtil.randomCheckpoint(),
+        dataStructureUtil.randomCheckpoint());
+  }
+}